@@ -7,6 +7,7 @@ import org.springaicommunity.github.collector.*;
 
 import java.nio.file.Path;
 import java.nio.file.Paths;
+import java.util.List;
 
 /**
  * GitHub Collector CLI Application
@@ -17,7 +18,8 @@ import java.nio.file.Paths;
  *
  * Usage: java -jar github-collector-cli.jar [OPTIONS]
  *
- * Environment Variables: GITHUB_TOKEN - GitHub personal access token for authentication
+ * Environment Variables: GITHUB_TOKEN - GitHub personal access token for authentication;
+ * GITHUB_TOKENS - comma-separated tokens to rotate between
  *
  * Examples: java -jar github-collector-cli.jar --repo spring-projects/spring-ai java -jar
  * github-collector-cli.jar --batch-size 50 --incremental java -jar
@@ -71,10 +73,26 @@ public class GitHubCollectorCli {
 		logConfiguration(config);
 
 		// Build the appropriate collector using the builder
-		GitHubCollectorBuilder builder = GitHubCollectorBuilder.create().tokenFromEnv().properties(properties);
+		properties.setParallelism(config.parallelism);
+		properties.setWindowParallelism(config.windowParallelism);
+		properties.setLazyWindowing(config.lazyWindows);
+		properties.setConnectionPaging(config.connectionPaging);
+		GitHubCollectorBuilder builder = GitHubCollectorBuilder.create().tokensFromEnv().properties(properties);
+		if (config.cacheDir != null) {
+			builder.responseCache(Paths.get(config.cacheDir));
+			builder.windowPlanCache(Paths.get(config.cacheDir, "window-plans"));
+		}
 
 		// Execute collection based on type
 		CollectionRequest request = createRequest(config);
+		if ("combined".equals(config.collectionType)) {
+			logger.info("Collecting issues and PRs from a single search");
+			return reportCombinedCollection(config, builder.buildCombinedCollector(request).collectItems(request));
+		}
+		if ("all".equals(config.collectionType)) {
+			logger.info("Collecting issues, PRs, releases and collaborators concurrently");
+			return reportCombinedCollection(config, builder.buildMultiTypeCollector(request).collectItems(request));
+		}
 		boolean useWindowing = config.createdAfter != null && config.createdBefore != null;
 		CollectionResult result;
 		switch (config.collectionType) {
@@ -115,6 +133,38 @@ public class GitHubCollectorCli {
 		return 0;
 	}
 
+	/**
+	 * Log the result of each type of a combined or multi-type collection, then verify
+	 * each type's output if requested.
+	 */
+	private static int reportCombinedCollection(ParsedConfiguration config, CombinedCollectionResult combined)
+			throws Exception {
+		int exitCode = 0;
+		for (var entry : combined.results().entrySet()) {
+			logger.info("Results for {}:", entry.getKey());
+			logResults(entry.getValue(), config.verbose);
+		}
+		logger.info("Processed {}/{} items of {} types", combined.processedItems(), combined.totalItems(),
+				combined.results().size());
+		if (config.verify) {
+			for (var entry : combined.results().entrySet()) {
+				logger.info("Post-collection verification of {}", entry.getKey());
+				exitCode = Math.max(exitCode, runVerification(config, Paths.get(entry.getValue().outputDirectory()),
+						entry.getKey(), expectedState(config, entry.getKey())));
+			}
+		}
+		return exitCode;
+	}
+
+	/**
+	 * The state a type was collected in. Pull requests of a combined collection follow
+	 * the issue state.
+	 */
+	private static String expectedState(ParsedConfiguration config, String collectionType) {
+		return "prs".equals(collectionType) && !"combined".equals(config.collectionType) ? config.prState
+				: config.issueState;
+	}
+
 	/**
 	 * Returns true if the configuration indicates the user wants to collect data (not
 	 * just verify existing batches).
@@ -132,6 +182,24 @@ public class GitHubCollectorCli {
 	 * needed).
 	 */
 	private static int runStandaloneVerification(ParsedConfiguration config) throws Exception {
+		// Combined and multi-type collections wrote each type to its own directory
+		if (("combined".equals(config.collectionType) || "all".equals(config.collectionType))
+				&& config.verifyDir == null) {
+			logger.info("Standalone verification mode");
+			List<String> types = "all".equals(config.collectionType)
+					? List.of("issues", "prs", "releases", "collaborators") : List.of("issues", "prs");
+			int exitCode = 0;
+			for (String type : types) {
+				String state = expectedState(config, type);
+				// Releases and collaborators are not filtered by state
+				String directoryState = List.of("issues", "prs").contains(type) ? state : "all";
+				Path outputDir = deriveOutputDirectory(type, config.repository, directoryState);
+				logger.info("  Output directory: {}", outputDir);
+				exitCode = Math.max(exitCode, runVerification(config, outputDir, type, state));
+			}
+			return exitCode;
+		}
+
 		Path outputDir;
 		if (config.verifyDir != null) {
 			outputDir = Paths.get(config.verifyDir);
@@ -161,12 +229,19 @@ public class GitHubCollectorCli {
 	 * Common verification logic used by both standalone and post-collection modes.
 	 */
 	private static int runVerification(ParsedConfiguration config, Path outputDir) throws Exception {
+		String state = "prs".equals(config.collectionType) ? config.prState : config.issueState;
+		return runVerification(config, outputDir, config.collectionType, state);
+	}
+
+	/**
+	 * Verify the output of one collection type.
+	 */
+	private static int runVerification(ParsedConfiguration config, Path outputDir, String collectionType,
+			String state) throws Exception {
 		ObjectMapper objectMapper = ObjectMapperFactory.create();
 		BatchVerificationService verifier = new BatchVerificationService(objectMapper);
 
-		String state = "prs".equals(config.collectionType) ? config.prState : config.issueState;
-
-		VerificationResult result = verifier.verify(outputDir, config.collectionType, state, config.createdAfter,
+		VerificationResult result = verifier.verify(outputDir, collectionType, state, config.createdAfter,
 				config.createdBefore);
 
 		logVerificationResult(result);
@@ -180,12 +255,11 @@ public class GitHubCollectorCli {
 		if (config.deduplicate && !result.duplicates().isEmpty()) {
 			logger.info("Running deduplication...");
 			BatchDeduplicationService deduplicator = new BatchDeduplicationService(objectMapper);
-			DeduplicationResult dedupResult = deduplicator.deduplicate(outputDir, config.collectionType,
-					result.duplicates());
+			DeduplicationResult dedupResult = deduplicator.deduplicate(outputDir, collectionType, result.duplicates());
 			logDeduplicationResult(dedupResult);
 
 			// Re-verify after deduplication
-			VerificationResult recheck = verifier.verify(outputDir, config.collectionType, state, config.createdAfter,
+			VerificationResult recheck = verifier.verify(outputDir, collectionType, state, config.createdAfter,
 					config.createdBefore);
 			logVerificationResult(recheck);
 
@@ -248,6 +322,11 @@ public class GitHubCollectorCli {
 		logger.info("  Verify: {}", config.verify);
 		logger.info("  Deduplicate: {}", config.deduplicate);
 		logger.info("  Verify dir: {}", config.verifyDir != null ? config.verifyDir : "(default)");
+		logger.info("  Cache dir: {}", config.cacheDir != null ? config.cacheDir : "(disabled)");
+		logger.info("  Parallelism: {}", config.parallelism);
+		logger.info("  Window parallelism: {}", config.windowParallelism);
+		logger.info("  Lazy windows: {}", config.lazyWindows);
+		logger.info("  Connection paging: {}", config.connectionPaging);
 	}
 
 	private static void logResults(CollectionResult result, boolean verbose) {
@@ -189,7 +189,7 @@ class SimpleIntegrationIT {
 		assertThatCode(() -> {
 			String query = restService.buildPRSearchQuery("spring-projects/spring-ai", "closed", List.of(), "any",
 					"2024-01-01", "2024-06-01");
-			assertThat(query).contains("created:2024-01-01..2024-06-01");
+			assertThat(query).contains("created:2024-01-01..2024-05-31");
 			int count = restService.getTotalPRCount(query);
 			assertThat(count).isGreaterThanOrEqualTo(0);
 		}).doesNotThrowAnyException();
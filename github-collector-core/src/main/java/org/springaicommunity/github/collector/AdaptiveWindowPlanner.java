@@ -1,9 +1,11 @@
 package org.springaicommunity.github.collector;
 
+import org.jspecify.annotations.Nullable;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
-import java.time.LocalDate;
+import java.time.Duration;
+import java.time.Instant;
 import java.time.temporal.ChronoUnit;
 import java.util.ArrayList;
 import java.util.List;
@@ -20,7 +22,8 @@ import java.util.function.BiFunction;
  * <p>
  * This planner recursively binary-splits a date range until each window contains fewer
  * items than the configured threshold (default 900, providing a safety margin below the
- * 1,000 hard cap).
+ * 1,000 hard cap). Ranges longer than a day split on day boundaries; a busy day splits
+ * further into windows bounded by timestamps, down to a single minute.
  *
  * <p>
  * Usage:
@@ -41,6 +44,11 @@ public class AdaptiveWindowPlanner {
 	 */
 	public static final int DEFAULT_MAX_PER_WINDOW = 900;
 
+	/**
+	 * Narrowest window the planner produces.
+	 */
+	static final Duration MIN_WINDOW = Duration.ofMinutes(1);
+
 	private final int maxPerWindow;
 
 	public AdaptiveWindowPlanner() {
@@ -55,12 +63,48 @@ public class AdaptiveWindowPlanner {
 	}
 
 	/**
-	 * A date range representing a collection time window.
+	 * Returns the maximum number of items a single window may hold.
+	 * @return the per-window limit
+	 */
+	public int getMaxPerWindow() {
+		return maxPerWindow;
+	}
+
+	/**
+	 * A time range representing a collection window. Bounds are ISO dates, meaning the
+	 * start of that day in UTC, or UTC timestamps for windows narrower than a day.
 	 *
-	 * @param createdAfter ISO date (inclusive), e.g. "2023-01-01"
-	 * @param createdBefore ISO date (exclusive), e.g. "2024-01-01"
+	 * @param createdAfter ISO date or timestamp (inclusive), e.g. "2023-01-01" or
+	 * "2023-01-01T06:00:00Z"
+	 * @param createdBefore ISO date or timestamp (exclusive), e.g. "2024-01-01"
 	 */
 	public record TimeWindow(String createdAfter, String createdBefore) {
+
+		/**
+		 * Create a window from instants, formatting midnight UTC as a date.
+		 * @param start inclusive start
+		 * @param end exclusive end
+		 */
+		public TimeWindow(Instant start, Instant end) {
+			this(SearchDates.format(start), SearchDates.format(end));
+		}
+
+		/**
+		 * Returns the inclusive start of the window.
+		 * @return the start instant
+		 */
+		public Instant start() {
+			return SearchDates.parse(createdAfter);
+		}
+
+		/**
+		 * Returns the exclusive end of the window.
+		 * @return the end instant
+		 */
+		public Instant end() {
+			return SearchDates.parse(createdBefore);
+		}
+
 	}
 
 	/**
@@ -101,27 +145,42 @@ public class AdaptiveWindowPlanner {
 		}
 
 		// Check if we can still split
-		LocalDate start = LocalDate.parse(createdAfter);
-		LocalDate end = LocalDate.parse(createdBefore);
-		long days = ChronoUnit.DAYS.between(start, end);
+		TimeWindow window = new TimeWindow(createdAfter, createdBefore);
+		Instant mid = midpoint(window.start(), window.end());
 
-		if (days <= 1) {
+		if (mid == null) {
 			// Can't split further — include as-is with a warning
 			logger.warn("{}Cannot split further ({} to {}, {} items > {}); including oversized window", indent,
 					createdAfter, createdBefore, count, maxPerWindow);
-			result.add(new TimeWindow(createdAfter, createdBefore));
+			result.add(window);
 			return;
 		}
 
 		// Binary split
-		LocalDate mid = start.plusDays(days / 2);
-		String midStr = mid.toString();
+		String midStr = SearchDates.format(mid);
 
-		logger.info("{}Splitting at {} ({}d left, {}d right)", indent, midStr, ChronoUnit.DAYS.between(start, mid),
-				ChronoUnit.DAYS.between(mid, end));
+		logger.info("{}Splitting at {} ({} left, {} right)", indent, midStr, Duration.between(window.start(), mid),
+				Duration.between(mid, window.end()));
 
 		planWindowsRecursive(createdAfter, midStr, countFunction, result, depth + 1);
 		planWindowsRecursive(midStr, createdBefore, countFunction, result, depth + 1);
 	}
 
+	/**
+	 * Split point of a range: a day boundary while the range spans at least two days,
+	 * otherwise the middle rounded down to the minute.
+	 * @return the split point, or null if the range is too narrow to split
+	 */
+	static @Nullable Instant midpoint(Instant start, Instant end) {
+		long days = ChronoUnit.DAYS.between(start, end);
+		if (days >= 2) {
+			return start.plus(days / 2, ChronoUnit.DAYS);
+		}
+		if (Duration.between(start, end).compareTo(MIN_WINDOW) <= 0) {
+			return null;
+		}
+		Instant mid = start.plus(Duration.between(start, end).dividedBy(2)).truncatedTo(ChronoUnit.MINUTES);
+		return mid.isAfter(start) && mid.isBefore(end) ? mid : null;
+	}
+
 }
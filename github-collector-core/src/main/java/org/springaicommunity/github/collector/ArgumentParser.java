@@ -144,9 +144,10 @@ public class ArgumentParser {
 
 				case "-t", "--type":
 					String collectionType = getRequiredValue(args, i, "type").toLowerCase();
-					if (!List.of("issues", "prs", "collaborators", "releases").contains(collectionType)) {
+					if (!List.of("issues", "prs", "combined", "collaborators", "releases", "all")
+						.contains(collectionType)) {
 						throw new IllegalArgumentException("Invalid collection type '" + collectionType
-								+ "': must be 'issues', 'prs', 'collaborators', or 'releases'");
+								+ "': must be 'issues', 'prs', 'combined', 'collaborators', 'releases', or 'all'");
 					}
 					config.collectionType = collectionType;
 					i++; // Skip next argument since we consumed it
@@ -218,6 +219,50 @@ public class ArgumentParser {
 					i++;
 					break;
 
+				case "--cache-dir":
+					config.cacheDir = getRequiredValue(args, i, "cache-dir");
+					i++;
+					break;
+
+				case "--parallelism":
+					String parallelismStr = getRequiredValue(args, i, "parallelism");
+					try {
+						config.parallelism = Integer.parseInt(parallelismStr);
+						if (config.parallelism <= 0) {
+							throw new IllegalArgumentException("Parallelism must be positive: " + config.parallelism);
+						}
+					}
+					catch (NumberFormatException e) {
+						throw new IllegalArgumentException(
+								"Invalid parallelism '" + parallelismStr + "': must be a positive integer");
+					}
+					i++;
+					break;
+
+				case "--window-parallelism":
+					String windowParallelismStr = getRequiredValue(args, i, "window-parallelism");
+					try {
+						config.windowParallelism = Integer.parseInt(windowParallelismStr);
+						if (config.windowParallelism <= 0) {
+							throw new IllegalArgumentException(
+									"Window parallelism must be positive: " + config.windowParallelism);
+						}
+					}
+					catch (NumberFormatException e) {
+						throw new IllegalArgumentException("Invalid window parallelism '" + windowParallelismStr
+								+ "': must be a positive integer");
+					}
+					i++;
+					break;
+
+				case "--lazy-windows":
+					config.lazyWindows = true;
+					break;
+
+				case "--connection-paging":
+					config.connectionPaging = true;
+					break;
+
 				case "-h", "--help":
 					config.helpRequested = true;
 					break;
@@ -269,7 +314,7 @@ public class ArgumentParser {
 			.append(defaultProperties.getBatchSize())
 			.append(")\n");
 		help.append("    -d, --dry-run          Show what would be collected without doing it\n");
-		help.append("    -i, --incremental      Skip already collected issues\n");
+		help.append("    -i, --incremental      Only collect items updated since the last incremental run\n");
 		help.append("    -z, --zip              Create zip archive of collected data\n");
 		help.append("    -v, --verbose          Enable verbose logging\n");
 		help.append("    --clean                Clean up previous collection data before starting (default)\n");
@@ -288,7 +333,7 @@ public class ArgumentParser {
 		help.append("\n");
 		help.append("COLLECTION TYPE OPTIONS:\n");
 		help.append(
-				"    -t, --type <type>       Collection type: issues, prs, collaborators, releases (default: issues)\n");
+				"    -t, --type <type>       Collection type: issues, prs, combined, collaborators, releases, all (default: issues)\n");
 		help.append("    -n, --number <number>   Specific PR number to collect (when type=prs)\n");
 		help.append("    --pr-state <state>      PR state: open, closed, merged, all (default: open)\n");
 		help.append("\n");
@@ -310,7 +355,8 @@ public class ArgumentParser {
 		help.append("    Command-line arguments take precedence over configuration file\n");
 		help.append("\n");
 		help.append("ENVIRONMENT VARIABLES:\n");
-		help.append("    GITHUB_TOKEN           GitHub personal access token (required)\n");
+		help.append("    GITHUB_TOKEN           GitHub personal access token (required without GITHUB_TOKENS)\n");
+		help.append("    GITHUB_TOKENS          Comma-separated tokens, rotated by remaining rate limit\n");
 		help.append("\n");
 		help.append("EXAMPLES:\n");
 		help.append("    # Basic usage\n");
@@ -340,6 +386,12 @@ public class ArgumentParser {
 		help.append("    ./collect_github_issues.java --type prs --number 4347 --dry-run  # Specific PR\n");
 		help.append("    ./collect_github_issues.java --type prs --pr-state merged --max-issues 10\n");
 		help.append("\n");
+		help.append("    # Issues and PRs from one search (PRs follow --state)\n");
+		help.append("    ./collect_github_issues.java --type combined --repo spring-projects/spring-ai\n");
+		help.append("\n");
+		help.append("    # Issues, PRs, releases and collaborators at once\n");
+		help.append("    ./collect_github_issues.java --type all --repo spring-projects/spring-ai --state all\n");
+		help.append("\n");
 		help.append("    # Collaborator collection (for maintainer identification)\n");
 		help.append("    ./collect_github_issues.java --type collaborators --repo spring-projects/spring-ai\n");
 		help.append("    ./collect_github_issues.java --type collaborators --repo owner/repo --dry-run\n");
@@ -356,6 +408,26 @@ public class ArgumentParser {
 		help.append(
 				"    ./collect_github_issues.java --type prs --single-file --incremental --no-clean -o all_prs.json\n");
 		help.append("\n");
+		help.append("CACHING OPTIONS:\n");
+		help.append("    --cache-dir <dir>       Cache REST responses in <dir> and revalidate them with ETags;\n");
+		help.append("                           unchanged data (304 Not Modified) is free of rate limit cost;\n");
+		help.append("                           time-window plans of settled date ranges are kept there too\n");
+		help.append("\n");
+		help.append("PERFORMANCE OPTIONS:\n");
+		help.append("    --parallelism <n>       Items enriched concurrently per batch (default: ")
+			.append(defaultProperties.getParallelism())
+			.append(")\n");
+		help.append("                           Use 1 to fetch events and reviews sequentially\n");
+		help.append("    --window-parallelism <n> Time windows collected concurrently (default: ")
+			.append(defaultProperties.getWindowParallelism())
+			.append(")\n");
+		help.append("                           Windows write into reserved batch number ranges\n");
+		help.append("    --lazy-windows          Split time windows while collecting, from the count on each\n");
+		help.append("                           window's first page, instead of planning them up front\n");
+		help.append("    --connection-paging     Page through the repository issue and pull request lists,\n");
+		help.append("                           which have no 1000-result cap, instead of search. Falls\n");
+		help.append("                           back to search for filters the lists cannot express\n");
+		help.append("\n");
 		help.append("VERIFICATION OPTIONS:\n");
 		help.append("    --verify                Verify batch files for duplicates, date-range violations,\n");
 		help.append("                           state mismatches, and batch integrity issues\n");
@@ -376,7 +448,11 @@ public class ArgumentParser {
 	 * @throws IllegalStateException if environment is invalid
 	 */
 	public void validateEnvironment() {
-		// Check for GitHub token
+		// Check for GitHub token (a token pool in GITHUB_TOKENS also satisfies this)
+		String githubTokens = EnvironmentSupport.get("GITHUB_TOKENS");
+		if (githubTokens != null && !githubTokens.trim().isEmpty()) {
+			return;
+		}
 		String githubToken = EnvironmentSupport.get("GITHUB_TOKEN");
 		if (githubToken == null || githubToken.trim().isEmpty()) {
 			throw new IllegalStateException(
@@ -421,9 +497,18 @@ public class ArgumentParser {
 		}
 
 		// Validate collection type
-		if (!List.of("issues", "prs", "collaborators", "releases").contains(config.collectionType.toLowerCase())) {
+		if (!List.of("issues", "prs", "combined", "collaborators", "releases", "all")
+			.contains(config.collectionType.toLowerCase())) {
 			errors.add("Invalid collection type: " + config.collectionType
-					+ " (must be 'issues', 'prs', 'collaborators', or 'releases')");
+					+ " (must be 'issues', 'prs', 'combined', 'collaborators', 'releases', or 'all')");
+		}
+
+		// Both collections of a combined run would write to the same file
+		if ("combined".equals(config.collectionType) && config.singleFile) {
+			errors.add("Single-file output is not supported for combined collection");
+		}
+		if ("all".equals(config.collectionType) && config.singleFile) {
+			errors.add("Single-file output is not supported when collecting all types");
 		}
 
 		// Validate PR-specific parameters
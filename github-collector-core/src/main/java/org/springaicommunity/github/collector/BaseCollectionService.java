@@ -8,7 +8,18 @@ import org.slf4j.LoggerFactory;
 import java.nio.file.Path;
 import java.time.LocalDateTime;
 import java.time.format.DateTimeFormatter;
+import java.time.temporal.ChronoUnit;
 import java.util.*;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.TimeUnit;
 import java.util.concurrent.atomic.AtomicInteger;
 
 /**
@@ -24,6 +35,7 @@ import java.util.concurrent.atomic.AtomicInteger;
  * <li>{@link CollectionStateRepository} - file I/O operations</li>
  * <li>{@link ArchiveService} - ZIP archive creation</li>
  * <li>{@link BatchStrategy} - batch creation logic</li>
+ * <li>{@link EnrichmentExecutor} - concurrent per-item enrichment</li>
  * </ul>
  *
  * @param <T> the type of items being collected (e.g., Issue, PullRequest)
@@ -32,6 +44,22 @@ public abstract class BaseCollectionService<T> {
 
 	private static final Logger logger = LoggerFactory.getLogger(BaseCollectionService.class);
 
+	/**
+	 * Number of search pages the fetcher may read ahead of the batch being enriched.
+	 */
+	private static final int PREFETCH_PAGES = 1;
+
+	/**
+	 * High-water mark of the first incremental run, which collects everything.
+	 */
+	protected static final String INITIAL_HIGH_WATER_MARK = "1970-01-01T00:00:00Z";
+
+	/**
+	 * UTC timestamp format of high-water marks, as accepted by the search qualifiers.
+	 */
+	private static final DateTimeFormatter HIGH_WATER_MARK_FORMAT = DateTimeFormatter
+		.ofPattern("yyyy-MM-dd'T'HH:mm:ss'Z'");
+
 	protected final GraphQLService graphQLService;
 
 	protected final RestService restService;
@@ -46,6 +74,19 @@ public abstract class BaseCollectionService<T> {
 
 	protected final BatchStrategy<T> batchStrategy;
 
+	protected final EnrichmentExecutor enrichmentExecutor;
+
+	/**
+	 * First search pages fetched ahead of a collection, keyed by search query.
+	 */
+	private final Map<String, SearchResult<T>> firstPages = new ConcurrentHashMap<>();
+
+	/**
+	 * Search shared with the collection of the other item type, see
+	 * {@link #shareSearch}.
+	 */
+	@Nullable CombinedSearch combinedSearch;
+
 	public BaseCollectionService(GraphQLService graphQLService, RestService restService, ObjectMapper objectMapper,
 			CollectionProperties properties, CollectionStateRepository stateRepository, ArchiveService archiveService,
 			BatchStrategy<T> batchStrategy) {
@@ -56,6 +97,7 @@ public abstract class BaseCollectionService<T> {
 		this.stateRepository = stateRepository;
 		this.archiveService = archiveService;
 		this.batchStrategy = batchStrategy;
+		this.enrichmentExecutor = new EnrichmentExecutor(Math.max(1, properties.getParallelism()));
 	}
 
 	/**
@@ -97,82 +139,298 @@ public abstract class BaseCollectionService<T> {
 	 */
 	protected abstract String getItemTypeName();
 
+	/**
+	 * Get the number identifying an item within its repository, used to replace stale
+	 * copies in incremental collections. Returns -1 if the type has no such number.
+	 */
+	protected int getItemNumber(T item) {
+		return -1;
+	}
+
+	/**
+	 * Get the last update time of an item, used for the incremental high-water mark.
+	 * Returns null if the type does not track updates.
+	 */
+	protected @Nullable LocalDateTime getUpdatedAt(T item) {
+		return null;
+	}
+
+	/**
+	 * Whether an item is in the state the request asks for. Incremental searches run
+	 * without the state qualifier (see {@link #searchState}), so items that left the
+	 * requested state still show up and can be told apart here.
+	 */
+	protected boolean matchesState(T item, CollectionRequest request) {
+		return true;
+	}
+
+	/**
+	 * Resolve an {@code --incremental} request against the stored corpus.
+	 *
+	 * <p>
+	 * When a high-water mark was recorded by an earlier run, the returned request only
+	 * asks for items updated at or after it, keeps the output directory and appends its
+	 * batches after the existing ones. Without a mark (first run) everything since
+	 * {@link #INITIAL_HIGH_WATER_MARK} is collected. Requests that are not incremental or
+	 * already resolved are returned unchanged.
+	 * @param request a validated collection request
+	 * @return the request to collect
+	 */
+	protected CollectionRequest prepareIncremental(CollectionRequest request) {
+		if (!request.incremental() || request.updatedAfter() != null) {
+			return request;
+		}
+		if (request.singleFile()) {
+			logger.warn("Incremental collection is not supported in single-file mode, collecting everything");
+			return request;
+		}
+
+		Path outputDir = createOutputDirectory(request);
+		String highWaterMark = stateRepository.loadHighWaterMark(outputDir, getCollectionType());
+		if (highWaterMark == null) {
+			// Still resolve to a mark, so time windows of this run do not pick up the mark
+			// saved by an earlier window
+			logger.info("Incremental: no high-water mark for {} yet, collecting everything", getCollectionType());
+			return request.toBuilder().updatedAfter(INITIAL_HIGH_WATER_MARK).build();
+		}
+
+		int lastBatch = stateRepository.findLastBatchIndex(outputDir, getCollectionType());
+		logger.info("Incremental: collecting {} updated since {}, appending after batch {}", getItemTypeName(),
+				highWaterMark, lastBatch);
+		return request.toBuilder()
+			.updatedAfter(highWaterMark)
+			.clean(false)
+			.batchOffset(lastBatch > 0 ? lastBatch : null)
+			.build();
+	}
+
+	/**
+	 * The state to search for. An incremental run after the first one searches all
+	 * states: an item that was updated out of the requested state must still be seen, so
+	 * that its stale copy in an earlier batch is removed.
+	 * @param state the requested state
+	 * @param request the collection request
+	 * @return the state to put in the search query
+	 */
+	protected static String searchState(String state, CollectionRequest request) {
+		return isStateRelaxed(request) ? "all" : state;
+	}
+
+	private static boolean isStateRelaxed(CollectionRequest request) {
+		return request.updatedAfter() != null && !INITIAL_HIGH_WATER_MARK.equals(request.updatedAfter());
+	}
+
+	/**
+	 * Append the incremental {@code updated:>=} qualifier to a search query.
+	 */
+	protected static String withUpdatedAfter(String searchQuery, @Nullable String updatedAfter) {
+		return updatedAfter != null ? searchQuery + " updated:>=" + updatedAfter : searchQuery;
+	}
+
+	/**
+	 * The repository connection to page instead of a search, see
+	 * {@link CollectionProperties#isConnectionPaging()}.
+	 * @param searchQuery the search query
+	 * @return the connection arguments, or null if connection paging is disabled or the
+	 * query cannot be expressed on a connection
+	 */
+	protected @Nullable ConnectionQuery connectionQuery(String searchQuery) {
+		if (!properties.isConnectionPaging()) {
+			return null;
+		}
+		ConnectionQuery connection = ConnectionQuery.parse(searchQuery);
+		if (connection == null) {
+			logger.debug("Search query cannot be paged through a repository connection, using search: {}",
+					searchQuery);
+		}
+		return connection;
+	}
+
 	/**
 	 * Template method for collecting items in batches with shared pagination logic.
+	 *
+	 * <p>
+	 * Runs as a three-stage pipeline so network and disk work overlap: a fetcher thread
+	 * reads search pages ahead into a bounded queue, the calling thread cuts and enriches
+	 * batches, and a writer thread saves the previous batch while the current one is
+	 * being enriched. Batches are still numbered, written and counted in order.
+	 *
+	 * <p>
+	 * After every saved batch a {@link ResumeState} checkpoint records the search page
+	 * holding the next item, so a collection started with {@code resumeFrom} continues
+	 * from the last durable batch without fetching completed pages again.
+	 * @param resumeFrom checkpoint to continue from, see {@link #loadCheckpoint}
 	 */
 	protected CollectionResult collectItemsInBatches(String owner, String repo, CollectionRequest request,
-			Path outputDir, String searchQuery, int totalAvailableItems) throws Exception {
+			Path outputDir, String searchQuery, int totalAvailableItems, @Nullable ResumeState resumeFrom)
+			throws Exception {
 		// Configure single-file mode if requested
 		stateRepository.configureSingleFileMode(request.singleFile(), request.outputFile());
 
 		List<String> batchFiles = new ArrayList<>();
-		String cursor = null;
 		int batchNum = request.batchOffset() != null ? request.batchOffset() + 1 : 1;
 		boolean hasMoreFromAPI = true;
 		AtomicInteger processedCount = new AtomicInteger(0);
+		int batchedCount = 0;
+
+		// A window collected concurrently must stay inside its reserved batch numbers
+		int lastReservedBatch = request.reservedBatches() != null ? batchNum + request.reservedBatches() - 1
+				: Integer.MAX_VALUE;
+
+		// Continue numbering and counting where the interrupted run stopped
+		boolean checkpointed = isCheckpointed(request);
+		String startCursor = null;
+		int startOffset = 0;
+		if (resumeFrom != null) {
+			batchNum = resumeFrom.batchNumber() + 1;
+			processedCount.set(resumeFrom.processedIssues());
+			batchFiles.addAll(resumeFrom.completedBatches());
+			startCursor = resumeFrom.cursor();
+			startOffset = resumeFrom.offset();
+			hasMoreFromAPI = !resumeFrom.complete();
+		}
 
 		int targetBatchSize = request.batchSize();
 		boolean isDashboardMode = request.maxIssues() != null;
 		int effectiveTotal = isDashboardMode ? Math.min(totalAvailableItems, request.maxIssues()) : totalAvailableItems;
-		int fetchSize = isDashboardMode ? Math.min(request.maxIssues(), 100) : Math.max(targetBatchSize, 100);
+		int fetchSize = fetchSize(request);
+		int fetchLimit = isDashboardMode ? effectiveTotal : Integer.MAX_VALUE;
+
+		// Incremental bookkeeping: items to replace in earlier batches and the new mark
+		Set<Integer> collectedNumbers = new HashSet<>();
+		LocalDateTime highWaterMark = null;
 
+		// Pages the pending items came from, to checkpoint the position of the next item
 		List<T> pendingItems = new ArrayList<>();
+		Deque<PageSlice> pendingSlices = new ArrayDeque<>();
+		String nextCursor = null;
+		BlockingQueue<Page<T>> pages = new ArrayBlockingQueue<>(PREFETCH_PAGES);
+		ExecutorService fetcher = Executors.newSingleThreadExecutor(pipelineThreads("fetch"));
+		ExecutorService writer = Executors.newSingleThreadExecutor(pipelineThreads("write"));
+
+		// A first page handed over by reuseFirstPage is only valid for a fresh start
+		SearchResult<T> firstPage = firstPages.remove(searchQuery);
+		if (resumeFrom != null) {
+			firstPage = null;
+		}
 
-		while (hasMoreFromAPI || !pendingItems.isEmpty()) {
-			// Check if we've reached the maxIssues limit in dashboard mode
-			if (isDashboardMode && processedCount.get() >= effectiveTotal) {
-				logger.info("Dashboard mode: reached target of {} {}, stopping collection", effectiveTotal,
-						getItemTypeName());
-				break;
+		try {
+			String fromCursor = startCursor;
+			int fromOffset = startOffset;
+			SearchResult<T> fromFirstPage = firstPage;
+			if (hasMoreFromAPI) {
+				fetcher.execute(() -> fetchPages(searchQuery, fetchSize, fetchLimit, fromCursor, fromOffset,
+						fromFirstPage, pages));
 			}
+			Future<?> pendingWrite = CompletableFuture.completedFuture(null);
 
-			// Fetch more items if needed
-			if (pendingItems.size() < targetBatchSize && hasMoreFromAPI) {
-				int remainingToFetch = isDashboardMode ? effectiveTotal - processedCount.get() : fetchSize;
-				int actualFetchSize = Math.min(fetchSize, remainingToFetch);
-
-				if (actualFetchSize <= 0)
+			while (hasMoreFromAPI || !pendingItems.isEmpty()) {
+				// Check if we've reached the maxIssues limit in dashboard mode
+				if (isDashboardMode && batchedCount >= effectiveTotal) {
+					logger.info("Dashboard mode: reached target of {} {}, stopping collection", effectiveTotal,
+							getItemTypeName());
 					break;
-
-				logger.info("Fetching {} from API (cursor: {}, fetch size: {}, dashboard mode: {})", getItemTypeName(),
-						cursor != null ? "present" : "null", actualFetchSize, isDashboardMode);
-
-				// Fetch batch using typed SearchResult
-				SearchResult<T> searchResult = fetchBatch(searchQuery, actualFetchSize, cursor);
-
-				// Update pagination
-				hasMoreFromAPI = searchResult.hasMore();
-				cursor = searchResult.nextCursor();
-
-				// Add to pending items
-				pendingItems.addAll(searchResult.items());
-
-				logger.info("Fetched {} {}, {} pending, dashboard limit: {}", searchResult.items().size(),
-						getItemTypeName(), pendingItems.size(), isDashboardMode ? effectiveTotal : "unlimited");
-			}
-
-			// Create batch, respecting dashboard limits
-			int maxBatchSize = isDashboardMode ? Math.min(targetBatchSize, effectiveTotal - processedCount.get())
-					: targetBatchSize;
-			List<T> currentBatch = batchStrategy.createBatch(pendingItems, maxBatchSize);
-
-			if (currentBatch.isEmpty()) {
-				break;
+				}
+
+				// Take prefetched pages until a batch is full; pages of a shared search only
+				// hold part of their items for this collection
+				while (pendingItems.size() < targetBatchSize && hasMoreFromAPI) {
+					Page<T> page = pages.take();
+					if (page.failure() instanceof RuntimeException e) {
+						throw e;
+					}
+					if (page.failure() instanceof Error e) {
+						throw e;
+					}
+
+					hasMoreFromAPI = page.hasMore();
+					pendingItems.addAll(page.items());
+					if (!page.items().isEmpty()) {
+						pendingSlices.addLast(new PageSlice(page.cursor(), page.offset(), page.items().size()));
+					}
+					nextCursor = page.nextCursor();
+
+					logger.info("Fetched {} {}, {} pending, dashboard limit: {}", page.items().size(),
+							getItemTypeName(), pendingItems.size(), isDashboardMode ? effectiveTotal : "unlimited");
+				}
+
+				// Create batch, respecting dashboard limits
+				int maxBatchSize = isDashboardMode ? Math.min(targetBatchSize, effectiveTotal - batchedCount)
+						: targetBatchSize;
+				List<T> currentBatch = batchStrategy.createBatch(pendingItems, maxBatchSize);
+
+				if (currentBatch.isEmpty()) {
+					break;
+				}
+				batchedCount += currentBatch.size();
+				PageSlice resumeAt = consumeSlices(pendingSlices, currentBatch.size(), nextCursor);
+				boolean complete = pendingSlices.isEmpty() && !hasMoreFromAPI;
+
+				List<T> matchingItems = new ArrayList<>();
+				for (T item : currentBatch) {
+					if (request.updatedAfter() != null) {
+						collectedNumbers.add(getItemNumber(item));
+					}
+					LocalDateTime updatedAt = getUpdatedAt(item);
+					if (updatedAt != null && (highWaterMark == null || updatedAt.isAfter(highWaterMark))) {
+						highWaterMark = updatedAt;
+					}
+					// Items that left the requested state only replace their stale copies
+					if (!isStateRelaxed(request) || matchesState(item, request)) {
+						matchingItems.add(item);
+					}
+				}
+				if (matchingItems.isEmpty()) {
+					continue;
+				}
+
+				// Process items (e.g., enhance PRs with soft approval detection)
+				List<T> processedItems = processItemBatch(matchingItems, owner, repo, request);
+
+				// Hand the batch to the writer once the previous one is saved
+				awaitStage(pendingWrite);
+				int batchIndex = batchNum++;
+				if (batchIndex > lastReservedBatch) {
+					throw new IllegalStateException("Batch " + batchIndex + " exceeds the batch numbers reserved up to "
+							+ lastReservedBatch);
+				}
+				pendingWrite = writer.submit(() -> {
+					String filename = saveBatchToFile(outputDir, batchIndex, processedItems, request);
+					batchFiles.add(filename);
+					processedCount.addAndGet(processedItems.size());
+					if (checkpointed) {
+						saveCheckpoint(outputDir, request, new ResumeState(searchQuery, resumeAt.cursor(),
+								resumeAt.offset(), complete, batchIndex, processedCount.get(), request.windowIndex(),
+								request.createdAfter(), request.createdBefore(),
+								LocalDateTime.now().format(DateTimeFormatter.ISO_LOCAL_DATE_TIME),
+								List.copyOf(batchFiles)));
+					}
+
+					logger.info("Batch {}: Processed {} {}, total: {}/{}", batchIndex, processedItems.size(),
+							getItemTypeName(), processedCount.get(),
+							isDashboardMode ? effectiveTotal : totalAvailableItems);
+				});
 			}
 
-			// Process items (e.g., enhance PRs with soft approval detection)
-			List<T> processedItems = processItemBatch(currentBatch, owner, repo, request);
-
-			// Save batch to file
-			String filename = saveBatchToFile(outputDir, batchNum, processedItems, request);
-			batchFiles.add(filename);
-
-			// Update counters
-			processedCount.addAndGet(processedItems.size());
-			batchNum++;
+			awaitStage(pendingWrite);
+		}
+		finally {
+			// Stop a fetcher that is still reading ahead, but let an in-flight write finish
+			fetcher.shutdownNow();
+			writer.shutdown();
+			writer.awaitTermination(1, TimeUnit.MINUTES);
+		}
 
-			logger.info("Batch {}: Processed {} {}, total: {}/{}", batchNum - 1, processedItems.size(),
-					getItemTypeName(), processedCount.get(), isDashboardMode ? effectiveTotal : totalAvailableItems);
+		// A windowed collection keeps its checkpoint until the last window is done
+		if (checkpointed && request.windowIndex() == null) {
+			stateRepository.clearResumeState(resumeFile(outputDir));
+		}
+		if (request.updatedAfter() != null) {
+			int firstBatch = request.batchOffset() != null ? request.batchOffset() + 1 : 1;
+			stateRepository.removeItems(outputDir, getCollectionType(), collectedNumbers, firstBatch);
+		}
+		if (request.incremental() && !request.singleFile() && request.maxIssues() == null && highWaterMark != null) {
+			advanceHighWaterMark(outputDir, highWaterMark);
 		}
 
 		// Finalize single-file mode (writes accumulated data if applicable)
@@ -194,6 +452,322 @@ public abstract class BaseCollectionService<T> {
 				singleFileOutput != null ? singleFileOutput : outputDir.toString(), batchFiles);
 	}
 
+	/**
+	 * Record a new high-water mark unless an earlier collection, e.g. of another time
+	 * window, already got further.
+	 */
+	private void advanceHighWaterMark(Path outputDir, LocalDateTime updatedAt) {
+		String mark = updatedAt.truncatedTo(ChronoUnit.SECONDS).format(HIGH_WATER_MARK_FORMAT);
+		String current = stateRepository.loadHighWaterMark(outputDir, getCollectionType());
+		if (current == null || mark.compareTo(current) > 0) {
+			stateRepository.saveHighWaterMark(outputDir, getCollectionType(), mark);
+		}
+	}
+
+	/**
+	 * Fetcher stage: read search pages into {@code pages} until the results or the fetch
+	 * limit are exhausted, starting {@code skip} items into the page at {@code cursor}. A
+	 * failure is handed over as a page so the consumer rethrows it. An already fetched
+	 * {@code firstPage} is used in place of the first request.
+	 */
+	private void fetchPages(String searchQuery, int fetchSize, int fetchLimit, @Nullable String startCursor,
+			int skip, @Nullable SearchResult<T> firstPage, BlockingQueue<Page<T>> pages) {
+		try {
+			SearchResult<T> prefetched = firstPage;
+			String cursor = startCursor;
+			int toSkip = skip;
+			int fetchedCount = 0;
+			boolean hasMore = true;
+			while (hasMore) {
+				int actualFetchSize = Math.min(fetchSize, fetchLimit - fetchedCount);
+				if (actualFetchSize <= 0) {
+					// Dashboard limit reached while the search has more results
+					pages.put(new Page<>(List.of(), null, 0, null, false, null));
+					return;
+				}
+
+				logger.info("Fetching {} from API (cursor: {}, fetch size: {})", getItemTypeName(),
+						cursor != null ? "present" : "null", actualFetchSize);
+
+				Page<T> page;
+				try {
+					SearchResult<T> searchResult = prefetched != null ? prefetched
+							: fetchBatch(searchQuery, actualFetchSize, cursor);
+					prefetched = null;
+					List<T> items = searchResult.items();
+					// Drop the items a resumed collection already saved
+					int skipped = Math.min(toSkip, items.size());
+					toSkip -= skipped;
+					page = new Page<>(items.subList(skipped, items.size()), cursor, skipped,
+							searchResult.nextCursor(), searchResult.hasMore(), null);
+					hasMore = searchResult.hasMore();
+					cursor = searchResult.nextCursor();
+					fetchedCount += items.size() - skipped;
+				}
+				catch (RuntimeException | Error e) {
+					hasMore = false;
+					page = new Page<>(List.of(), null, 0, null, false, e);
+				}
+				// A page skipped entirely must not look like the end of the results
+				if (!page.items().isEmpty() || !hasMore) {
+					pages.put(page);
+				}
+			}
+		}
+		catch (InterruptedException e) {
+			// The consumer stopped early and the pipeline is shutting down
+			Thread.currentThread().interrupt();
+		}
+	}
+
+	private ThreadFactory pipelineThreads(String stage) {
+		String name = "collection-" + getCollectionType() + "-" + stage;
+		return runnable -> {
+			Thread thread = new Thread(runnable, name);
+			thread.setDaemon(true);
+			return thread;
+		};
+	}
+
+	/**
+	 * Wait for a pipeline stage and rethrow its failure unwrapped.
+	 */
+	private static void awaitStage(Future<?> stage) throws Exception {
+		try {
+			stage.get();
+		}
+		catch (ExecutionException e) {
+			if (e.getCause() instanceof Exception cause) {
+				throw cause;
+			}
+			if (e.getCause() instanceof Error error) {
+				throw error;
+			}
+			throw e;
+		}
+	}
+
+	/**
+	 * Remove {@code count} batched items from the front of the pending page slices.
+	 * @return the position of the first item still pending
+	 */
+	private static PageSlice consumeSlices(Deque<PageSlice> slices, int count, @Nullable String nextCursor) {
+		int remaining = count;
+		while (remaining > 0 && !slices.isEmpty()) {
+			PageSlice head = slices.pollFirst();
+			if (head.count() > remaining) {
+				slices.addFirst(new PageSlice(head.cursor(), head.offset() + remaining, head.count() - remaining));
+			}
+			remaining -= Math.min(remaining, head.count());
+		}
+		return slices.isEmpty() ? new PageSlice(nextCursor, 0, 0) : slices.peekFirst();
+	}
+
+	/**
+	 * Whether a collection can be resumed. Incremental collections restart from their
+	 * high-water mark instead, and single-file or limited collections keep no durable
+	 * batches to resume from.
+	 */
+	private static boolean isResumable(CollectionRequest request) {
+		return request.updatedAfter() == null && !request.singleFile() && request.maxIssues() == null;
+	}
+
+	/**
+	 * Whether a collection writes checkpoints after every batch. Windows collected
+	 * concurrently into reserved batch ranges would overwrite each other's checkpoint, so
+	 * the windowed collection records their progress instead.
+	 */
+	private static boolean isCheckpointed(CollectionRequest request) {
+		return isResumable(request) && request.reservedBatches() == null;
+	}
+
+	/**
+	 * Load the checkpoint to continue a {@code --resume} collection from.
+	 * @param outputDir the output directory of the collection
+	 * @param request the validated collection request
+	 * @param searchQuery the search query being collected
+	 * @return the checkpoint, or null if the collection starts from the beginning
+	 */
+	protected @Nullable ResumeState loadCheckpoint(Path outputDir, CollectionRequest request, String searchQuery) {
+		if (!request.resume()) {
+			return null;
+		}
+		if (!isCheckpointed(request)) {
+			logger.warn("Resume is not supported for incremental, single-file or limited collections, starting over");
+			return null;
+		}
+
+		ResumeState state = stateRepository.loadResumeState(resumeFile(outputDir));
+		if (state == null || !searchQuery.equals(state.searchQuery())) {
+			logger.info("No checkpoint for this collection, starting from the beginning");
+			return null;
+		}
+		logger.info("Resuming after batch {} ({} {} already saved, checkpoint from {})", state.batchNumber(),
+				state.processedIssues(), getItemTypeName(), state.timestamp());
+		return state;
+	}
+
+	/**
+	 * Returns the checkpoint file of a collection.
+	 */
+	protected Path resumeFile(Path outputDir) {
+		return outputDir.resolve(properties.getResumeFile());
+	}
+
+	/**
+	 * Load the checkpoint of an interrupted windowed collection over the date range of
+	 * {@code request}.
+	 * @param request the windowed collection request
+	 * @return the checkpoint of the window to continue from, or null to start with the
+	 * first window
+	 */
+	protected @Nullable ResumeState loadWindowCheckpoint(CollectionRequest request) {
+		CollectionRequest validated = validateRequest(request);
+		if (!validated.resume() || !isCheckpointed(validated) || validated.dryRun()) {
+			return null;
+		}
+
+		ResumeState state = stateRepository.loadResumeState(resumeFile(createOutputDirectory(validated)));
+		if (state == null || state.windowIndex() == null || state.createdAfter() == null
+				|| state.createdBefore() == null || state.createdAfter().compareTo(validated.createdAfter()) < 0
+				|| state.createdBefore().compareTo(validated.createdBefore()) > 0) {
+			logger.info("No checkpoint for this windowed collection, starting from the first window");
+			return null;
+		}
+		return state;
+	}
+
+	/**
+	 * Record that every window up to and including {@code windowRequest} is complete, so
+	 * a resumed collection continues after it.
+	 * @param windowRequest the request of the last completed window
+	 * @param batchNumber the batch number to continue after
+	 * @param processedItems number of items saved so far
+	 */
+	protected void saveWindowCheckpoint(CollectionRequest windowRequest, int batchNumber, int processedItems) {
+		CollectionRequest validated = validateRequest(windowRequest);
+		if (!isResumable(validated) || validated.dryRun()) {
+			return;
+		}
+
+		String[] repoParts = validated.repository().split("/");
+		String searchQuery = buildSearchQuery(repoParts[0], repoParts[1], validated);
+		stateRepository.saveResumeState(resumeFile(createOutputDirectory(validated)),
+				new ResumeState(searchQuery, null, 0, true, batchNumber, processedItems, validated.windowIndex(),
+						validated.createdAfter(), validated.createdBefore(),
+						LocalDateTime.now().format(DateTimeFormatter.ISO_LOCAL_DATE_TIME), List.of()));
+	}
+
+	/**
+	 * Delete the batches an interrupted windowed collection wrote after its checkpoint.
+	 * Windows collected concurrently may have finished, or been part way through, when an
+	 * earlier window failed; the resumed collection collects them again, possibly into
+	 * different batch numbers.
+	 * @param request the windowed collection request
+	 * @param batchNumber the last batch covered by the checkpoint
+	 */
+	protected void discardBatchesAfter(CollectionRequest request, int batchNumber) {
+		CollectionRequest validated = validateRequest(request);
+		if (!validated.dryRun()) {
+			stateRepository.deleteBatchesAfter(createOutputDirectory(validated), getCollectionType(), batchNumber);
+		}
+	}
+
+	/**
+	 * Delete the checkpoint of a windowed collection once its last window is done.
+	 * @param request the windowed collection request
+	 */
+	protected void clearWindowCheckpoint(CollectionRequest request) {
+		CollectionRequest validated = validateRequest(request);
+		if (isCheckpointed(validated) && !validated.dryRun()) {
+			stateRepository.clearResumeState(resumeFile(createOutputDirectory(validated)));
+		}
+	}
+
+	/**
+	 * Fetch the first search page of a collection, e.g. to read the total count it
+	 * reports before deciding how to collect. The page has the size the collection itself
+	 * would fetch, so it can be handed back with {@link #reuseFirstPage}.
+	 * @param request the collection request
+	 * @return the first page; its total count is -1 if the search did not report one
+	 */
+	protected SearchResult<T> fetchFirstPage(CollectionRequest request) {
+		CollectionRequest validated = prepareIncremental(validateRequest(request));
+		String[] repoParts = validated.repository().split("/");
+		return fetchBatch(buildSearchQuery(repoParts[0], repoParts[1], validated), fetchSize(validated), null);
+	}
+
+	/**
+	 * Hand a page from {@link #fetchFirstPage} to the next collection of
+	 * {@code request}, which then takes its count and first items from the page instead of
+	 * requesting them again.
+	 * @param request the collection request the page was fetched for
+	 * @param firstPage the first page
+	 */
+	protected void reuseFirstPage(CollectionRequest request, SearchResult<T> firstPage) {
+		CollectionRequest validated = prepareIncremental(validateRequest(request));
+		String[] repoParts = validated.repository().split("/");
+		firstPages.put(buildSearchQuery(repoParts[0], repoParts[1], validated), firstPage);
+	}
+
+	/**
+	 * Count the items matching a search, preferring the total reported by a first page
+	 * handed over with {@link #reuseFirstPage}, then a count of the shared search.
+	 * @param searchQuery the search query
+	 * @return the number of matching items
+	 */
+	protected int countItems(String searchQuery) {
+		SearchResult<T> firstPage = firstPages.get(searchQuery);
+		if (firstPage != null && firstPage.totalCount() >= 0) {
+			return firstPage.totalCount();
+		}
+		if (combinedSearch != null) {
+			int count = combinedSearch.count(searchQuery);
+			if (count >= 0) {
+				return count;
+			}
+		}
+		return getTotalItemCount(searchQuery);
+	}
+
+	/**
+	 * Page this collection through a search shared with the collection of the other item
+	 * type, instead of its own search. Only issue and pull request collections use it.
+	 * @param combinedSearch the shared search, or null to search separately again
+	 */
+	void shareSearch(@Nullable CombinedSearch combinedSearch) {
+		this.combinedSearch = combinedSearch;
+	}
+
+	/**
+	 * Page size of the search requests: the batch size, but at least 100, or the item
+	 * limit of a dashboard collection.
+	 */
+	private static int fetchSize(CollectionRequest request) {
+		return request.maxIssues() != null ? Math.min(request.maxIssues(), 100) : Math.max(request.batchSize(), 100);
+	}
+
+	private void saveCheckpoint(Path outputDir, CollectionRequest request, ResumeState state) {
+		if (!request.dryRun()) {
+			stateRepository.saveResumeState(resumeFile(outputDir), state);
+		}
+	}
+
+	/**
+	 * A search page handed from the fetcher to the batching stage: the items of the page
+	 * fetched with {@code cursor}, starting {@code offset} items into it.
+	 */
+	private record Page<T>(List<T> items, @Nullable String cursor, int offset, @Nullable String nextCursor,
+			boolean hasMore, @Nullable Throwable failure) {
+	}
+
+	/**
+	 * The {@code count} pending items starting {@code offset} items into the page fetched
+	 * with {@code cursor}.
+	 */
+	private record PageSlice(@Nullable String cursor, int offset, int count) {
+	}
+
 	/**
 	 * Common validation logic for collection requests
 	 */
@@ -238,6 +812,17 @@ public abstract class BaseCollectionService<T> {
 		return stateRepository.createOutputDirectory(getCollectionType(), request.repository(), state);
 	}
 
+	/**
+	 * Clean the output directory of a request once, before windows collected concurrently
+	 * start writing into it.
+	 */
+	protected void cleanOutputDirectory(CollectionRequest request) {
+		CollectionRequest validated = validateRequest(request);
+		if (!validated.dryRun()) {
+			cleanOutputDirectory(createOutputDirectory(validated), validated.clean());
+		}
+	}
+
 	/**
 	 * Clean existing output directory if requested
 	 */
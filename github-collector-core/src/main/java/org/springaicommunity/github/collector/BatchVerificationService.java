@@ -10,6 +10,8 @@ import java.io.IOException;
 import java.nio.file.DirectoryStream;
 import java.nio.file.Files;
 import java.nio.file.Path;
+import java.time.Instant;
+import java.time.format.DateTimeParseException;
 import java.util.*;
 import java.util.regex.Matcher;
 import java.util.regex.Pattern;
@@ -39,8 +41,8 @@ public class BatchVerificationService {
 	 * @param outputDirectory directory containing batch files
 	 * @param collectionType collection type (issues, prs, releases, collaborators)
 	 * @param expectedState expected item state (null or "all" to skip state check)
-	 * @param createdAfter ISO date lower bound (null to skip)
-	 * @param createdBefore ISO date upper bound (null to skip)
+	 * @param createdAfter ISO date or timestamp lower bound (null to skip)
+	 * @param createdBefore ISO date or timestamp upper bound (null to skip)
 	 * @return verification result with all detected issues
 	 */
 	public VerificationResult verify(Path outputDirectory, String collectionType, @Nullable String expectedState,
@@ -192,15 +194,21 @@ public class BatchVerificationService {
 		}
 
 		String createdAt = createdAtNode.asText();
-		// Extract just the date portion (YYYY-MM-DD) for comparison
-		String dateOnly = createdAt.length() >= 10 ? createdAt.substring(0, 10) : createdAt;
+		// Compare instants, so date bounds and the timestamp bounds of sub-day windows both work
+		Instant created;
+		try {
+			created = SearchDates.parse(createdAt);
+		}
+		catch (DateTimeParseException e) {
+			return;
+		}
 
-		if (createdAfter != null && dateOnly.compareTo(createdAfter) < 0) {
+		if (createdAfter != null && created.isBefore(SearchDates.parse(createdAfter))) {
 			violations.add(new VerificationResult.DateRangeViolation(itemNumber, createdAt, fileName,
 					"Created before lower bound " + createdAfter));
 		}
 
-		if (createdBefore != null && dateOnly.compareTo(createdBefore) >= 0) {
+		if (createdBefore != null && !created.isBefore(SearchDates.parse(createdBefore))) {
 			violations.add(new VerificationResult.DateRangeViolation(itemNumber, createdAt, fileName,
 					"Created on or after upper bound " + createdBefore));
 		}
@@ -0,0 +1,433 @@
+package org.springaicommunity.github.collector;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.node.ObjectNode;
+import org.jspecify.annotations.Nullable;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.attribute.FileTime;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HexFormat;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.stream.Stream;
+
+/**
+ * Decorator that caches REST GET responses on local disk and revalidates them with
+ * conditional requests.
+ *
+ * <p>
+ * Each cached entry stores the response body together with its {@code ETag} and
+ * {@code Last-Modified} validators, keyed by request URL. Subsequent GETs for the same URL
+ * send {@code If-None-Match} / {@code If-Modified-Since}; when GitHub answers
+ * {@code 304 Not Modified} the cached body is returned. Such responses do not count
+ * against the core rate limit, so re-collecting a large repository where little has
+ * changed costs almost nothing.
+ *
+ * <p>
+ * The cache is bounded in size. When it grows beyond {@code maxSizeBytes} the least
+ * recently used entries are evicted. Recency survives restarts because every hit
+ * refreshes the entry's file modification time.
+ *
+ * <p>
+ * GraphQL requests are POSTs and are passed through unchanged.
+ *
+ * <p>
+ * Example usage:
+ *
+ * <pre>
+ * {@code
+ * GitHubClient client = CachingGitHubClient.builder()
+ *     .wrapping(RetryingGitHubClient.builder().wrapping(new GitHubHttpClient(token)).build())
+ *     .cacheDirectory(Path.of(".github-cache"))
+ *     .maxSizeBytes(256L * 1024 * 1024)
+ *     .build();
+ * }
+ * </pre>
+ */
+public final class CachingGitHubClient implements GitHubClient {
+
+	private static final Logger logger = LoggerFactory.getLogger(CachingGitHubClient.class);
+
+	/**
+	 * Default upper bound for the on-disk cache (512 MB).
+	 */
+	public static final long DEFAULT_MAX_SIZE_BYTES = 512L * 1024 * 1024;
+
+	private static final String ENTRY_SUFFIX = ".json";
+
+	private final GitHubClient delegate;
+
+	private final Path cacheDirectory;
+
+	private final long maxSizeBytes;
+
+	private final ObjectMapper objectMapper = new ObjectMapper();
+
+	/**
+	 * Access-ordered index of entry file name to size in bytes. Guarded by itself.
+	 */
+	private final LinkedHashMap<String, Long> index = new LinkedHashMap<>(16, 0.75f, true);
+
+	private long totalBytes;
+
+	private final AtomicLong hits = new AtomicLong();
+
+	private final AtomicLong misses = new AtomicLong();
+
+	private final AtomicLong evictions = new AtomicLong();
+
+	/**
+	 * Private constructor - use {@link #builder()} to create instances.
+	 */
+	private CachingGitHubClient(Builder builder) {
+		this.delegate = builder.delegate;
+		this.cacheDirectory = builder.cacheDirectory;
+		this.maxSizeBytes = builder.maxSizeBytes;
+		loadIndex();
+	}
+
+	/**
+	 * Create a new builder for CachingGitHubClient.
+	 * @return new Builder instance
+	 */
+	public static Builder builder() {
+		return new Builder();
+	}
+
+	@Override
+	public String get(String path) {
+		String entryName = entryName(path);
+		CacheEntry cached = readEntry(entryName);
+
+		ConditionalResponse response = delegate.getConditional(path, cached != null ? cached.etag() : null,
+				cached != null ? cached.lastModified() : null);
+
+		if (response.isNotModified()) {
+			if (cached != null) {
+				hits.incrementAndGet();
+				touch(entryName);
+				logger.debug("Cache hit (304) for {}", path);
+				return cached.body();
+			}
+			// Server answered 304 to an unconditional request; fetch the full body
+			logger.debug("Unexpected 304 for uncached {}, refetching", path);
+			return delegate.get(path);
+		}
+
+		misses.incrementAndGet();
+		String body = response.body();
+		if (body != null && (response.etag() != null || response.lastModified() != null)) {
+			writeEntry(entryName, new CacheEntry(path, response.etag(), response.lastModified(), body));
+		}
+		return body;
+	}
+
+	@Override
+	public String getWithQuery(String path, String queryString) {
+		if (queryString == null || queryString.isEmpty()) {
+			return get(path);
+		}
+		return get(path + "?" + queryString);
+	}
+
+	@Override
+	public ConditionalResponse getConditional(String path, @Nullable String etag, @Nullable String lastModified) {
+		// Caller manages its own validators
+		return delegate.getConditional(path, etag, lastModified);
+	}
+
+	@Override
+	public String postGraphQL(String body) {
+		return delegate.postGraphQL(body);
+	}
+
+	@Override
+	public InputStream postGraphQLStream(String body) {
+		return delegate.postGraphQLStream(body);
+	}
+
+	@Override
+	public RateLimitInfo getLastRateLimitInfo() {
+		return delegate.getLastRateLimitInfo();
+	}
+
+	@Override
+	public RateLimitInfo getRateLimitInfo(String resource) {
+		return delegate.getRateLimitInfo(resource);
+	}
+
+	/**
+	 * Number of requests answered from the cache after a {@code 304 Not Modified}.
+	 * @return cache hit count
+	 */
+	public long getHitCount() {
+		return hits.get();
+	}
+
+	/**
+	 * Number of requests that returned a fresh body from GitHub.
+	 * @return cache miss count
+	 */
+	public long getMissCount() {
+		return misses.get();
+	}
+
+	/**
+	 * Number of entries removed to keep the cache within its size bound.
+	 * @return eviction count
+	 */
+	public long getEvictionCount() {
+		return evictions.get();
+	}
+
+	/**
+	 * Current total size of all cached entries.
+	 * @return size in bytes
+	 */
+	public long getSizeBytes() {
+		synchronized (index) {
+			return totalBytes;
+		}
+	}
+
+	private void loadIndex() {
+		try {
+			Files.createDirectories(cacheDirectory);
+			List<Path> entries = new ArrayList<>();
+			try (Stream<Path> files = Files.list(cacheDirectory)) {
+				files.filter(p -> p.getFileName().toString().endsWith(ENTRY_SUFFIX)).forEach(entries::add);
+			}
+			entries.sort(Comparator.comparing(CachingGitHubClient::lastModifiedTime));
+
+			synchronized (index) {
+				for (Path entry : entries) {
+					long size = Files.size(entry);
+					index.put(entry.getFileName().toString(), size);
+					totalBytes += size;
+				}
+				evictIfNeeded();
+			}
+			logger.debug("Loaded {} cached responses ({} bytes) from {}", entries.size(), totalBytes, cacheDirectory);
+		}
+		catch (IOException e) {
+			throw new UncheckedIOException("Failed to initialize response cache at " + cacheDirectory, e);
+		}
+	}
+
+	private @Nullable CacheEntry readEntry(String entryName) {
+		synchronized (index) {
+			if (!index.containsKey(entryName)) {
+				return null;
+			}
+		}
+		Path file = cacheDirectory.resolve(entryName);
+		try {
+			JsonNode node = objectMapper.readTree(Files.readString(file, StandardCharsets.UTF_8));
+			return new CacheEntry(node.path("url").asText(), textOrNull(node, "etag"),
+					textOrNull(node, "lastModified"), node.path("body").asText());
+		}
+		catch (IOException e) {
+			logger.warn("Discarding unreadable cache entry {}: {}", file, e.getMessage());
+			remove(entryName);
+			return null;
+		}
+	}
+
+	private void writeEntry(String entryName, CacheEntry entry) {
+		ObjectNode node = objectMapper.createObjectNode();
+		node.put("url", entry.url());
+		node.put("etag", entry.etag());
+		node.put("lastModified", entry.lastModified());
+		node.put("body", entry.body());
+
+		try {
+			byte[] bytes = objectMapper.writeValueAsBytes(node);
+			if (bytes.length > maxSizeBytes) {
+				logger.debug("Response for {} ({} bytes) exceeds cache size, not caching", entry.url(), bytes.length);
+				return;
+			}
+			Path target = cacheDirectory.resolve(entryName);
+			Path temp = Files.createTempFile(cacheDirectory, entryName, ".tmp");
+			Files.write(temp, bytes);
+			Files.move(temp, target, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+
+			synchronized (index) {
+				Long previous = index.put(entryName, (long) bytes.length);
+				totalBytes += bytes.length - (previous != null ? previous : 0);
+				evictIfNeeded();
+			}
+		}
+		catch (IOException e) {
+			// Caching is best-effort; the response itself was fetched successfully
+			logger.warn("Failed to cache response for {}: {}", entry.url(), e.getMessage());
+		}
+	}
+
+	private void touch(String entryName) {
+		synchronized (index) {
+			index.get(entryName); // moves the entry to the most recently used end
+		}
+		try {
+			FileTime now = FileTime.fromMillis(System.currentTimeMillis());
+			Files.setLastModifiedTime(cacheDirectory.resolve(entryName), now);
+		}
+		catch (IOException e) {
+			logger.debug("Failed to update access time of cache entry {}: {}", entryName, e.getMessage());
+		}
+	}
+
+	private void remove(String entryName) {
+		synchronized (index) {
+			Long size = index.remove(entryName);
+			if (size != null) {
+				totalBytes -= size;
+			}
+		}
+		deleteQuietly(cacheDirectory.resolve(entryName));
+	}
+
+	/**
+	 * Drop least recently used entries until the cache fits its bound. Must be called
+	 * while holding the index lock.
+	 */
+	private void evictIfNeeded() {
+		Iterator<Map.Entry<String, Long>> eldest = index.entrySet().iterator();
+		while (totalBytes > maxSizeBytes && eldest.hasNext()) {
+			Map.Entry<String, Long> entry = eldest.next();
+			eldest.remove();
+			totalBytes -= entry.getValue();
+			evictions.incrementAndGet();
+			deleteQuietly(cacheDirectory.resolve(entry.getKey()));
+			logger.debug("Evicted cache entry {} ({} bytes)", entry.getKey(), entry.getValue());
+		}
+	}
+
+	private static void deleteQuietly(Path file) {
+		try {
+			Files.deleteIfExists(file);
+		}
+		catch (IOException e) {
+			logger.debug("Failed to delete cache entry {}: {}", file, e.getMessage());
+		}
+	}
+
+	private static FileTime lastModifiedTime(Path file) {
+		try {
+			return Files.getLastModifiedTime(file);
+		}
+		catch (IOException e) {
+			return FileTime.fromMillis(0);
+		}
+	}
+
+	private static @Nullable String textOrNull(JsonNode node, String field) {
+		JsonNode value = node.get(field);
+		return value == null || value.isNull() ? null : value.asText();
+	}
+
+	/**
+	 * Map a request URL to a file name. URLs contain characters that are not valid in
+	 * file names, so the SHA-256 digest is used instead.
+	 */
+	private static String entryName(String url) {
+		try {
+			byte[] digest = MessageDigest.getInstance("SHA-256").digest(url.getBytes(StandardCharsets.UTF_8));
+			return HexFormat.of().formatHex(digest) + ENTRY_SUFFIX;
+		}
+		catch (NoSuchAlgorithmException e) {
+			throw new IllegalStateException("SHA-256 not available", e);
+		}
+	}
+
+	private record CacheEntry(String url, @Nullable String etag, @Nullable String lastModified, String body) {
+	}
+
+	/**
+	 * Builder for {@link CachingGitHubClient}.
+	 *
+	 * <p>
+	 * Provides sensible defaults:
+	 * <ul>
+	 * <li>maxSizeBytes: 512 MB</li>
+	 * </ul>
+	 */
+	public static class Builder {
+
+		private GitHubClient delegate;
+
+		private Path cacheDirectory;
+
+		private long maxSizeBytes = DEFAULT_MAX_SIZE_BYTES;
+
+		private Builder() {
+		}
+
+		/**
+		 * Set the client to wrap with caching.
+		 * @param client the GitHubClient to wrap (required)
+		 * @return this builder
+		 */
+		public Builder wrapping(GitHubClient client) {
+			this.delegate = client;
+			return this;
+		}
+
+		/**
+		 * Set the directory where cached responses are stored. Created if missing.
+		 * @param directory cache directory (required)
+		 * @return this builder
+		 */
+		public Builder cacheDirectory(Path directory) {
+			this.cacheDirectory = directory;
+			return this;
+		}
+
+		/**
+		 * Set the maximum total size of cached entries. Least recently used entries are
+		 * evicted once the bound is exceeded.
+		 * @param maxSizeBytes size bound in bytes (default: 512 MB)
+		 * @return this builder
+		 */
+		public Builder maxSizeBytes(long maxSizeBytes) {
+			this.maxSizeBytes = maxSizeBytes;
+			return this;
+		}
+
+		/**
+		 * Build the CachingGitHubClient. Existing entries in the cache directory are
+		 * indexed so that the cache survives across runs.
+		 * @return configured CachingGitHubClient
+		 * @throws IllegalStateException if required parameters are missing or invalid
+		 */
+		public CachingGitHubClient build() {
+			if (delegate == null) {
+				throw new IllegalStateException("A GitHubClient to wrap is required. Call wrapping() first.");
+			}
+			if (cacheDirectory == null) {
+				throw new IllegalStateException("A cache directory is required. Call cacheDirectory() first.");
+			}
+			if (maxSizeBytes <= 0) {
+				throw new IllegalStateException("maxSizeBytes must be positive");
+			}
+			return new CachingGitHubClient(this);
+		}
+
+	}
+
+}
@@ -0,0 +1,352 @@
+package org.springaicommunity.github.collector;
+
+import org.jspecify.annotations.Nullable;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.UncheckedIOException;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Supplier;
+
+/**
+ * Decorator that coalesces concurrent identical requests into a single upstream call.
+ *
+ * <p>
+ * Windowed collection and concurrent enrichment regularly ask for the same resource at
+ * the same time: repository metadata, collaborators, or the events of an item that shows
+ * up in two adjacent windows. While a request is in flight, every identical request
+ * (same path and query, or same GraphQL body) waits for it and receives the same result
+ * or the same failure instead of going to GitHub again. Once the call completes the
+ * entry is dropped, so later requests always see fresh data; this is not a cache.
+ *
+ * <p>
+ * Blocking and asynchronous calls for the same path share one upstream call. A response
+ * stream can only be consumed once: a streaming call nobody joined gets the upstream
+ * stream as is, while one that was joined before its response arrived reads the body into
+ * memory and hands every caller its own stream over the same bytes.
+ *
+ * <p>
+ * Example usage:
+ *
+ * <pre>
+ * {@code
+ * GitHubClient client = CoalescingGitHubClient.builder()
+ *     .wrapping(RetryingGitHubClient.builder().wrapping(new GitHubHttpClient(token)).build())
+ *     .build();
+ * }
+ * </pre>
+ */
+public final class CoalescingGitHubClient implements GitHubClient {
+
+	private static final Logger logger = LoggerFactory.getLogger(CoalescingGitHubClient.class);
+
+	private final GitHubClient delegate;
+
+	private final Map<String, CompletableFuture<Object>> inFlight = new ConcurrentHashMap<>();
+
+	private final Map<String, SharedStream> streamsInFlight = new ConcurrentHashMap<>();
+
+	private final AtomicLong upstreamCalls = new AtomicLong();
+
+	private final AtomicLong coalescedCalls = new AtomicLong();
+
+	/**
+	 * Private constructor - use {@link #builder()} to create instances.
+	 */
+	private CoalescingGitHubClient(Builder builder) {
+		this.delegate = builder.delegate;
+	}
+
+	/**
+	 * Create a new builder for CoalescingGitHubClient.
+	 * @return new Builder instance
+	 */
+	public static Builder builder() {
+		return new Builder();
+	}
+
+	@Override
+	public String get(String path) {
+		return coalesce(getKey(path), () -> delegate.get(path));
+	}
+
+	@Override
+	public String getWithQuery(String path, String queryString) {
+		return coalesce(getKey(path + "?" + queryString), () -> delegate.getWithQuery(path, queryString));
+	}
+
+	@Override
+	public String postGraphQL(String body) {
+		return coalesce(graphQLKey(body), () -> delegate.postGraphQL(body));
+	}
+
+	@Override
+	public ConditionalResponse getConditional(String path, @Nullable String etag, @Nullable String lastModified) {
+		String key = "COND " + path + "\n" + etag + "\n" + lastModified;
+		return coalesce(key, () -> delegate.getConditional(path, etag, lastModified));
+	}
+
+	@Override
+	public InputStream getStream(String path) {
+		return coalesceStream(getKey(path), () -> delegate.getStream(path));
+	}
+
+	@Override
+	public InputStream postGraphQLStream(String body) {
+		return coalesceStream(graphQLKey(body), () -> delegate.postGraphQLStream(body));
+	}
+
+	@Override
+	public CompletableFuture<String> getAsync(String path) {
+		return coalesceAsync(getKey(path), () -> delegate.getAsync(path));
+	}
+
+	@Override
+	public CompletableFuture<String> getWithQueryAsync(String path, String queryString) {
+		return coalesceAsync(getKey(path + "?" + queryString), () -> delegate.getWithQueryAsync(path, queryString));
+	}
+
+	@Override
+	public CompletableFuture<String> postGraphQLAsync(String body) {
+		return coalesceAsync(graphQLKey(body), () -> delegate.postGraphQLAsync(body));
+	}
+
+	@Override
+	public RateLimitInfo getLastRateLimitInfo() {
+		return delegate.getLastRateLimitInfo();
+	}
+
+	@Override
+	public RateLimitInfo getRateLimitInfo(String resource) {
+		return delegate.getRateLimitInfo(resource);
+	}
+
+	/**
+	 * Number of requests that were sent to the wrapped client.
+	 * @return upstream call count
+	 */
+	public long getUpstreamCount() {
+		return upstreamCalls.get();
+	}
+
+	/**
+	 * Number of requests that were answered by joining an identical in-flight request,
+	 * i.e. the upstream calls saved.
+	 * @return coalesced call count
+	 */
+	public long getCoalescedCount() {
+		return coalescedCalls.get();
+	}
+
+	private static String getKey(String pathAndQuery) {
+		return "GET " + pathAndQuery;
+	}
+
+	private static String graphQLKey(String body) {
+		return "POST /graphql\n" + body;
+	}
+
+	@SuppressWarnings("unchecked")
+	private <T> T coalesce(String key, Supplier<T> call) {
+		CompletableFuture<Object> leader = new CompletableFuture<>();
+		CompletableFuture<Object> existing = inFlight.putIfAbsent(key, leader);
+		if (existing != null) {
+			coalescedCalls.incrementAndGet();
+			logger.debug("Joined in-flight request {}", summarize(key));
+			return (T) await(existing);
+		}
+
+		upstreamCalls.incrementAndGet();
+		T result;
+		try {
+			result = call.get();
+		}
+		catch (RuntimeException | Error e) {
+			inFlight.remove(key, leader);
+			leader.completeExceptionally(e);
+			throw e;
+		}
+		inFlight.remove(key, leader);
+		leader.complete(result);
+		return result;
+	}
+
+	private InputStream coalesceStream(String key, Supplier<InputStream> call) {
+		SharedStream leader = new SharedStream();
+		SharedStream existing;
+		while ((existing = streamsInFlight.putIfAbsent(key, leader)) != null) {
+			if (existing.join()) {
+				coalescedCalls.incrementAndGet();
+				logger.debug("Joined in-flight stream {}", summarize(key));
+				return new ByteArrayInputStream((byte[]) await(existing.body));
+			}
+			// Its response already went to the caller unbuffered
+			streamsInFlight.remove(key, existing);
+		}
+
+		upstreamCalls.incrementAndGet();
+		InputStream stream;
+		try {
+			stream = call.get();
+		}
+		catch (RuntimeException | Error e) {
+			leader.close();
+			streamsInFlight.remove(key, leader);
+			leader.body.completeExceptionally(e);
+			throw e;
+		}
+		boolean joined = leader.close();
+		streamsInFlight.remove(key, leader);
+		if (!joined) {
+			return stream;
+		}
+
+		byte[] bytes;
+		try {
+			bytes = readAll(stream);
+		}
+		catch (RuntimeException e) {
+			leader.body.completeExceptionally(e);
+			throw e;
+		}
+		leader.body.complete(bytes);
+		return new ByteArrayInputStream(bytes);
+	}
+
+	private CompletableFuture<String> coalesceAsync(String key, Supplier<CompletableFuture<String>> call) {
+		CompletableFuture<Object> leader = new CompletableFuture<>();
+		CompletableFuture<Object> existing = inFlight.putIfAbsent(key, leader);
+		if (existing != null) {
+			coalescedCalls.incrementAndGet();
+			logger.debug("Joined in-flight request {}", summarize(key));
+			return existing.thenApply(String.class::cast);
+		}
+
+		upstreamCalls.incrementAndGet();
+		CompletableFuture<String> upstream;
+		try {
+			upstream = call.get();
+		}
+		catch (RuntimeException e) {
+			upstream = CompletableFuture.failedFuture(e);
+		}
+		upstream.whenComplete((value, error) -> {
+			inFlight.remove(key, leader);
+			if (error != null) {
+				leader.completeExceptionally(unwrap(error));
+			}
+			else {
+				leader.complete(value);
+			}
+		});
+		// Hand out a dependent future so that one caller cannot complete or cancel the
+		// shared one
+		return leader.thenApply(String.class::cast);
+	}
+
+	private static byte[] readAll(InputStream stream) {
+		try (InputStream in = stream) {
+			return in.readAllBytes();
+		}
+		catch (IOException e) {
+			throw new UncheckedIOException(e);
+		}
+	}
+
+	private static Object await(CompletableFuture<Object> future) {
+		try {
+			return future.join();
+		}
+		catch (CompletionException e) {
+			Throwable cause = unwrap(e);
+			if (cause instanceof RuntimeException runtimeException) {
+				throw runtimeException;
+			}
+			if (cause instanceof Error error) {
+				throw error;
+			}
+			throw e;
+		}
+	}
+
+	private static Throwable unwrap(Throwable error) {
+		return error instanceof CompletionException && error.getCause() != null ? error.getCause() : error;
+	}
+
+	private static String summarize(String key) {
+		int newline = key.indexOf('\n');
+		return newline < 0 ? key : key.substring(0, newline);
+	}
+
+	/**
+	 * A streaming request in flight. Callers can join it until its response arrives; only
+	 * then is the body buffered for them.
+	 */
+	private static final class SharedStream {
+
+		private final CompletableFuture<Object> body = new CompletableFuture<>();
+
+		private boolean joined;
+
+		private boolean closed;
+
+		synchronized boolean join() {
+			if (!closed) {
+				joined = true;
+			}
+			return !closed;
+		}
+
+		/**
+		 * Stop accepting callers.
+		 * @return whether any caller joined
+		 */
+		synchronized boolean close() {
+			closed = true;
+			return joined;
+		}
+
+	}
+
+	/**
+	 * Builder for {@link CoalescingGitHubClient}.
+	 */
+	public static class Builder {
+
+		private GitHubClient delegate;
+
+		private Builder() {
+		}
+
+		/**
+		 * Set the client to wrap.
+		 * @param client the GitHubClient to wrap (required)
+		 * @return this builder
+		 */
+		public Builder wrapping(GitHubClient client) {
+			this.delegate = client;
+			return this;
+		}
+
+		/**
+		 * Build the CoalescingGitHubClient.
+		 * @return configured CoalescingGitHubClient
+		 * @throws IllegalStateException if no client to wrap was set
+		 */
+		public CoalescingGitHubClient build() {
+			if (delegate == null) {
+				throw new IllegalStateException("A GitHubClient to wrap is required. Call wrapping() first.");
+			}
+			return new CoalescingGitHubClient(this);
+		}
+
+	}
+
+}
@@ -47,6 +47,28 @@ public class CollectionProperties {
 	 */
 	private int rateLimit = 5000;
 
+	/**
+	 * Maximum number of items enriched concurrently (events, reviews) within a batch.
+	 */
+	private int parallelism = EnrichmentExecutor.DEFAULT_PARALLELISM;
+
+	/**
+	 * Maximum number of time windows collected concurrently by a windowed collection.
+	 */
+	private int windowParallelism = 1;
+
+	/**
+	 * Split time windows during collection, from the count reported by each window's first
+	 * search page, instead of planning all windows up front.
+	 */
+	private boolean lazyWindowing = false;
+
+	/**
+	 * Page issues and pull requests through the repository connections, which have no
+	 * result cap, instead of search wherever the filters can be expressed on them.
+	 */
+	private boolean connectionPaging = false;
+
 	/**
 	 * Number of comments above which an issue is considered "large".
 	 */
@@ -188,6 +210,72 @@ public class CollectionProperties {
 		this.rateLimit = rateLimit;
 	}
 
+	/**
+	 * Returns the maximum number of items enriched concurrently.
+	 * @return the enrichment parallelism
+	 */
+	public int getParallelism() {
+		return parallelism;
+	}
+
+	/**
+	 * Sets the maximum number of items enriched concurrently.
+	 * @param parallelism number of concurrent enrichment requests (1 for sequential)
+	 */
+	public void setParallelism(int parallelism) {
+		this.parallelism = parallelism;
+	}
+
+	/**
+	 * Returns the maximum number of time windows collected concurrently.
+	 * @return the window parallelism
+	 */
+	public int getWindowParallelism() {
+		return windowParallelism;
+	}
+
+	/**
+	 * Sets the maximum number of time windows collected concurrently.
+	 * @param windowParallelism number of concurrent windows (1 for sequential)
+	 */
+	public void setWindowParallelism(int windowParallelism) {
+		this.windowParallelism = windowParallelism;
+	}
+
+	/**
+	 * Returns whether time windows are split lazily during collection.
+	 * @return true if windows are split lazily
+	 */
+	public boolean isLazyWindowing() {
+		return lazyWindowing;
+	}
+
+	/**
+	 * Enables or disables splitting time windows lazily during collection.
+	 * @param lazyWindowing true to split windows lazily instead of planning them up front
+	 */
+	public void setLazyWindowing(boolean lazyWindowing) {
+		this.lazyWindowing = lazyWindowing;
+	}
+
+	/**
+	 * Returns whether items are paged through the repository connections instead of
+	 * search.
+	 * @return true if connection paging is enabled
+	 */
+	public boolean isConnectionPaging() {
+		return connectionPaging;
+	}
+
+	/**
+	 * Enables or disables paging items through the repository connections. Searches whose
+	 * filters the connections cannot express still use search.
+	 * @param connectionPaging true to page through the repository connections
+	 */
+	public void setConnectionPaging(boolean connectionPaging) {
+		this.connectionPaging = connectionPaging;
+	}
+
 	/**
 	 * Returns the comment count threshold for large issue detection.
 	 * @return the large issue threshold
@@ -29,18 +29,77 @@ public record CollectionRequest(
 		boolean verbose, // enable verbose logging
 
 		// Date filtering
-		@Nullable String createdAfter, // ISO date YYYY-MM-DD: only issues created on or
-										// after
-		@Nullable String createdBefore, // ISO date YYYY-MM-DD: only issues created before
+		@Nullable String createdAfter, // ISO date YYYY-MM-DD or UTC timestamp: only issues
+										// created on or after
+		@Nullable String createdBefore, // ISO date YYYY-MM-DD or UTC timestamp: only issues
+										// created before
 
 		// Output options
 		boolean singleFile, // output all results to a single JSON file
 		@Nullable String outputFile, // custom output file path
 
 		// Windowed collection
-		@Nullable Integer batchOffset // starting batch number offset (null = start at 1)
+		@Nullable Integer batchOffset, // starting batch number offset (null = start at 1)
+
+		// Incremental collection
+		@Nullable String updatedAfter, // ISO timestamp: only items updated at or after
+										// (null = all)
+
+		// Resumable collection
+		@Nullable Integer windowIndex, // time window being collected (null = not windowed)
+		@Nullable Integer reservedBatches // batch numbers reserved after batchOffset
+											// (null = unbounded)
 ) {
 
+	/**
+	 * Backward-compatible constructor for existing code (24-parameter version,
+	 * pre-reservedBatches).
+	 */
+	public CollectionRequest(String repository, int batchSize, boolean dryRun, boolean incremental, boolean zip,
+			boolean clean, boolean resume, String issueState, List<String> labelFilters, String labelMode,
+			@Nullable Integer maxIssues, String sortBy, String sortOrder, String collectionType,
+			@Nullable Integer prNumber, String prState, boolean verbose, @Nullable String createdAfter,
+			@Nullable String createdBefore, boolean singleFile, @Nullable String outputFile,
+			@Nullable Integer batchOffset, @Nullable String updatedAfter, @Nullable Integer windowIndex) {
+		this(repository, batchSize, dryRun, incremental, zip, clean, resume, issueState, labelFilters, labelMode,
+				maxIssues, sortBy, sortOrder, collectionType, prNumber, prState, verbose, createdAfter, createdBefore,
+				singleFile, outputFile, batchOffset, updatedAfter, windowIndex, null // reservedBatches: unbounded
+		);
+	}
+
+	/**
+	 * Backward-compatible constructor for existing code (23-parameter version,
+	 * pre-windowIndex).
+	 */
+	public CollectionRequest(String repository, int batchSize, boolean dryRun, boolean incremental, boolean zip,
+			boolean clean, boolean resume, String issueState, List<String> labelFilters, String labelMode,
+			@Nullable Integer maxIssues, String sortBy, String sortOrder, String collectionType,
+			@Nullable Integer prNumber, String prState, boolean verbose, @Nullable String createdAfter,
+			@Nullable String createdBefore, boolean singleFile, @Nullable String outputFile,
+			@Nullable Integer batchOffset, @Nullable String updatedAfter) {
+		this(repository, batchSize, dryRun, incremental, zip, clean, resume, issueState, labelFilters, labelMode,
+				maxIssues, sortBy, sortOrder, collectionType, prNumber, prState, verbose, createdAfter, createdBefore,
+				singleFile, outputFile, batchOffset, updatedAfter, null, // windowIndex: not windowed
+				null // reservedBatches: unbounded
+		);
+	}
+
+	/**
+	 * Backward-compatible constructor for existing code (22-parameter version,
+	 * pre-updatedAfter).
+	 */
+	public CollectionRequest(String repository, int batchSize, boolean dryRun, boolean incremental, boolean zip,
+			boolean clean, boolean resume, String issueState, List<String> labelFilters, String labelMode,
+			@Nullable Integer maxIssues, String sortBy, String sortOrder, String collectionType,
+			@Nullable Integer prNumber, String prState, boolean verbose, @Nullable String createdAfter,
+			@Nullable String createdBefore, boolean singleFile, @Nullable String outputFile,
+			@Nullable Integer batchOffset) {
+		this(repository, batchSize, dryRun, incremental, zip, clean, resume, issueState, labelFilters, labelMode,
+				maxIssues, sortBy, sortOrder, collectionType, prNumber, prState, verbose, createdAfter, createdBefore,
+				singleFile, outputFile, batchOffset, null // updatedAfter: no delta filter
+		);
+	}
+
 	/**
 	 * Backward-compatible constructor for existing code (21-parameter version,
 	 * pre-batchOffset).
@@ -156,7 +215,10 @@ public record CollectionRequest(
 			.createdBefore(createdBefore)
 			.singleFile(singleFile)
 			.outputFile(outputFile)
-			.batchOffset(batchOffset);
+			.batchOffset(batchOffset)
+			.updatedAfter(updatedAfter)
+			.windowIndex(windowIndex)
+			.reservedBatches(reservedBatches);
 	}
 
 	/**
@@ -208,6 +270,12 @@ public record CollectionRequest(
 
 		private Integer batchOffset = null;
 
+		private String updatedAfter = null;
+
+		private Integer windowIndex = null;
+
+		private Integer reservedBatches = null;
+
 		public Builder repository(String repository) {
 			this.repository = repository;
 			return this;
@@ -318,10 +386,26 @@ public record CollectionRequest(
 			return this;
 		}
 
+		public Builder updatedAfter(String updatedAfter) {
+			this.updatedAfter = updatedAfter;
+			return this;
+		}
+
+		public Builder windowIndex(Integer windowIndex) {
+			this.windowIndex = windowIndex;
+			return this;
+		}
+
+		public Builder reservedBatches(Integer reservedBatches) {
+			this.reservedBatches = reservedBatches;
+			return this;
+		}
+
 		public CollectionRequest build() {
 			return new CollectionRequest(repository, batchSize, dryRun, incremental, zip, clean, resume, issueState,
 					labelFilters, labelMode, maxIssues, sortBy, sortOrder, collectionType, prNumber, prState, verbose,
-					createdAfter, createdBefore, singleFile, outputFile, batchOffset);
+					createdAfter, createdBefore, singleFile, outputFile, batchOffset, updatedAfter, windowIndex,
+					reservedBatches);
 		}
 
 	}
@@ -360,6 +444,6 @@ public record CollectionRequest(
 		return new CollectionRequest(repository, batchSize, dryRun, incremental, zip, clean, resume, issueState,
 				labelFilters, labelMode, validatedMaxIssues, validatedSortBy, validatedSortOrder,
 				validatedCollectionType, prNumber, validatedPrState, verbose, createdAfter, createdBefore, singleFile,
-				outputFile, batchOffset);
+				outputFile, batchOffset, updatedAfter, windowIndex, reservedBatches);
 	}
 }
\ No newline at end of file
@@ -1,7 +1,10 @@
 package org.springaicommunity.github.collector;
 
+import org.jspecify.annotations.Nullable;
+
 import java.nio.file.Path;
 import java.util.Map;
+import java.util.Set;
 
 /**
  * Repository interface for collection state persistence operations.
@@ -60,4 +63,87 @@ public interface CollectionStateRepository {
 		return null;
 	}
 
+	/**
+	 * Load the high-water mark of an incremental collection.
+	 * @param outputDir the output directory of the collection
+	 * @param collectionType type of collection (e.g., "issues", "prs")
+	 * @return the latest {@code updated_at} collected as an ISO timestamp, or null if
+	 * none was recorded
+	 */
+	default @Nullable String loadHighWaterMark(Path outputDir, String collectionType) {
+		// Default implementation keeps no state - every collection is a full one
+		return null;
+	}
+
+	/**
+	 * Record the high-water mark of an incremental collection.
+	 * @param outputDir the output directory of the collection
+	 * @param collectionType type of collection (e.g., "issues", "prs")
+	 * @param updatedAt the latest {@code updated_at} collected as an ISO timestamp
+	 */
+	default void saveHighWaterMark(Path outputDir, String collectionType, String updatedAt) {
+		// Default implementation does nothing - subclasses can override
+	}
+
+	/**
+	 * Find the highest batch number already stored, so an incremental collection can
+	 * append after it.
+	 * @param outputDir the output directory
+	 * @param collectionType type of collection (e.g., "issues", "prs")
+	 * @return the highest batch number, or 0 if there are no batches
+	 */
+	default int findLastBatchIndex(Path outputDir, String collectionType) {
+		return 0;
+	}
+
+	/**
+	 * Remove stale copies of re-collected items from earlier batches.
+	 * @param outputDir the output directory
+	 * @param collectionType type of collection (e.g., "issues", "prs")
+	 * @param itemNumbers numbers of the items collected again
+	 * @param beforeBatch only batches numbered below this one are rewritten
+	 * @return the number of stale copies removed
+	 */
+	default int removeItems(Path outputDir, String collectionType, Set<Integer> itemNumbers, int beforeBatch) {
+		return 0;
+	}
+
+	/**
+	 * Delete the batches numbered above {@code batchNumber}, e.g. batches an interrupted
+	 * collection wrote after its last checkpoint.
+	 * @param outputDir the output directory
+	 * @param collectionType type of collection (e.g., "issues", "prs")
+	 * @param batchNumber the last batch to keep
+	 * @return the number of batches deleted
+	 */
+	default int deleteBatchesAfter(Path outputDir, String collectionType, int batchNumber) {
+		return 0;
+	}
+
+	/**
+	 * Load the checkpoint of an interrupted collection.
+	 * @param resumeFile the checkpoint file
+	 * @return the checkpoint, or null if there is none
+	 */
+	default @Nullable ResumeState loadResumeState(Path resumeFile) {
+		return null;
+	}
+
+	/**
+	 * Atomically replace the checkpoint of the running collection.
+	 * @param resumeFile the checkpoint file
+	 * @param state the checkpoint to save
+	 */
+	default void saveResumeState(Path resumeFile, ResumeState state) {
+		// Default implementation does nothing - subclasses can override
+	}
+
+	/**
+	 * Delete the checkpoint once the collection has completed.
+	 * @param resumeFile the checkpoint file
+	 */
+	default void clearResumeState(Path resumeFile) {
+		// Default implementation does nothing - subclasses can override
+	}
+
 }
@@ -0,0 +1,35 @@
+package org.springaicommunity.github.collector;
+
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * Results of a collection of several item types run together.
+ *
+ * @param results the result of each item type, keyed by collection type (e.g.
+ * {@code issues}, {@code prs}) in collection order
+ */
+public record CombinedCollectionResult(Map<String, CollectionResult> results) {
+
+	public CombinedCollectionResult {
+		results = Collections.unmodifiableMap(new LinkedHashMap<>(results));
+	}
+
+	/**
+	 * The total number of items matching the collection criteria, across all types.
+	 * @return the sum of the total counts
+	 */
+	public int totalItems() {
+		return results.values().stream().mapToInt(CollectionResult::totalIssues).sum();
+	}
+
+	/**
+	 * The number of items collected and saved, across all types.
+	 * @return the sum of the processed counts
+	 */
+	public int processedItems() {
+		return results.values().stream().mapToInt(CollectionResult::processedIssues).sum();
+	}
+
+}
@@ -0,0 +1,235 @@
+package org.springaicommunity.github.collector;
+
+import org.jspecify.annotations.Nullable;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.BiFunction;
+
+/**
+ * Collects the issues and the pull requests of a repository from a single search.
+ *
+ * <p>
+ * The search queries of an issue and a pull request collection with the same filters
+ * differ only in their {@code is:issue} or {@code is:pr} qualifier. This service runs
+ * both collections concurrently over one search without that qualifier: every page is
+ * fetched once, and its issues and pull requests go to the batches of their own
+ * collection, so collecting both types costs one search request per page instead of two.
+ * Pull requests are collected in the issue state, so that both searches match.
+ *
+ * <p>
+ * With both {@code createdAfter} and {@code createdBefore} set, time windows are planned
+ * once, on the number of issues and pull requests together, and each window collects
+ * both types. Windows are collected one at a time and are not checkpointed, so a
+ * {@code resume} request only continues a collection that ran without windows. An
+ * {@code incremental} request collects both types from the older of their two
+ * high-water marks.
+ *
+ * <p>
+ * Usage:
+ *
+ * <pre>{@code
+ * CombinedCollectionService collector = builder.buildCombinedCollector(request);
+ * CombinedCollectionResult result = collector.collectItems(request);
+ * }</pre>
+ */
+public class CombinedCollectionService {
+
+	private static final Logger logger = LoggerFactory.getLogger(CombinedCollectionService.class);
+
+	private static final AtomicInteger POOL_COUNT = new AtomicInteger();
+
+	private final IssueCollectionService issueService;
+
+	private final PRCollectionService prService;
+
+	private final AdaptiveWindowPlanner planner;
+
+	private final BiFunction<String, String, Integer> countFunction;
+
+	/**
+	 * Create a combined collection service. The issue and pull request services are
+	 * switched to the shared search for good.
+	 * @param issueService the issue collection service
+	 * @param prService the pull request collection service
+	 * @param graphQLService the GraphQL service to search with
+	 * @param planner the adaptive window planner for determining time window splits
+	 * @param countFunction function that takes (createdAfter, createdBefore) and returns
+	 * the number of issues and pull requests matching the base request criteria in that
+	 * date range. Should return -1 on error.
+	 */
+	public CombinedCollectionService(IssueCollectionService issueService, PRCollectionService prService,
+			GraphQLService graphQLService, AdaptiveWindowPlanner planner,
+			BiFunction<String, String, Integer> countFunction) {
+		this.issueService = issueService;
+		this.prService = prService;
+		this.planner = planner;
+		this.countFunction = countFunction;
+
+		CombinedSearch search = new CombinedSearch(graphQLService);
+		issueService.shareSearch(search);
+		prService.shareSearch(search);
+	}
+
+	/**
+	 * Collect the issues and pull requests matching a request.
+	 * @param request the collection request; its {@code prState} is ignored
+	 * @return the results of the issue and pull request collections, merged across
+	 * windows
+	 * @throws IllegalArgumentException if the request asks for single-file output, which
+	 * both collections would write to
+	 */
+	public CombinedCollectionResult collectItems(CollectionRequest request) {
+		if (request.singleFile()) {
+			throw new IllegalArgumentException(
+					"Single-file output is not supported when collecting issues and pull requests together");
+		}
+
+		CollectionRequest issueRequest = issueService.validateRequest(request);
+		CollectionRequest prRequest = issueRequest.toBuilder().prState(issueRequest.issueState()).build();
+
+		// Both searches must match to share pages, so both start at the older mark
+		if (request.incremental()) {
+			issueRequest = issueService.prepareIncremental(issueRequest);
+			prRequest = prService.prepareIncremental(prRequest);
+			String updatedAfter = older(issueRequest.updatedAfter(), prRequest.updatedAfter());
+			issueRequest = issueRequest.toBuilder().updatedAfter(updatedAfter).build();
+			prRequest = prRequest.toBuilder().updatedAfter(updatedAfter).build();
+		}
+
+		if (request.createdAfter() == null || request.createdBefore() == null) {
+			return collect(issueRequest, prRequest);
+		}
+
+		logger.info("Planning time windows for {} to {}...", request.createdAfter(), request.createdBefore());
+		List<AdaptiveWindowPlanner.TimeWindow> windows = planner.planWindows(request.createdAfter(),
+				request.createdBefore(), countFunction);
+		if (windows.size() <= 1) {
+			logger.info("Single window sufficient");
+			return collect(issueRequest, prRequest);
+		}
+
+		logger.info("Split into {} time windows", windows.size());
+		List<CollectionResult> issueResults = new ArrayList<>();
+		List<CollectionResult> prResults = new ArrayList<>();
+		int issueOffset = issueRequest.batchOffset() != null ? issueRequest.batchOffset() : 0;
+		int prOffset = prRequest.batchOffset() != null ? prRequest.batchOffset() : 0;
+		for (int i = 0; i < windows.size(); i++) {
+			AdaptiveWindowPlanner.TimeWindow window = windows.get(i);
+			logger.info("Window {}/{}: {} to {}", i + 1, windows.size(), window.createdAfter(),
+					window.createdBefore());
+
+			CombinedCollectionResult windowResult = collect(windowRequest(issueRequest, window, i, issueOffset),
+					windowRequest(prRequest, window, i, prOffset));
+			CollectionResult issues = windowResult.results().get(issueService.getCollectionType());
+			CollectionResult prs = windowResult.results().get(prService.getCollectionType());
+			issueResults.add(issues);
+			prResults.add(prs);
+			issueOffset += issues.batchFiles().size();
+			prOffset += prs.batchFiles().size();
+
+			logger.info("Window {}/{} complete: {}/{} issues, {}/{} PRs", i + 1, windows.size(),
+					issues.processedIssues(), issues.totalIssues(), prs.processedIssues(), prs.totalIssues());
+		}
+
+		return result(merge(issueResults), merge(prResults));
+	}
+
+	/**
+	 * Run the issue and pull request collections concurrently.
+	 */
+	private CombinedCollectionResult collect(CollectionRequest issueRequest, CollectionRequest prRequest) {
+		ExecutorService executor = Executors.newFixedThreadPool(2, collectionThreads());
+		try {
+			Future<CollectionResult> issues = executor.submit(() -> issueService.collectItems(issueRequest));
+			Future<CollectionResult> prs = executor.submit(() -> prService.collectItems(prRequest));
+			return result(await(issues), await(prs));
+		}
+		finally {
+			executor.shutdownNow();
+		}
+	}
+
+	private CombinedCollectionResult result(CollectionResult issues, CollectionResult prs) {
+		Map<String, CollectionResult> results = new LinkedHashMap<>();
+		results.put(issueService.getCollectionType(), issues);
+		results.put(prService.getCollectionType(), prs);
+		return new CombinedCollectionResult(results);
+	}
+
+	/**
+	 * Build the request collecting one window of one type, writing its batches after
+	 * {@code batchOffset}. Only the first window cleans the output.
+	 */
+	private static CollectionRequest windowRequest(CollectionRequest request, AdaptiveWindowPlanner.TimeWindow window,
+			int windowIndex, int batchOffset) {
+		return request.toBuilder()
+			.createdAfter(window.createdAfter())
+			.createdBefore(window.createdBefore())
+			.batchOffset(batchOffset > 0 ? batchOffset : null)
+			.clean(windowIndex == 0 && request.clean())
+			.resume(false)
+			.build();
+	}
+
+	private static CollectionResult merge(List<CollectionResult> windowResults) {
+		int totalItems = 0;
+		int totalProcessed = 0;
+		List<String> batchFiles = new ArrayList<>();
+		String outputDirectory = null;
+		for (CollectionResult windowResult : windowResults) {
+			totalItems += windowResult.totalIssues();
+			totalProcessed += windowResult.processedIssues();
+			batchFiles.addAll(windowResult.batchFiles());
+			if (outputDirectory == null) {
+				outputDirectory = windowResult.outputDirectory();
+			}
+		}
+		return new CollectionResult(totalItems, totalProcessed, outputDirectory != null ? outputDirectory : "",
+				batchFiles);
+	}
+
+	private static @Nullable String older(@Nullable String first, @Nullable String second) {
+		if (first == null || second == null) {
+			return first != null ? first : second;
+		}
+		return first.compareTo(second) <= 0 ? first : second;
+	}
+
+	private static CollectionResult await(Future<CollectionResult> collection) {
+		try {
+			return collection.get();
+		}
+		catch (InterruptedException e) {
+			Thread.currentThread().interrupt();
+			throw new RuntimeException("Combined collection interrupted", e);
+		}
+		catch (ExecutionException e) {
+			if (e.getCause() instanceof RuntimeException runtime) {
+				throw runtime;
+			}
+			throw new RuntimeException("Combined collection failed", e.getCause());
+		}
+	}
+
+	private static ThreadFactory collectionThreads() {
+		String prefix = "combined-" + POOL_COUNT.incrementAndGet() + "-";
+		AtomicInteger threadCount = new AtomicInteger();
+		return runnable -> {
+			Thread thread = new Thread(runnable, prefix + threadCount.incrementAndGet());
+			thread.setDaemon(true);
+			return thread;
+		};
+	}
+
+}
@@ -0,0 +1,158 @@
+package org.springaicommunity.github.collector;
+
+import org.jspecify.annotations.Nullable;
+
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Supplier;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+/**
+ * One search feeding both the issue and the pull request collection of a
+ * {@link CombinedCollectionService}.
+ *
+ * <p>
+ * The search queries of the two collections differ only in their {@code is:issue} or
+ * {@code is:pr} qualifier. Without it, one search pages both item types, and each page
+ * is split between the collections: a page is fetched by whichever collection asks for
+ * it first and kept until the other one has taken it as well. Both walk the same cursor
+ * chain, so every page is requested once. At most {@link #MAX_PAGES} pages are kept; a
+ * collection running far ahead of the other, or resuming at a different cursor, costs
+ * a refetch at worst.
+ *
+ * <p>
+ * Counts are fetched for both types in one request, and each is handed out once.
+ */
+final class CombinedSearch {
+
+	private static final Pattern TYPE_QUALIFIER = Pattern.compile(" is:(issue|pr)(?= |$)");
+
+	private static final int MAX_PAGES = 64;
+
+	private final GraphQLService graphQLService;
+
+	private final Map<PageKey, Page> pages = new LinkedHashMap<>() {
+		@Override
+		protected boolean removeEldestEntry(Map.Entry<PageKey, Page> eldest) {
+			return size() > MAX_PAGES;
+		}
+	};
+
+	private final Map<String, Integer> counts = new HashMap<>();
+
+	CombinedSearch(GraphQLService graphQLService) {
+		this.graphQLService = graphQLService;
+	}
+
+	/**
+	 * The search query matching both item types of a typed search query.
+	 * @param searchQuery a search query with {@code is:issue} or {@code is:pr}
+	 * @return the query without its type qualifier
+	 */
+	static String combinedQuery(String searchQuery) {
+		return TYPE_QUALIFIER.matcher(searchQuery).replaceFirst("");
+	}
+
+	/**
+	 * The issues of a page of the combined search.
+	 * @param searchQuery the issue search query, including {@code is:issue}
+	 * @param first Number of items to fetch
+	 * @param after Cursor for pagination (null for first page)
+	 * @return the issues of the page, without a total count
+	 */
+	SearchResult<Issue> issues(String searchQuery, int first, @Nullable String after) {
+		CombinedSearchResult page = take(searchQuery, first, after, false);
+		return new SearchResult<>(page.issues(), page.nextCursor(), page.hasMore());
+	}
+
+	/**
+	 * The pull requests of a page of the combined search.
+	 * @param searchQuery the pull request search query, including {@code is:pr}
+	 * @param first Number of items to fetch
+	 * @param after Cursor for pagination (null for first page)
+	 * @return the pull requests of the page, without a total count
+	 */
+	SearchResult<PullRequest> pullRequests(String searchQuery, int first, @Nullable String after) {
+		CombinedSearchResult page = take(searchQuery, first, after, true);
+		return new SearchResult<>(page.pullRequests(), page.nextCursor(), page.hasMore());
+	}
+
+	/**
+	 * Count the items matching a typed search query, counting the other type along with
+	 * it for its collection to take.
+	 * @param searchQuery a search query with {@code is:issue} or {@code is:pr}
+	 * @return the number of matching items, or -1 if it could not be counted
+	 */
+	synchronized int count(String searchQuery) {
+		Integer count = counts.remove(searchQuery);
+		if (count != null) {
+			return count;
+		}
+		Matcher type = TYPE_QUALIFIER.matcher(searchQuery);
+		if (!type.find()) {
+			return -1;
+		}
+		String sibling = type.replaceFirst("issue".equals(type.group(1)) ? " is:pr" : " is:issue");
+
+		List<Integer> both = graphQLService.getSearchIssueCounts(List.of(searchQuery, sibling));
+		if (both.size() == 2 && both.get(1) >= 0) {
+			counts.put(sibling, both.get(1));
+		}
+		return both.isEmpty() ? -1 : both.get(0);
+	}
+
+	private CombinedSearchResult take(String searchQuery, int first, @Nullable String after, boolean pullRequests) {
+		PageKey key = new PageKey(combinedQuery(searchQuery), first, after);
+		Page page;
+		synchronized (pages) {
+			page = pages.computeIfAbsent(key, k -> new Page());
+		}
+
+		CombinedSearchResult result = page.take(pullRequests,
+				() -> graphQLService.searchIssuesAndPullRequests(key.query(), first, after));
+
+		if (page.takenByBoth()) {
+			synchronized (pages) {
+				pages.remove(key, page);
+			}
+		}
+		return result;
+	}
+
+	private record PageKey(String query, int first, @Nullable String after) {
+	}
+
+	/**
+	 * A page of the combined search, fetched once for both collections.
+	 */
+	private static final class Page {
+
+		private @Nullable CombinedSearchResult result;
+
+		private boolean takenByIssues;
+
+		private boolean takenByPullRequests;
+
+		synchronized CombinedSearchResult take(boolean pullRequests, Supplier<CombinedSearchResult> fetch) {
+			if (result == null) {
+				result = fetch.get();
+			}
+			if (pullRequests) {
+				takenByPullRequests = true;
+			}
+			else {
+				takenByIssues = true;
+			}
+			return result;
+		}
+
+		synchronized boolean takenByBoth() {
+			return takenByIssues && takenByPullRequests;
+		}
+
+	}
+
+}
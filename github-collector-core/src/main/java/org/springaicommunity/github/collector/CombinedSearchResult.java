@@ -0,0 +1,29 @@
+package org.springaicommunity.github.collector;
+
+import org.jspecify.annotations.Nullable;
+
+import java.util.List;
+
+/**
+ * A page of a search matching both issues and pull requests, with the nodes of each type
+ * separated.
+ *
+ * @param issues the issue nodes of the page, in search order
+ * @param pullRequests the pull request nodes of the page, in search order
+ * @param nextCursor cursor for fetching the next page (null if no more pages)
+ * @param hasMore whether there are more items available
+ * @param totalCount number of issues and pull requests matching the search, or -1 if
+ * unknown
+ */
+public record CombinedSearchResult(List<Issue> issues, List<PullRequest> pullRequests, @Nullable String nextCursor,
+		boolean hasMore, int totalCount) {
+
+	/**
+	 * Create an empty result with no more pages.
+	 * @return empty CombinedSearchResult
+	 */
+	public static CombinedSearchResult empty() {
+		return new CombinedSearchResult(List.of(), List.of(), null, false, -1);
+	}
+
+}
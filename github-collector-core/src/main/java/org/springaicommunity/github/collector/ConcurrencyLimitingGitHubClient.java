@@ -0,0 +1,433 @@
+package org.springaicommunity.github.collector;
+
+import org.jspecify.annotations.Nullable;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.io.FilterInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Deque;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.function.Function;
+import java.util.function.Supplier;
+
+/**
+ * Decorator that bounds the number of requests in flight with an AIMD (additive
+ * increase, multiplicative decrease) limit.
+ *
+ * <p>
+ * GitHub answers too many concurrent requests with secondary rate limits (403 or 429 with
+ * {@code Retry-After}). Whenever a request hits one, the concurrency limit is halved;
+ * every successful request grows it by {@code 1 / limit}, so it climbs back by roughly one
+ * slot per full window of successes. Only the first secondary limit of a window halves the
+ * limit: requests that were already in flight when it was lowered do not lower it again.
+ *
+ * <p>
+ * Callers over the limit queue in FIFO order. The blocking operations wait on the calling
+ * thread; the asynchronous operations complete once a slot frees up, without holding a
+ * thread. A streamed response keeps its slot until the stream is closed, so the limit
+ * covers the downloads in flight; a failure while reading counts as a failed request.
+ * Place this decorator inside {@link RetryingGitHubClient} so that each attempt takes its
+ * own slot and the retry backoff happens outside the limit.
+ *
+ * <pre>
+ * {@code
+ * GitHubClient client = RetryingGitHubClient.builder()
+ *     .wrapping(ConcurrencyLimitingGitHubClient.builder()
+ *         .wrapping(new GitHubHttpClient(token))
+ *         .initialLimit(8)
+ *         .build())
+ *     .build();
+ * }
+ * </pre>
+ */
+public final class ConcurrencyLimitingGitHubClient implements GitHubClient {
+
+	private static final Logger logger = LoggerFactory.getLogger(ConcurrencyLimitingGitHubClient.class);
+
+	private final GitHubClient delegate;
+
+	private final int minLimit;
+
+	private final int maxLimit;
+
+	private final Object lock = new Object();
+
+	private final Deque<CompletableFuture<Long>> waiters = new ArrayDeque<>();
+
+	// Guarded by lock
+	private double limit;
+
+	private int inFlight;
+
+	private long generation;
+
+	private long secondaryLimitCount;
+
+	/**
+	 * Private constructor - use {@link #builder()} to create instances.
+	 */
+	private ConcurrencyLimitingGitHubClient(Builder builder) {
+		this.delegate = builder.delegate;
+		this.minLimit = builder.minLimit;
+		this.maxLimit = builder.maxLimit;
+		this.limit = builder.initialLimit;
+	}
+
+	/**
+	 * Create a new builder for ConcurrencyLimitingGitHubClient.
+	 * @return new Builder instance
+	 */
+	public static Builder builder() {
+		return new Builder();
+	}
+
+	@Override
+	public String get(String path) {
+		return execute(client -> client.get(path));
+	}
+
+	@Override
+	public String getWithQuery(String path, String queryString) {
+		return execute(client -> client.getWithQuery(path, queryString));
+	}
+
+	@Override
+	public String postGraphQL(String body) {
+		return execute(client -> client.postGraphQL(body));
+	}
+
+	@Override
+	public ConditionalResponse getConditional(String path, @Nullable String etag, @Nullable String lastModified) {
+		return execute(client -> client.getConditional(path, etag, lastModified));
+	}
+
+	@Override
+	public InputStream getStream(String path) {
+		return executeStream(client -> client.getStream(path));
+	}
+
+	@Override
+	public InputStream postGraphQLStream(String body) {
+		return executeStream(client -> client.postGraphQLStream(body));
+	}
+
+	@Override
+	public CompletableFuture<String> getAsync(String path) {
+		return executeAsync(() -> delegate.getAsync(path));
+	}
+
+	@Override
+	public CompletableFuture<String> getWithQueryAsync(String path, String queryString) {
+		return executeAsync(() -> delegate.getWithQueryAsync(path, queryString));
+	}
+
+	@Override
+	public CompletableFuture<String> postGraphQLAsync(String body) {
+		return executeAsync(() -> delegate.postGraphQLAsync(body));
+	}
+
+	@Override
+	public RateLimitInfo getLastRateLimitInfo() {
+		return delegate.getLastRateLimitInfo();
+	}
+
+	@Override
+	public RateLimitInfo getRateLimitInfo(String resource) {
+		return delegate.getRateLimitInfo(resource);
+	}
+
+	/**
+	 * Current concurrency limit.
+	 * @return maximum number of requests allowed in flight
+	 */
+	public int getLimit() {
+		synchronized (lock) {
+			return (int) limit;
+		}
+	}
+
+	/**
+	 * Number of requests currently in flight.
+	 * @return requests in flight
+	 */
+	public int getInFlight() {
+		synchronized (lock) {
+			return inFlight;
+		}
+	}
+
+	/**
+	 * Number of secondary rate limit responses seen so far.
+	 * @return secondary rate limit count
+	 */
+	public long getSecondaryLimitCount() {
+		synchronized (lock) {
+			return secondaryLimitCount;
+		}
+	}
+
+	private <T> T execute(Function<GitHubClient, T> call) {
+		long permit = acquire();
+		Throwable failure = null;
+		try {
+			return call.apply(delegate);
+		}
+		catch (RuntimeException e) {
+			failure = e;
+			throw e;
+		}
+		finally {
+			release(permit, failure);
+		}
+	}
+
+	private InputStream executeStream(Function<GitHubClient, InputStream> call) {
+		long permit = acquire();
+		InputStream stream;
+		try {
+			stream = call.apply(delegate);
+		}
+		catch (RuntimeException e) {
+			release(permit, e);
+			throw e;
+		}
+		return new PermitInputStream(stream, permit);
+	}
+
+	private CompletableFuture<String> executeAsync(Supplier<CompletableFuture<String>> call) {
+		return acquireAsync().thenCompose(permit -> {
+			CompletableFuture<String> future;
+			try {
+				future = call.get();
+			}
+			catch (RuntimeException e) {
+				future = CompletableFuture.failedFuture(e);
+			}
+			return future.whenComplete((value, error) -> release(permit, error));
+		});
+	}
+
+	/**
+	 * Wait for a slot on the calling thread.
+	 * @return the generation the permit was granted in
+	 */
+	private long acquire() {
+		CompletableFuture<Long> waiter = acquireAsync();
+		try {
+			return waiter.get();
+		}
+		catch (InterruptedException e) {
+			if (!waiter.cancel(false)) {
+				// Granted concurrently: hand the slot back
+				release(waiter.join(), null);
+			}
+			Thread.currentThread().interrupt();
+			throw new GitHubHttpClient.GitHubApiException("Interrupted while waiting for a request slot", e);
+		}
+		catch (ExecutionException e) {
+			throw new IllegalStateException("Request slot could not be acquired", e.getCause());
+		}
+	}
+
+	private CompletableFuture<Long> acquireAsync() {
+		synchronized (lock) {
+			if (waiters.isEmpty() && inFlight < (int) limit) {
+				inFlight++;
+				return CompletableFuture.completedFuture(generation);
+			}
+			CompletableFuture<Long> waiter = new CompletableFuture<>();
+			waiters.addLast(waiter);
+			return waiter;
+		}
+	}
+
+	private void release(long permitGeneration, @Nullable Throwable error) {
+		List<CompletableFuture<Long>> granted = new ArrayList<>();
+		long grantedGeneration;
+		synchronized (lock) {
+			inFlight--;
+			if (error == null) {
+				limit = Math.min(maxLimit, limit + 1.0 / limit);
+			}
+			else if (isSecondaryRateLimit(error)) {
+				secondaryLimitCount++;
+				if (permitGeneration == generation) {
+					double previous = limit;
+					limit = Math.max(minLimit, limit / 2);
+					generation++;
+					logger.warn("Secondary rate limit hit. Concurrency limit lowered from {} to {}", (int) previous,
+							(int) limit);
+				}
+			}
+
+			while (!waiters.isEmpty() && inFlight < (int) limit) {
+				CompletableFuture<Long> waiter = waiters.pollFirst();
+				if (!waiter.isCancelled()) {
+					inFlight++;
+					granted.add(waiter);
+				}
+			}
+			grantedGeneration = generation;
+		}
+		// Complete outside the lock: dependent stages may run on this thread
+		for (CompletableFuture<Long> waiter : granted) {
+			if (!waiter.complete(grantedGeneration)) {
+				release(grantedGeneration, null);
+			}
+		}
+	}
+
+	private static boolean isSecondaryRateLimit(Throwable error) {
+		Throwable cause = error instanceof CompletionException && error.getCause() != null ? error.getCause() : error;
+		return cause instanceof GitHubHttpClient.GitHubApiException apiException
+				&& apiException.isSecondaryRateLimit();
+	}
+
+	/**
+	 * Response stream holding a request slot until it is closed.
+	 */
+	private final class PermitInputStream extends FilterInputStream {
+
+		private final long permit;
+
+		private final AtomicBoolean released = new AtomicBoolean();
+
+		private @Nullable IOException failure;
+
+		private PermitInputStream(InputStream in, long permit) {
+			super(in);
+			this.permit = permit;
+		}
+
+		@Override
+		public int read() throws IOException {
+			try {
+				return super.read();
+			}
+			catch (IOException e) {
+				failure = e;
+				throw e;
+			}
+		}
+
+		@Override
+		public int read(byte[] b, int off, int len) throws IOException {
+			try {
+				return super.read(b, off, len);
+			}
+			catch (IOException e) {
+				failure = e;
+				throw e;
+			}
+		}
+
+		@Override
+		public void close() throws IOException {
+			try {
+				super.close();
+			}
+			finally {
+				if (released.compareAndSet(false, true)) {
+					release(permit, failure);
+				}
+			}
+		}
+
+	}
+
+	/**
+	 * Builder for {@link ConcurrencyLimitingGitHubClient}.
+	 *
+	 * <p>
+	 * Provides sensible defaults:
+	 * <ul>
+	 * <li>initialLimit: 8</li>
+	 * <li>minLimit: 1</li>
+	 * <li>maxLimit: 32</li>
+	 * </ul>
+	 */
+	public static class Builder {
+
+		private GitHubClient delegate;
+
+		private int initialLimit = 8;
+
+		private int minLimit = 1;
+
+		private int maxLimit = 32;
+
+		private Builder() {
+		}
+
+		/**
+		 * Set the client to wrap.
+		 * @param client the GitHubClient to wrap (required)
+		 * @return this builder
+		 */
+		public Builder wrapping(GitHubClient client) {
+			this.delegate = client;
+			return this;
+		}
+
+		/**
+		 * Set the concurrency limit to start with.
+		 * @param initialLimit initial number of requests allowed in flight (default: 8)
+		 * @return this builder
+		 */
+		public Builder initialLimit(int initialLimit) {
+			this.initialLimit = initialLimit;
+			return this;
+		}
+
+		/**
+		 * Set the lowest limit a secondary rate limit can push the concurrency down to.
+		 * @param minLimit minimum number of requests allowed in flight (default: 1)
+		 * @return this builder
+		 */
+		public Builder minLimit(int minLimit) {
+			this.minLimit = minLimit;
+			return this;
+		}
+
+		/**
+		 * Set the highest limit sustained success can grow the concurrency to.
+		 * @param maxLimit maximum number of requests allowed in flight (default: 32)
+		 * @return this builder
+		 */
+		public Builder maxLimit(int maxLimit) {
+			this.maxLimit = maxLimit;
+			return this;
+		}
+
+		/**
+		 * Build the ConcurrencyLimitingGitHubClient.
+		 * @return configured ConcurrencyLimitingGitHubClient
+		 * @throws IllegalStateException if required parameters are missing or invalid
+		 */
+		public ConcurrencyLimitingGitHubClient build() {
+			if (delegate == null) {
+				throw new IllegalStateException("A GitHubClient to wrap is required. Call wrapping() first.");
+			}
+			if (minLimit < 1) {
+				throw new IllegalStateException("minLimit must be at least 1");
+			}
+			if (maxLimit < minLimit) {
+				throw new IllegalStateException("maxLimit must not be less than minLimit");
+			}
+			if (initialLimit < minLimit || initialLimit > maxLimit) {
+				throw new IllegalStateException("initialLimit must be between minLimit and maxLimit");
+			}
+			return new ConcurrencyLimitingGitHubClient(this);
+		}
+
+	}
+
+}
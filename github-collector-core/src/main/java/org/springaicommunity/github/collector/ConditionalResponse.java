@@ -0,0 +1,38 @@
+package org.springaicommunity.github.collector;
+
+import org.jspecify.annotations.Nullable;
+
+/**
+ * Response to a conditional GET request.
+ *
+ * <p>
+ * A {@code 304 Not Modified} response carries no body and tells the caller that a
+ * previously stored representation is still current. GitHub does not count such
+ * responses against the core rate limit.
+ *
+ * @param statusCode HTTP status code (2xx or 304)
+ * @param body response body, or null when not modified
+ * @param etag value of the {@code ETag} response header, if present
+ * @param lastModified value of the {@code Last-Modified} response header, if present
+ */
+public record ConditionalResponse(int statusCode, @Nullable String body, @Nullable String etag,
+		@Nullable String lastModified) {
+
+	/**
+	 * Returns true if the server answered {@code 304 Not Modified}.
+	 * @return true if the cached representation is still valid
+	 */
+	public boolean isNotModified() {
+		return statusCode == 304;
+	}
+
+	/**
+	 * Create a response for a request that was answered with a full body.
+	 * @param body the response body
+	 * @return ConditionalResponse with status 200 and no validators
+	 */
+	public static ConditionalResponse of(String body) {
+		return new ConditionalResponse(200, body, null, null);
+	}
+
+}
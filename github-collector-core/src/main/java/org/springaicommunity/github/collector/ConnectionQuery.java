@@ -0,0 +1,212 @@
+package org.springaicommunity.github.collector;
+
+import org.jspecify.annotations.Nullable;
+
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+import java.time.format.DateTimeParseException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.Function;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+/**
+ * Arguments of a {@code repository.issues} or {@code repository.pullRequests} connection,
+ * translated from a search query.
+ *
+ * <p>
+ * Search returns at most 1000 results per query, while a repository connection can be
+ * paged to its end. A connection filters on state, labels and, for issues, the update
+ * time, and is ordered by creation time, so a one-sided creation bound is applied by
+ * ending the traversal at the first item past it: ascending for {@code created:<},
+ * descending for {@code created:>=}. A search query with any other filter, such as a
+ * creation range bounded on both sides, several labels that must all match, an update
+ * filter on pull requests or an unknown qualifier, has no connection equivalent and
+ * {@link #parse} returns null for it.
+ *
+ * @param owner repository owner
+ * @param name repository name
+ * @param pullRequests whether the query is for pull requests
+ * @param states connection states, empty for all
+ * @param labels label names, empty for any
+ * @param updatedSince ISO timestamp at or after which issues were updated, or null
+ * @param createdAfter inclusive lower bound on the creation time, or null
+ * @param createdBefore exclusive upper bound on the creation time, or null
+ */
+public record ConnectionQuery(String owner, String name, boolean pullRequests, List<String> states,
+		List<String> labels, @Nullable String updatedSince, @Nullable Instant createdAfter,
+		@Nullable Instant createdBefore) {
+
+	private static final Pattern QUALIFIER = Pattern.compile("\\G\\s*(\\w+):(\"[^\"]*\"|\\S+)");
+
+	/**
+	 * Translate a search query built by the collection services.
+	 * @param searchQuery the search query
+	 * @return the connection arguments, or null if the query cannot be expressed on a
+	 * repository connection
+	 */
+	public static @Nullable ConnectionQuery parse(String searchQuery) {
+		String repository = null;
+		Boolean pullRequests = null;
+		String state = null;
+		List<String> labels = new ArrayList<>();
+		String updated = null;
+		String created = null;
+
+		Matcher matcher = QUALIFIER.matcher(searchQuery.strip());
+		int end = 0;
+		while (matcher.find()) {
+			end = matcher.end();
+			String value = matcher.group(2).replace("\"", "");
+			switch (matcher.group(1)) {
+				case "repo" -> repository = value;
+				case "label" -> labels.add(value);
+				case "updated" -> updated = value;
+				case "created" -> created = value;
+				case "is" -> {
+					switch (value) {
+						case "issue" -> pullRequests = false;
+						case "pr" -> pullRequests = true;
+						case "open", "closed", "merged" -> state = value;
+						default -> {
+							return null;
+						}
+					}
+				}
+				default -> {
+					return null;
+				}
+			}
+		}
+		if (end != searchQuery.strip().length() || repository == null || pullRequests == null
+				|| repository.split("/").length != 2) {
+			return null;
+		}
+		// The labels filter of a connection matches any of its labels, search all of them
+		if (labels.size() > 1) {
+			return null;
+		}
+		// Only the issues connection filters on the update time
+		if (updated != null && (pullRequests || !updated.startsWith(">="))) {
+			return null;
+		}
+		if ("merged".equals(state) && !pullRequests) {
+			return null;
+		}
+
+		try {
+			Instant createdAfter = null;
+			Instant createdBefore = null;
+			if (created != null) {
+				if (created.startsWith(">=")) {
+					createdAfter = SearchDates.parse(created.substring(2));
+				}
+				else if (created.startsWith("<") && !created.startsWith("<=")) {
+					createdBefore = SearchDates.parse(created.substring(1));
+				}
+				else {
+					return null;
+				}
+			}
+			String updatedSince = updated != null ? SearchDates.parse(updated.substring(2)).toString() : null;
+
+			String[] parts = repository.split("/");
+			return new ConnectionQuery(parts[0], parts[1], pullRequests, states(state, pullRequests),
+					List.copyOf(labels), updatedSince, createdAfter, createdBefore);
+		}
+		catch (DateTimeParseException e) {
+			return null;
+		}
+	}
+
+	/**
+	 * Connection states of a search state. Closed pull requests include merged ones, as in
+	 * search.
+	 */
+	private static List<String> states(@Nullable String state, boolean pullRequests) {
+		if (state == null) {
+			return List.of();
+		}
+		return switch (state) {
+			case "open" -> List.of("OPEN");
+			case "closed" -> pullRequests ? List.of("CLOSED", "MERGED") : List.of("CLOSED");
+			default -> List.of("MERGED");
+		};
+	}
+
+	/**
+	 * The search query matching the items of the connection, for a {@link GraphQLService}
+	 * that pages repository connections through search.
+	 * @return the search query, without the sort order of the connection
+	 */
+	public String searchQuery() {
+		StringBuilder query = new StringBuilder("repo:").append(owner)
+			.append('/')
+			.append(name)
+			.append(pullRequests ? " is:pr" : " is:issue");
+		if (states.contains("OPEN")) {
+			query.append(" is:open");
+		}
+		else if (states.contains("CLOSED")) {
+			query.append(" is:closed");
+		}
+		else if (states.contains("MERGED")) {
+			query.append(" is:merged");
+		}
+		for (String label : labels) {
+			query.append(" label:\"").append(label).append('"');
+		}
+		if (updatedSince != null) {
+			query.append(" updated:>=").append(SearchDates.format(Instant.parse(updatedSince)));
+		}
+		if (createdAfter != null) {
+			query.append(" created:>=").append(SearchDates.format(createdAfter));
+		}
+		else if (createdBefore != null) {
+			query.append(" created:<").append(SearchDates.format(createdBefore));
+		}
+		return query.toString();
+	}
+
+	/**
+	 * Direction in which to order the connection by creation time.
+	 * @return {@code DESC} for a lower creation bound, otherwise {@code ASC}
+	 */
+	public String direction() {
+		return createdAfter != null ? "DESC" : "ASC";
+	}
+
+	/**
+	 * Apply the creation bound to a connection page, ending the traversal at the first item
+	 * past it. Items without a creation time are kept.
+	 * @param <T> the item type
+	 * @param page page of the connection, ordered in {@link #direction()}
+	 * @param createdAt creation time of an item
+	 * @return the items within the bound; without a total count if a bound is set, as the
+	 * connection counts items on both sides of it
+	 */
+	public <T> SearchResult<T> bounded(SearchResult<T> page, Function<T, @Nullable LocalDateTime> createdAt) {
+		if (createdAfter == null && createdBefore == null) {
+			return page;
+		}
+		List<T> items = new ArrayList<>(page.items().size());
+		for (T item : page.items()) {
+			LocalDateTime created = createdAt.apply(item);
+			if (created != null && !withinBound(created.toInstant(ZoneOffset.UTC))) {
+				return new SearchResult<>(items, null, false);
+			}
+			items.add(item);
+		}
+		return new SearchResult<>(items, page.nextCursor(), page.hasMore());
+	}
+
+	private boolean withinBound(Instant created) {
+		if (createdBefore != null) {
+			return created.isBefore(createdBefore);
+		}
+		return createdAfter == null || !created.isBefore(createdAfter);
+	}
+
+}
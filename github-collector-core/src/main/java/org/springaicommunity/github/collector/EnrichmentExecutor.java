@@ -0,0 +1,133 @@
+package org.springaicommunity.github.collector;
+
+import org.jspecify.annotations.Nullable;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Future;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.IntFunction;
+
+/**
+ * Runs the per-item enrichment requests of a batch (issue events, pull request reviews)
+ * with bounded concurrency.
+ *
+ * <p>
+ * Results are returned in item order regardless of completion order, so batches are
+ * written exactly as they would be by a sequential loop. Each task is expected to handle
+ * its own failures; an exception escaping a task fails the whole call.
+ *
+ * <p>
+ * Worker threads are daemons created on first use and released after a short idle
+ * period, so an executor that is never shut down does not keep the JVM alive. With a
+ * parallelism of 1 tasks run on the calling thread.
+ */
+public final class EnrichmentExecutor {
+
+	/**
+	 * Default number of items enriched concurrently, matching the initial limit of
+	 * {@link ConcurrencyLimitingGitHubClient}.
+	 */
+	public static final int DEFAULT_PARALLELISM = 8;
+
+	private static final long IDLE_TIMEOUT_SECONDS = 30;
+
+	private static final AtomicInteger POOL_COUNT = new AtomicInteger();
+
+	private final int parallelism;
+
+	private volatile @Nullable ThreadPoolExecutor pool;
+
+	/**
+	 * Create an executor.
+	 * @param parallelism maximum number of tasks running at the same time
+	 */
+	public EnrichmentExecutor(int parallelism) {
+		if (parallelism < 1) {
+			throw new IllegalArgumentException("parallelism must be positive");
+		}
+		this.parallelism = parallelism;
+	}
+
+	/**
+	 * Returns the maximum number of tasks running at the same time.
+	 * @return the parallelism
+	 */
+	public int getParallelism() {
+		return parallelism;
+	}
+
+	/**
+	 * Run {@code task} for every index in {@code [0, count)} and collect the results.
+	 * @param count number of tasks
+	 * @param task produces the result for an index
+	 * @return the results in index order
+	 */
+	public <R> List<R> map(int count, IntFunction<R> task) {
+		List<R> results = new ArrayList<>(count);
+		if (parallelism == 1 || count <= 1) {
+			for (int i = 0; i < count; i++) {
+				results.add(task.apply(i));
+			}
+			return results;
+		}
+
+		ThreadPoolExecutor executor = pool();
+		List<Future<R>> futures = new ArrayList<>(count);
+		for (int i = 0; i < count; i++) {
+			int index = i;
+			futures.add(executor.submit(() -> task.apply(index)));
+		}
+		try {
+			for (Future<R> future : futures) {
+				results.add(future.get());
+			}
+			return results;
+		}
+		catch (InterruptedException e) {
+			Thread.currentThread().interrupt();
+			throw new RuntimeException("Enrichment interrupted", e);
+		}
+		catch (ExecutionException e) {
+			if (e.getCause() instanceof RuntimeException runtime) {
+				throw runtime;
+			}
+			throw new RuntimeException("Enrichment failed", e.getCause());
+		}
+		finally {
+			futures.forEach(future -> future.cancel(true));
+		}
+	}
+
+	private ThreadPoolExecutor pool() {
+		ThreadPoolExecutor executor = pool;
+		if (executor == null) {
+			synchronized (this) {
+				executor = pool;
+				if (executor == null) {
+					executor = createPool();
+					pool = executor;
+				}
+			}
+		}
+		return executor;
+	}
+
+	private ThreadPoolExecutor createPool() {
+		String prefix = "enrichment-" + POOL_COUNT.incrementAndGet() + "-";
+		AtomicInteger threadCount = new AtomicInteger();
+		ThreadPoolExecutor executor = new ThreadPoolExecutor(parallelism, parallelism, IDLE_TIMEOUT_SECONDS,
+				TimeUnit.SECONDS, new LinkedBlockingQueue<>(), runnable -> {
+					Thread thread = new Thread(runnable, prefix + threadCount.incrementAndGet());
+					thread.setDaemon(true);
+					return thread;
+				});
+		executor.allowCoreThreadTimeOut(true);
+		return executor;
+	}
+
+}
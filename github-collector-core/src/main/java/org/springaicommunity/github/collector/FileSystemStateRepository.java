@@ -1,29 +1,57 @@
 package org.springaicommunity.github.collector;
 
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.JsonNode;
 import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import com.fasterxml.jackson.databind.node.ArrayNode;
+import com.fasterxml.jackson.databind.node.ObjectNode;
 import org.jspecify.annotations.Nullable;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
+import java.io.IOException;
+import java.nio.file.AtomicMoveNotSupportedException;
+import java.nio.file.DirectoryStream;
 import java.nio.file.Files;
 import java.nio.file.Path;
 import java.nio.file.Paths;
-import java.util.ArrayList;
+import java.nio.file.StandardCopyOption;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeFormatter;
+import java.util.Collection;
 import java.util.Comparator;
 import java.util.LinkedHashMap;
-import java.util.List;
 import java.util.Map;
+import java.util.Set;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
 
 /**
  * File system implementation of {@link CollectionStateRepository}.
  *
  * <p>
  * Handles persistence of collection batches to the local file system.
+ *
+ * <p>
+ * In single-file mode items are streamed into a {@code .part} file next to the output
+ * file as batches arrive, so memory stays bounded by one batch. The document is closed
+ * and moved into place by {@link #finalizeCollection}; an interrupted collection never
+ * leaves a truncated output file behind.
+ *
+ * <p>
+ * The high-water mark of an incremental collection is kept next to its batches in
+ * {@code .high_water_mark_<type>.json}, so cleaning the output directory also resets it.
+ * The checkpoint of a running collection is replaced atomically after every batch, so a
+ * crash leaves either the previous or the new checkpoint, never a truncated one.
  */
 public class FileSystemStateRepository implements CollectionStateRepository {
 
 	private static final Logger logger = LoggerFactory.getLogger(FileSystemStateRepository.class);
 
+	private static final Pattern BATCH_FILE_PATTERN = Pattern.compile("batch_(\\d+)_(\\w+)\\.json");
+
 	private final ObjectMapper objectMapper;
 
 	// Single-file mode state
@@ -32,7 +60,13 @@ public class FileSystemStateRepository implements CollectionStateRepository {
 	@Nullable
 	private String customOutputFile = null;
 
-	private final List<Object> accumulatedItems = new ArrayList<>();
+	@Nullable
+	private JsonGenerator singleFileGenerator = null;
+
+	@Nullable
+	private Path singleFilePart = null;
+
+	private int singleFileItemCount = 0;
 
 	public FileSystemStateRepository(ObjectMapper objectMapper) {
 		this.objectMapper = objectMapper;
@@ -43,7 +77,7 @@ public class FileSystemStateRepository implements CollectionStateRepository {
 		this.singleFileMode = singleFile;
 		this.customOutputFile = outputFile;
 		if (singleFile) {
-			this.accumulatedItems.clear();
+			discardSingleFile();
 			logger.info("Single-file mode enabled, output file: {}",
 					outputFile != null ? outputFile : "(default based on collection type)");
 		}
@@ -96,17 +130,19 @@ public class FileSystemStateRepository implements CollectionStateRepository {
 			boolean dryRun) {
 		Object items = batchData.get(collectionType);
 		int itemCount = 0;
-		if (items instanceof java.util.Collection<?> collection) {
+		if (items instanceof Collection<?> collection) {
 			itemCount = collection.size();
 		}
 
-		// In single-file mode, accumulate items instead of writing individual batch files
+		// In single-file mode, stream items into the single file instead of writing
+		// individual batch files
 		if (singleFileMode) {
-			if (items instanceof java.util.Collection<?> collection) {
-				accumulatedItems.addAll(collection);
+			if (!dryRun && items instanceof Collection<?> collection) {
+				streamToSingleFile(outputDir, collectionType, collection);
 			}
+			singleFileItemCount += itemCount;
 			logger.info("Single-file mode: accumulated {} {} (total: {})", itemCount, collectionType,
-					accumulatedItems.size());
+					singleFileItemCount);
 			return "(accumulated for single file)";
 		}
 
@@ -135,45 +171,292 @@ public class FileSystemStateRepository implements CollectionStateRepository {
 			return null;
 		}
 
-		// Determine output file path
-		String defaultFilename = "all_" + collectionType + ".json";
-		Path outputPath;
-		if (customOutputFile != null) {
-			outputPath = Paths.get(customOutputFile);
-			// If it's a relative path, resolve against current directory
-			if (!outputPath.isAbsolute()) {
-				outputPath = Paths.get(System.getProperty("user.dir")).resolve(outputPath);
-			}
-		}
-		else {
-			outputPath = outputDir.resolve(defaultFilename);
-		}
+		Path outputPath = resolveSingleFilePath(outputDir, collectionType);
 
 		if (dryRun) {
-			logger.info("DRY RUN: Would write {} {} to {}", accumulatedItems.size(), collectionType, outputPath);
+			logger.info("DRY RUN: Would write {} {} to {}", singleFileItemCount, collectionType, outputPath);
+			discardSingleFile();
 			return outputPath.toString();
 		}
 
 		try {
-			// Ensure parent directory exists
-			Files.createDirectories(outputPath.getParent());
-
-			// Create output structure with just the items array
-			Map<String, Object> output = new LinkedHashMap<>();
-			output.put(collectionType, accumulatedItems);
-
-			objectMapper.writerWithDefaultPrettyPrinter().writeValue(outputPath.toFile(), output);
+			if (singleFileGenerator == null) {
+				// Nothing was collected; still write an empty document
+				openSingleFile(outputPath, collectionType);
+			}
+			singleFileGenerator.writeEndArray();
+			singleFileGenerator.writeEndObject();
+			singleFileGenerator.close();
+			Files.move(singleFilePart, outputPath, StandardCopyOption.REPLACE_EXISTING);
 
-			logger.info("Wrote {} {} to single file: {}", accumulatedItems.size(), collectionType, outputPath);
+			logger.info("Wrote {} {} to single file: {}", singleFileItemCount, collectionType, outputPath);
 			return outputPath.toString();
 		}
 		catch (Exception e) {
 			throw new RuntimeException("Failed to write single file output: " + outputPath, e);
 		}
 		finally {
-			// Clear accumulated items for potential reuse
-			accumulatedItems.clear();
+			// Reset for potential reuse
+			discardSingleFile();
+		}
+	}
+
+	private void streamToSingleFile(Path outputDir, String collectionType, Collection<?> items) {
+		Path outputPath = resolveSingleFilePath(outputDir, collectionType);
+		try {
+			if (singleFileGenerator == null) {
+				openSingleFile(outputPath, collectionType);
+			}
+			ObjectWriter writer = objectMapper.writer().without(SerializationFeature.FLUSH_AFTER_WRITE_VALUE);
+			for (Object item : items) {
+				writer.writeValue(singleFileGenerator, item);
+			}
+			// Hand each batch to the file, so the part file grows as batches are saved
+			singleFileGenerator.flush();
+		}
+		catch (Exception e) {
+			throw new RuntimeException("Failed to write single file output: " + outputPath, e);
+		}
+	}
+
+	/**
+	 * Start the output document in a {@code .part} file and leave its items array open.
+	 */
+	private void openSingleFile(Path outputPath, String collectionType) throws IOException {
+		// Ensure parent directory exists
+		Files.createDirectories(outputPath.getParent());
+
+		Path part = outputPath.resolveSibling(outputPath.getFileName() + ".part");
+		JsonGenerator generator = objectMapper.getFactory().createGenerator(Files.newOutputStream(part));
+		generator.useDefaultPrettyPrinter();
+
+		// Output structure with just the items array
+		generator.writeStartObject();
+		generator.writeArrayFieldStart(collectionType);
+
+		this.singleFilePart = part;
+		this.singleFileGenerator = generator;
+	}
+
+	/**
+	 * Close and delete an unfinished single file, and reset the single-file state.
+	 */
+	private void discardSingleFile() {
+		try {
+			if (singleFileGenerator != null) {
+				singleFileGenerator.close();
+			}
+			if (singleFilePart != null) {
+				Files.deleteIfExists(singleFilePart);
+			}
+		}
+		catch (IOException e) {
+			logger.warn("Failed to discard partial single file {}: {}", singleFilePart, e.getMessage());
+		}
+		finally {
+			singleFileGenerator = null;
+			singleFilePart = null;
+			singleFileItemCount = 0;
+		}
+	}
+
+	@Override
+	public @Nullable String loadHighWaterMark(Path outputDir, String collectionType) {
+		Path markFile = highWaterMarkFile(outputDir, collectionType);
+		if (!Files.exists(markFile)) {
+			return null;
+		}
+		try {
+			return objectMapper.readTree(markFile.toFile()).path("updated_at").asText(null);
+		}
+		catch (Exception e) {
+			logger.warn("Ignoring unreadable high-water mark {}: {}", markFile, e.getMessage());
+			return null;
+		}
+	}
+
+	@Override
+	public void saveHighWaterMark(Path outputDir, String collectionType, String updatedAt) {
+		Path markFile = highWaterMarkFile(outputDir, collectionType);
+		Map<String, Object> mark = new LinkedHashMap<>();
+		mark.put("collection_type", collectionType);
+		mark.put("updated_at", updatedAt);
+		mark.put("timestamp", LocalDateTime.now().format(DateTimeFormatter.ISO_LOCAL_DATE_TIME));
+		try {
+			// Write then move, so a crash never leaves a truncated mark behind
+			Path tmpFile = markFile.resolveSibling(markFile.getFileName() + ".tmp");
+			objectMapper.writerWithDefaultPrettyPrinter().writeValue(tmpFile.toFile(), mark);
+			Files.move(tmpFile, markFile, StandardCopyOption.REPLACE_EXISTING);
+			logger.info("Saved high-water mark for {}: {}", collectionType, updatedAt);
+		}
+		catch (Exception e) {
+			throw new RuntimeException("Failed to save high-water mark: " + markFile, e);
+		}
+	}
+
+	@Override
+	public int findLastBatchIndex(Path outputDir, String collectionType) {
+		int last = 0;
+		try (DirectoryStream<Path> stream = Files.newDirectoryStream(outputDir, batchGlob(collectionType))) {
+			for (Path path : stream) {
+				Matcher matcher = BATCH_FILE_PATTERN.matcher(path.getFileName().toString());
+				if (matcher.matches()) {
+					last = Math.max(last, Integer.parseInt(matcher.group(1)));
+				}
+			}
+		}
+		catch (IOException e) {
+			throw new RuntimeException("Failed to list batches in " + outputDir, e);
+		}
+		return last;
+	}
+
+	@Override
+	public int removeItems(Path outputDir, String collectionType, Set<Integer> itemNumbers, int beforeBatch) {
+		if (itemNumbers.isEmpty()) {
+			return 0;
+		}
+
+		int removed = 0;
+		try (DirectoryStream<Path> stream = Files.newDirectoryStream(outputDir, batchGlob(collectionType))) {
+			for (Path batchFile : stream) {
+				Matcher matcher = BATCH_FILE_PATTERN.matcher(batchFile.getFileName().toString());
+				if (matcher.matches() && Integer.parseInt(matcher.group(1)) < beforeBatch) {
+					removed += removeItemsFromBatch(batchFile, collectionType, itemNumbers);
+				}
+			}
+		}
+		catch (IOException e) {
+			throw new RuntimeException("Failed to replace items in " + outputDir, e);
+		}
+
+		if (removed > 0) {
+			logger.info("Replaced {} updated {} in earlier batches", removed, collectionType);
+		}
+		return removed;
+	}
+
+	@Override
+	public int deleteBatchesAfter(Path outputDir, String collectionType, int batchNumber) {
+		int deleted = 0;
+		try (DirectoryStream<Path> stream = Files.newDirectoryStream(outputDir, batchGlob(collectionType))) {
+			for (Path batchFile : stream) {
+				Matcher matcher = BATCH_FILE_PATTERN.matcher(batchFile.getFileName().toString());
+				if (matcher.matches() && Integer.parseInt(matcher.group(1)) > batchNumber) {
+					Files.delete(batchFile);
+					deleted++;
+				}
+			}
+		}
+		catch (IOException e) {
+			throw new RuntimeException("Failed to delete batches in " + outputDir, e);
+		}
+
+		if (deleted > 0) {
+			logger.info("Deleted {} {} batches written after batch {}", deleted, collectionType, batchNumber);
+		}
+		return deleted;
+	}
+
+	/**
+	 * Rewrite a batch file without the given items. A batch left empty is kept so batch
+	 * numbering stays sequential.
+	 */
+	private int removeItemsFromBatch(Path batchFile, String collectionType, Set<Integer> itemNumbers)
+			throws IOException {
+		ObjectNode root = (ObjectNode) objectMapper.readTree(batchFile.toFile());
+		JsonNode items = root.get(collectionType);
+		if (items == null || !items.isArray()) {
+			return 0;
+		}
+
+		ArrayNode kept = objectMapper.createArrayNode();
+		for (JsonNode item : items) {
+			if (!itemNumbers.contains(item.path("number").asInt(-1))) {
+				kept.add(item);
+			}
+		}
+
+		int removed = items.size() - kept.size();
+		if (removed > 0) {
+			root.set(collectionType, kept);
+			if (root.get("metadata") instanceof ObjectNode metadata && metadata.has("item_count")) {
+				metadata.put("item_count", kept.size());
+			}
+			objectMapper.writerWithDefaultPrettyPrinter().writeValue(batchFile.toFile(), root);
+		}
+		return removed;
+	}
+
+	@Override
+	public @Nullable ResumeState loadResumeState(Path resumeFile) {
+		if (!Files.exists(resumeFile)) {
+			return null;
+		}
+		try {
+			ResumeState state = objectMapper.readValue(resumeFile.toFile(), ResumeState.class);
+			// Checkpoints of older versions did not record the query they belong to
+			if (state.searchQuery() == null) {
+				logger.warn("Ignoring resume state {} in an older format", resumeFile);
+				return null;
+			}
+			return state;
+		}
+		catch (Exception e) {
+			logger.warn("Ignoring unreadable resume state {}: {}", resumeFile, e.getMessage());
+			return null;
+		}
+	}
+
+	@Override
+	public void saveResumeState(Path resumeFile, ResumeState state) {
+		try {
+			// Write then atomically replace, so the checkpoint is always a complete document
+			Path tmpFile = resumeFile.resolveSibling(resumeFile.getFileName() + ".tmp");
+			objectMapper.writerWithDefaultPrettyPrinter().writeValue(tmpFile.toFile(), state);
+			try {
+				Files.move(tmpFile, resumeFile, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+			}
+			catch (AtomicMoveNotSupportedException e) {
+				Files.move(tmpFile, resumeFile, StandardCopyOption.REPLACE_EXISTING);
+			}
+			logger.debug("Saved resume state after batch {}", state.batchNumber());
+		}
+		catch (Exception e) {
+			throw new RuntimeException("Failed to save resume state: " + resumeFile, e);
+		}
+	}
+
+	@Override
+	public void clearResumeState(Path resumeFile) {
+		try {
+			if (Files.deleteIfExists(resumeFile)) {
+				logger.info("Collection complete, removed resume state {}", resumeFile);
+			}
+		}
+		catch (IOException e) {
+			logger.warn("Failed to remove resume state {}: {}", resumeFile, e.getMessage());
+		}
+	}
+
+	private static String batchGlob(String collectionType) {
+		return "batch_*_" + collectionType + ".json";
+	}
+
+	private static Path highWaterMarkFile(Path outputDir, String collectionType) {
+		return outputDir.resolve(".high_water_mark_" + collectionType + ".json");
+	}
+
+	private Path resolveSingleFilePath(Path outputDir, String collectionType) {
+		if (customOutputFile == null) {
+			return outputDir.resolve("all_" + collectionType + ".json");
+		}
+		Path outputPath = Paths.get(customOutputFile);
+		// If it's a relative path, resolve against current directory
+		if (!outputPath.isAbsolute()) {
+			outputPath = Paths.get(System.getProperty("user.dir")).resolve(outputPath);
 		}
+		return outputPath;
 	}
 
 }
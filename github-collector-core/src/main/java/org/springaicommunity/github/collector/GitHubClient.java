@@ -1,11 +1,28 @@
 package org.springaicommunity.github.collector;
 
+import org.jspecify.annotations.Nullable;
+
+import java.io.ByteArrayInputStream;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.concurrent.CompletableFuture;
+
 /**
  * Interface for GitHub API HTTP operations.
  *
  * <p>
  * Provides abstraction over the GitHub REST and GraphQL APIs, enabling testability and
  * potential decorator implementations (caching, retrying, logging).
+ *
+ * <p>
+ * Every blocking operation has a {@link CompletableFuture}-returning counterpart so that
+ * callers can keep many requests in flight without dedicating a thread to each one. The
+ * default asynchronous implementations simply run the blocking variant on the common
+ * pool; implementations backed by a non-blocking transport should override them.
+ *
+ * <p>
+ * The streaming operations return the response body as an {@link InputStream} so that
+ * large pages can be parsed incrementally instead of being held as a String first.
  */
 public interface GitHubClient {
 
@@ -34,6 +51,85 @@ public interface GitHubClient {
 	 */
 	String postGraphQL(String body);
 
+	/**
+	 * Execute a conditional GET request. When a validator is supplied it is sent as
+	 * {@code If-None-Match} / {@code If-Modified-Since}, and a {@code 304 Not Modified}
+	 * answer is returned rather than thrown.
+	 *
+	 * <p>
+	 * The default implementation ignores the validators and performs a plain
+	 * {@link #get(String)}, so decorators relying on it still work against clients that
+	 * do not support conditional requests.
+	 * @param path API path (e.g., "/repos/owner/repo") or full URL
+	 * @param etag ETag of the cached representation, or null
+	 * @param lastModified Last-Modified value of the cached representation, or null
+	 * @return the response, possibly not modified
+	 * @throws GitHubHttpClient.GitHubApiException if the request fails
+	 */
+	default ConditionalResponse getConditional(String path, @Nullable String etag, @Nullable String lastModified) {
+		return ConditionalResponse.of(get(path));
+	}
+
+	/**
+	 * Execute a GET request and return the response body as a stream. The caller must
+	 * close the stream.
+	 *
+	 * <p>
+	 * The default implementation wraps {@link #get(String)}; implementations that can
+	 * read the body incrementally should override it.
+	 * @param path API path (e.g., "/repos/owner/repo") or full URL
+	 * @return Response body as UTF-8 encoded stream
+	 * @throws GitHubHttpClient.GitHubApiException if the request fails
+	 */
+	default InputStream getStream(String path) {
+		return new ByteArrayInputStream(get(path).getBytes(StandardCharsets.UTF_8));
+	}
+
+	/**
+	 * Execute a POST request to the GitHub GraphQL API and return the response body as a
+	 * stream. The caller must close the stream.
+	 *
+	 * <p>
+	 * The default implementation wraps {@link #postGraphQL(String)}.
+	 * @param body Request body (JSON)
+	 * @return Response body as UTF-8 encoded stream
+	 * @throws GitHubHttpClient.GitHubApiException if the request fails
+	 */
+	default InputStream postGraphQLStream(String body) {
+		return new ByteArrayInputStream(postGraphQL(body).getBytes(StandardCharsets.UTF_8));
+	}
+
+	/**
+	 * Asynchronous variant of {@link #get(String)}.
+	 * @param path API path (e.g., "/repos/owner/repo") or full URL
+	 * @return future completing with the response body, or exceptionally with
+	 * {@link GitHubHttpClient.GitHubApiException} if the request fails
+	 */
+	default CompletableFuture<String> getAsync(String path) {
+		return CompletableFuture.supplyAsync(() -> get(path));
+	}
+
+	/**
+	 * Asynchronous variant of {@link #getWithQuery(String, String)}.
+	 * @param path API path (without query string)
+	 * @param queryString Query string (without leading ?)
+	 * @return future completing with the response body, or exceptionally with
+	 * {@link GitHubHttpClient.GitHubApiException} if the request fails
+	 */
+	default CompletableFuture<String> getWithQueryAsync(String path, String queryString) {
+		return CompletableFuture.supplyAsync(() -> getWithQuery(path, queryString));
+	}
+
+	/**
+	 * Asynchronous variant of {@link #postGraphQL(String)}.
+	 * @param body Request body (JSON)
+	 * @return future completing with the response body, or exceptionally with
+	 * {@link GitHubHttpClient.GitHubApiException} if the request fails
+	 */
+	default CompletableFuture<String> postGraphQLAsync(String body) {
+		return CompletableFuture.supplyAsync(() -> postGraphQL(body));
+	}
+
 	/**
 	 * Get the rate limit information from the most recent API response. Returns null if
 	 * no rate limit headers have been observed yet.
@@ -43,4 +139,23 @@ public interface GitHubClient {
 		return null;
 	}
 
+	/**
+	 * Get the rate limit information most recently observed for one GitHub rate limit
+	 * resource, such as {@link RateLimitInfo#CORE}, {@link RateLimitInfo#SEARCH} or
+	 * {@link RateLimitInfo#GRAPHQL}.
+	 *
+	 * <p>
+	 * The default implementation returns {@link #getLastRateLimitInfo()} when it belongs
+	 * to the requested resource (or names no resource), and null otherwise.
+	 * @param resource rate limit resource name
+	 * @return last observed RateLimitInfo for the resource, or null
+	 */
+	default RateLimitInfo getRateLimitInfo(String resource) {
+		RateLimitInfo info = getLastRateLimitInfo();
+		if (info == null || (info.resource() != null && !info.resource().equals(resource))) {
+			return null;
+		}
+		return info;
+	}
+
 }
@@ -3,8 +3,13 @@ package org.springaicommunity.github.collector;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import org.jspecify.annotations.Nullable;
 
+import java.nio.file.Path;
+import java.util.Arrays;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.function.BiFunction;
+import java.util.function.Function;
 
 /**
  * Builder for creating GitHub collector services without Spring dependencies.
@@ -20,6 +25,11 @@ import java.util.function.BiFunction;
  *     .tokenFromEnv()
  *     .buildIssueCollector();
  *
+ * // Rotate between several tokens (GITHUB_TOKENS=ghp_a,ghp_b)
+ * IssueCollectionService collector = GitHubCollectorBuilder.create()
+ *     .tokensFromEnv()
+ *     .buildIssueCollector();
+ *
  * // With custom configuration
  * CollectionProperties props = new CollectionProperties();
  * props.setBatchSize(50);
@@ -45,18 +55,30 @@ public class GitHubCollectorBuilder {
 
 	private String token;
 
+	private List<String> tokens;
+
 	private CollectionProperties properties;
 
 	private ObjectMapper objectMapper;
 
 	private GitHubClient httpClient;
 
+	private String baseUrl = GitHubHttpClient.DEFAULT_BASE_URL;
+
 	private CollectionStateRepository stateRepository;
 
 	private ArchiveService archiveService;
 
 	private BatchStrategy<?> batchStrategy;
 
+	private Path responseCacheDirectory;
+
+	private long responseCacheMaxBytes = CachingGitHubClient.DEFAULT_MAX_SIZE_BYTES;
+
+	private Path windowPlanCacheDirectory;
+
+	private Boolean streamingResponses;
+
 	private GitHubCollectorBuilder() {
 		this.properties = new CollectionProperties();
 	}
@@ -76,9 +98,36 @@ public class GitHubCollectorBuilder {
 	 */
 	public GitHubCollectorBuilder token(String token) {
 		this.token = token;
+		this.tokens = null;
 		return this;
 	}
 
+	/**
+	 * Use several GitHub tokens. Requests are routed to the token with the most
+	 * remaining rate limit budget, see {@link MultiTokenGitHubClient}.
+	 * @param tokens GitHub personal access tokens
+	 * @return this builder
+	 */
+	public GitHubCollectorBuilder tokens(List<String> tokens) {
+		this.tokens = tokens.stream().filter(t -> t != null && !t.isBlank()).map(String::trim).toList();
+		this.token = this.tokens.isEmpty() ? null : this.tokens.get(0);
+		return this;
+	}
+
+	/**
+	 * Read GitHub tokens from the GITHUB_TOKENS environment variable (separated by commas
+	 * or whitespace), falling back to GITHUB_TOKEN when it is not set.
+	 * @return this builder
+	 * @throws IllegalStateException if neither variable is set
+	 */
+	public GitHubCollectorBuilder tokensFromEnv() {
+		String value = EnvironmentSupport.get("GITHUB_TOKENS");
+		if (value == null || value.trim().isEmpty()) {
+			return tokenFromEnv();
+		}
+		return tokens(Arrays.asList(value.trim().split("[,\\s]+")));
+	}
+
 	/**
 	 * Read the GitHub token from the GITHUB_TOKEN environment variable.
 	 * @return this builder
@@ -129,6 +178,18 @@ public class GitHubCollectorBuilder {
 		return this;
 	}
 
+	/**
+	 * Point the built-in client at a GitHub-compatible API other than api.github.com,
+	 * for example a local simulator used for load testing. Ignored when a custom client
+	 * is set via {@link #httpClient(GitHubClient)}.
+	 * @param baseUrl API base URL, e.g. {@code http://localhost:8080}
+	 * @return this builder
+	 */
+	public GitHubCollectorBuilder baseUrl(String baseUrl) {
+		this.baseUrl = baseUrl;
+		return this;
+	}
+
 	/**
 	 * Set a custom CollectionStateRepository implementation. Useful for testing with
 	 * mocks or for alternative storage backends.
@@ -163,56 +224,94 @@ public class GitHubCollectorBuilder {
 		return this;
 	}
 
+	/**
+	 * Cache REST GET responses on disk and revalidate them with conditional requests.
+	 * Unchanged resources are answered with {@code 304 Not Modified}, which does not
+	 * count against the rate limit. See {@link CachingGitHubClient}.
+	 * @param directory cache directory (null to disable caching)
+	 * @return this builder
+	 */
+	public GitHubCollectorBuilder responseCache(@Nullable Path directory) {
+		this.responseCacheDirectory = directory;
+		return this;
+	}
+
+	/**
+	 * Cache REST GET responses on disk with an explicit size bound.
+	 * @param directory cache directory (null to disable caching)
+	 * @param maxSizeBytes maximum cache size; least recently used entries are evicted
+	 * @return this builder
+	 */
+	public GitHubCollectorBuilder responseCache(@Nullable Path directory, long maxSizeBytes) {
+		this.responseCacheDirectory = directory;
+		this.responseCacheMaxBytes = maxSizeBytes;
+		return this;
+	}
+
+	/**
+	 * Persist the time windows planned by windowed collectors, so later runs reuse the
+	 * windows and counts of settled date ranges and only plan recent ones. Plans are made
+	 * on the count over all states and labels, which bounds the count of any filter, so
+	 * one plan serves every state and label. See {@link WindowPlanCache}.
+	 * @param directory plan directory (null to plan every run from scratch)
+	 * @return this builder
+	 */
+	public GitHubCollectorBuilder windowPlanCache(@Nullable Path directory) {
+		this.windowPlanCacheDirectory = directory;
+		return this;
+	}
+
+	/**
+	 * Parse large responses (search pages, issue events, reviews) directly from the HTTP
+	 * response stream instead of reading them into a String first.
+	 *
+	 * <p>
+	 * Enabled by default for the built-in client. When a custom client is supplied via
+	 * {@link #httpClient(GitHubClient)} it is disabled unless requested here, since mocks
+	 * typically stub only the String-returning methods.
+	 * @param streaming whether to use {@link GitHubClient#getStream(String)} and
+	 * {@link GitHubClient#postGraphQLStream(String)}
+	 * @return this builder
+	 */
+	public GitHubCollectorBuilder streamingResponses(boolean streaming) {
+		this.streamingResponses = streaming;
+		return this;
+	}
+
 	/**
 	 * Build an IssueCollectionService.
 	 * @return configured IssueCollectionService
 	 */
-	@SuppressWarnings("unchecked")
 	public IssueCollectionService buildIssueCollector() {
 		validateToken();
-		Components components = buildComponents();
-		return new IssueCollectionService(components.graphQLService, components.restService, components.objectMapper,
-				properties, components.stateRepository, components.archiveService,
-				(BatchStrategy<Issue>) components.batchStrategy);
+		return issueCollector(buildComponents());
 	}
 
 	/**
 	 * Build a PRCollectionService.
 	 * @return configured PRCollectionService
 	 */
-	@SuppressWarnings("unchecked")
 	public PRCollectionService buildPRCollector() {
 		validateToken();
-		Components components = buildComponents();
-		return new PRCollectionService(components.graphQLService, components.restService, components.objectMapper,
-				properties, components.stateRepository, components.archiveService,
-				(BatchStrategy<AnalyzedPullRequest>) components.batchStrategy);
+		return prCollector(buildComponents());
 	}
 
 	/**
 	 * Build a CollaboratorsCollectionService.
 	 * @return configured CollaboratorsCollectionService
 	 */
-	@SuppressWarnings("unchecked")
 	public CollaboratorsCollectionService buildCollaboratorsCollector() {
 		validateToken();
-		Components components = buildComponents();
-		return new CollaboratorsCollectionService(components.graphQLService, components.restService,
-				components.objectMapper, properties, components.stateRepository, components.archiveService,
-				(BatchStrategy<Collaborator>) components.batchStrategy);
+		return collaboratorsCollector(buildComponents());
 	}
 
 	/**
 	 * Build a ReleasesCollectionService.
 	 * @return configured ReleasesCollectionService
 	 */
-	@SuppressWarnings("unchecked")
 	public ReleasesCollectionService buildReleasesCollector() {
 		validateToken();
-		Components components = buildComponents();
-		return new ReleasesCollectionService(components.graphQLService, components.restService, components.objectMapper,
-				properties, components.stateRepository, components.archiveService,
-				(BatchStrategy<Release>) components.batchStrategy);
+		return releasesCollector(buildComponents());
 	}
 
 	/**
@@ -239,27 +338,15 @@ public class GitHubCollectorBuilder {
 	 * <p>
 	 * The returned service automatically splits collection into time windows when the
 	 * request specifies a date range that would exceed the GitHub Search API's 1,000
-	 * result limit.
+	 * result limit. Windows are planned with a {@link HistogramWindowPlanner}, reusing
+	 * the plans of earlier runs if a {@link #windowPlanCache} is set, or split during
+	 * collection if {@link CollectionProperties#isLazyWindowing()} is set.
 	 * @param request the collection request (used to build the count query)
 	 * @return WindowedCollectionService wrapping the issue collector
 	 */
-	@SuppressWarnings("unchecked")
 	public WindowedCollectionService<Issue> buildWindowedIssueCollector(CollectionRequest request) {
 		validateToken();
-		Components components = buildComponents();
-		IssueCollectionService issueCollector = new IssueCollectionService(components.graphQLService,
-				components.restService, components.objectMapper, properties, components.stateRepository,
-				components.archiveService, (BatchStrategy<Issue>) components.batchStrategy);
-
-		AdaptiveWindowPlanner planner = new AdaptiveWindowPlanner();
-
-		BiFunction<String, String, Integer> countFn = (after, before) -> {
-			String query = buildIssueSearchQuery(request.repository(), request.issueState(), request.labelFilters(),
-					request.labelMode(), after, before);
-			return components.graphQLService.getSearchIssueCount(query);
-		};
-
-		return new WindowedCollectionService<>(issueCollector, planner, countFn);
+		return windowedIssueCollector(buildComponents(), request);
 	}
 
 	/**
@@ -268,27 +355,147 @@ public class GitHubCollectorBuilder {
 	 * <p>
 	 * The returned service automatically splits collection into time windows when the
 	 * request specifies a date range that would exceed the GitHub Search API's 1,000
-	 * result limit.
+	 * result limit. Windows are planned with a {@link HistogramWindowPlanner}, reusing
+	 * the plans of earlier runs if a {@link #windowPlanCache} is set, or split during
+	 * collection if {@link CollectionProperties#isLazyWindowing()} is set.
 	 * @param request the collection request (used to build the count query)
 	 * @return WindowedCollectionService wrapping the PR collector
 	 */
-	@SuppressWarnings("unchecked")
 	public WindowedCollectionService<AnalyzedPullRequest> buildWindowedPRCollector(CollectionRequest request) {
+		validateToken();
+		return windowedPRCollector(buildComponents(), request);
+	}
+
+	/**
+	 * Build a CombinedCollectionService collecting issues and pull requests from one
+	 * search.
+	 *
+	 * <p>
+	 * Both collections share one client, so they also share its rate limit handling.
+	 * Windows are planned as for {@link #buildWindowedIssueCollector}, on the issues and
+	 * pull requests together.
+	 * @param request the collection request (used to build the count query)
+	 * @return CombinedCollectionService wrapping an issue and a PR collector
+	 */
+	public CombinedCollectionService buildCombinedCollector(CollectionRequest request) {
 		validateToken();
 		Components components = buildComponents();
-		PRCollectionService prCollector = new PRCollectionService(components.graphQLService, components.restService,
+
+		BiFunction<String, String, String> queryFn = (after, before) -> CombinedSearch
+			.combinedQuery(buildIssueSearchQuery(request.repository(), plannedState(request, request.issueState()),
+					plannedLabels(request), request.labelMode(), after, before));
+
+		return new CombinedCollectionService(issueCollector(components), prCollector(components),
+				components.graphQLService, windowPlanner(components, queryFn), countFunction(components, queryFn));
+	}
+
+	/**
+	 * Build a MultiTypeCollectionService collecting issues, pull requests, releases and
+	 * collaborators concurrently.
+	 *
+	 * <p>
+	 * All collectors share one client, so one concurrency limit and one rate governor
+	 * pace the requests of all types. Issues and pull requests are collected as by
+	 * {@link #buildWindowedIssueCollector} and {@link #buildWindowedPRCollector}.
+	 * @param request the collection request (used to build the count queries)
+	 * @return MultiTypeCollectionService running the four collectors
+	 */
+	public MultiTypeCollectionService buildMultiTypeCollector(CollectionRequest request) {
+		validateToken();
+		Components components = buildComponents();
+
+		Map<String, Function<CollectionRequest, CollectionResult>> collections = new LinkedHashMap<>();
+		collections.put("issues", windowedIssueCollector(components, request)::collectItems);
+		collections.put("prs", windowedPRCollector(components, request)::collectItems);
+		collections.put("releases", releasesCollector(components)::collectItems);
+		collections.put("collaborators", collaboratorsCollector(components)::collectItems);
+		return new MultiTypeCollectionService(collections);
+	}
+
+	@SuppressWarnings("unchecked")
+	private IssueCollectionService issueCollector(Components components) {
+		return new IssueCollectionService(components.graphQLService, components.restService, components.objectMapper,
+				properties, components.stateRepository, components.archiveService,
+				(BatchStrategy<Issue>) components.batchStrategy);
+	}
+
+	@SuppressWarnings("unchecked")
+	private PRCollectionService prCollector(Components components) {
+		return new PRCollectionService(components.graphQLService, components.restService, components.objectMapper,
+				properties, components.stateRepository, components.archiveService,
+				(BatchStrategy<AnalyzedPullRequest>) components.batchStrategy, true);
+	}
+
+	@SuppressWarnings("unchecked")
+	private CollaboratorsCollectionService collaboratorsCollector(Components components) {
+		return new CollaboratorsCollectionService(components.graphQLService, components.restService,
 				components.objectMapper, properties, components.stateRepository, components.archiveService,
-				(BatchStrategy<AnalyzedPullRequest>) components.batchStrategy);
+				(BatchStrategy<Collaborator>) components.batchStrategy);
+	}
+
+	@SuppressWarnings("unchecked")
+	private ReleasesCollectionService releasesCollector(Components components) {
+		return new ReleasesCollectionService(components.graphQLService, components.restService, components.objectMapper,
+				properties, components.stateRepository, components.archiveService,
+				(BatchStrategy<Release>) components.batchStrategy);
+	}
+
+	private WindowedCollectionService<Issue> windowedIssueCollector(Components components, CollectionRequest request) {
+		BiFunction<String, String, String> queryFn = (after, before) -> buildIssueSearchQuery(request.repository(),
+				plannedState(request, request.issueState()), plannedLabels(request), request.labelMode(), after,
+				before);
+
+		return new WindowedCollectionService<>(issueCollector(components), windowPlanner(components, queryFn),
+				countFunction(components, queryFn), properties.getWindowParallelism(), properties.isLazyWindowing());
+	}
+
+	private WindowedCollectionService<AnalyzedPullRequest> windowedPRCollector(Components components,
+			CollectionRequest request) {
+		BiFunction<String, String, String> queryFn = (after, before) -> components.restService
+			.buildPRSearchQuery(request.repository(), plannedState(request, request.prState()),
+					plannedLabels(request), request.labelMode(), after, before);
+
+		return new WindowedCollectionService<>(prCollector(components), windowPlanner(components, queryFn),
+				countFunction(components, queryFn), properties.getWindowParallelism(), properties.isLazyWindowing());
+	}
+
+	/**
+	 * The state to plan windows for. Incremental runs search all states, so their
+	 * windows are planned on all states too. Cached plans are made on all states as well:
+	 * the count of an old range keeps changing for a single state, but not for all of
+	 * them, and it bounds the count of every state.
+	 */
+	private String plannedState(CollectionRequest request, String state) {
+		return request.incremental() || windowPlanCacheDirectory != null ? "all" : state;
+	}
 
-		AdaptiveWindowPlanner planner = new AdaptiveWindowPlanner();
+	/**
+	 * The labels to plan windows for; none for cached plans, see {@link #plannedState}.
+	 */
+	private List<String> plannedLabels(CollectionRequest request) {
+		return windowPlanCacheDirectory != null ? List.of() : request.labelFilters();
+	}
+
+	/**
+	 * Plan windows from a histogram counted with batched GraphQL searches, reusing cached
+	 * plans if a plan directory is set.
+	 */
+	private AdaptiveWindowPlanner windowPlanner(Components components, BiFunction<String, String, String> queryFn) {
+		Function<List<AdaptiveWindowPlanner.TimeWindow>, List<Integer>> histogram = ranges -> components.graphQLService
+			.getSearchIssueCounts(ranges.stream()
+				.map(range -> queryFn.apply(range.createdAfter(), range.createdBefore()))
+				.toList());
+		if (windowPlanCacheDirectory == null) {
+			return new HistogramWindowPlanner(histogram);
+		}
 
-		BiFunction<String, String, Integer> countFn = (after, before) -> {
-			String query = components.restService.buildPRSearchQuery(request.repository(), request.prState(),
-					request.labelFilters(), request.labelMode(), after, before);
-			return components.restService.getTotalPRCount(query);
-		};
+		WindowPlanCache cache = new WindowPlanCache(windowPlanCacheDirectory, queryFn.apply(null, null));
+		return cache.planner(new HistogramWindowPlanner(cache.histogram(histogram)));
+	}
 
-		return new WindowedCollectionService<>(prCollector, planner, countFn);
+	private static BiFunction<String, String, Integer> countFunction(Components components,
+			BiFunction<String, String, String> queryFn) {
+		return (after, before) -> components.graphQLService.getSearchIssueCount(queryFn.apply(after, before));
 	}
 
 	/**
@@ -319,14 +526,9 @@ public class GitHubCollectorBuilder {
 			}
 		}
 
-		if (createdAfter != null && createdBefore != null) {
-			query.append(" created:").append(createdAfter).append("..").append(createdBefore);
-		}
-		else if (createdAfter != null) {
-			query.append(" created:>=").append(createdAfter);
-		}
-		else if (createdBefore != null) {
-			query.append(" created:<").append(createdBefore);
+		String created = SearchDates.createdQualifier(createdAfter, createdBefore);
+		if (created != null) {
+			query.append(' ').append(created);
 		}
 
 		return query.toString();
@@ -338,13 +540,14 @@ public class GitHubCollectorBuilder {
 			return;
 		}
 		if (token == null || token.trim().isEmpty()) {
-			throw new IllegalStateException("GitHub token is required. Call token() or tokenFromEnv() first.");
+			throw new IllegalStateException(
+					"GitHub token is required. Call token(), tokens(), tokenFromEnv() or tokensFromEnv() first.");
 		}
 	}
 
 	private Components buildComponents() {
 		ObjectMapper mapper = this.objectMapper != null ? this.objectMapper : createDefaultObjectMapper();
-		GitHubClient rawClient = this.httpClient != null ? this.httpClient : new GitHubHttpClient(token);
+		GitHubClient rawClient = this.httpClient != null ? this.httpClient : createTokenClient();
 
 		// Wrap with retry + rate limit handling unless a custom client was provided
 		GitHubClient client;
@@ -353,7 +556,24 @@ public class GitHubCollectorBuilder {
 			client = rawClient;
 		}
 		else {
-			client = RetryingGitHubClient.builder().wrapping(rawClient).maxRetries(3).build();
+			// Each retry attempt takes its own concurrency slot; backoff happens outside it
+			GitHubClient limited = ConcurrencyLimitingGitHubClient.builder().wrapping(rawClient).build();
+			client = RetryingGitHubClient.builder()
+				.wrapping(limited)
+				.maxRetries(3)
+				.rateGovernor(new RateGovernor())
+				.build();
+			// Identical concurrent requests share one call, including its retries
+			client = CoalescingGitHubClient.builder().wrapping(client).build();
+		}
+
+		// Outermost layer so that retried requests stay conditional
+		if (this.responseCacheDirectory != null) {
+			client = CachingGitHubClient.builder()
+				.wrapping(client)
+				.cacheDirectory(this.responseCacheDirectory)
+				.maxSizeBytes(this.responseCacheMaxBytes)
+				.build();
 		}
 
 		CollectionStateRepository repository = this.stateRepository != null ? this.stateRepository
@@ -361,12 +581,20 @@ public class GitHubCollectorBuilder {
 		ArchiveService archive = this.archiveService != null ? this.archiveService : new ZipArchiveService();
 		BatchStrategy<?> batch = this.batchStrategy != null ? this.batchStrategy : new FixedBatchStrategy<>();
 
-		GitHubRestService restService = new GitHubRestService(client, mapper);
-		GitHubGraphQLService graphQLService = new GitHubGraphQLService(client, mapper);
+		boolean streaming = this.streamingResponses != null ? this.streamingResponses : this.httpClient == null;
+		GitHubRestService restService = new GitHubRestService(client, mapper, streaming);
+		GitHubGraphQLService graphQLService = new GitHubGraphQLService(client, mapper, streaming);
 
 		return new Components(restService, graphQLService, mapper, repository, archive, batch);
 	}
 
+	private GitHubClient createTokenClient() {
+		if (this.tokens != null && this.tokens.size() > 1) {
+			return MultiTokenGitHubClient.builder().baseUrl(this.baseUrl).tokens(this.tokens).build();
+		}
+		return new GitHubHttpClient(token, this.baseUrl);
+	}
+
 	private ObjectMapper createDefaultObjectMapper() {
 		return ObjectMapperFactory.create();
 	}
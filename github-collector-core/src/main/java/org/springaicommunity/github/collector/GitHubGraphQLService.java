@@ -1,15 +1,16 @@
 package org.springaicommunity.github.collector;
 
+import com.fasterxml.jackson.core.JsonParser;
 import com.fasterxml.jackson.databind.JsonNode;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import org.jspecify.annotations.Nullable;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
-import java.time.LocalDateTime;
-import java.time.format.DateTimeFormatter;
-import java.time.format.DateTimeParseException;
+import java.io.IOException;
+import java.io.InputStream;
 import java.util.ArrayList;
+import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
 
@@ -19,20 +20,100 @@ import java.util.Map;
  * <p>
  * Converts GitHub API JSON responses to strongly-typed DTOs at the service boundary,
  * encapsulating all JSON parsing logic here.
+ *
+ * <p>
+ * Search pages are parsed token by token with {@link GitHubResponseParser}. When
+ * streaming is enabled the response body is consumed directly from
+ * {@link GitHubClient#postGraphQLStream(String)} and never buffered as a String.
  */
 public class GitHubGraphQLService implements GraphQLService {
 
 	private static final Logger logger = LoggerFactory.getLogger(GitHubGraphQLService.class);
 
-	private static final DateTimeFormatter ISO_FORMATTER = DateTimeFormatter.ISO_DATE_TIME;
+	/**
+	 * Issues per timeline query. At 100 timeline items each this stays well inside the
+	 * GraphQL node limit and costs a single rate limit point.
+	 */
+	static final int ISSUES_PER_TIMELINE_QUERY = 50;
+
+	/**
+	 * Searches per count query. Each aliased search is a single connection of one node,
+	 * so a full query still costs a single rate limit point.
+	 */
+	static final int SEARCHES_PER_COUNT_QUERY = 50;
+
+	private static final String COUNT_ALIAS_PREFIX = "count";
+
+	/**
+	 * Timeline items requested for each issue: the event types of the REST issue events
+	 * endpoint, without mention and subscription noise.
+	 */
+	private static final String TIMELINE_QUERY = """
+			query($owner: String!, $repo: String!) {
+			    repository(owner: $owner, name: $repo) {
+			%s    }
+			}
+
+			fragment actor on Actor {
+			    login
+			    ... on User {
+			        name
+			    }
+			}
+
+			fragment timeline on Issue {
+			    timelineItems(first: 100, itemTypes: [LABELED_EVENT, UNLABELED_EVENT, CLOSED_EVENT, REOPENED_EVENT,
+			            ASSIGNED_EVENT, UNASSIGNED_EVENT, REFERENCED_EVENT, MILESTONED_EVENT, DEMILESTONED_EVENT,
+			            RENAMED_TITLE_EVENT, LOCKED_EVENT, UNLOCKED_EVENT]) {
+			        pageInfo {
+			            hasNextPage
+			        }
+			        nodes {
+			            __typename
+			            ... on LabeledEvent { createdAt actor { ...actor } label { name color description } }
+			            ... on UnlabeledEvent { createdAt actor { ...actor } label { name color description } }
+			            ... on ClosedEvent {
+			                createdAt
+			                actor { ...actor }
+			                closer {
+			                    ... on Commit { oid }
+			                    ... on PullRequest { mergeCommit { oid } }
+			                }
+			            }
+			            ... on ReopenedEvent { createdAt actor { ...actor } }
+			            ... on AssignedEvent { createdAt actor { ...actor } }
+			            ... on UnassignedEvent { createdAt actor { ...actor } }
+			            ... on ReferencedEvent { createdAt actor { ...actor } commit { oid } }
+			            ... on MilestonedEvent { createdAt actor { ...actor } }
+			            ... on DemilestonedEvent { createdAt actor { ...actor } }
+			            ... on RenamedTitleEvent { createdAt actor { ...actor } }
+			            ... on LockedEvent { createdAt actor { ...actor } }
+			            ... on UnlockedEvent { createdAt actor { ...actor } }
+			        }
+			    }
+			}
+			""";
 
 	private final GitHubClient httpClient;
 
 	private final ObjectMapper objectMapper;
 
+	private final boolean streaming;
+
 	public GitHubGraphQLService(GitHubClient httpClient, ObjectMapper objectMapper) {
+		this(httpClient, objectMapper, false);
+	}
+
+	/**
+	 * Create the service.
+	 * @param httpClient client used for GraphQL requests
+	 * @param objectMapper mapper used for request bodies and small responses
+	 * @param streaming whether to parse search pages straight from the response stream
+	 */
+	public GitHubGraphQLService(GitHubClient httpClient, ObjectMapper objectMapper, boolean streaming) {
 		this.httpClient = httpClient;
 		this.objectMapper = objectMapper;
+		this.streaming = streaming;
 	}
 
 	@Override
@@ -69,6 +150,44 @@ public class GitHubGraphQLService implements GraphQLService {
 		return result.path("data").path("search").path("issueCount").asInt(0);
 	}
 
+	@Override
+	public List<Integer> getSearchIssueCounts(List<String> searchQueries) {
+		List<Integer> counts = new ArrayList<>(searchQueries.size());
+		for (int from = 0; from < searchQueries.size(); from += SEARCHES_PER_COUNT_QUERY) {
+			List<String> chunk = searchQueries.subList(from,
+					Math.min(from + SEARCHES_PER_COUNT_QUERY, searchQueries.size()));
+			counts.addAll(fetchSearchIssueCounts(chunk));
+		}
+		return counts;
+	}
+
+	/**
+	 * Count up to {@link #SEARCHES_PER_COUNT_QUERY} searches, one alias per search.
+	 */
+	private List<Integer> fetchSearchIssueCounts(List<String> searchQueries) {
+		StringBuilder parameters = new StringBuilder();
+		StringBuilder aliases = new StringBuilder();
+		Map<String, Object> variables = new HashMap<>();
+		for (int i = 0; i < searchQueries.size(); i++) {
+			parameters.append(i > 0 ? ", " : "").append("$q").append(i).append(": String!");
+			aliases.append("    ")
+				.append(COUNT_ALIAS_PREFIX)
+				.append(i)
+				.append(": search(query: $q")
+				.append(i)
+				.append(", type: ISSUE, first: 1) { issueCount }\n");
+			variables.put("q" + i, searchQueries.get(i));
+		}
+
+		JsonNode data = executeGraphQL("query(" + parameters + ") {\n" + aliases + "}\n", variables).path("data");
+		List<Integer> counts = new ArrayList<>(searchQueries.size());
+		for (int i = 0; i < searchQueries.size(); i++) {
+			JsonNode count = data.path(COUNT_ALIAS_PREFIX + i).path("issueCount");
+			counts.add(count.isInt() ? count.asInt() : -1);
+		}
+		return counts;
+	}
+
 	@Override
 	public SearchResult<Issue> searchIssues(String searchQuery, String sortBy, String sortOrder, int first,
 			@Nullable String after) {
@@ -127,90 +246,435 @@ public class GitHubGraphQLService implements GraphQLService {
 		Object variables = Map.of("query", buildSortedSearchQuery(searchQuery, sortParam, orderParam), "first", first,
 				"after", after != null ? after : "");
 
-		JsonNode response = executeGraphQL(query, variables);
-
-		// Parse pagination info
-		JsonNode pageInfo = response.path("data").path("search").path("pageInfo");
-		boolean hasMore = pageInfo.path("hasNextPage").asBoolean(false);
-		String nextCursor = hasMore ? pageInfo.path("endCursor").asText(null) : null;
-
-		// Parse issues from nodes
-		List<Issue> issues = new ArrayList<>();
-		JsonNode nodes = response.path("data").path("search").path("nodes");
-		if (nodes.isArray()) {
-			for (JsonNode node : nodes) {
-				Issue issue = parseIssue(node);
-				if (issue != null) {
-					issues.add(issue);
-				}
-			}
+		try {
+			String requestBody = objectMapper.writeValueAsString(Map.of("query", query, "variables", variables));
+			return streamPost(requestBody, GitHubResponseParser::parseIssueSearch);
+		}
+		catch (GitHubHttpClient.GitHubApiException e) {
+			// Re-throw API exceptions so retry logic can handle them
+			throw e;
+		}
+		catch (Exception e) {
+			logger.error("GraphQL query failed: {}", e.getMessage());
+			return SearchResult.empty();
 		}
-
-		return new SearchResult<>(issues, nextCursor, hasMore);
 	}
 
-	// ========== JSON Parsing Methods (at service boundary) ==========
+	@Override
+	public SearchResult<PullRequest> searchPullRequests(String searchQuery, int first, @Nullable String after) {
+		String query = """
+				query($query: String!, $first: Int!, $after: String, $reviews: Int!) {
+				    search(query: $query, type: ISSUE, first: $first, after: $after) {
+				        pageInfo {
+				            hasNextPage
+				            endCursor
+				        }
+				        issueCount
+				        nodes {
+				            ... on PullRequest {
+				                number
+				                title
+				                body
+				                state
+				                createdAt
+				                updatedAt
+				                closedAt
+				                mergedAt
+				                url
+				                author {
+				                    login
+				                    ... on User {
+				                        name
+				                    }
+				                }
+				                labels(first: 20) {
+				                    nodes {
+				                        name
+				                        color
+				                        description
+				                    }
+				                }
+				                isDraft
+				                merged
+				                mergeCommit {
+				                    oid
+				                }
+				                headRefName
+				                baseRefName
+				                additions
+				                deletions
+				                changedFiles
+				                reviews(first: $reviews) {
+				                    nodes {
+				                        databaseId
+				                        body
+				                        state
+				                        submittedAt
+				                        url
+				                        authorAssociation
+				                        author {
+				                            login
+				                            ... on User {
+				                                name
+				                            }
+				                        }
+				                    }
+				                }
+				            }
+				        }
+				    }
+				}
+				""";
+
+		Object variables = Map.of("query", searchQuery, "first", first, "after", after != null ? after : "",
+				"reviews", REVIEWS_PER_PULL_REQUEST);
 
-	private @Nullable Issue parseIssue(JsonNode node) {
-		if (node == null || node.isMissingNode() || node.isNull()) {
-			return null;
+		try {
+			String requestBody = objectMapper.writeValueAsString(Map.of("query", query, "variables", variables));
+			return streamPost(requestBody, GitHubResponseParser::parsePullRequestSearchNodes);
+		}
+		catch (GitHubHttpClient.GitHubApiException e) {
+			// Re-throw API exceptions so retry logic can handle them
+			throw e;
 		}
+		catch (Exception e) {
+			logger.error("GraphQL pull request search failed: {}", e.getMessage());
+			return SearchResult.empty();
+		}
+	}
+
+	@Override
+	public CombinedSearchResult searchIssuesAndPullRequests(String searchQuery, int first, @Nullable String after) {
+		// __typename comes first so the parser knows the node type before its fields
+		String query = """
+				query($query: String!, $first: Int!, $after: String, $reviews: Int!) {
+				    search(query: $query, type: ISSUE, first: $first, after: $after) {
+				        pageInfo {
+				            hasNextPage
+				            endCursor
+				        }
+				        issueCount
+				        nodes {
+				            __typename
+				            ... on Issue {
+				                number
+				                title
+				                body
+				                state
+				                createdAt
+				                updatedAt
+				                closedAt
+				                url
+				                author {
+				                    login
+				                    ... on User {
+				                        name
+				                    }
+				                }
+				                labels(first: 20) {
+				                    nodes {
+				                        name
+				                        color
+				                        description
+				                    }
+				                }
+				                comments(first: 100) {
+				                    nodes {
+				                        author {
+				                            login
+				                            ... on User {
+				                                name
+				                            }
+				                        }
+				                        body
+				                        createdAt
+				                    }
+				                }
+				            }
+				            ... on PullRequest {
+				                number
+				                title
+				                body
+				                state
+				                createdAt
+				                updatedAt
+				                closedAt
+				                mergedAt
+				                url
+				                author {
+				                    login
+				                    ... on User {
+				                        name
+				                    }
+				                }
+				                labels(first: 20) {
+				                    nodes {
+				                        name
+				                        color
+				                        description
+				                    }
+				                }
+				                isDraft
+				                merged
+				                mergeCommit {
+				                    oid
+				                }
+				                headRefName
+				                baseRefName
+				                additions
+				                deletions
+				                changedFiles
+				                reviews(first: $reviews) {
+				                    nodes {
+				                        databaseId
+				                        body
+				                        state
+				                        submittedAt
+				                        url
+				                        authorAssociation
+				                        author {
+				                            login
+				                            ... on User {
+				                                name
+				                            }
+				                        }
+				                    }
+				                }
+				            }
+				        }
+				    }
+				}
+				""";
+
+		Object variables = Map.of("query", searchQuery, "first", first, "after", after != null ? after : "",
+				"reviews", REVIEWS_PER_PULL_REQUEST);
 
 		try {
-			// Events are not available via GraphQL - they will be fetched via REST API
-			// in IssueCollectionService.processItemBatch()
-			return new Issue(node.path("number").asInt(), node.path("title").asText(""), node.path("body").asText(null),
-					node.path("state").asText(""), parseDateTime(node.path("createdAt").asText(null)),
-					parseDateTime(node.path("updatedAt").asText(null)),
-					parseDateTime(node.path("closedAt").asText(null)), node.path("url").asText(""),
-					parseAuthor(node.path("author")), parseComments(node.path("comments").path("nodes")),
-					parseLabels(node.path("labels").path("nodes")), List.of());
+			String requestBody = objectMapper.writeValueAsString(Map.of("query", query, "variables", variables));
+			return streamPost(requestBody, GitHubResponseParser::parseCombinedSearch);
+		}
+		catch (GitHubHttpClient.GitHubApiException e) {
+			// Re-throw API exceptions so retry logic can handle them
+			throw e;
 		}
 		catch (Exception e) {
-			logger.warn("Failed to parse issue: {}", e.getMessage());
-			return null;
+			logger.error("GraphQL combined search failed: {}", e.getMessage());
+			return CombinedSearchResult.empty();
 		}
 	}
 
-	private Author parseAuthor(JsonNode node) {
-		if (node == null || node.isMissingNode() || node.isNull()) {
-			return new Author("unknown", null);
+	@Override
+	public SearchResult<Issue> listIssues(ConnectionQuery connection, int first, @Nullable String after) {
+		String query = """
+				query($owner: String!, $repo: String!, $first: Int!, $after: String, $states: [IssueState!],
+				        $labels: [String!], $since: DateTime, $direction: OrderDirection!) {
+				    repository(owner: $owner, name: $repo) {
+				        issues(first: $first, after: $after, states: $states, labels: $labels,
+				                filterBy: {since: $since}, orderBy: {field: CREATED_AT, direction: $direction}) {
+				            pageInfo {
+				                hasNextPage
+				                endCursor
+				            }
+				            totalCount
+				            nodes {
+				                number
+				                title
+				                body
+				                state
+				                createdAt
+				                updatedAt
+				                closedAt
+				                url
+				                author {
+				                    login
+				                    ... on User {
+				                        name
+				                    }
+				                }
+				                labels(first: 20) {
+				                    nodes {
+				                        name
+				                        color
+				                        description
+				                    }
+				                }
+				                comments(first: 100) {
+				                    nodes {
+				                        author {
+				                            login
+				                            ... on User {
+				                                name
+				                            }
+				                        }
+				                        body
+				                        createdAt
+				                    }
+				                }
+				            }
+				        }
+				    }
+				}
+				""";
+
+		Map<String, Object> variables = connectionVariables(connection, first, after);
+		variables.put("since", connection.updatedSince());
+
+		try {
+			String requestBody = objectMapper.writeValueAsString(Map.of("query", query, "variables", variables));
+			return streamPost(requestBody, GitHubResponseParser::parseIssueConnection);
+		}
+		catch (GitHubHttpClient.GitHubApiException e) {
+			// Re-throw API exceptions so retry logic can handle them
+			throw e;
+		}
+		catch (Exception e) {
+			logger.error("GraphQL issue connection query failed: {}", e.getMessage());
+			return SearchResult.empty();
 		}
-		return new Author(node.path("login").asText("unknown"), node.path("name").asText(null));
 	}
 
-	private List<Comment> parseComments(JsonNode nodes) {
-		List<Comment> comments = new ArrayList<>();
-		if (nodes != null && nodes.isArray()) {
-			for (JsonNode node : nodes) {
-				comments.add(new Comment(parseAuthor(node.path("author")), node.path("body").asText(""),
-						parseDateTime(node.path("createdAt").asText(null))));
-			}
+	@Override
+	public SearchResult<PullRequest> listPullRequests(ConnectionQuery connection, int first, @Nullable String after) {
+		String query = """
+				query($owner: String!, $repo: String!, $first: Int!, $after: String, $states: [PullRequestState!],
+				        $labels: [String!], $direction: OrderDirection!, $reviews: Int!) {
+				    repository(owner: $owner, name: $repo) {
+				        pullRequests(first: $first, after: $after, states: $states, labels: $labels,
+				                orderBy: {field: CREATED_AT, direction: $direction}) {
+				            pageInfo {
+				                hasNextPage
+				                endCursor
+				            }
+				            totalCount
+				            nodes {
+				                number
+				                title
+				                body
+				                state
+				                createdAt
+				                updatedAt
+				                closedAt
+				                mergedAt
+				                url
+				                author {
+				                    login
+				                    ... on User {
+				                        name
+				                    }
+				                }
+				                labels(first: 20) {
+				                    nodes {
+				                        name
+				                        color
+				                        description
+				                    }
+				                }
+				                isDraft
+				                merged
+				                mergeCommit {
+				                    oid
+				                }
+				                headRefName
+				                baseRefName
+				                additions
+				                deletions
+				                changedFiles
+				                reviews(first: $reviews) {
+				                    nodes {
+				                        databaseId
+				                        body
+				                        state
+				                        submittedAt
+				                        url
+				                        authorAssociation
+				                        author {
+				                            login
+				                            ... on User {
+				                                name
+				                            }
+				                        }
+				                    }
+				                }
+				            }
+				        }
+				    }
+				}
+				""";
+
+		Map<String, Object> variables = connectionVariables(connection, first, after);
+		variables.put("reviews", REVIEWS_PER_PULL_REQUEST);
+
+		try {
+			String requestBody = objectMapper.writeValueAsString(Map.of("query", query, "variables", variables));
+			return streamPost(requestBody, GitHubResponseParser::parsePullRequestConnection);
+		}
+		catch (GitHubHttpClient.GitHubApiException e) {
+			// Re-throw API exceptions so retry logic can handle them
+			throw e;
+		}
+		catch (Exception e) {
+			logger.error("GraphQL pull request connection query failed: {}", e.getMessage());
+			return SearchResult.empty();
 		}
-		return comments;
 	}
 
-	private List<Label> parseLabels(JsonNode nodes) {
-		List<Label> labels = new ArrayList<>();
-		if (nodes != null && nodes.isArray()) {
-			for (JsonNode node : nodes) {
-				labels.add(new Label(node.path("name").asText(""), node.path("color").asText(null),
-						node.path("description").asText(null)));
-			}
+	/**
+	 * Variables shared by the repository connection queries. Empty filters are sent as
+	 * null, which the connections treat as unfiltered.
+	 */
+	private static Map<String, Object> connectionVariables(ConnectionQuery connection, int first,
+			@Nullable String after) {
+		Map<String, Object> variables = new HashMap<>();
+		variables.put("owner", connection.owner());
+		variables.put("repo", connection.name());
+		variables.put("first", first);
+		variables.put("after", after);
+		variables.put("states", connection.states().isEmpty() ? null : connection.states());
+		variables.put("labels", connection.labels().isEmpty() ? null : connection.labels());
+		variables.put("direction", connection.direction());
+		return variables;
+	}
+
+	@Override
+	public Map<Integer, List<IssueEvent>> getIssueEvents(String owner, String repo, List<Integer> issueNumbers) {
+		Map<Integer, List<IssueEvent>> events = new HashMap<>();
+		for (int from = 0; from < issueNumbers.size(); from += ISSUES_PER_TIMELINE_QUERY) {
+			List<Integer> chunk = issueNumbers.subList(from,
+					Math.min(from + ISSUES_PER_TIMELINE_QUERY, issueNumbers.size()));
+			events.putAll(fetchIssueEvents(owner, repo, chunk));
 		}
-		return labels;
+		return events;
 	}
 
-	private @Nullable LocalDateTime parseDateTime(@Nullable String dateTimeStr) {
-		if (dateTimeStr == null || dateTimeStr.isEmpty()) {
-			return null;
+	/**
+	 * Fetch the timelines of up to {@link #ISSUES_PER_TIMELINE_QUERY} issues, one alias
+	 * per issue.
+	 */
+	private Map<Integer, List<IssueEvent>> fetchIssueEvents(String owner, String repo, List<Integer> issueNumbers) {
+		StringBuilder aliases = new StringBuilder();
+		for (int number : issueNumbers) {
+			aliases.append("        ")
+				.append(GitHubResponseParser.TIMELINE_ALIAS_PREFIX)
+				.append(number)
+				.append(": issue(number: ")
+				.append(number)
+				.append(") { ...timeline }\n");
 		}
+
+		Object variables = Map.of("owner", owner, "repo", repo);
+
 		try {
-			return LocalDateTime.parse(dateTimeStr, ISO_FORMATTER);
+			String requestBody = objectMapper
+				.writeValueAsString(Map.of("query", TIMELINE_QUERY.formatted(aliases), "variables", variables));
+			return streamPost(requestBody, GitHubResponseParser::parseIssueTimelines);
+		}
+		catch (GitHubHttpClient.GitHubApiException e) {
+			// Re-throw API exceptions so retry logic can handle them
+			throw e;
 		}
-		catch (DateTimeParseException e) {
-			logger.warn("Failed to parse datetime: {}", dateTimeStr);
-			return null;
+		catch (Exception e) {
+			logger.error("GraphQL timeline query failed: {}", e.getMessage());
+			return Map.of();
 		}
 	}
 
@@ -240,6 +704,22 @@ public class GitHubGraphQLService implements GraphQLService {
 		}
 	}
 
+	/**
+	 * POST {@code requestBody} and parse the response with {@code reader}, reading it from
+	 * the response stream when streaming is enabled.
+	 */
+	private <T> T streamPost(String requestBody, StreamReader<T> reader) throws IOException {
+		if (streaming) {
+			try (InputStream in = httpClient.postGraphQLStream(requestBody);
+					JsonParser parser = objectMapper.createParser(in)) {
+				return reader.read(parser);
+			}
+		}
+		try (JsonParser parser = objectMapper.createParser(httpClient.postGraphQL(requestBody))) {
+			return reader.read(parser);
+		}
+	}
+
 	/**
 	 * Check for rate limit errors in a GraphQL response body. GitHub GraphQL can return
 	 * HTTP 200 with an "errors" array containing rate limit information.
@@ -294,4 +774,11 @@ public class GitHubGraphQLService implements GraphQLService {
 		};
 	}
 
+	@FunctionalInterface
+	private interface StreamReader<T> {
+
+		T read(JsonParser parser) throws IOException;
+
+	}
+
 }
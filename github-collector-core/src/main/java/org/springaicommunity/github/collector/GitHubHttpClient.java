@@ -1,14 +1,35 @@
 package org.springaicommunity.github.collector;
 
+import org.jspecify.annotations.Nullable;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
+import java.io.ByteArrayInputStream;
+import java.io.FilterInputStream;
 import java.io.IOException;
+import java.io.InputStream;
+import java.io.PushbackInputStream;
+import java.io.UncheckedIOException;
 import java.net.URI;
 import java.net.http.HttpClient;
+import java.net.http.HttpHeaders;
 import java.net.http.HttpRequest;
 import java.net.http.HttpResponse;
+import java.nio.charset.StandardCharsets;
 import java.time.Duration;
+import java.time.Instant;
+import java.time.ZonedDateTime;
+import java.time.format.DateTimeFormatter;
+import java.time.format.DateTimeParseException;
+import java.util.Locale;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.zip.GZIPInputStream;
+import java.util.zip.Inflater;
+import java.util.zip.InflaterInputStream;
 
 /**
  * Simple HTTP client wrapper for GitHub API calls using Java 11+ HttpClient. Replaces
@@ -16,24 +37,66 @@ import java.time.Duration;
  *
  * <p>
  * Extracts rate limit headers from all responses and makes them available via
- * {@link #getLastRateLimitInfo()}.
+ * {@link #getLastRateLimitInfo()}, and per resource ({@code core}, {@code search},
+ * {@code graphql}) via {@link #getRateLimitInfo(String)}.
+ *
+ * <p>
+ * The asynchronous operations use {@link HttpClient#sendAsync}, so requests in flight do
+ * not hold a caller thread while waiting on GitHub.
+ *
+ * <p>
+ * {@link #getConditional} sends {@code If-None-Match} / {@code If-Modified-Since} and
+ * reports {@code 304 Not Modified} as a regular response instead of an error.
+ *
+ * <p>
+ * {@link #getStream} and {@link #postGraphQLStream} hand the body to the caller as it
+ * arrives from the socket, so successful responses are never copied into a String.
+ *
+ * <p>
+ * Every request advertises {@code Accept-Encoding: gzip, deflate} and compressed bodies
+ * are decoded transparently. {@link #getCompressedBytes()} and
+ * {@link #getDecompressedBytes()} report how much was transferred versus decoded.
  */
 public class GitHubHttpClient implements GitHubClient {
 
 	private static final Logger logger = LoggerFactory.getLogger(GitHubHttpClient.class);
 
-	private static final String GITHUB_API_BASE = "https://api.github.com";
-
-	private static final String GITHUB_GRAPHQL_ENDPOINT = "https://api.github.com/graphql";
+	/**
+	 * Base URL of the public GitHub REST API.
+	 */
+	public static final String DEFAULT_BASE_URL = "https://api.github.com";
 
 	private final HttpClient httpClient;
 
 	private final String token;
 
+	private final String apiBase;
+
+	private final String graphQLEndpoint;
+
 	private volatile RateLimitInfo lastRateLimitInfo;
 
+	private final Map<String, RateLimitInfo> rateLimitsByResource = new ConcurrentHashMap<>();
+
+	private final AtomicLong compressedBytes = new AtomicLong();
+
+	private final AtomicLong decompressedBytes = new AtomicLong();
+
 	public GitHubHttpClient(String token) {
+		this(token, DEFAULT_BASE_URL);
+	}
+
+	/**
+	 * Create a client for a GitHub-compatible API other than api.github.com, such as a
+	 * local simulator. The GraphQL endpoint is {@code baseUrl + "/graphql"}.
+	 * @param token access token
+	 * @param baseUrl API base URL without a trailing slash, e.g.
+	 * {@code http://localhost:8080}
+	 */
+	public GitHubHttpClient(String token, String baseUrl) {
 		this.token = token;
+		this.apiBase = baseUrl.endsWith("/") ? baseUrl.substring(0, baseUrl.length() - 1) : baseUrl;
+		this.graphQLEndpoint = this.apiBase + "/graphql";
 		this.httpClient = HttpClient.newBuilder()
 			.connectTimeout(Duration.ofSeconds(30))
 			.followRedirects(HttpClient.Redirect.NORMAL)
@@ -45,22 +108,36 @@ public class GitHubHttpClient implements GitHubClient {
 		return lastRateLimitInfo;
 	}
 
+	@Override
+	public RateLimitInfo getRateLimitInfo(String resource) {
+		return rateLimitsByResource.get(resource);
+	}
+
+	/**
+	 * Total response body bytes received on the wire, before decompression. Uncompressed
+	 * responses count towards both this and {@link #getDecompressedBytes()}.
+	 * @return bytes received
+	 */
+	public long getCompressedBytes() {
+		return compressedBytes.get();
+	}
+
+	/**
+	 * Total response body bytes after decompression.
+	 * @return bytes decoded
+	 */
+	public long getDecompressedBytes() {
+		return decompressedBytes.get();
+	}
+
 	@Override
 	public String get(String path) {
-		String url = path.startsWith("http") ? path : GITHUB_API_BASE + path;
+		String url = resolveUrl(path);
 		logger.debug("GET {}", url);
 		long start = System.currentTimeMillis();
 
-		HttpRequest request = HttpRequest.newBuilder()
-			.uri(URI.create(url))
-			.header("Authorization", "token " + token)
-			.header("Accept", "application/vnd.github.v3+json")
-			.header("User-Agent", "github-collector")
-			.GET()
-			.build();
-
 		try {
-			String response = executeRequest(request);
+			String response = executeRequest(buildGetRequest(url));
 			logger.debug("GET {} completed in {}ms ({} bytes)", url, System.currentTimeMillis() - start,
 					response.length());
 			return response;
@@ -73,11 +150,35 @@ public class GitHubHttpClient implements GitHubClient {
 
 	@Override
 	public String getWithQuery(String path, String queryString) {
-		String url = GITHUB_API_BASE + path;
-		if (queryString != null && !queryString.isEmpty()) {
-			url += "?" + queryString;
+		return get(appendQuery(path, queryString));
+	}
+
+	@Override
+	public ConditionalResponse getConditional(String path, @Nullable String etag, @Nullable String lastModified) {
+		String url = resolveUrl(path);
+		HttpRequest.Builder builder = getRequestBuilder(url);
+		if (etag != null) {
+			builder.header("If-None-Match", etag);
+		}
+		if (lastModified != null) {
+			builder.header("If-Modified-Since", lastModified);
 		}
-		return get(url);
+		HttpRequest request = builder.build();
+		logger.debug("GET (conditional) {}", url);
+		long start = System.currentTimeMillis();
+
+		HttpResponse<String> response = send(request, decodingStringHandler());
+		if (response.statusCode() == 304) {
+			recordRateLimit(response);
+			logger.debug("GET {} not modified ({}ms)", url, System.currentTimeMillis() - start);
+			return new ConditionalResponse(304, null, response.headers().firstValue("ETag").orElse(etag),
+					response.headers().firstValue("Last-Modified").orElse(lastModified));
+		}
+
+		String body = handleResponse(request, response, response.body());
+		logger.debug("GET {} completed in {}ms ({} bytes)", url, System.currentTimeMillis() - start, body.length());
+		return new ConditionalResponse(response.statusCode(), body, response.headers().firstValue("ETag").orElse(null),
+				response.headers().firstValue("Last-Modified").orElse(null));
 	}
 
 	@Override
@@ -85,16 +186,8 @@ public class GitHubHttpClient implements GitHubClient {
 		logger.debug("POST GraphQL ({} bytes)", body.length());
 		long start = System.currentTimeMillis();
 
-		HttpRequest request = HttpRequest.newBuilder()
-			.uri(URI.create(GITHUB_GRAPHQL_ENDPOINT))
-			.header("Authorization", "Bearer " + token)
-			.header("Content-Type", "application/json")
-			.header("User-Agent", "github-collector")
-			.POST(HttpRequest.BodyPublishers.ofString(body))
-			.build();
-
 		try {
-			String response = executeRequest(request);
+			String response = executeRequest(buildGraphQLRequest(body));
 			logger.debug("POST GraphQL completed in {}ms ({} bytes)", System.currentTimeMillis() - start,
 					response.length());
 			return response;
@@ -105,54 +198,135 @@ public class GitHubHttpClient implements GitHubClient {
 		}
 	}
 
-	private String executeRequest(HttpRequest request) {
-		try {
-			HttpResponse<String> response = httpClient.send(request, HttpResponse.BodyHandlers.ofString());
-
-			// Extract rate limit headers from ALL responses (2xx included)
-			int remaining = parseIntHeader(response, "X-RateLimit-Remaining", -1);
-			long reset = parseLongHeader(response, "X-RateLimit-Reset", -1);
-			int limit = parseIntHeader(response, "X-RateLimit-Limit", -1);
-			int used = parseIntHeader(response, "X-RateLimit-Used", -1);
-
-			if (remaining >= 0) {
-				this.lastRateLimitInfo = new RateLimitInfo(limit, remaining, reset, used);
-				if (remaining < 100) {
-					logger.info("Rate limit low: {}/{} remaining, resets at epoch {}", remaining, limit, reset);
-				}
-				else {
-					logger.debug("Rate limit: {}/{} remaining, resets at epoch {}", remaining, limit, reset);
-				}
-			}
+	@Override
+	public InputStream getStream(String path) {
+		String url = resolveUrl(path);
+		logger.debug("GET (stream) {}", url);
+		return executeStreamRequest(buildGetRequest(url));
+	}
 
-			int statusCode = response.statusCode();
-			if (statusCode >= 200 && statusCode < 300) {
-				return response.body();
-			}
-			else if (statusCode == 401) {
-				throw new GitHubApiException("Unauthorized: Bad credentials. Check your GITHUB_TOKEN.", statusCode,
-						response.body(), remaining, reset);
-			}
-			else if (statusCode == 403) {
-				if (remaining == 0) {
-					throw new GitHubApiException("Rate limit exceeded. Resets at epoch: " + reset, statusCode,
-							response.body(), remaining, reset);
-				}
-				throw new GitHubApiException("Forbidden: " + response.body(), statusCode, response.body(), remaining,
-						reset);
+	@Override
+	public InputStream postGraphQLStream(String body) {
+		logger.debug("POST GraphQL (stream, {} bytes)", body.length());
+		return executeStreamRequest(buildGraphQLRequest(body));
+	}
+
+	@Override
+	public CompletableFuture<String> getAsync(String path) {
+		String url = resolveUrl(path);
+		logger.debug("GET (async) {}", url);
+		long start = System.currentTimeMillis();
+
+		return executeRequestAsync(buildGetRequest(url)).whenComplete((response, error) -> {
+			if (error == null) {
+				logger.debug("GET {} completed in {}ms ({} bytes)", url, System.currentTimeMillis() - start,
+						response.length());
 			}
-			else if (statusCode == 404) {
-				throw new GitHubApiException("Not found: " + request.uri(), statusCode, response.body(), remaining,
-						reset);
+			else {
+				logger.debug("GET {} failed after {}ms: {}", url, System.currentTimeMillis() - start,
+						error.getMessage());
 			}
-			else if (statusCode == 429) {
-				throw new GitHubApiException("Too Many Requests (429). Resets at epoch: " + reset, statusCode,
-						response.body(), remaining, reset);
+		});
+	}
+
+	@Override
+	public CompletableFuture<String> getWithQueryAsync(String path, String queryString) {
+		return getAsync(appendQuery(path, queryString));
+	}
+
+	@Override
+	public CompletableFuture<String> postGraphQLAsync(String body) {
+		logger.debug("POST GraphQL (async, {} bytes)", body.length());
+		long start = System.currentTimeMillis();
+
+		return executeRequestAsync(buildGraphQLRequest(body)).whenComplete((response, error) -> {
+			if (error == null) {
+				logger.debug("POST GraphQL completed in {}ms ({} bytes)", System.currentTimeMillis() - start,
+						response.length());
 			}
 			else {
-				throw new GitHubApiException("GitHub API error: " + statusCode, statusCode, response.body(), remaining,
-						reset);
+				logger.debug("POST GraphQL failed after {}ms: {}", System.currentTimeMillis() - start,
+						error.getMessage());
 			}
+		});
+	}
+
+	private String resolveUrl(String path) {
+		return path.startsWith("http") ? path : apiBase + path;
+	}
+
+	private String appendQuery(String path, String queryString) {
+		String url = apiBase + path;
+		if (queryString != null && !queryString.isEmpty()) {
+			url += "?" + queryString;
+		}
+		return url;
+	}
+
+	private HttpRequest buildGetRequest(String url) {
+		return getRequestBuilder(url).build();
+	}
+
+	private HttpRequest.Builder getRequestBuilder(String url) {
+		return HttpRequest.newBuilder()
+			.uri(URI.create(url))
+			.header("Authorization", "token " + token)
+			.header("Accept", "application/vnd.github.v3+json")
+			.header("User-Agent", "github-collector")
+			.header("Accept-Encoding", "gzip, deflate")
+			.GET();
+	}
+
+	private HttpRequest buildGraphQLRequest(String body) {
+		return HttpRequest.newBuilder()
+			.uri(URI.create(graphQLEndpoint))
+			.header("Authorization", "Bearer " + token)
+			.header("Content-Type", "application/json")
+			.header("User-Agent", "github-collector")
+			.header("Accept-Encoding", "gzip, deflate")
+			.POST(HttpRequest.BodyPublishers.ofString(body))
+			.build();
+	}
+
+	private String executeRequest(HttpRequest request) {
+		HttpResponse<String> response = send(request, decodingStringHandler());
+		return handleResponse(request, response, response.body());
+	}
+
+	/**
+	 * Send the request and return the body unread on success. Error bodies are small, so
+	 * they are read fully to populate the {@link GitHubApiException}.
+	 */
+	private InputStream executeStreamRequest(HttpRequest request) {
+		HttpResponse<InputStream> response = send(request, HttpResponse.BodyHandlers.ofInputStream());
+		InputStream body;
+		try {
+			body = decodingStream(response.headers(), response.body());
+		}
+		catch (IOException e) {
+			throw new GitHubApiException("Failed to decode response body: " + e.getMessage(), e);
+		}
+
+		int statusCode = response.statusCode();
+		if (statusCode >= 200 && statusCode < 300) {
+			recordRateLimit(response);
+			return body;
+		}
+
+		String errorBody;
+		try (InputStream in = body) {
+			errorBody = new String(in.readAllBytes(), StandardCharsets.UTF_8);
+		}
+		catch (IOException e) {
+			errorBody = "";
+		}
+		recordRateLimit(response);
+		throw toException(request, response, errorBody);
+	}
+
+	private <T> HttpResponse<T> send(HttpRequest request, HttpResponse.BodyHandler<T> bodyHandler) {
+		try {
+			return httpClient.send(request, bodyHandler);
 		}
 		catch (IOException e) {
 			logger.error("HTTP request failed: {}", e.getMessage());
@@ -164,6 +338,160 @@ public class GitHubHttpClient implements GitHubClient {
 		}
 	}
 
+	/**
+	 * Send the request without blocking the calling thread. Transport failures complete
+	 * the future exceptionally with a {@link GitHubApiException}, matching the blocking
+	 * path.
+	 */
+	private CompletableFuture<String> executeRequestAsync(HttpRequest request) {
+		return httpClient.sendAsync(request, decodingStringHandler()).handle((response, error) -> {
+			if (error != null) {
+				Throwable cause = error instanceof CompletionException && error.getCause() != null ? error.getCause()
+						: error;
+				logger.error("HTTP request failed: {}", cause.getMessage());
+				throw new GitHubApiException("HTTP request failed: " + cause.getMessage(), cause);
+			}
+			return handleResponse(request, response, response.body());
+		});
+	}
+
+	/**
+	 * Record rate limit headers and map the status code. Returns the body on 2xx and
+	 * throws {@link GitHubApiException} otherwise.
+	 */
+	private String handleResponse(HttpRequest request, HttpResponse<?> response, String body) {
+		// Extract rate limit headers from ALL responses (2xx included)
+		recordRateLimit(response);
+
+		int statusCode = response.statusCode();
+		if (statusCode >= 200 && statusCode < 300) {
+			return body;
+		}
+		throw toException(request, response, body);
+	}
+
+	private GitHubApiException toException(HttpRequest request, HttpResponse<?> response, String body) {
+		int remaining = parseIntHeader(response, "X-RateLimit-Remaining", -1);
+		long reset = parseLongHeader(response, "X-RateLimit-Reset", -1);
+		long retryAfter = parseRetryAfter(response);
+
+		int statusCode = response.statusCode();
+		if ((statusCode == 403 || statusCode == 429) && remaining != 0
+				&& (retryAfter >= 0 || GitHubApiException.mentionsSecondaryRateLimit(body))) {
+			String message = "Secondary rate limit exceeded (" + statusCode + ")";
+			if (retryAfter >= 0) {
+				message += ". Retry after " + retryAfter + " seconds";
+			}
+			return new GitHubApiException(message, statusCode, body, remaining, reset, retryAfter);
+		}
+		if (statusCode == 401) {
+			return new GitHubApiException("Unauthorized: Bad credentials. Check your GITHUB_TOKEN.", statusCode, body,
+					remaining, reset);
+		}
+		else if (statusCode == 403) {
+			if (remaining == 0) {
+				return new GitHubApiException("Rate limit exceeded. Resets at epoch: " + reset, statusCode, body,
+						remaining, reset);
+			}
+			return new GitHubApiException("Forbidden: " + body, statusCode, body, remaining, reset);
+		}
+		else if (statusCode == 404) {
+			return new GitHubApiException("Not found: " + request.uri(), statusCode, body, remaining, reset);
+		}
+		else if (statusCode == 429) {
+			return new GitHubApiException("Too Many Requests (429). Resets at epoch: " + reset, statusCode, body,
+					remaining, reset);
+		}
+		else {
+			return new GitHubApiException("GitHub API error: " + statusCode, statusCode, body, remaining, reset);
+		}
+	}
+
+	/**
+	 * String body handler that decodes gzip/deflate content. The compressed body is
+	 * small compared to the decoded String, so it is buffered and inflated in one go.
+	 */
+	private HttpResponse.BodyHandler<String> decodingStringHandler() {
+		return responseInfo -> HttpResponse.BodySubscribers.mapping(HttpResponse.BodySubscribers.ofByteArray(),
+				bytes -> {
+					try (InputStream in = decodingStream(responseInfo.headers(), new ByteArrayInputStream(bytes))) {
+						return new String(in.readAllBytes(), StandardCharsets.UTF_8);
+					}
+					catch (IOException e) {
+						throw new UncheckedIOException("Failed to decode response body", e);
+					}
+				});
+	}
+
+	/**
+	 * Wrap a raw body stream so that it is decompressed according to
+	 * {@code Content-Encoding} and counted on both sides of the decoder. Must not be
+	 * called from an HTTP client callback, since creating a {@link GZIPInputStream}
+	 * reads the header.
+	 */
+	private InputStream decodingStream(HttpHeaders headers, InputStream raw) throws IOException {
+		InputStream wire = new CountingInputStream(raw, compressedBytes);
+		String encoding = headers.firstValue("Content-Encoding").orElse("identity").trim().toLowerCase();
+		InputStream decoded = switch (encoding) {
+			case "gzip", "x-gzip" -> new GZIPInputStream(wire);
+			case "deflate" -> new DeflateInputStream(wire);
+			default -> wire;
+		};
+		return new CountingInputStream(decoded, decompressedBytes);
+	}
+
+	private void recordRateLimit(HttpResponse<?> response) {
+		int remaining = parseIntHeader(response, "X-RateLimit-Remaining", -1);
+		long reset = parseLongHeader(response, "X-RateLimit-Reset", -1);
+		int limit = parseIntHeader(response, "X-RateLimit-Limit", -1);
+		int used = parseIntHeader(response, "X-RateLimit-Used", -1);
+
+		if (remaining >= 0) {
+			String resource = response.headers()
+				.firstValue("X-RateLimit-Resource")
+				.orElseGet(() -> resourceForRequest(response.request()));
+			RateLimitInfo info = new RateLimitInfo(limit, remaining, reset, used, resource);
+			this.lastRateLimitInfo = info;
+			this.rateLimitsByResource.put(resource, info);
+			if (remaining < 100) {
+				logger.info("Rate limit low ({}): {}/{} remaining, resets at epoch {}", resource, remaining, limit,
+						reset);
+			}
+			else {
+				logger.debug("Rate limit ({}): {}/{} remaining, resets at epoch {}", resource, remaining, limit,
+						reset);
+			}
+		}
+	}
+
+	/**
+	 * Parse {@code Retry-After}, given either as delay seconds or as an HTTP date.
+	 * @return seconds to wait, or -1 if the header is absent or malformed
+	 */
+	private static long parseRetryAfter(HttpResponse<?> response) {
+		return response.headers().firstValue("Retry-After").map(String::trim).map(v -> {
+			try {
+				return Math.max(0, Long.parseLong(v));
+			}
+			catch (NumberFormatException e) {
+				try {
+					ZonedDateTime at = ZonedDateTime.parse(v, DateTimeFormatter.RFC_1123_DATE_TIME);
+					return Math.max(0, at.toEpochSecond() - Instant.now().getEpochSecond());
+				}
+				catch (DateTimeParseException ignored) {
+					return -1L;
+				}
+			}
+		}).orElse(-1L);
+	}
+
+	private static String resourceForRequest(HttpRequest request) {
+		if ("POST".equals(request.method())) {
+			return RateLimitInfo.GRAPHQL;
+		}
+		return RateLimitInfo.resourceForPath(request.uri().getPath());
+	}
+
 	private static int parseIntHeader(HttpResponse<?> response, String headerName, int defaultValue) {
 		return response.headers().firstValue(headerName).map(v -> {
 			try {
@@ -186,6 +514,72 @@ public class GitHubHttpClient implements GitHubClient {
 		}).orElse(defaultValue);
 	}
 
+	/**
+	 * Counts bytes read through it into a shared counter.
+	 */
+	private static final class CountingInputStream extends FilterInputStream {
+
+		private final AtomicLong counter;
+
+		CountingInputStream(InputStream in, AtomicLong counter) {
+			super(in);
+			this.counter = counter;
+		}
+
+		@Override
+		public int read() throws IOException {
+			int b = super.read();
+			if (b >= 0) {
+				counter.incrementAndGet();
+			}
+			return b;
+		}
+
+		@Override
+		public int read(byte[] buffer, int offset, int length) throws IOException {
+			int n = super.read(buffer, offset, length);
+			if (n > 0) {
+				counter.addAndGet(n);
+			}
+			return n;
+		}
+
+	}
+
+	/**
+	 * Inflates {@code Content-Encoding: deflate} bodies. The HTTP spec mandates zlib
+	 * framing, but some servers send raw deflate data; the format is detected from the
+	 * first two bytes.
+	 */
+	private static final class DeflateInputStream extends InflaterInputStream {
+
+		DeflateInputStream(InputStream in) throws IOException {
+			this(new PushbackInputStream(in, 2));
+		}
+
+		private DeflateInputStream(PushbackInputStream in) throws IOException {
+			super(in, new Inflater(!hasZlibHeader(in)));
+		}
+
+		private static boolean hasZlibHeader(PushbackInputStream in) throws IOException {
+			byte[] header = in.readNBytes(2);
+			in.unread(header);
+			if (header.length < 2) {
+				return true;
+			}
+			int cmf = header[0] & 0xFF;
+			int flg = header[1] & 0xFF;
+			return (cmf & 0x0F) == 8 && ((cmf << 8) | flg) % 31 == 0;
+		}
+
+		@Override
+		public void close() throws IOException {
+			super.close();
+			inf.end();
+		}
+
+	}
+
 	/**
 	 * Exception thrown when GitHub API calls fail.
 	 *
@@ -203,17 +597,25 @@ public class GitHubHttpClient implements GitHubClient {
 
 		private final long resetEpochSeconds;
 
+		private final long retryAfterSeconds;
+
 		public GitHubApiException(String message, int statusCode, String responseBody) {
 			this(message, statusCode, responseBody, -1, -1);
 		}
 
 		public GitHubApiException(String message, int statusCode, String responseBody, int rateLimitRemaining,
 				long resetEpochSeconds) {
+			this(message, statusCode, responseBody, rateLimitRemaining, resetEpochSeconds, -1);
+		}
+
+		public GitHubApiException(String message, int statusCode, String responseBody, int rateLimitRemaining,
+				long resetEpochSeconds, long retryAfterSeconds) {
 			super(message);
 			this.statusCode = statusCode;
 			this.responseBody = responseBody;
 			this.rateLimitRemaining = rateLimitRemaining;
 			this.resetEpochSeconds = resetEpochSeconds;
+			this.retryAfterSeconds = retryAfterSeconds;
 		}
 
 		public GitHubApiException(String message, Throwable cause) {
@@ -222,6 +624,7 @@ public class GitHubHttpClient implements GitHubClient {
 			this.responseBody = null;
 			this.rateLimitRemaining = -1;
 			this.resetEpochSeconds = -1;
+			this.retryAfterSeconds = -1;
 		}
 
 		public int getStatusCode() {
@@ -241,11 +644,33 @@ public class GitHubHttpClient implements GitHubClient {
 		}
 
 		/**
-		 * Returns true if this exception represents a rate limit error (either 403 with
-		 * remaining=0 or 429).
+		 * Seconds to wait before retrying, from the {@code Retry-After} header.
+		 * @return delay in seconds, or -1 if the response did not specify one
+		 */
+		public long getRetryAfterSeconds() {
+			return retryAfterSeconds;
+		}
+
+		/**
+		 * Returns true if this exception represents a rate limit error (429, 403 with
+		 * remaining=0, or a secondary rate limit).
 		 */
 		public boolean isRateLimitError() {
-			return (statusCode == 429) || (statusCode == 403 && rateLimitRemaining == 0);
+			return (statusCode == 429) || (statusCode == 403 && rateLimitRemaining == 0) || isSecondaryRateLimit();
+		}
+
+		/**
+		 * Returns true if this exception represents a secondary (abuse) rate limit: a 403
+		 * or 429 that carries {@code Retry-After} or says so in the body, while the
+		 * primary budget is not exhausted.
+		 */
+		public boolean isSecondaryRateLimit() {
+			return (statusCode == 403 || statusCode == 429) && rateLimitRemaining != 0
+					&& (retryAfterSeconds >= 0 || mentionsSecondaryRateLimit(responseBody));
+		}
+
+		static boolean mentionsSecondaryRateLimit(@Nullable String body) {
+			return body != null && body.toLowerCase(Locale.ROOT).contains("secondary rate limit");
 		}
 
 	}
@@ -0,0 +1,947 @@
+package org.springaicommunity.github.collector;
+
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+import org.jspecify.annotations.Nullable;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.io.IOException;
+import java.net.URI;
+import java.time.DateTimeException;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeFormatter;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Token-level parsers that build DTOs directly from a GitHub API response stream.
+ *
+ * <p>
+ * Unlike {@code objectMapper.readTree}, these parsers never materialize the whole
+ * document: records are created as their fields are read and unknown fields are skipped
+ * without being buffered. Combined with {@link GitHubClient#getStream(String)} a
+ * multi-megabyte search page exists on the heap only as the resulting records.
+ *
+ * <p>
+ * The defaults applied to missing or null fields match the tree-based parsing this class
+ * replaced, so the same DTOs are produced regardless of the source.
+ */
+final class GitHubResponseParser {
+
+	private static final Logger logger = LoggerFactory.getLogger(GitHubResponseParser.class);
+
+	private static final DateTimeFormatter ISO_FORMATTER = DateTimeFormatter.ISO_DATE_TIME;
+
+	/**
+	 * Prefix of the per-issue aliases in a bulk timeline query, e.g. {@code issue42}.
+	 */
+	static final String TIMELINE_ALIAS_PREFIX = "issue";
+
+	private GitHubResponseParser() {
+	}
+
+	// ========== GraphQL ==========
+
+	/**
+	 * Parse a GraphQL {@code search} response containing issue nodes.
+	 * @param parser parser positioned before the root object
+	 * @return issues with pagination info; empty if the response has no search data
+	 * @throws GitHubHttpClient.GitHubApiException if the response reports a rate limit
+	 * error
+	 */
+	static SearchResult<Issue> parseIssueSearch(JsonParser parser) throws IOException {
+		return parseSearch(parser, GitHubResponseParser::parseIssue);
+	}
+
+	/**
+	 * Parse a GraphQL {@code search} response containing pull request nodes with their
+	 * reviews inline.
+	 * @param parser parser positioned before the root object
+	 * @return pull requests with pagination info; empty if the response has no search
+	 * data
+	 * @throws GitHubHttpClient.GitHubApiException if the response reports a rate limit
+	 * error
+	 */
+	static SearchResult<PullRequest> parsePullRequestSearchNodes(JsonParser parser) throws IOException {
+		return parseSearch(parser, GitHubResponseParser::parsePullRequestNode);
+	}
+
+	/**
+	 * Parse a GraphQL {@code repository.issues} connection response.
+	 * @param parser parser positioned before the root object
+	 * @return issues with pagination info and the connection's total count; empty if the
+	 * response has no repository data
+	 * @throws GitHubHttpClient.GitHubApiException if the response reports a rate limit
+	 * error
+	 */
+	static SearchResult<Issue> parseIssueConnection(JsonParser parser) throws IOException {
+		return parsePage(parser, GitHubResponseParser::parseIssue, "repository", "issues");
+	}
+
+	/**
+	 * Parse a GraphQL {@code repository.pullRequests} connection response with the
+	 * reviews of each pull request inline.
+	 * @param parser parser positioned before the root object
+	 * @return pull requests with pagination info and the connection's total count; empty
+	 * if the response has no repository data
+	 * @throws GitHubHttpClient.GitHubApiException if the response reports a rate limit
+	 * error
+	 */
+	static SearchResult<PullRequest> parsePullRequestConnection(JsonParser parser) throws IOException {
+		return parsePage(parser, GitHubResponseParser::parsePullRequestNode, "repository", "pullRequests");
+	}
+
+	/**
+	 * Parse a GraphQL {@code search} response containing both issue and pull request
+	 * nodes, each starting with its {@code __typename}.
+	 * @param parser parser positioned before the root object
+	 * @return the issues and pull requests with pagination info; empty if the response
+	 * has no search data. Nodes of other types are left out.
+	 * @throws GitHubHttpClient.GitHubApiException if the response reports a rate limit
+	 * error
+	 */
+	static CombinedSearchResult parseCombinedSearch(JsonParser parser) throws IOException {
+		SearchResult<@Nullable Record> page = parseSearch(parser, GitHubResponseParser::parseSearchNode);
+		List<Issue> issues = new ArrayList<>();
+		List<PullRequest> pullRequests = new ArrayList<>();
+		for (Record node : page.items()) {
+			if (node instanceof Issue issue) {
+				issues.add(issue);
+			}
+			else if (node instanceof PullRequest pullRequest) {
+				pullRequests.add(pullRequest);
+			}
+		}
+		return new CombinedSearchResult(issues, pullRequests, page.nextCursor(), page.hasMore(), page.totalCount());
+	}
+
+	/**
+	 * Read a search node as an issue or a pull request, depending on its leading
+	 * {@code __typename}.
+	 * @return the node, or null if its type is unknown
+	 */
+	private static @Nullable Record parseSearchNode(JsonParser parser) throws IOException {
+		if (parser.nextToken() != JsonToken.FIELD_NAME) {
+			return null;
+		}
+		String field = parser.currentName();
+		parser.nextToken();
+		String type = "__typename".equals(field) ? text(parser, null) : null;
+		if ("Issue".equals(type)) {
+			return parseIssue(parser);
+		}
+		if ("PullRequest".equals(type)) {
+			return parsePullRequestNode(parser);
+		}
+		parser.skipChildren();
+		while (parser.nextToken() == JsonToken.FIELD_NAME) {
+			parser.nextToken();
+			parser.skipChildren();
+		}
+		return null;
+	}
+
+	private static <T> SearchResult<T> parseSearch(JsonParser parser, ObjectReader<T> reader) throws IOException {
+		return parsePage(parser, reader, "search");
+	}
+
+	/**
+	 * Parse a page of the connection found under {@code data} at {@code path}.
+	 */
+	private static <T> SearchResult<T> parsePage(JsonParser parser, ObjectReader<T> reader, String... path)
+			throws IOException {
+		List<T> items = new ArrayList<>();
+		PageInfo pageInfo = new PageInfo();
+		String rateLimitMessage = null;
+
+		if (parser.nextToken() != JsonToken.START_OBJECT) {
+			return SearchResult.empty();
+		}
+		while (parser.nextToken() == JsonToken.FIELD_NAME) {
+			String field = parser.currentName();
+			JsonToken token = parser.nextToken();
+			if ("data".equals(field) && token == JsonToken.START_OBJECT) {
+				parsePath(parser, path, 0, reader, items, pageInfo);
+			}
+			else if ("errors".equals(field) && token == JsonToken.START_ARRAY) {
+				String message = findRateLimitError(parser);
+				if (message != null && rateLimitMessage == null) {
+					rateLimitMessage = message;
+				}
+			}
+			else {
+				parser.skipChildren();
+			}
+		}
+
+		throwIfRateLimited(rateLimitMessage);
+
+		String nextCursor = pageInfo.hasNextPage ? pageInfo.endCursor : null;
+		return new SearchResult<>(items, nextCursor, pageInfo.hasNextPage, pageInfo.totalCount);
+	}
+
+	/**
+	 * Parse a bulk timeline response with one {@code repository} field per issue, aliased
+	 * {@code issue<number>}.
+	 * @param parser parser positioned before the root object
+	 * @return events keyed by issue number; issues that are null in the response or have
+	 * more timeline pages are left out
+	 * @throws GitHubHttpClient.GitHubApiException if the response reports a rate limit
+	 * error
+	 */
+	static Map<Integer, List<IssueEvent>> parseIssueTimelines(JsonParser parser) throws IOException {
+		Map<Integer, List<IssueEvent>> events = new HashMap<>();
+		String rateLimitMessage = null;
+
+		if (parser.nextToken() != JsonToken.START_OBJECT) {
+			return events;
+		}
+		while (parser.nextToken() == JsonToken.FIELD_NAME) {
+			String field = parser.currentName();
+			JsonToken token = parser.nextToken();
+			if ("data".equals(field) && token == JsonToken.START_OBJECT) {
+				while (parser.nextToken() == JsonToken.FIELD_NAME) {
+					String dataField = parser.currentName();
+					JsonToken dataToken = parser.nextToken();
+					if ("repository".equals(dataField) && dataToken == JsonToken.START_OBJECT) {
+						parseIssueTimelinesObject(parser, events);
+					}
+					else {
+						parser.skipChildren();
+					}
+				}
+			}
+			else if ("errors".equals(field) && token == JsonToken.START_ARRAY) {
+				String message = findRateLimitError(parser);
+				if (message != null && rateLimitMessage == null) {
+					rateLimitMessage = message;
+				}
+			}
+			else {
+				parser.skipChildren();
+			}
+		}
+
+		throwIfRateLimited(rateLimitMessage);
+		return events;
+	}
+
+	private static void parseIssueTimelinesObject(JsonParser parser, Map<Integer, List<IssueEvent>> events)
+			throws IOException {
+		while (parser.nextToken() == JsonToken.FIELD_NAME) {
+			String alias = parser.currentName();
+			JsonToken token = parser.nextToken();
+			int number = aliasNumber(alias);
+			if (number <= 0 || token != JsonToken.START_OBJECT) {
+				parser.skipChildren();
+				continue;
+			}
+			while (parser.nextToken() == JsonToken.FIELD_NAME) {
+				String field = parser.currentName();
+				JsonToken fieldToken = parser.nextToken();
+				if ("timelineItems".equals(field) && fieldToken == JsonToken.START_OBJECT) {
+					List<IssueEvent> timeline = parseTimelineItems(parser);
+					if (timeline != null) {
+						events.put(number, timeline);
+					}
+				}
+				else {
+					parser.skipChildren();
+				}
+			}
+		}
+	}
+
+	/**
+	 * @return the events, or {@code null} if the connection has further pages
+	 */
+	private static @Nullable List<IssueEvent> parseTimelineItems(JsonParser parser) throws IOException {
+		List<IssueEvent> events = new ArrayList<>();
+		PageInfo pageInfo = new PageInfo();
+		while (parser.nextToken() == JsonToken.FIELD_NAME) {
+			String field = parser.currentName();
+			JsonToken token = parser.nextToken();
+			if ("pageInfo".equals(field) && token == JsonToken.START_OBJECT) {
+				while (parser.nextToken() == JsonToken.FIELD_NAME) {
+					String pageField = parser.currentName();
+					parser.nextToken();
+					if ("hasNextPage".equals(pageField)) {
+						pageInfo.hasNextPage = booleanValue(parser);
+					}
+					else {
+						parser.skipChildren();
+					}
+				}
+			}
+			else if ("nodes".equals(field)) {
+				events = parseArray(parser, GitHubResponseParser::parseTimelineItem);
+			}
+			else {
+				parser.skipChildren();
+			}
+		}
+		return pageInfo.hasNextPage ? null : events;
+	}
+
+	private static IssueEvent parseTimelineItem(JsonParser parser) throws IOException {
+		String event = "";
+		Author actor = unknownAuthor();
+		Label label = null;
+		String commitId = null;
+		LocalDateTime createdAt = null;
+
+		while (parser.nextToken() == JsonToken.FIELD_NAME) {
+			String field = parser.currentName();
+			parser.nextToken();
+			switch (field) {
+				case "__typename" -> event = timelineEventName(text(parser, ""));
+				case "actor" -> actor = parseAuthor(parser);
+				case "label" -> label = parser.currentToken() == JsonToken.START_OBJECT ? parseLabel(parser) : null;
+				case "commit", "closer" -> commitId = commitOid(parser);
+				case "createdAt" -> createdAt = dateTime(parser);
+				default -> parser.skipChildren();
+			}
+		}
+		// Timeline items carry only a GraphQL node id, so there is no REST event id
+		return new IssueEvent(0, event, actor, label, commitId, createdAt);
+	}
+
+	/**
+	 * Map a timeline item type to the REST event name, e.g. {@code LabeledEvent} to
+	 * {@code labeled}.
+	 */
+	private static String timelineEventName(String typeName) {
+		return switch (typeName) {
+			case "RenamedTitleEvent" -> "renamed";
+			default -> {
+				String name = typeName.endsWith("Event") ? typeName.substring(0, typeName.length() - 5) : typeName;
+				yield name.toLowerCase();
+			}
+		};
+	}
+
+	/**
+	 * Read the commit SHA from a {@code Commit} ({@code oid}) or from a merged
+	 * {@code PullRequest} ({@code mergeCommit.oid}).
+	 */
+	private static @Nullable String commitOid(JsonParser parser) throws IOException {
+		if (parser.currentToken() != JsonToken.START_OBJECT) {
+			parser.skipChildren();
+			return null;
+		}
+		String oid = null;
+		while (parser.nextToken() == JsonToken.FIELD_NAME) {
+			String field = parser.currentName();
+			parser.nextToken();
+			switch (field) {
+				case "oid" -> oid = text(parser, null);
+				case "mergeCommit" -> oid = commitOid(parser);
+				default -> parser.skipChildren();
+			}
+		}
+		return oid;
+	}
+
+	private static int aliasNumber(String alias) {
+		if (!alias.startsWith(TIMELINE_ALIAS_PREFIX)) {
+			return 0;
+		}
+		try {
+			return Integer.parseInt(alias.substring(TIMELINE_ALIAS_PREFIX.length()));
+		}
+		catch (NumberFormatException e) {
+			return 0;
+		}
+	}
+
+	private static void throwIfRateLimited(@Nullable String rateLimitMessage) {
+		if (rateLimitMessage != null) {
+			logger.warn("GraphQL rate limit error detected: {}", rateLimitMessage);
+			// Throw as 429 so the retry layer can handle it
+			throw new GitHubHttpClient.GitHubApiException("GraphQL rate limit exceeded: " + rateLimitMessage, 429,
+					rateLimitMessage);
+		}
+	}
+
+	/**
+	 * Descend into the object at {@code path[depth]} of the current object, skipping
+	 * everything else, and parse the connection at the end of the path.
+	 */
+	private static <T> void parsePath(JsonParser parser, String[] path, int depth, ObjectReader<T> reader,
+			List<T> items, PageInfo pageInfo) throws IOException {
+		while (parser.nextToken() == JsonToken.FIELD_NAME) {
+			String field = parser.currentName();
+			JsonToken token = parser.nextToken();
+			if (path[depth].equals(field) && token == JsonToken.START_OBJECT) {
+				if (depth == path.length - 1) {
+					parseSearchObject(parser, reader, items, pageInfo);
+				}
+				else {
+					parsePath(parser, path, depth + 1, reader, items, pageInfo);
+				}
+			}
+			else {
+				parser.skipChildren();
+			}
+		}
+	}
+
+	private static <T> void parseSearchObject(JsonParser parser, ObjectReader<T> reader, List<T> items,
+			PageInfo pageInfo) throws IOException {
+		while (parser.nextToken() == JsonToken.FIELD_NAME) {
+			String field = parser.currentName();
+			JsonToken token = parser.nextToken();
+			if ("pageInfo".equals(field) && token == JsonToken.START_OBJECT) {
+				while (parser.nextToken() == JsonToken.FIELD_NAME) {
+					String pageField = parser.currentName();
+					parser.nextToken();
+					switch (pageField) {
+						case "hasNextPage" -> pageInfo.hasNextPage = booleanValue(parser);
+						case "endCursor" -> pageInfo.endCursor = text(parser, null);
+						default -> parser.skipChildren();
+					}
+				}
+			}
+			else if (("issueCount".equals(field) || "totalCount".equals(field)) && token.isNumeric()) {
+				pageInfo.totalCount = parser.getIntValue();
+			}
+			else if ("nodes".equals(field) && token == JsonToken.START_ARRAY) {
+				while (parser.nextToken() != JsonToken.END_ARRAY) {
+					if (parser.currentToken() == JsonToken.START_OBJECT) {
+						items.add(reader.read(parser));
+					}
+					else {
+						parser.skipChildren();
+					}
+				}
+			}
+			else {
+				parser.skipChildren();
+			}
+		}
+	}
+
+	private static Issue parseIssue(JsonParser parser) throws IOException {
+		int number = 0;
+		String title = "";
+		String body = null;
+		String state = "";
+		LocalDateTime createdAt = null;
+		LocalDateTime updatedAt = null;
+		LocalDateTime closedAt = null;
+		String url = "";
+		Author author = unknownAuthor();
+		List<Comment> comments = new ArrayList<>();
+		List<Label> labels = new ArrayList<>();
+
+		while (parser.nextToken() == JsonToken.FIELD_NAME) {
+			String field = parser.currentName();
+			parser.nextToken();
+			switch (field) {
+				case "number" -> number = intValue(parser);
+				case "title" -> title = text(parser, "");
+				case "body" -> body = text(parser, null);
+				case "state" -> state = text(parser, "");
+				case "createdAt" -> createdAt = dateTime(parser);
+				case "updatedAt" -> updatedAt = dateTime(parser);
+				case "closedAt" -> closedAt = dateTime(parser);
+				case "url" -> url = text(parser, "");
+				case "author" -> author = parseAuthor(parser);
+				case "comments" -> comments = parseNodes(parser, GitHubResponseParser::parseComment);
+				case "labels" -> labels = parseNodes(parser, GitHubResponseParser::parseLabel);
+				default -> parser.skipChildren();
+			}
+		}
+
+		// Events are not available via GraphQL - they are fetched via REST API
+		return new Issue(number, title, body, state, createdAt, updatedAt, closedAt, url, author, comments, labels,
+				List.of());
+	}
+
+	private static PullRequest parsePullRequestNode(JsonParser parser) throws IOException {
+		int number = 0;
+		String title = "";
+		String body = null;
+		String state = "";
+		LocalDateTime createdAt = null;
+		LocalDateTime updatedAt = null;
+		LocalDateTime closedAt = null;
+		LocalDateTime mergedAt = null;
+		String htmlUrl = "";
+		Author author = unknownAuthor();
+		List<Label> labels = new ArrayList<>();
+		List<Review> reviews = new ArrayList<>();
+		boolean draft = false;
+		boolean merged = false;
+		String mergeCommitSha = null;
+		String headRef = null;
+		String baseRef = null;
+		int additions = 0;
+		int deletions = 0;
+		int changedFiles = 0;
+
+		while (parser.nextToken() == JsonToken.FIELD_NAME) {
+			String field = parser.currentName();
+			parser.nextToken();
+			switch (field) {
+				case "number" -> number = intValue(parser);
+				case "title" -> title = text(parser, "");
+				case "body" -> body = text(parser, null);
+				case "state" -> state = text(parser, "");
+				case "createdAt" -> createdAt = dateTime(parser);
+				case "updatedAt" -> updatedAt = dateTime(parser);
+				case "closedAt" -> closedAt = dateTime(parser);
+				case "mergedAt" -> mergedAt = dateTime(parser);
+				case "url" -> htmlUrl = text(parser, "");
+				case "author" -> author = parseAuthor(parser);
+				case "labels" -> labels = parseNodes(parser, GitHubResponseParser::parseLabel);
+				case "reviews" -> reviews = parseNodes(parser, GitHubResponseParser::parseReviewNode);
+				case "isDraft" -> draft = booleanValue(parser);
+				case "merged" -> merged = booleanValue(parser);
+				case "mergeCommit" -> mergeCommitSha = commitOid(parser);
+				case "headRefName" -> headRef = text(parser, null);
+				case "baseRefName" -> baseRef = text(parser, null);
+				case "additions" -> additions = intValue(parser);
+				case "deletions" -> deletions = intValue(parser);
+				case "changedFiles" -> changedFiles = intValue(parser);
+				default -> parser.skipChildren();
+			}
+		}
+
+		// REST reports merged pull requests as closed; keep the same state values
+		if ("MERGED".equals(state)) {
+			state = "CLOSED";
+		}
+		return new PullRequest(number, title, body, state, createdAt, updatedAt, closedAt, mergedAt,
+				pullRequestApiUrl(htmlUrl, number), htmlUrl, author, List.of(), labels, reviews, draft, merged,
+				mergeCommitSha, headRef, baseRef, additions, deletions, changedFiles);
+	}
+
+	/**
+	 * The REST API URL of a pull request, as REST returns it in {@code url}, built from
+	 * the repository in the web URL GraphQL returns.
+	 * @param htmlUrl web URL such as {@code https://github.com/owner/repo/pull/12}
+	 * @param number pull request number
+	 * @return the API URL, or an empty string if the web URL names no repository
+	 */
+	private static String pullRequestApiUrl(String htmlUrl, int number) {
+		String path;
+		try {
+			path = URI.create(htmlUrl).getPath();
+		}
+		catch (IllegalArgumentException e) {
+			return "";
+		}
+		String[] segments = path != null ? path.split("/") : new String[0];
+		if (segments.length < 3) {
+			return "";
+		}
+		return GitHubHttpClient.DEFAULT_BASE_URL + "/repos/" + segments[1] + "/" + segments[2] + "/pulls/" + number;
+	}
+
+	private static Review parseReviewNode(JsonParser parser) throws IOException {
+		long id = 0;
+		String body = "";
+		String state = "";
+		LocalDateTime submittedAt = null;
+		Author author = unknownAuthor();
+		String authorAssociation = "";
+		String htmlUrl = "";
+
+		while (parser.nextToken() == JsonToken.FIELD_NAME) {
+			String field = parser.currentName();
+			parser.nextToken();
+			switch (field) {
+				case "databaseId" -> id = parser.getValueAsLong(0);
+				case "body" -> body = text(parser, "");
+				case "state" -> state = text(parser, "");
+				case "submittedAt" -> submittedAt = dateTime(parser);
+				case "author" -> author = parseAuthor(parser);
+				case "authorAssociation" -> authorAssociation = text(parser, "");
+				case "url" -> htmlUrl = text(parser, "");
+				default -> parser.skipChildren();
+			}
+		}
+		return new Review(id, body, state, submittedAt, author, authorAssociation, htmlUrl);
+	}
+
+	private static Comment parseComment(JsonParser parser) throws IOException {
+		Author author = unknownAuthor();
+		String body = "";
+		LocalDateTime createdAt = null;
+		while (parser.nextToken() == JsonToken.FIELD_NAME) {
+			String field = parser.currentName();
+			parser.nextToken();
+			switch (field) {
+				case "author" -> author = parseAuthor(parser);
+				case "body" -> body = text(parser, "");
+				case "createdAt" -> createdAt = dateTime(parser);
+				default -> parser.skipChildren();
+			}
+		}
+		return new Comment(author, body, createdAt);
+	}
+
+	/**
+	 * Scan a GraphQL {@code errors} array for a rate limit error.
+	 * @return the message of the first rate limit error, or null
+	 */
+	private static @Nullable String findRateLimitError(JsonParser parser) throws IOException {
+		String rateLimitMessage = null;
+		while (parser.nextToken() != JsonToken.END_ARRAY) {
+			if (parser.currentToken() != JsonToken.START_OBJECT) {
+				parser.skipChildren();
+				continue;
+			}
+			String type = "";
+			String message = "";
+			while (parser.nextToken() == JsonToken.FIELD_NAME) {
+				String field = parser.currentName();
+				parser.nextToken();
+				switch (field) {
+					case "type" -> type = text(parser, "");
+					case "message" -> message = text(parser, "");
+					default -> parser.skipChildren();
+				}
+			}
+			if (rateLimitMessage == null
+					&& ("RATE_LIMITED".equals(type) || message.toLowerCase().contains("rate limit"))) {
+				rateLimitMessage = message;
+			}
+		}
+		return rateLimitMessage;
+	}
+
+	// ========== REST ==========
+
+	/**
+	 * Parse the {@code items} of a REST search response as pull requests.
+	 * @param parser parser positioned before the root object
+	 * @return pull requests in response order
+	 */
+	static List<PullRequest> parsePullRequestSearch(JsonParser parser) throws IOException {
+		return parsePullRequestSearchPage(parser).items();
+	}
+
+	/**
+	 * Parse a REST search response as a page of pull requests with its
+	 * {@code total_count}. Pagination is left to the caller.
+	 * @param parser parser positioned before the root object
+	 * @return pull requests in response order; the total count is -1 if missing
+	 */
+	static SearchResult<PullRequest> parsePullRequestSearchPage(JsonParser parser) throws IOException {
+		List<PullRequest> prs = new ArrayList<>();
+		int totalCount = -1;
+		if (parser.nextToken() != JsonToken.START_OBJECT) {
+			return SearchResult.empty();
+		}
+		while (parser.nextToken() == JsonToken.FIELD_NAME) {
+			String field = parser.currentName();
+			JsonToken token = parser.nextToken();
+			if ("total_count".equals(field) && token.isNumeric()) {
+				totalCount = parser.getIntValue();
+			}
+			else if ("items".equals(field) && token == JsonToken.START_ARRAY) {
+				while (parser.nextToken() != JsonToken.END_ARRAY) {
+					if (parser.currentToken() == JsonToken.START_OBJECT) {
+						prs.add(parsePullRequestFromSearch(parser));
+					}
+					else {
+						parser.skipChildren();
+					}
+				}
+			}
+			else {
+				parser.skipChildren();
+			}
+		}
+		return new SearchResult<>(prs, null, false, totalCount);
+	}
+
+	private static PullRequest parsePullRequestFromSearch(JsonParser parser) throws IOException {
+		int number = 0;
+		String title = "";
+		String body = null;
+		String state = "";
+		LocalDateTime createdAt = null;
+		LocalDateTime updatedAt = null;
+		LocalDateTime closedAt = null;
+		String url = "";
+		String htmlUrl = "";
+		Author author = unknownAuthor();
+		List<Label> labels = new ArrayList<>();
+		boolean draft = false;
+
+		while (parser.nextToken() == JsonToken.FIELD_NAME) {
+			String field = parser.currentName();
+			parser.nextToken();
+			switch (field) {
+				case "number" -> number = intValue(parser);
+				case "title" -> title = text(parser, "");
+				case "body" -> body = text(parser, null);
+				case "state" -> state = text(parser, "").toUpperCase();
+				case "created_at" -> createdAt = dateTime(parser);
+				case "updated_at" -> updatedAt = dateTime(parser);
+				case "closed_at" -> closedAt = dateTime(parser);
+				case "url" -> url = text(parser, "");
+				case "html_url" -> htmlUrl = text(parser, "");
+				case "user" -> author = parseAuthor(parser);
+				case "labels" -> labels = parseArray(parser, GitHubResponseParser::parseLabel);
+				case "draft" -> draft = booleanValue(parser);
+				default -> parser.skipChildren();
+			}
+		}
+
+		// Search results carry no merge info, refs, diff stats or reviews
+		return new PullRequest(number, title, body, state, createdAt, updatedAt, closedAt, null, url, htmlUrl, author,
+				List.of(), labels, List.of(), draft, false, null, null, null, 0, 0, 0);
+	}
+
+	/**
+	 * Parse a REST {@code /issues/{n}/events} response.
+	 * @param parser parser positioned before the root array
+	 * @return events in response order
+	 */
+	static List<IssueEvent> parseIssueEvents(JsonParser parser) throws IOException {
+		parser.nextToken();
+		return parseArray(parser, GitHubResponseParser::parseIssueEvent);
+	}
+
+	private static IssueEvent parseIssueEvent(JsonParser parser) throws IOException {
+		long id = 0;
+		String event = "";
+		Author actor = unknownAuthor();
+		Label label = null;
+		String commitId = null;
+		LocalDateTime createdAt = null;
+
+		while (parser.nextToken() == JsonToken.FIELD_NAME) {
+			String field = parser.currentName();
+			parser.nextToken();
+			switch (field) {
+				case "id" -> id = parser.getValueAsLong(0);
+				case "event" -> event = text(parser, "");
+				case "actor" -> actor = parseAuthor(parser);
+				case "label" -> label = parser.currentToken() == JsonToken.START_OBJECT ? parseLabel(parser) : null;
+				case "commit_id" -> commitId = text(parser, null);
+				case "created_at" -> createdAt = dateTime(parser);
+				default -> parser.skipChildren();
+			}
+		}
+
+		// Only "labeled" and "unlabeled" events have a label field
+		if (!"labeled".equals(event) && !"unlabeled".equals(event)) {
+			label = null;
+		}
+		return new IssueEvent(id, event, actor, label, commitId, createdAt);
+	}
+
+	/**
+	 * Parse a REST {@code /pulls/{n}/reviews} response.
+	 * @param parser parser positioned before the root array
+	 * @return reviews in response order
+	 */
+	static List<Review> parseReviews(JsonParser parser) throws IOException {
+		parser.nextToken();
+		return parseArray(parser, GitHubResponseParser::parseReview);
+	}
+
+	private static Review parseReview(JsonParser parser) throws IOException {
+		long id = 0;
+		String body = "";
+		String state = "";
+		LocalDateTime submittedAt = null;
+		Author author = unknownAuthor();
+		String authorAssociation = "";
+		String htmlUrl = "";
+
+		while (parser.nextToken() == JsonToken.FIELD_NAME) {
+			String field = parser.currentName();
+			parser.nextToken();
+			switch (field) {
+				case "id" -> id = parser.getValueAsLong(0);
+				case "body" -> body = text(parser, "");
+				case "state" -> state = text(parser, "");
+				case "submitted_at" -> submittedAt = dateTime(parser);
+				case "user" -> author = parseAuthor(parser);
+				case "author_association" -> authorAssociation = text(parser, "");
+				case "html_url" -> htmlUrl = text(parser, "");
+				default -> parser.skipChildren();
+			}
+		}
+		return new Review(id, body, state, submittedAt, author, authorAssociation, htmlUrl);
+	}
+
+	// ========== Shared ==========
+
+	private static Author parseAuthor(JsonParser parser) throws IOException {
+		if (parser.currentToken() != JsonToken.START_OBJECT) {
+			parser.skipChildren();
+			return unknownAuthor();
+		}
+		String login = "unknown";
+		String name = null;
+		while (parser.nextToken() == JsonToken.FIELD_NAME) {
+			String field = parser.currentName();
+			parser.nextToken();
+			switch (field) {
+				case "login" -> login = text(parser, "unknown");
+				case "name" -> name = text(parser, null);
+				default -> parser.skipChildren();
+			}
+		}
+		return new Author(login, name);
+	}
+
+	private static Author unknownAuthor() {
+		return new Author("unknown", null);
+	}
+
+	private static Label parseLabel(JsonParser parser) throws IOException {
+		String name = "";
+		String color = null;
+		String description = null;
+		while (parser.nextToken() == JsonToken.FIELD_NAME) {
+			String field = parser.currentName();
+			parser.nextToken();
+			switch (field) {
+				case "name" -> name = text(parser, "");
+				case "color" -> color = text(parser, null);
+				case "description" -> description = text(parser, null);
+				default -> parser.skipChildren();
+			}
+		}
+		return new Label(name, color, description);
+	}
+
+	/**
+	 * Parse a GraphQL connection ({@code {"nodes": [...]}}) into a list.
+	 */
+	private static <T> List<T> parseNodes(JsonParser parser, ObjectReader<T> reader) throws IOException {
+		List<T> result = new ArrayList<>();
+		if (parser.currentToken() != JsonToken.START_OBJECT) {
+			parser.skipChildren();
+			return result;
+		}
+		while (parser.nextToken() == JsonToken.FIELD_NAME) {
+			String field = parser.currentName();
+			parser.nextToken();
+			if ("nodes".equals(field)) {
+				result = parseArray(parser, reader);
+			}
+			else {
+				parser.skipChildren();
+			}
+		}
+		return result;
+	}
+
+	/**
+	 * Parse a JSON array of objects into a list. Non-object elements are skipped.
+	 */
+	private static <T> List<T> parseArray(JsonParser parser, ObjectReader<T> reader) throws IOException {
+		List<T> result = new ArrayList<>();
+		if (parser.currentToken() != JsonToken.START_ARRAY) {
+			parser.skipChildren();
+			return result;
+		}
+		while (parser.nextToken() != JsonToken.END_ARRAY) {
+			if (parser.currentToken() == JsonToken.START_OBJECT) {
+				result.add(reader.read(parser));
+			}
+			else {
+				parser.skipChildren();
+			}
+		}
+		return result;
+	}
+
+	private static @Nullable String text(JsonParser parser, @Nullable String defaultValue) throws IOException {
+		if (parser.currentToken().isStructStart()) {
+			parser.skipChildren();
+			return defaultValue;
+		}
+		return parser.getValueAsString(defaultValue);
+	}
+
+	private static int intValue(JsonParser parser) throws IOException {
+		if (parser.currentToken().isStructStart()) {
+			parser.skipChildren();
+			return 0;
+		}
+		return parser.getValueAsInt(0);
+	}
+
+	private static boolean booleanValue(JsonParser parser) throws IOException {
+		if (parser.currentToken().isStructStart()) {
+			parser.skipChildren();
+			return false;
+		}
+		return parser.getValueAsBoolean(false);
+	}
+
+	private static @Nullable LocalDateTime dateTime(JsonParser parser) throws IOException {
+		String value = text(parser, null);
+		if (value == null || value.isEmpty()) {
+			return null;
+		}
+		try {
+			if (isUtcTimestamp(value)) {
+				// Fast path for GitHub's canonical "yyyy-MM-ddTHH:mm:ssZ" form
+				return LocalDateTime.of(digits(value, 0, 4), digits(value, 5, 7), digits(value, 8, 10),
+						digits(value, 11, 13), digits(value, 14, 16), digits(value, 17, 19));
+			}
+			return LocalDateTime.parse(value, ISO_FORMATTER);
+		}
+		catch (DateTimeException e) {
+			logger.warn("Failed to parse datetime: {}", value);
+			return null;
+		}
+	}
+
+	private static boolean isUtcTimestamp(String value) {
+		if (value.length() != 20 || value.charAt(4) != '-' || value.charAt(7) != '-' || value.charAt(10) != 'T'
+				|| value.charAt(13) != ':' || value.charAt(16) != ':' || value.charAt(19) != 'Z') {
+			return false;
+		}
+		for (int i = 0; i < 19; i++) {
+			if ((i == 4 || i == 7 || i == 10 || i == 13 || i == 16) == Character.isDigit(value.charAt(i))) {
+				return false;
+			}
+		}
+		return true;
+	}
+
+	private static int digits(String value, int from, int to) {
+		int result = 0;
+		for (int i = from; i < to; i++) {
+			result = result * 10 + (value.charAt(i) - '0');
+		}
+		return result;
+	}
+
+	@FunctionalInterface
+	private interface ObjectReader<T> {
+
+		/**
+		 * Read one object. The parser is positioned on its {@code START_OBJECT} token and
+		 * must be left on the matching {@code END_OBJECT}.
+		 */
+		T read(JsonParser parser) throws IOException;
+
+	}
+
+	private static final class PageInfo {
+
+		private boolean hasNextPage;
+
+		private @Nullable String endCursor;
+
+		private int totalCount = -1;
+
+	}
+
+}
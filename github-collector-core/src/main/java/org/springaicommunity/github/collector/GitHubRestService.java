@@ -1,5 +1,6 @@
 package org.springaicommunity.github.collector;
 
+import com.fasterxml.jackson.core.JsonParser;
 import com.fasterxml.jackson.databind.JsonNode;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import org.jspecify.annotations.Nullable;
@@ -7,6 +8,7 @@ import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
 import java.io.IOException;
+import java.io.InputStream;
 import java.net.URLEncoder;
 import java.nio.charset.StandardCharsets;
 import java.time.LocalDateTime;
@@ -20,6 +22,11 @@ import java.util.List;
  *
  * <p>
  * Converts GitHub API JSON responses to strongly-typed DTOs at the service boundary.
+ *
+ * <p>
+ * High-volume responses (PR search pages, issue events, reviews) are parsed token by
+ * token with {@link GitHubResponseParser}. When streaming is enabled their bodies are
+ * consumed directly from {@link GitHubClient#getStream(String)}.
  */
 public class GitHubRestService implements RestService {
 
@@ -31,9 +38,23 @@ public class GitHubRestService implements RestService {
 
 	private final ObjectMapper objectMapper;
 
+	private final boolean streaming;
+
 	public GitHubRestService(GitHubClient httpClient, ObjectMapper objectMapper) {
+		this(httpClient, objectMapper, false);
+	}
+
+	/**
+	 * Create the service.
+	 * @param httpClient client used for REST requests
+	 * @param objectMapper mapper used for small responses
+	 * @param streaming whether to parse high-volume responses straight from the response
+	 * stream
+	 */
+	public GitHubRestService(GitHubClient httpClient, ObjectMapper objectMapper, boolean streaming) {
 		this.httpClient = httpClient;
 		this.objectMapper = objectMapper;
+		this.streaming = streaming;
 	}
 
 	@Override
@@ -43,7 +64,7 @@ public class GitHubRestService implements RestService {
 			JsonNode root = objectMapper.readTree(response);
 			JsonNode core = root.path("resources").path("core");
 			return new RateLimitInfo(core.path("limit").asInt(), core.path("remaining").asInt(),
-					core.path("reset").asLong(), core.path("used").asInt());
+					core.path("reset").asLong(), core.path("used").asInt(), RateLimitInfo.CORE);
 		}
 		catch (Exception e) {
 			throw new IOException("Failed to get rate limit: " + e.getMessage(), e);
@@ -140,9 +161,8 @@ public class GitHubRestService implements RestService {
 	@Override
 	public List<Review> getPullRequestReviews(String owner, String repo, int prNumber) {
 		try {
-			String response = httpClient.get("/repos/" + owner + "/" + repo + "/pulls/" + prNumber + "/reviews");
-			JsonNode nodes = objectMapper.readTree(response);
-			return parseReviews(nodes);
+			return streamGet("/repos/" + owner + "/" + repo + "/pulls/" + prNumber + "/reviews",
+					GitHubResponseParser::parseReviews);
 		}
 		catch (Exception e) {
 			logger.error("Failed to get reviews for PR {}: {}", prNumber, e.getMessage());
@@ -153,9 +173,8 @@ public class GitHubRestService implements RestService {
 	@Override
 	public List<IssueEvent> getIssueEvents(String owner, String repo, int issueNumber) {
 		try {
-			String response = httpClient.get("/repos/" + owner + "/" + repo + "/issues/" + issueNumber + "/events");
-			JsonNode nodes = objectMapper.readTree(response);
-			return parseIssueEvents(nodes);
+			return streamGet("/repos/" + owner + "/" + repo + "/issues/" + issueNumber + "/events",
+					GitHubResponseParser::parseIssueEvents);
 		}
 		catch (Exception e) {
 			logger.error("Failed to get events for issue {}: {}", issueNumber, e.getMessage());
@@ -236,14 +255,9 @@ public class GitHubRestService implements RestService {
 		}
 
 		// Date range filtering via GitHub search qualifiers
-		if (createdAfter != null && createdBefore != null) {
-			query.append(" created:").append(createdAfter).append("..").append(createdBefore);
-		}
-		else if (createdAfter != null) {
-			query.append(" created:>=").append(createdAfter);
-		}
-		else if (createdBefore != null) {
-			query.append(" created:<").append(createdBefore);
+		String created = SearchDates.createdQualifier(createdAfter, createdBefore);
+		if (created != null) {
+			query.append(' ').append(created);
 		}
 
 		return query.toString();
@@ -264,27 +278,14 @@ public class GitHubRestService implements RestService {
 
 			String encodedQuery = URLEncoder.encode(searchQuery, StandardCharsets.UTF_8);
 			String url = String.format("/search/issues?q=%s&per_page=%d&page=%d", encodedQuery, batchSize, page);
-			String response = httpClient.get(url);
-
-			JsonNode searchResult = objectMapper.readTree(response);
-
-			// Parse PRs from items
-			List<PullRequest> prs = new ArrayList<>();
-			JsonNode items = searchResult.path("items");
-			if (items.isArray()) {
-				for (JsonNode item : items) {
-					PullRequest pr = parsePullRequestFromSearch(item);
-					if (pr != null) {
-						prs.add(pr);
-					}
-				}
-			}
+			SearchResult<PullRequest> result = streamGet(url, GitHubResponseParser::parsePullRequestSearchPage);
+			List<PullRequest> prs = result.items();
 
 			// Determine pagination - if we got fewer than requested, no more pages
 			boolean hasMore = prs.size() >= batchSize;
 			String nextCursor = hasMore ? String.valueOf(page + 1) : null;
 
-			return new SearchResult<>(prs, nextCursor, hasMore);
+			return new SearchResult<>(prs, nextCursor, hasMore, result.totalCount());
 		}
 		catch (Exception e) {
 			logger.error("Failed to search PRs: {}", e.getMessage());
@@ -292,6 +293,21 @@ public class GitHubRestService implements RestService {
 		}
 	}
 
+	/**
+	 * GET {@code path} and parse the body with {@code reader}, reading it from the
+	 * response stream when streaming is enabled.
+	 */
+	private <T> T streamGet(String path, StreamReader<T> reader) throws IOException {
+		if (streaming) {
+			try (InputStream in = httpClient.getStream(path); JsonParser parser = objectMapper.createParser(in)) {
+				return reader.read(parser);
+			}
+		}
+		try (JsonParser parser = objectMapper.createParser(httpClient.get(path))) {
+			return reader.read(parser);
+		}
+	}
+
 	// ========== JSON Parsing Methods ==========
 
 	private @Nullable PullRequest parsePullRequest(JsonNode node) {
@@ -325,67 +341,6 @@ public class GitHubRestService implements RestService {
 		}
 	}
 
-	private @Nullable PullRequest parsePullRequestFromSearch(JsonNode node) {
-		// Search API returns different structure than PR endpoint
-		if (node == null || node.isMissingNode() || node.isNull()) {
-			return null;
-		}
-
-		try {
-			return new PullRequest(node.path("number").asInt(), node.path("title").asText(""),
-					node.path("body").asText(null), node.path("state").asText("").toUpperCase(),
-					parseDateTime(node.path("created_at").asText(null)),
-					parseDateTime(node.path("updated_at").asText(null)),
-					parseDateTime(node.path("closed_at").asText(null)), null, // merged_at
-																				// not in
-																				// search
-																				// results
-					node.path("url").asText(""), node.path("html_url").asText(""), parseAuthor(node.path("user")),
-					List.of(), parseLabels(node.path("labels")), List.of(), // Reviews
-																			// fetched
-																			// separately
-					node.path("draft").asBoolean(false), false, // merged not reliably in
-																// search
-					null, // merge_commit_sha not in search
-					null, null, // head/base refs not in search
-					0, 0, 0 // additions/deletions/changed_files not in search
-			);
-		}
-		catch (Exception e) {
-			logger.warn("Failed to parse PR from search: {}", e.getMessage());
-			return null;
-		}
-	}
-
-	private List<Review> parseReviews(JsonNode nodes) {
-		List<Review> reviews = new ArrayList<>();
-		if (nodes != null && nodes.isArray()) {
-			for (JsonNode node : nodes) {
-				Review review = parseReview(node);
-				if (review != null) {
-					reviews.add(review);
-				}
-			}
-		}
-		return reviews;
-	}
-
-	private @Nullable Review parseReview(JsonNode node) {
-		if (node == null || node.isMissingNode() || node.isNull()) {
-			return null;
-		}
-
-		try {
-			return new Review(node.path("id").asLong(), node.path("body").asText(""), node.path("state").asText(""),
-					parseDateTime(node.path("submitted_at").asText(null)), parseAuthor(node.path("user")),
-					node.path("author_association").asText(""), node.path("html_url").asText(""));
-		}
-		catch (Exception e) {
-			logger.warn("Failed to parse review: {}", e.getMessage());
-			return null;
-		}
-	}
-
 	private Author parseAuthor(JsonNode node) {
 		if (node == null || node.isMissingNode() || node.isNull()) {
 			return new Author("unknown", null);
@@ -417,49 +372,6 @@ public class GitHubRestService implements RestService {
 		}
 	}
 
-	private List<IssueEvent> parseIssueEvents(JsonNode nodes) {
-		List<IssueEvent> events = new ArrayList<>();
-		if (nodes != null && nodes.isArray()) {
-			for (JsonNode node : nodes) {
-				IssueEvent event = parseIssueEvent(node);
-				if (event != null) {
-					events.add(event);
-				}
-			}
-		}
-		return events;
-	}
-
-	private @Nullable IssueEvent parseIssueEvent(JsonNode node) {
-		if (node == null || node.isMissingNode() || node.isNull()) {
-			return null;
-		}
-
-		try {
-			String eventType = node.path("event").asText("");
-			Label label = null;
-
-			// Only "labeled" and "unlabeled" events have a label field
-			if ("labeled".equals(eventType) || "unlabeled".equals(eventType)) {
-				JsonNode labelNode = node.path("label");
-				if (!labelNode.isMissingNode() && !labelNode.isNull()) {
-					label = new Label(labelNode.path("name").asText(""), labelNode.path("color").asText(null),
-							labelNode.path("description").asText(null));
-				}
-			}
-
-			// Extract commit_id (present for "closed" and "referenced" events)
-			String commitId = node.path("commit_id").asText(null);
-
-			return new IssueEvent(node.path("id").asLong(), eventType, parseAuthor(node.path("actor")), label, commitId,
-					parseDateTime(node.path("created_at").asText(null)));
-		}
-		catch (Exception e) {
-			logger.warn("Failed to parse issue event: {}", e.getMessage());
-			return null;
-		}
-	}
-
 	private List<Collaborator> parseCollaborators(JsonNode nodes) {
 		List<Collaborator> collaborators = new ArrayList<>();
 		if (nodes != null && nodes.isArray()) {
@@ -527,4 +439,11 @@ public class GitHubRestService implements RestService {
 		}
 	}
 
+	@FunctionalInterface
+	private interface StreamReader<T> {
+
+		T read(JsonParser parser) throws IOException;
+
+	}
+
 }
@@ -2,6 +2,11 @@ package org.springaicommunity.github.collector;
 
 import org.jspecify.annotations.Nullable;
 
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+
 /**
  * Interface for GitHub GraphQL API operations.
  *
@@ -11,6 +16,12 @@ import org.jspecify.annotations.Nullable;
  */
 public interface GraphQLService {
 
+	/**
+	 * Reviews returned inline with each pull request by
+	 * {@link #searchPullRequests(String, int, String)}.
+	 */
+	int REVIEWS_PER_PULL_REQUEST = 100;
+
 	/**
 	 * Get total issue count for a repository.
 	 * @param owner Repository owner
@@ -27,6 +38,20 @@ public interface GraphQLService {
 	 */
 	int getSearchIssueCount(String searchQuery);
 
+	/**
+	 * Get the issue counts of several searches, batching many searches into each request.
+	 * @param searchQueries The search query strings
+	 * @return Count of matching issues for each query, in the same order; -1 where a count
+	 * could not be fetched
+	 */
+	default List<Integer> getSearchIssueCounts(List<String> searchQueries) {
+		List<Integer> counts = new ArrayList<>(searchQueries.size());
+		for (String searchQuery : searchQueries) {
+			counts.add(getSearchIssueCount(searchQuery));
+		}
+		return counts;
+	}
+
 	/**
 	 * Search for issues with sorting and pagination support.
 	 * @param searchQuery The formatted search query string
@@ -39,4 +64,93 @@ public interface GraphQLService {
 	SearchResult<Issue> searchIssues(String searchQuery, String sortBy, String sortOrder, int first,
 			@Nullable String after);
 
+	/**
+	 * Search for pull requests, with their reviews and merge statistics inline.
+	 *
+	 * <p>
+	 * One request per page replaces the REST search plus one reviews request per pull
+	 * request. Reviews are limited to the first {@link #REVIEWS_PER_PULL_REQUEST}; a pull
+	 * request with a full review list may have more.
+	 * @param searchQuery The formatted search query string, including {@code is:pr}
+	 * @param first Number of pull requests to fetch
+	 * @param after Cursor for pagination (null for first page)
+	 * @return SearchResult containing PullRequest records and pagination info
+	 * @throws UnsupportedOperationException if pull requests cannot be searched through
+	 * GraphQL, in which case they are searched through REST
+	 */
+	default SearchResult<PullRequest> searchPullRequests(String searchQuery, int first, @Nullable String after) {
+		throw new UnsupportedOperationException("Pull request search is not supported");
+	}
+
+	/**
+	 * Search for issues and pull requests together, each node returned with the same
+	 * fields as {@link #searchIssues} or {@link #searchPullRequests} return for it.
+	 *
+	 * <p>
+	 * One search without an {@code is:issue} or {@code is:pr} qualifier pages both item
+	 * types, so collecting both costs one request per page instead of two.
+	 * @param searchQuery The formatted search query string, without a type qualifier
+	 * @param first Number of items to fetch
+	 * @param after Cursor for pagination (null for first page)
+	 * @return the page with its issues and pull requests separated
+	 * @throws UnsupportedOperationException if both item types cannot be searched together,
+	 * in which case each is searched separately
+	 */
+	default CombinedSearchResult searchIssuesAndPullRequests(String searchQuery, int first, @Nullable String after) {
+		throw new UnsupportedOperationException("Combined issue and pull request search is not supported");
+	}
+
+	/**
+	 * List issues through the {@code repository.issues} connection, ordered by creation
+	 * time.
+	 *
+	 * <p>
+	 * Unlike search, the connection has no result cap. Its creation bound is not applied
+	 * here; see {@link ConnectionQuery#bounded}. By default the issues are searched in the
+	 * order of the connection, subject to the search result cap.
+	 * @param query Connection arguments, with {@code pullRequests} false
+	 * @param first Number of issues to fetch
+	 * @param after Cursor for pagination (null for first page)
+	 * @return SearchResult containing Issue records, pagination info and the connection's
+	 * total count
+	 */
+	default SearchResult<Issue> listIssues(ConnectionQuery query, int first, @Nullable String after) {
+		return searchIssues(query.searchQuery(), "created", query.direction().toLowerCase(Locale.ROOT), first, after);
+	}
+
+	/**
+	 * List pull requests through the {@code repository.pullRequests} connection, ordered by
+	 * creation time, with their reviews and merge statistics inline as in
+	 * {@link #searchPullRequests(String, int, String)}. By default the pull requests are
+	 * searched in the order of the connection, subject to the search result cap.
+	 * @param query Connection arguments, with {@code pullRequests} true
+	 * @param first Number of pull requests to fetch
+	 * @param after Cursor for pagination (null for first page)
+	 * @return SearchResult containing PullRequest records, pagination info and the
+	 * connection's total count
+	 * @throws UnsupportedOperationException if pull requests cannot be searched through
+	 * GraphQL, in which case they are searched through REST
+	 */
+	default SearchResult<PullRequest> listPullRequests(ConnectionQuery query, int first, @Nullable String after) {
+		return searchPullRequests(query.searchQuery() + " sort:created-" + query.direction().toLowerCase(Locale.ROOT),
+				first, after);
+	}
+
+	/**
+	 * Get timeline events for several issues, batching many issues into each request.
+	 *
+	 * <p>
+	 * Issues whose timeline could not be fetched completely (more events than fit in one
+	 * page, or missing from the response) are absent from the result; callers fetch those
+	 * through {@link RestService#getIssueEvents(String, String, int)}. By default none are
+	 * fetched here.
+	 * @param owner Repository owner
+	 * @param repo Repository name
+	 * @param issueNumbers Issue numbers to fetch events for
+	 * @return Events keyed by issue number, in the same shape as the REST events
+	 */
+	default Map<Integer, List<IssueEvent>> getIssueEvents(String owner, String repo, List<Integer> issueNumbers) {
+		return Map.of();
+	}
+
 }
@@ -0,0 +1,202 @@
+package org.springaicommunity.github.collector;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.BiFunction;
+import java.util.function.Function;
+
+/**
+ * Plans time windows from a histogram of item counts.
+ *
+ * <p>
+ * Instead of one count query per split, the planner counts the whole range as weekly
+ * buckets in a single batched request, then recounts any week above the limit day by day,
+ * any such day hour by hour and any such hour minute by minute. Contiguous buckets are
+ * packed into windows holding as many items as fit under the configured threshold, so a
+ * range needs fewer, fuller windows and planning costs a handful of requests.
+ *
+ * <p>
+ * If the histogram cannot be counted, the planner falls back to the binary splitting of
+ * {@link AdaptiveWindowPlanner}.
+ *
+ * <p>
+ * Usage:
+ *
+ * <pre>{@code
+ * var planner = new HistogramWindowPlanner(buckets -> graphQLService.getSearchIssueCounts(
+ *     buckets.stream().map(bucket -> buildQuery(bucket.createdAfter(), bucket.createdBefore())).toList()));
+ * List<TimeWindow> windows = planner.planWindows("2023-01-01", "2026-01-01", countFunction);
+ * }</pre>
+ */
+public class HistogramWindowPlanner extends AdaptiveWindowPlanner {
+
+	private static final Logger logger = LoggerFactory.getLogger(HistogramWindowPlanner.class);
+
+	/**
+	 * Bucket widths, from the initial histogram down to the narrowest refinement.
+	 */
+	private static final List<Duration> BUCKET_WIDTHS = List.of(Duration.ofDays(7), Duration.ofDays(1),
+			Duration.ofHours(1), MIN_WINDOW);
+
+	private final Function<List<TimeWindow>, List<Integer>> histogramFunction;
+
+	/**
+	 * Create a planner with the default maximum items per window.
+	 * @param histogramFunction function that takes a list of date ranges and returns the
+	 * number of items in each, in the same order. Should return -1 for a range it could
+	 * not count.
+	 */
+	public HistogramWindowPlanner(Function<List<TimeWindow>, List<Integer>> histogramFunction) {
+		this(DEFAULT_MAX_PER_WINDOW, histogramFunction);
+	}
+
+	/**
+	 * Create a planner.
+	 * @param maxPerWindow maximum items per window
+	 * @param histogramFunction function that takes a list of date ranges and returns the
+	 * number of items in each, in the same order. Should return -1 for a range it could
+	 * not count.
+	 */
+	public HistogramWindowPlanner(int maxPerWindow, Function<List<TimeWindow>, List<Integer>> histogramFunction) {
+		super(maxPerWindow);
+		this.histogramFunction = histogramFunction;
+	}
+
+	/**
+	 * Plan time windows by packing a histogram of the date range.
+	 * @param createdAfter start date (ISO format, inclusive)
+	 * @param createdBefore end date (ISO format, exclusive)
+	 * @param countFunction count function used when falling back to binary splitting
+	 * @return ordered list of non-overlapping time windows covering the full range
+	 */
+	@Override
+	public List<TimeWindow> planWindows(String createdAfter, String createdBefore,
+			BiFunction<String, String, Integer> countFunction) {
+		TimeWindow range = new TimeWindow(createdAfter, createdBefore);
+		if (!range.start().isBefore(range.end())) {
+			return List.of(range);
+		}
+
+		List<Bucket> buckets = countBuckets(split(range.start(), range.end(), BUCKET_WIDTHS.get(0)));
+		for (int i = 1; buckets != null && i < BUCKET_WIDTHS.size(); i++) {
+			buckets = refineOversizedBuckets(buckets, BUCKET_WIDTHS.get(i));
+		}
+		if (buckets == null) {
+			logger.warn("  Histogram count failed for {}/{}; falling back to binary splitting", createdAfter,
+					createdBefore);
+			return super.planWindows(createdAfter, createdBefore, countFunction);
+		}
+
+		List<TimeWindow> windows = pack(buckets, createdAfter, createdBefore);
+		logger.info("  Packed {} histogram buckets ({} items) into {} windows", buckets.size(),
+				buckets.stream().mapToInt(Bucket::count).sum(), windows.size());
+		return windows;
+	}
+
+	/**
+	 * Recount every bucket above the limit as buckets of {@code width}, in one batch.
+	 * @return the refined buckets, or null if the narrower counts failed
+	 */
+	private List<Bucket> refineOversizedBuckets(List<Bucket> buckets, Duration width) {
+		List<TimeWindow> ranges = new ArrayList<>();
+		for (Bucket bucket : buckets) {
+			if (isOversized(bucket, width)) {
+				ranges.addAll(split(bucket.start(), bucket.end(), width));
+			}
+		}
+		if (ranges.isEmpty()) {
+			return buckets;
+		}
+
+		List<Bucket> narrowBuckets = countBuckets(ranges);
+		if (narrowBuckets == null) {
+			return null;
+		}
+
+		List<Bucket> refined = new ArrayList<>();
+		int next = 0;
+		for (Bucket bucket : buckets) {
+			if (!isOversized(bucket, width)) {
+				refined.add(bucket);
+				continue;
+			}
+			while (next < narrowBuckets.size() && narrowBuckets.get(next).start().isBefore(bucket.end())) {
+				refined.add(narrowBuckets.get(next++));
+			}
+		}
+		return refined;
+	}
+
+	private boolean isOversized(Bucket bucket, Duration width) {
+		return bucket.count() > getMaxPerWindow()
+				&& Duration.between(bucket.start(), bucket.end()).compareTo(width) > 0;
+	}
+
+	/**
+	 * Pack contiguous buckets into windows of at most the configured number of items.
+	 * Empty buckets extend the current window, and a single bucket above the limit ends up
+	 * in an oversized window of its own.
+	 */
+	private List<TimeWindow> pack(List<Bucket> buckets, String createdAfter, String createdBefore) {
+		List<TimeWindow> windows = new ArrayList<>();
+		String windowStart = createdAfter;
+		int windowCount = 0;
+		for (Bucket bucket : buckets) {
+			if (bucket.count() > 0 && windowCount > 0 && windowCount + bucket.count() > getMaxPerWindow()) {
+				windows.add(new TimeWindow(windowStart, SearchDates.format(bucket.start())));
+				windowStart = SearchDates.format(bucket.start());
+				windowCount = 0;
+			}
+			if (bucket.count() > getMaxPerWindow()) {
+				logger.warn("  Cannot split further ({} to {}, {} items > {}); including oversized window",
+						SearchDates.format(bucket.start()), SearchDates.format(bucket.end()), bucket.count(),
+						getMaxPerWindow());
+			}
+			windowCount += bucket.count();
+		}
+		windows.add(new TimeWindow(windowStart, createdBefore));
+		return windows;
+	}
+
+	/**
+	 * Count the given ranges with the histogram function.
+	 * @return the counted buckets, or null if any range could not be counted
+	 */
+	private List<Bucket> countBuckets(List<TimeWindow> ranges) {
+		List<Integer> counts = histogramFunction.apply(ranges);
+		if (counts == null || counts.size() != ranges.size()) {
+			return null;
+		}
+
+		List<Bucket> buckets = new ArrayList<>(ranges.size());
+		for (int i = 0; i < ranges.size(); i++) {
+			if (counts.get(i) < 0) {
+				return null;
+			}
+			buckets.add(new Bucket(ranges.get(i).start(), ranges.get(i).end(), counts.get(i)));
+		}
+		return buckets;
+	}
+
+	/**
+	 * Split a range into consecutive ranges of {@code width}, the last one possibly
+	 * shorter.
+	 */
+	private static List<TimeWindow> split(Instant start, Instant end, Duration width) {
+		List<TimeWindow> ranges = new ArrayList<>();
+		for (Instant from = start; from.isBefore(end); from = from.plus(width)) {
+			Instant to = from.plus(width).isBefore(end) ? from.plus(width) : end;
+			ranges.add(new TimeWindow(from, to));
+		}
+		return ranges;
+	}
+
+	private record Bucket(Instant start, Instant end, int count) {
+	}
+
+}
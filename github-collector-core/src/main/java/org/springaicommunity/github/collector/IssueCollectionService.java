@@ -6,8 +6,9 @@ import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
 import java.nio.file.Path;
-import java.util.ArrayList;
+import java.time.LocalDateTime;
 import java.util.List;
+import java.util.Map;
 
 /**
  * Collection service for GitHub issues.
@@ -45,7 +46,7 @@ public class IssueCollectionService extends BaseCollectionService<Issue> {
 	public CollectionResult collectItems(CollectionRequest request) {
 		logger.info("Starting issue collection for repository: {}", request.repository());
 
-		CollectionRequest validatedRequest = validateRequest(request);
+		CollectionRequest validatedRequest = prepareIncremental(validateRequest(request));
 
 		try {
 			String[] repoParts = validatedRequest.repository().split("/");
@@ -54,7 +55,7 @@ public class IssueCollectionService extends BaseCollectionService<Issue> {
 
 			String searchQuery = buildSearchQuery(owner, repo, validatedRequest);
 
-			int totalAvailableItems = getTotalItemCount(searchQuery);
+			int totalAvailableItems = countItems(searchQuery);
 			logger.info("Found {} total {} issues matching criteria", totalAvailableItems,
 					validatedRequest.issueState());
 
@@ -65,9 +66,11 @@ public class IssueCollectionService extends BaseCollectionService<Issue> {
 			}
 
 			Path outputDir = createOutputDirectory(validatedRequest);
-			cleanOutputDirectory(outputDir, validatedRequest.clean());
+			ResumeState checkpoint = loadCheckpoint(outputDir, validatedRequest, searchQuery);
+			cleanOutputDirectory(outputDir, validatedRequest.clean() && checkpoint == null);
 
-			return collectItemsInBatches(owner, repo, validatedRequest, outputDir, searchQuery, totalAvailableItems);
+			return collectItemsInBatches(owner, repo, validatedRequest, outputDir, searchQuery, totalAvailableItems,
+					checkpoint);
 
 		}
 		catch (RuntimeException e) {
@@ -87,12 +90,25 @@ public class IssueCollectionService extends BaseCollectionService<Issue> {
 
 	@Override
 	protected String buildSearchQuery(String owner, String repo, CollectionRequest request) {
-		return buildSearchQuery(owner, repo, request.issueState(), request.labelFilters(), request.labelMode(),
-				request.createdAfter(), request.createdBefore());
+		return withUpdatedAfter(buildSearchQuery(owner, repo, searchState(request.issueState(), request),
+				request.labelFilters(), request.labelMode(), request.createdAfter(), request.createdBefore()),
+				request.updatedAfter());
 	}
 
 	@Override
 	protected SearchResult<Issue> fetchBatch(String searchQuery, int batchSize, @Nullable String cursor) {
+		if (combinedSearch != null) {
+			try {
+				return combinedSearch.issues(searchQuery, batchSize, cursor);
+			}
+			catch (UnsupportedOperationException e) {
+				logger.debug("Searching issues separately: {}", e.getMessage());
+			}
+		}
+		ConnectionQuery connection = connectionQuery(searchQuery);
+		if (connection != null) {
+			return connection.bounded(graphQLService.listIssues(connection, batchSize, cursor), Issue::createdAt);
+		}
 		return graphQLService.searchIssues(searchQuery, "updated", "desc", batchSize, cursor);
 	}
 
@@ -105,58 +121,27 @@ public class IssueCollectionService extends BaseCollectionService<Issue> {
 	 * Enhance issues with timeline events (label changes, state changes, etc.).
 	 *
 	 * <p>
-	 * Fetches events for each issue via the REST API and creates new Issue records with
-	 * the events populated. This is essential for tracking label authority (who applied
-	 * labels) and label stability (label churn after issue closure).
+	 * Fetches the events of the whole batch through bulk GraphQL timeline queries, then
+	 * falls back to the REST API for any issue the bulk query did not cover, fanned out on
+	 * the {@link EnrichmentExecutor}, and creates new Issue records with the events
+	 * populated. This is essential for tracking label authority (who applied labels) and
+	 * label stability (label churn after issue closure).
 	 */
 	private List<Issue> enhanceIssuesWithEvents(List<Issue> issues, String owner, String repo, boolean verbose) {
-		List<Issue> enhancedIssues = new ArrayList<>();
 		int total = issues.size();
 
 		if (verbose) {
 			logger.info("Fetching events for {} issues...", total);
 		}
 
-		for (int i = 0; i < issues.size(); i++) {
-			Issue issue = issues.get(i);
-			try {
-				int issueNumber = issue.number();
-				if (issueNumber > 0) {
-					if (verbose) {
-						String issueTitle = issue.title();
-						logger.info("  Fetching events for issue #{} ({}/{}) - {}", issueNumber, i + 1, total,
-								issueTitle.length() > 60 ? issueTitle.substring(0, 60) + "..." : issueTitle);
-					}
-
-					// Get events for this issue
-					List<IssueEvent> events = restService.getIssueEvents(owner, repo, issueNumber);
-
-					// Create enhanced issue with events
-					Issue enhancedIssue = new Issue(issue.number(), issue.title(), issue.body(), issue.state(),
-							issue.createdAt(), issue.updatedAt(), issue.closedAt(), issue.url(), issue.author(),
-							issue.comments(), issue.labels(), events);
-
-					enhancedIssues.add(enhancedIssue);
-
-					if (verbose) {
-						long labelEventCount = events.stream()
-							.filter(e -> "labeled".equals(e.event()) || "unlabeled".equals(e.event()))
-							.count();
-						if (labelEventCount > 0) {
-							logger.info("    Found {} label events", labelEventCount);
-						}
-					}
-				}
-				else {
-					enhancedIssues.add(issue);
-				}
-			}
-			catch (Exception e) {
-				logger.warn("Failed to fetch events for issue #{}: {}", issue.number(), e.getMessage());
-				enhancedIssues.add(issue);
-			}
+		Map<Integer, List<IssueEvent>> bulkEvents = fetchBulkEvents(issues, owner, repo);
+		if (verbose) {
+			logger.info("Fetched events for {} of {} issues via GraphQL", bulkEvents.size(), total);
 		}
 
+		List<Issue> enhancedIssues = enrichmentExecutor.map(total,
+				i -> enhanceIssueWithEvents(issues.get(i), bulkEvents, owner, repo, i + 1, total, verbose));
+
 		if (verbose) {
 			long totalLabelEvents = enhancedIssues.stream()
 				.flatMap(i -> i.events().stream())
@@ -168,11 +153,90 @@ public class IssueCollectionService extends BaseCollectionService<Issue> {
 		return enhancedIssues;
 	}
 
+	/**
+	 * Attach events to a single issue, taking them from the bulk result when present.
+	 * Runs on the {@link EnrichmentExecutor}; on failure the issue is kept without
+	 * events.
+	 */
+	private Issue enhanceIssueWithEvents(Issue issue, Map<Integer, List<IssueEvent>> bulkEvents, String owner,
+			String repo, int position, int total, boolean verbose) {
+		try {
+			int issueNumber = issue.number();
+			if (issueNumber <= 0) {
+				return issue;
+			}
+
+			List<IssueEvent> events = bulkEvents.get(issueNumber);
+			if (events == null) {
+				if (verbose) {
+					String issueTitle = issue.title();
+					logger.info("  Fetching events for issue #{} ({}/{}) - {}", issueNumber, position, total,
+							issueTitle.length() > 60 ? issueTitle.substring(0, 60) + "..." : issueTitle);
+				}
+
+				// Not covered by the bulk query; get events for this issue
+				events = restService.getIssueEvents(owner, repo, issueNumber);
+			}
+
+			if (verbose) {
+				long labelEventCount = events.stream()
+					.filter(e -> "labeled".equals(e.event()) || "unlabeled".equals(e.event()))
+					.count();
+				if (labelEventCount > 0) {
+					logger.info("    Found {} label events for issue #{}", labelEventCount, issueNumber);
+				}
+			}
+
+			// Create enhanced issue with events
+			return new Issue(issue.number(), issue.title(), issue.body(), issue.state(), issue.createdAt(),
+					issue.updatedAt(), issue.closedAt(), issue.url(), issue.author(), issue.comments(), issue.labels(),
+					events);
+		}
+		catch (Exception e) {
+			logger.warn("Failed to fetch events for issue #{}: {}", issue.number(), e.getMessage());
+			return issue;
+		}
+	}
+
+	/**
+	 * Fetch events for every issue in the batch with as few GraphQL requests as possible.
+	 * A failure only costs the optimization: the issues fall back to REST.
+	 */
+	private Map<Integer, List<IssueEvent>> fetchBulkEvents(List<Issue> issues, String owner, String repo) {
+		List<Integer> numbers = issues.stream().map(Issue::number).filter(number -> number > 0).toList();
+		if (numbers.isEmpty()) {
+			return Map.of();
+		}
+		try {
+			Map<Integer, List<IssueEvent>> events = graphQLService.getIssueEvents(owner, repo, numbers);
+			return events != null ? events : Map.of();
+		}
+		catch (Exception e) {
+			logger.warn("Bulk event fetch failed, falling back to REST: {}", e.getMessage());
+			return Map.of();
+		}
+	}
+
 	@Override
 	protected String getItemTypeName() {
 		return "issues";
 	}
 
+	@Override
+	protected boolean matchesState(Issue issue, CollectionRequest request) {
+		return "all".equalsIgnoreCase(request.issueState()) || request.issueState().equalsIgnoreCase(issue.state());
+	}
+
+	@Override
+	protected int getItemNumber(Issue issue) {
+		return issue.number();
+	}
+
+	@Override
+	protected @Nullable LocalDateTime getUpdatedAt(Issue issue) {
+		return issue.updatedAt();
+	}
+
 	// Build GitHub search query with state, label, and date filtering
 	private String buildSearchQuery(String owner, String repo, String state, List<String> labels, String labelMode,
 			String createdAfter, String createdBefore) {
@@ -213,14 +277,9 @@ public class IssueCollectionService extends BaseCollectionService<Issue> {
 		}
 
 		// Date range filtering via GitHub search qualifiers
-		if (createdAfter != null && createdBefore != null) {
-			query.append(" created:").append(createdAfter).append("..").append(createdBefore);
-		}
-		else if (createdAfter != null) {
-			query.append(" created:>=").append(createdAfter);
-		}
-		else if (createdBefore != null) {
-			query.append(" created:<").append(createdBefore);
+		String created = SearchDates.createdQualifier(createdAfter, createdBefore);
+		if (created != null) {
+			query.append(' ').append(created);
 		}
 
 		return query.toString();
@@ -0,0 +1,430 @@
+package org.springaicommunity.github.collector;
+
+import org.jspecify.annotations.Nullable;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.io.InputStream;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Function;
+
+/**
+ * {@link GitHubClient} that spreads requests over several personal access tokens.
+ *
+ * <p>
+ * Each token has its own client and therefore its own rate limit budgets, as reported by
+ * {@link GitHubClient#getRateLimitInfo(String)}. Every request is routed to the token
+ * with the most remaining requests for the rate limit resource it counts against. Tokens
+ * that have not been used yet are preferred, and requests already in flight on a token
+ * count against its budget so that concurrent callers spread out. When a token hits its
+ * rate limit the request is retried on the next best token straight away. Secondary rate
+ * limits are not rotated around: they ask the client to slow down, so they are rethrown
+ * for {@link ConcurrencyLimitingGitHubClient} and {@link RetryingGitHubClient} to back off.
+ *
+ * <p>
+ * Only when every token is exhausted does the client give up, throwing a rate limit
+ * {@link GitHubHttpClient.GitHubApiException} carrying the earliest reset time. Wrapped
+ * in a {@link RetryingGitHubClient}, that becomes a single reset-aware wait instead of an
+ * idle hour per token.
+ *
+ * <pre>
+ * {@code
+ * GitHubClient client = RetryingGitHubClient.builder()
+ *     .wrapping(MultiTokenGitHubClient.builder().tokens(List.of(token1, token2)).build())
+ *     .build();
+ * }
+ * </pre>
+ */
+public final class MultiTokenGitHubClient implements GitHubClient {
+
+	private static final Logger logger = LoggerFactory.getLogger(MultiTokenGitHubClient.class);
+
+	/**
+	 * How long a token is parked after a rate limit error that did not report a reset
+	 * time.
+	 */
+	private static final long DEFAULT_PARK_SECONDS = 60;
+
+	private final List<TokenSlot> slots;
+
+	/**
+	 * Private constructor - use {@link #builder()} to create instances.
+	 */
+	private MultiTokenGitHubClient(List<GitHubClient> clients) {
+		List<TokenSlot> list = new ArrayList<>(clients.size());
+		for (int i = 0; i < clients.size(); i++) {
+			list.add(new TokenSlot(i + 1, clients.get(i)));
+		}
+		this.slots = List.copyOf(list);
+	}
+
+	/**
+	 * Create a new builder for MultiTokenGitHubClient.
+	 * @return new Builder instance
+	 */
+	public static Builder builder() {
+		return new Builder();
+	}
+
+	/**
+	 * Number of tokens in the pool.
+	 * @return token count
+	 */
+	public int size() {
+		return slots.size();
+	}
+
+	@Override
+	public String get(String path) {
+		return execute(client -> client.get(path), RateLimitInfo.resourceForPath(path), "GET " + path);
+	}
+
+	@Override
+	public String getWithQuery(String path, String queryString) {
+		return execute(client -> client.getWithQuery(path, queryString), RateLimitInfo.resourceForPath(path),
+				"GET " + path);
+	}
+
+	@Override
+	public String postGraphQL(String body) {
+		return execute(client -> client.postGraphQL(body), RateLimitInfo.GRAPHQL, "POST GraphQL");
+	}
+
+	@Override
+	public ConditionalResponse getConditional(String path, @Nullable String etag, @Nullable String lastModified) {
+		return execute(client -> client.getConditional(path, etag, lastModified), RateLimitInfo.resourceForPath(path),
+				"GET " + path);
+	}
+
+	@Override
+	public InputStream getStream(String path) {
+		return execute(client -> client.getStream(path), RateLimitInfo.resourceForPath(path), "GET " + path);
+	}
+
+	@Override
+	public InputStream postGraphQLStream(String body) {
+		return execute(client -> client.postGraphQLStream(body), RateLimitInfo.GRAPHQL, "POST GraphQL");
+	}
+
+	@Override
+	public CompletableFuture<String> getAsync(String path) {
+		return executeAsync(client -> client.getAsync(path), RateLimitInfo.resourceForPath(path), "GET " + path);
+	}
+
+	@Override
+	public CompletableFuture<String> getWithQueryAsync(String path, String queryString) {
+		return executeAsync(client -> client.getWithQueryAsync(path, queryString), RateLimitInfo.resourceForPath(path),
+				"GET " + path);
+	}
+
+	@Override
+	public CompletableFuture<String> postGraphQLAsync(String body) {
+		return executeAsync(client -> client.postGraphQLAsync(body), RateLimitInfo.GRAPHQL, "POST GraphQL");
+	}
+
+	/**
+	 * Returns the {@code core} rate limit of the token the next REST request would be
+	 * routed to.
+	 */
+	@Override
+	public RateLimitInfo getLastRateLimitInfo() {
+		return getRateLimitInfo(RateLimitInfo.CORE);
+	}
+
+	/**
+	 * Returns the rate limit of the token the next request for the resource would be
+	 * routed to, so that pacing in {@link RetryingGitHubClient} only starts once the best
+	 * token runs low.
+	 */
+	@Override
+	public RateLimitInfo getRateLimitInfo(String resource) {
+		TokenSlot best = select(resource, Instant.now().getEpochSecond());
+		return best != null ? RateLimits.forResource(best.client, resource) : null;
+	}
+
+	/**
+	 * Rate limit information last observed for each token, in configuration order.
+	 * Entries are null for tokens that have not been used yet.
+	 * @return per-token rate limit information
+	 */
+	public List<@Nullable RateLimitInfo> getTokenRateLimits() {
+		List<@Nullable RateLimitInfo> infos = new ArrayList<>(slots.size());
+		for (TokenSlot slot : slots) {
+			infos.add(slot.client.getLastRateLimitInfo());
+		}
+		return infos;
+	}
+
+	private <T> T execute(Function<GitHubClient, T> call, String resource, String description) {
+		for (int attempt = 0; attempt < slots.size(); attempt++) {
+			TokenSlot slot = acquire(resource);
+			try {
+				return call.apply(slot.client);
+			}
+			catch (GitHubHttpClient.GitHubApiException e) {
+				if (!rotates(e)) {
+					throw e;
+				}
+				park(slot, resource, e, description);
+			}
+			finally {
+				slot.inFlight.decrementAndGet();
+			}
+		}
+		throw allExhausted(resource);
+	}
+
+	private <T> CompletableFuture<T> executeAsync(Function<GitHubClient, CompletableFuture<T>> call, String resource,
+			String description) {
+		CompletableFuture<T> result = new CompletableFuture<>();
+		attemptAsync(call, resource, description, 0, result);
+		return result;
+	}
+
+	private <T> void attemptAsync(Function<GitHubClient, CompletableFuture<T>> call, String resource,
+			String description, int attempt, CompletableFuture<T> result) {
+		if (attempt >= slots.size()) {
+			result.completeExceptionally(allExhausted(resource));
+			return;
+		}
+
+		TokenSlot slot;
+		CompletableFuture<T> future;
+		try {
+			slot = acquire(resource);
+		}
+		catch (GitHubHttpClient.GitHubApiException e) {
+			result.completeExceptionally(e);
+			return;
+		}
+		try {
+			future = call.apply(slot.client);
+		}
+		catch (RuntimeException e) {
+			future = CompletableFuture.failedFuture(e);
+		}
+
+		future.whenComplete((value, error) -> {
+			slot.inFlight.decrementAndGet();
+			if (error == null) {
+				result.complete(value);
+				return;
+			}
+			Throwable cause = error instanceof CompletionException && error.getCause() != null ? error.getCause()
+					: error;
+			if (cause instanceof GitHubHttpClient.GitHubApiException apiException && rotates(apiException)) {
+				park(slot, resource, apiException, description);
+				attemptAsync(call, resource, description, attempt + 1, result);
+			}
+			else {
+				result.completeExceptionally(cause);
+			}
+		});
+	}
+
+	/**
+	 * Whether a failed request is retried on another token: only for an exhausted primary
+	 * budget, as moving on after a secondary limit keeps up the pressure that caused it.
+	 */
+	private static boolean rotates(GitHubHttpClient.GitHubApiException e) {
+		return e.isRateLimitError() && !e.isSecondaryRateLimit();
+	}
+
+	/**
+	 * Pick the best available token for the resource and count the request against it.
+	 * @throws GitHubHttpClient.GitHubApiException if every token is exhausted
+	 */
+	private TokenSlot acquire(String resource) {
+		TokenSlot slot = select(resource, Instant.now().getEpochSecond());
+		if (slot == null) {
+			throw allExhausted(resource);
+		}
+		slot.inFlight.incrementAndGet();
+		return slot;
+	}
+
+	/**
+	 * The available token with the largest remaining budget, or null if all tokens are
+	 * exhausted. Ties go to the token configured first.
+	 */
+	private @Nullable TokenSlot select(String resource, long nowSeconds) {
+		TokenSlot best = null;
+		long bestBudget = Long.MIN_VALUE;
+		for (TokenSlot slot : slots) {
+			if (slot.isExhausted(resource, nowSeconds)) {
+				continue;
+			}
+			long budget = slot.budget(resource, nowSeconds);
+			if (budget > bestBudget) {
+				best = slot;
+				bestBudget = budget;
+			}
+		}
+		return best;
+	}
+
+	private void park(TokenSlot slot, String resource, GitHubHttpClient.GitHubApiException e, String description) {
+		long nowSeconds = Instant.now().getEpochSecond();
+		long reset;
+		if (e.getRetryAfterSeconds() >= 0) {
+			reset = nowSeconds + Math.max(1, e.getRetryAfterSeconds());
+		}
+		else if (e.getResetEpochSeconds() > nowSeconds) {
+			reset = e.getResetEpochSeconds();
+		}
+		else {
+			reset = nowSeconds + DEFAULT_PARK_SECONDS;
+		}
+		slot.exhaustedUntil.put(resource, reset);
+		logger.info("{}: token #{} is rate limited for {} until epoch {}, rotating to next token", description,
+				slot.id, resource, reset);
+	}
+
+	private GitHubHttpClient.GitHubApiException allExhausted(String resource) {
+		long nowSeconds = Instant.now().getEpochSecond();
+		long earliestReset = Long.MAX_VALUE;
+		for (TokenSlot slot : slots) {
+			earliestReset = Math.min(earliestReset, slot.resetEpochSeconds(resource, nowSeconds));
+		}
+		if (earliestReset == Long.MAX_VALUE) {
+			earliestReset = nowSeconds + DEFAULT_PARK_SECONDS;
+		}
+		logger.warn("All {} tokens are rate limited for {}. Earliest reset at epoch {}", slots.size(), resource,
+				earliestReset);
+		return new GitHubHttpClient.GitHubApiException("Rate limit exceeded for all " + slots.size() + " tokens ("
+				+ resource + "). Earliest reset at epoch " + earliestReset, 403, null, 0, earliestReset);
+	}
+
+	/**
+	 * A token's client plus the bookkeeping used for routing.
+	 */
+	private static final class TokenSlot {
+
+		private final int id;
+
+		private final GitHubClient client;
+
+		private final AtomicInteger inFlight = new AtomicInteger();
+
+		/**
+		 * Per resource, set when a request on this token failed with a rate limit error;
+		 * the token is skipped for that resource until then even if no newer rate limit
+		 * headers have been seen.
+		 */
+		private final Map<String, Long> exhaustedUntil = new ConcurrentHashMap<>();
+
+		TokenSlot(int id, GitHubClient client) {
+			this.id = id;
+			this.client = client;
+		}
+
+		boolean isExhausted(String resource, long nowSeconds) {
+			if (exhaustedUntil.getOrDefault(resource, 0L) > nowSeconds) {
+				return true;
+			}
+			RateLimitInfo info = RateLimits.forResource(client, resource);
+			return info != null && info.remaining() <= 0 && info.reset() > nowSeconds;
+		}
+
+		/**
+		 * Remaining requests minus those in flight. Unused tokens and tokens whose window
+		 * has reset are assumed to have their full budget.
+		 */
+		long budget(String resource, long nowSeconds) {
+			RateLimitInfo info = RateLimits.forResource(client, resource);
+			long remaining;
+			if (info == null) {
+				remaining = Integer.MAX_VALUE;
+			}
+			else if (info.reset() <= nowSeconds) {
+				remaining = info.limit();
+			}
+			else {
+				remaining = info.remaining();
+			}
+			return remaining - inFlight.get();
+		}
+
+		long resetEpochSeconds(String resource, long nowSeconds) {
+			long parkedUntil = exhaustedUntil.getOrDefault(resource, 0L);
+			long reset = parkedUntil > nowSeconds ? parkedUntil : 0;
+			RateLimitInfo info = RateLimits.forResource(client, resource);
+			if (info != null && info.remaining() <= 0 && info.reset() > nowSeconds) {
+				reset = Math.max(reset, info.reset());
+			}
+			return reset > 0 ? reset : Long.MAX_VALUE;
+		}
+
+	}
+
+	/**
+	 * Builder for {@link MultiTokenGitHubClient}.
+	 */
+	public static class Builder {
+
+		// Token clients are created in build(), so they pick up the base URL in any call order
+		private final List<Function<String, GitHubClient>> clients = new ArrayList<>();
+
+		private String baseUrl = GitHubHttpClient.DEFAULT_BASE_URL;
+
+		private Builder() {
+		}
+
+		/**
+		 * Set the API base URL used by clients created from {@link #tokens(List)}.
+		 * Defaults to {@link GitHubHttpClient#DEFAULT_BASE_URL}.
+		 * @param baseUrl API base URL, e.g. {@code https://github.example.com/api/v3}
+		 * @return this builder
+		 */
+		public Builder baseUrl(String baseUrl) {
+			this.baseUrl = baseUrl;
+			return this;
+		}
+
+		/**
+		 * Add one {@link GitHubHttpClient} per token. Blank entries are ignored.
+		 * @param tokens GitHub personal access tokens
+		 * @return this builder
+		 */
+		public Builder tokens(List<String> tokens) {
+			for (String token : tokens) {
+				if (token != null && !token.isBlank()) {
+					String trimmed = token.trim();
+					this.clients.add(url -> new GitHubHttpClient(trimmed, url));
+				}
+			}
+			return this;
+		}
+
+		/**
+		 * Add a client for a single token. Useful for decorated or mocked clients.
+		 * @param client client authenticated with its own token
+		 * @return this builder
+		 */
+		public Builder client(GitHubClient client) {
+			this.clients.add(url -> client);
+			return this;
+		}
+
+		/**
+		 * Build the MultiTokenGitHubClient.
+		 * @return configured MultiTokenGitHubClient
+		 * @throws IllegalStateException if no token or client was added
+		 */
+		public MultiTokenGitHubClient build() {
+			if (clients.isEmpty()) {
+				throw new IllegalStateException("At least one token is required. Call tokens() or client() first.");
+			}
+			return new MultiTokenGitHubClient(clients.stream().map(c -> c.apply(baseUrl)).toList());
+		}
+
+	}
+
+}
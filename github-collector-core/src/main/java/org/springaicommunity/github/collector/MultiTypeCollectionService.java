@@ -0,0 +1,124 @@
+package org.springaicommunity.github.collector;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Function;
+
+/**
+ * Runs the collections of several item types of one repository concurrently.
+ *
+ * <p>
+ * Each collection gets its own thread, so small collections such as releases and
+ * collaborators finish while large ones are still fetching. The collections are expected
+ * to share one client, and with it the concurrency limit and rate governor, as built by
+ * {@link GitHubCollectorBuilder#buildMultiTypeCollector}. A failed collection does not
+ * stop the others; once all are done, the failure is rethrown.
+ *
+ * <p>
+ * Usage:
+ *
+ * <pre>{@code
+ * MultiTypeCollectionService collector = builder.buildMultiTypeCollector(request);
+ * CombinedCollectionResult result = collector.collectItems(request);
+ * }</pre>
+ */
+public class MultiTypeCollectionService {
+
+	private static final Logger logger = LoggerFactory.getLogger(MultiTypeCollectionService.class);
+
+	private static final AtomicInteger POOL_COUNT = new AtomicInteger();
+
+	private final Map<String, Function<CollectionRequest, CollectionResult>> collections;
+
+	/**
+	 * Create a multi-type collection service.
+	 * @param collections the collection of each item type, keyed by collection type, in
+	 * the order of the combined result
+	 */
+	public MultiTypeCollectionService(Map<String, Function<CollectionRequest, CollectionResult>> collections) {
+		if (collections.isEmpty()) {
+			throw new IllegalArgumentException("At least one collection is required");
+		}
+		this.collections = new LinkedHashMap<>(collections);
+	}
+
+	/**
+	 * Collect every item type of a request concurrently.
+	 * @param request the collection request; its collection type is set per item type
+	 * @return the result of each collection
+	 * @throws IllegalArgumentException if the request asks for single-file output, which
+	 * all collections would write to
+	 * @throws RuntimeException if a collection failed, after all others are done
+	 */
+	public CombinedCollectionResult collectItems(CollectionRequest request) {
+		if (request.singleFile()) {
+			throw new IllegalArgumentException("Single-file output is not supported when collecting several types");
+		}
+
+		logger.info("Collecting {} concurrently", collections.keySet());
+		ExecutorService executor = Executors.newFixedThreadPool(collections.size(), collectionThreads());
+		try {
+			Map<String, CompletableFuture<CollectionResult>> futures = new LinkedHashMap<>();
+			collections.forEach((type, collection) -> {
+				CollectionRequest typeRequest = request.toBuilder().collectionType(type).build();
+				long start = System.nanoTime();
+				futures.put(type, CompletableFuture.supplyAsync(() -> collection.apply(typeRequest), executor)
+					.whenComplete((result, failure) -> {
+						long seconds = (System.nanoTime() - start) / 1_000_000_000;
+						if (failure == null) {
+							logger.info("Collected {}/{} {} in {}s", result.processedIssues(), result.totalIssues(),
+									type, seconds);
+						}
+						else {
+							logger.error("Collection of {} failed after {}s: {}", type, seconds,
+									failure.getMessage());
+						}
+					}));
+			});
+
+			Map<String, CollectionResult> results = new LinkedHashMap<>();
+			List<RuntimeException> failures = new ArrayList<>();
+			futures.forEach((type, future) -> {
+				try {
+					results.put(type, future.join());
+				}
+				catch (CompletionException e) {
+					failures.add(e.getCause() instanceof RuntimeException runtime ? runtime
+							: new RuntimeException("Collection of " + type + " failed", e.getCause()));
+				}
+			});
+
+			if (!failures.isEmpty()) {
+				RuntimeException failure = failures.get(0);
+				failures.subList(1, failures.size()).forEach(failure::addSuppressed);
+				throw failure;
+			}
+			return new CombinedCollectionResult(results);
+		}
+		finally {
+			executor.shutdownNow();
+		}
+	}
+
+	private static ThreadFactory collectionThreads() {
+		String prefix = "collect-" + POOL_COUNT.incrementAndGet() + "-";
+		AtomicInteger threadCount = new AtomicInteger();
+		return runnable -> {
+			Thread thread = new Thread(runnable, prefix + threadCount.incrementAndGet());
+			thread.setDaemon(true);
+			return thread;
+		};
+	}
+
+}
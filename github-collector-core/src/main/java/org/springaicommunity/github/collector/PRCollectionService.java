@@ -21,10 +21,26 @@ public class PRCollectionService extends BaseCollectionService<AnalyzedPullReque
 
 	private static final Logger logger = LoggerFactory.getLogger(PRCollectionService.class);
 
+	private final boolean graphQLSearch;
+
 	public PRCollectionService(GraphQLService graphQLService, RestService restService, ObjectMapper objectMapper,
 			CollectionProperties properties, CollectionStateRepository stateRepository, ArchiveService archiveService,
 			BatchStrategy<AnalyzedPullRequest> batchStrategy) {
+		this(graphQLService, restService, objectMapper, properties, stateRepository, archiveService, batchStrategy,
+				false);
+	}
+
+	/**
+	 * Create the service.
+	 * @param graphQLSearch whether to search and count pull requests through GraphQL,
+	 * fetching reviews and merge statistics inline, instead of REST search plus one
+	 * reviews request per pull request
+	 */
+	public PRCollectionService(GraphQLService graphQLService, RestService restService, ObjectMapper objectMapper,
+			CollectionProperties properties, CollectionStateRepository stateRepository, ArchiveService archiveService,
+			BatchStrategy<AnalyzedPullRequest> batchStrategy, boolean graphQLSearch) {
 		super(graphQLService, restService, objectMapper, properties, stateRepository, archiveService, batchStrategy);
+		this.graphQLSearch = graphQLSearch;
 	}
 
 	@Override
@@ -51,7 +67,7 @@ public class PRCollectionService extends BaseCollectionService<AnalyzedPullReque
 	public CollectionResult collectItems(CollectionRequest request) {
 		logger.info("Starting PR collection for repository: {}", request.repository());
 
-		CollectionRequest validatedRequest = validateRequest(request);
+		CollectionRequest validatedRequest = prepareIncremental(validateRequest(request));
 
 		try {
 			String[] repoParts = validatedRequest.repository().split("/");
@@ -124,7 +140,7 @@ public class PRCollectionService extends BaseCollectionService<AnalyzedPullReque
 		logger.info("Collecting {} PRs from {}/{}", request.prState(), owner, repo);
 
 		String searchQuery = buildSearchQuery(owner, repo, request);
-		int totalAvailableItems = getTotalItemCount(searchQuery);
+		int totalAvailableItems = countItems(searchQuery);
 		logger.info("Found {} total {} PRs matching criteria", totalAvailableItems, request.prState());
 
 		if (request.dryRun()) {
@@ -133,10 +149,12 @@ public class PRCollectionService extends BaseCollectionService<AnalyzedPullReque
 		}
 
 		Path outputDir = createOutputDirectory(request);
-		cleanOutputDirectory(outputDir, request.clean());
+		ResumeState checkpoint = loadCheckpoint(outputDir, request, searchQuery);
+		cleanOutputDirectory(outputDir, request.clean() && checkpoint == null);
 
 		try {
-			return collectItemsInBatches(owner, repo, request, outputDir, searchQuery, totalAvailableItems);
+			return collectItemsInBatches(owner, repo, request, outputDir, searchQuery, totalAvailableItems,
+					checkpoint);
 		}
 		catch (Exception e) {
 			logger.error("Multiple PR collection failed: {}", e.getMessage());
@@ -146,17 +164,43 @@ public class PRCollectionService extends BaseCollectionService<AnalyzedPullReque
 
 	@Override
 	protected int getTotalItemCount(String searchQuery) {
+		if (graphQLSearch) {
+			return graphQLService.getSearchIssueCount(searchQuery);
+		}
 		return restService.getTotalPRCount(searchQuery);
 	}
 
 	@Override
 	protected String buildSearchQuery(String owner, String repo, CollectionRequest request) {
-		return restService.buildPRSearchQuery(request.repository(), request.prState(), request.labelFilters(),
-				request.labelMode(), request.createdAfter(), request.createdBefore());
+		return withUpdatedAfter(restService.buildPRSearchQuery(request.repository(),
+				searchState(request.prState(), request), request.labelFilters(), request.labelMode(),
+				request.createdAfter(), request.createdBefore()), request.updatedAfter());
 	}
 
 	@Override
 	protected SearchResult<AnalyzedPullRequest> fetchBatch(String searchQuery, int batchSize, @Nullable String cursor) {
+		if (combinedSearch != null) {
+			try {
+				return analyzeInline(combinedSearch.pullRequests(searchQuery, batchSize, cursor));
+			}
+			catch (UnsupportedOperationException e) {
+				logger.debug("Searching pull requests separately: {}", e.getMessage());
+			}
+		}
+		try {
+			ConnectionQuery connection = connectionQuery(searchQuery);
+			if (connection != null) {
+				return analyzeInline(connection.bounded(
+						graphQLService.listPullRequests(connection, batchSize, cursor), PullRequest::createdAt));
+			}
+			if (graphQLSearch) {
+				return analyzeInline(graphQLService.searchPullRequests(searchQuery, batchSize, cursor));
+			}
+		}
+		catch (UnsupportedOperationException e) {
+			logger.debug("Searching pull requests through REST: {}", e.getMessage());
+		}
+
 		// Fetch PRs from REST API
 		SearchResult<PullRequest> prResult = restService.searchPRs(searchQuery, batchSize, cursor);
 
@@ -167,7 +211,22 @@ public class PRCollectionService extends BaseCollectionService<AnalyzedPullReque
 			.map(pr -> AnalyzedPullRequest.from(pr, false, null, List.of()))
 			.toList();
 
-		return new SearchResult<>(analyzedPRs, prResult.nextCursor(), prResult.hasMore());
+		return new SearchResult<>(analyzedPRs, prResult.nextCursor(), prResult.hasMore(), prResult.totalCount());
+	}
+
+	/**
+	 * Analyze a page fetched through GraphQL with the inline reviews. Pull requests whose
+	 * review list filled the inline page are left unanalyzed, so {@link #processItemBatch}
+	 * fetches all of their reviews through REST.
+	 */
+	private SearchResult<AnalyzedPullRequest> analyzeInline(SearchResult<PullRequest> prResult) {
+		List<AnalyzedPullRequest> analyzedPRs = prResult.items()
+			.stream()
+			.map(pr -> pr.reviews().size() < GraphQLService.REVIEWS_PER_PULL_REQUEST
+					? analyzePullRequest(pr, pr.reviews()) : AnalyzedPullRequest.from(pr, false, null, List.of()))
+			.toList();
+
+		return new SearchResult<>(analyzedPRs, prResult.nextCursor(), prResult.hasMore(), prResult.totalCount());
 	}
 
 	@Override
@@ -181,6 +240,26 @@ public class PRCollectionService extends BaseCollectionService<AnalyzedPullReque
 		return "PRs";
 	}
 
+	@Override
+	protected boolean matchesState(AnalyzedPullRequest pr, CollectionRequest request) {
+		return switch (request.prState().toLowerCase()) {
+			case "open" -> "OPEN".equalsIgnoreCase(pr.state());
+			case "closed" -> !"OPEN".equalsIgnoreCase(pr.state());
+			case "merged" -> pr.merged() || "MERGED".equalsIgnoreCase(pr.state());
+			default -> true;
+		};
+	}
+
+	@Override
+	protected int getItemNumber(AnalyzedPullRequest pr) {
+		return pr.number();
+	}
+
+	@Override
+	protected @Nullable LocalDateTime getUpdatedAt(AnalyzedPullRequest pr) {
+		return pr.updatedAt();
+	}
+
 	/**
 	 * Analyze a single PR for soft approval
 	 */
@@ -199,58 +278,18 @@ public class PRCollectionService extends BaseCollectionService<AnalyzedPullReque
 	}
 
 	/**
-	 * Enhance multiple PRs with soft approval detection
+	 * Enhance multiple PRs with soft approval detection, fetching reviews concurrently
 	 */
 	private List<AnalyzedPullRequest> enhancePRsWithSoftApproval(List<AnalyzedPullRequest> prs, String owner,
 			String repo, boolean verbose) {
-		List<AnalyzedPullRequest> enhancedPRs = new ArrayList<>();
 		int total = prs.size();
 
 		if (verbose) {
 			logger.info("Analyzing {} PRs for soft approval detection...", total);
 		}
 
-		for (int i = 0; i < prs.size(); i++) {
-			AnalyzedPullRequest pr = prs.get(i);
-			try {
-				int prNumber = pr.number();
-				if (prNumber > 0) {
-					if (verbose) {
-						String prTitle = pr.title();
-						logger.info("  Processing PR #{} ({}/{}) - {}", prNumber, i + 1, total,
-								prTitle.length() > 60 ? prTitle.substring(0, 60) + "..." : prTitle);
-					}
-
-					// Get reviews for this PR
-					List<Review> reviews = restService.getPullRequestReviews(owner, repo, prNumber);
-
-					// Analyze for soft approval
-					boolean hasSoftApproval = detectSoftApproval(reviews);
-					String timestamp = LocalDateTime.now().format(DateTimeFormatter.ISO_LOCAL_DATE_TIME);
-					List<SoftApproval> softApprovals = hasSoftApproval ? extractSoftApprovals(reviews) : List.of();
-
-					// Create analyzed PR with reviews
-					AnalyzedPullRequest analyzedPR = new AnalyzedPullRequest(pr.number(), pr.title(), pr.body(),
-							pr.state(), pr.createdAt(), pr.updatedAt(), pr.closedAt(), pr.mergedAt(), pr.url(),
-							pr.htmlUrl(), pr.author(), pr.comments(), pr.labels(), reviews, pr.draft(), pr.merged(),
-							pr.mergeCommitSha(), pr.headRef(), pr.baseRef(), pr.additions(), pr.deletions(),
-							pr.changedFiles(), hasSoftApproval, timestamp, softApprovals);
-
-					enhancedPRs.add(analyzedPR);
-
-					if (verbose && hasSoftApproval) {
-						logger.info("  Soft approval detected for PR #{}", prNumber);
-					}
-				}
-				else {
-					enhancedPRs.add(pr);
-				}
-			}
-			catch (Exception e) {
-				logger.warn("Failed to enhance PR with soft approval detection: {}", e.getMessage());
-				enhancedPRs.add(pr);
-			}
-		}
+		List<AnalyzedPullRequest> enhancedPRs = enrichmentExecutor.map(total,
+				i -> enhancePRWithSoftApproval(prs.get(i), owner, repo, i + 1, total, verbose));
 
 		if (verbose) {
 			long softApprovalCount = enhancedPRs.stream().filter(AnalyzedPullRequest::softApprovalDetected).count();
@@ -260,6 +299,49 @@ public class PRCollectionService extends BaseCollectionService<AnalyzedPullReque
 		return enhancedPRs;
 	}
 
+	/**
+	 * Fetch reviews for a single PR and analyze it for soft approval. Runs on the
+	 * {@link EnrichmentExecutor}; on failure the PR is kept unanalyzed.
+	 */
+	private AnalyzedPullRequest enhancePRWithSoftApproval(AnalyzedPullRequest pr, String owner, String repo,
+			int position, int total, boolean verbose) {
+		try {
+			int prNumber = pr.number();
+			if (pr.analysisTimestamp() != null || prNumber <= 0) {
+				// Already analyzed with reviews from the search page, or nothing to look up
+				return pr;
+			}
+
+			if (verbose) {
+				String prTitle = pr.title();
+				logger.info("  Processing PR #{} ({}/{}) - {}", prNumber, position, total,
+						prTitle.length() > 60 ? prTitle.substring(0, 60) + "..." : prTitle);
+			}
+
+			// Get reviews for this PR
+			List<Review> reviews = restService.getPullRequestReviews(owner, repo, prNumber);
+
+			// Analyze for soft approval
+			boolean hasSoftApproval = detectSoftApproval(reviews);
+			String timestamp = LocalDateTime.now().format(DateTimeFormatter.ISO_LOCAL_DATE_TIME);
+			List<SoftApproval> softApprovals = hasSoftApproval ? extractSoftApprovals(reviews) : List.of();
+
+			if (verbose && hasSoftApproval) {
+				logger.info("  Soft approval detected for PR #{}", prNumber);
+			}
+
+			// Create analyzed PR with reviews
+			return new AnalyzedPullRequest(pr.number(), pr.title(), pr.body(), pr.state(), pr.createdAt(),
+					pr.updatedAt(), pr.closedAt(), pr.mergedAt(), pr.url(), pr.htmlUrl(), pr.author(), pr.comments(),
+					pr.labels(), reviews, pr.draft(), pr.merged(), pr.mergeCommitSha(), pr.headRef(), pr.baseRef(),
+					pr.additions(), pr.deletions(), pr.changedFiles(), hasSoftApproval, timestamp, softApprovals);
+		}
+		catch (Exception e) {
+			logger.warn("Failed to enhance PR with soft approval detection: {}", e.getMessage());
+			return pr;
+		}
+	}
+
 	/**
 	 * Detect soft approval in PR reviews. Soft approval = approval from non-member
 	 * (CONTRIBUTOR, FIRST_TIME_CONTRIBUTOR)
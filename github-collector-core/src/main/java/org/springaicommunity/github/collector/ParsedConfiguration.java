@@ -69,6 +69,21 @@ public class ParsedConfiguration {
 
 	public String verifyDir = null; // custom directory for standalone verification
 
+	// HTTP response cache (conditional requests)
+	public String cacheDir = null; // null = no caching
+
+	// Concurrent per-item enrichment (events, reviews)
+	public int parallelism;
+
+	// Concurrent time windows of a windowed collection
+	public int windowParallelism;
+
+	// Split time windows during collection instead of planning them up front
+	public boolean lazyWindows;
+
+	// Page through the repository connections instead of search where possible
+	public boolean connectionPaging;
+
 	public ParsedConfiguration(CollectionProperties defaultProperties) {
 		// Initialize with defaults
 		this.repository = defaultProperties.getDefaultRepository();
@@ -76,6 +91,10 @@ public class ParsedConfiguration {
 		this.issueState = defaultProperties.getDefaultState();
 		this.labelMode = defaultProperties.getDefaultLabelMode();
 		this.verbose = defaultProperties.isVerbose();
+		this.parallelism = defaultProperties.getParallelism();
+		this.windowParallelism = defaultProperties.getWindowParallelism();
+		this.lazyWindows = defaultProperties.isLazyWindowing();
+		this.connectionPaging = defaultProperties.isConnectionPaging();
 
 		// Dashboard parameters - set defaults
 		this.maxIssues = null; // unlimited by default (backward compatible)
@@ -98,7 +117,9 @@ public class ParsedConfiguration {
 				+ collectionType + '\'' + ", prNumber=" + prNumber + ", prState='" + prState + '\'' + ", createdAfter='"
 				+ createdAfter + '\'' + ", createdBefore='" + createdBefore + '\'' + ", singleFile=" + singleFile
 				+ ", outputFile='" + outputFile + '\'' + ", verify=" + verify + ", deduplicate=" + deduplicate
-				+ ", verifyDir='" + verifyDir + '\'' + '}';
+				+ ", verifyDir='" + verifyDir + '\'' + ", cacheDir='" + cacheDir + '\'' + ", parallelism=" + parallelism
+				+ ", windowParallelism=" + windowParallelism + ", lazyWindows=" + lazyWindows
+				+ ", connectionPaging=" + connectionPaging + '}';
 	}
 
 }
\ No newline at end of file
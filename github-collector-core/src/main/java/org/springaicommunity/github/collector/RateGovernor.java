@@ -0,0 +1,217 @@
+package org.springaicommunity.github.collector;
+
+import org.jspecify.annotations.Nullable;
+
+import java.time.Instant;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.LongSupplier;
+
+/**
+ * Client-side rate governor shared by all threads using a {@link GitHubClient}.
+ *
+ * <p>
+ * Keeps one token bucket per GitHub rate limit resource ({@code core}, {@code search},
+ * {@code graphql}). Callers {@linkplain #reserve(String) reserve} a permit before sending
+ * a request and wait for the returned delay; the bucket is refilled from the rate limit
+ * headers observed on responses via {@link #observe(String, RateLimitInfo)}:
+ * <ul>
+ * <li>The refill rate is the remaining budget spread evenly until the reset time, so the
+ * budget lasts exactly until it is replenished.</li>
+ * <li>The bucket holds at most {@link #BURST_SECONDS} seconds' worth of the refill rate,
+ * and never more than {@code remaining - reserve} permits. A short burst goes out without
+ * delay, after which requests are metered at the refill rate instead of spending the
+ * whole budget at once and stalling until the reset. Once only the reserve is left the
+ * bucket holds a single permit, and a drained resource waits for its reset.</li>
+ * </ul>
+ *
+ * <p>
+ * Each bucket is an immutable state swapped with compare-and-set, so concurrent callers
+ * never block each other. Permits are handed out as reservations: when the bucket is
+ * empty every caller is assigned the next free slot, which spaces a multi-threaded
+ * collector evenly instead of letting waiting threads wake up in a burst.
+ *
+ * <p>
+ * Resources without an observation yet, or whose reset time has passed, are not
+ * throttled.
+ */
+public final class RateGovernor {
+
+	/**
+	 * Default number of requests per resource that are never sent in a burst.
+	 */
+	public static final int DEFAULT_RESERVE = 100;
+
+	/**
+	 * Seconds of refill the bucket holds, bounding the burst sent without delay.
+	 */
+	static final int BURST_SECONDS = 5;
+
+	/**
+	 * Longest delay handed out for a single permit, matching the maximum reset wait of
+	 * {@link RetryingGitHubClient}.
+	 */
+	private static final long MAX_WAIT_NANOS = TimeUnit.HOURS.toNanos(1);
+
+	private final int reserve;
+
+	private final LongSupplier nanoClock;
+
+	private final Map<String, AtomicReference<Bucket>> buckets = new ConcurrentHashMap<>();
+
+	/**
+	 * Create a governor with the {@link #DEFAULT_RESERVE default reserve}.
+	 */
+	public RateGovernor() {
+		this(DEFAULT_RESERVE);
+	}
+
+	/**
+	 * Create a governor.
+	 * @param reserve number of remaining requests per resource below which requests are
+	 * sent one at a time
+	 */
+	public RateGovernor(int reserve) {
+		this(reserve, System::nanoTime);
+	}
+
+	RateGovernor(int reserve, LongSupplier nanoClock) {
+		if (reserve < 0) {
+			throw new IllegalArgumentException("reserve must be non-negative");
+		}
+		this.reserve = reserve;
+		this.nanoClock = nanoClock;
+	}
+
+	/**
+	 * Reserve a permit for one request against a resource.
+	 * @param resource rate limit resource name
+	 * @return how long the caller must wait before sending, in milliseconds (0 to send
+	 * now)
+	 */
+	public long reserve(String resource) {
+		AtomicReference<Bucket> ref = buckets.get(resource);
+		if (ref == null) {
+			return 0;
+		}
+		long now = nanoClock.getAsLong();
+		long nowSeconds = Instant.now().getEpochSecond();
+		while (true) {
+			Bucket current = ref.get();
+			if (current.resetEpochSeconds <= nowSeconds) {
+				return 0;
+			}
+			Bucket refilled = current.refill(now);
+			Bucket next = refilled.take();
+			long waitNanos = next.waitNanos(nowSeconds);
+			if (ref.compareAndSet(current, next)) {
+				return TimeUnit.NANOSECONDS.toMillis(Math.min(waitNanos, MAX_WAIT_NANOS));
+			}
+		}
+	}
+
+	/**
+	 * Reserve a permit and sleep until it may be used.
+	 * @param resource rate limit resource name
+	 * @throws InterruptedException if interrupted while waiting
+	 */
+	public void acquire(String resource) throws InterruptedException {
+		long waitMs = reserve(resource);
+		if (waitMs > 0) {
+			Thread.sleep(waitMs);
+		}
+	}
+
+	/**
+	 * Update a resource's bucket from the rate limit headers of a response.
+	 * @param resource rate limit resource name
+	 * @param info observed rate limit information (ignored if null or incomplete)
+	 */
+	public void observe(String resource, @Nullable RateLimitInfo info) {
+		if (info == null || info.remaining() < 0 || info.reset() <= 0) {
+			return;
+		}
+		long now = nanoClock.getAsLong();
+		long nowSeconds = Instant.now().getEpochSecond();
+		double secondsUntilReset = Math.max(1, info.reset() - nowSeconds);
+		double ratePerNano = info.remaining() / secondsUntilReset / TimeUnit.SECONDS.toNanos(1);
+		double burst = ratePerNano * TimeUnit.SECONDS.toNanos(BURST_SECONDS);
+		double capacity = info.remaining() == 0 ? 0 : Math.max(1, Math.min(burst, info.remaining() - reserve));
+
+		AtomicReference<Bucket> ref = buckets.computeIfAbsent(resource,
+				r -> new AtomicReference<>(new Bucket(capacity, capacity, ratePerNano, now, info.reset())));
+		while (true) {
+			Bucket current = ref.get();
+			Bucket next = current.resync(capacity, ratePerNano, info.reset(), now, nowSeconds);
+			if (ref.compareAndSet(current, next)) {
+				return;
+			}
+		}
+	}
+
+	/**
+	 * Permits currently available for a resource, or null if it is not throttled. May be
+	 * negative when callers are queued for permits.
+	 * @param resource rate limit resource name
+	 * @return available permits, or null
+	 */
+	public @Nullable Double availablePermits(String resource) {
+		AtomicReference<Bucket> ref = buckets.get(resource);
+		if (ref == null || ref.get().resetEpochSeconds <= Instant.now().getEpochSecond()) {
+			return null;
+		}
+		return ref.get().refill(nanoClock.getAsLong()).tokens;
+	}
+
+	/**
+	 * Immutable token bucket state. {@code tokens} goes negative when permits have been
+	 * reserved ahead of the refill.
+	 */
+	private record Bucket(double tokens, double capacity, double ratePerNano, long lastRefillNanos,
+			long resetEpochSeconds) {
+
+		Bucket refill(long now) {
+			if (now <= lastRefillNanos) {
+				return this;
+			}
+			double refilled = Math.min(capacity, tokens + (now - lastRefillNanos) * ratePerNano);
+			return new Bucket(refilled, capacity, ratePerNano, now, resetEpochSeconds);
+		}
+
+		Bucket take() {
+			return new Bucket(tokens - 1, capacity, ratePerNano, lastRefillNanos, resetEpochSeconds);
+		}
+
+		/**
+		 * Delay until this state's balance is back to zero. With no refill (budget
+		 * drained) the permit becomes usable at the reset time.
+		 */
+		long waitNanos(long nowSeconds) {
+			if (tokens >= 0) {
+				return 0;
+			}
+			if (ratePerNano <= 0) {
+				return TimeUnit.SECONDS.toNanos(resetEpochSeconds - nowSeconds + 1);
+			}
+			return (long) Math.ceil(-tokens / ratePerNano);
+		}
+
+		/**
+		 * Apply a new observation. The balance never exceeds what the server reports,
+		 * and outstanding reservations are kept unless the window has been reset.
+		 */
+		Bucket resync(double newCapacity, double newRatePerNano, long newReset, long now, long nowSeconds) {
+			Bucket refilled = refill(now);
+			double balance = refilled.tokens;
+			if (resetEpochSeconds <= nowSeconds || newReset > resetEpochSeconds) {
+				// A new window started: start from the reported budget
+				balance = newCapacity;
+			}
+			return new Bucket(Math.min(balance, newCapacity), newCapacity, newRatePerNano, now, newReset);
+		}
+
+	}
+
+}
@@ -1,5 +1,7 @@
 package org.springaicommunity.github.collector;
 
+import org.jspecify.annotations.Nullable;
+
 import java.time.Instant;
 
 /**
@@ -9,12 +11,59 @@ import java.time.Instant;
  * This record captures the rate limit status for API requests, replacing the dependency
  * on org.kohsuke.github.GHRateLimit.
  *
+ * <p>
+ * GitHub keeps a separate budget per resource ({@code core} for most REST calls,
+ * {@code search} for the search API, {@code graphql} for GraphQL) and names the one that
+ * applied to a response in the {@code X-RateLimit-Resource} header.
+ *
  * @param limit the maximum number of requests allowed per hour
  * @param remaining the number of requests remaining in the current window
  * @param reset the time when the rate limit resets (epoch seconds)
  * @param used the number of requests used in the current window
+ * @param resource the rate limit resource this budget belongs to, or null if unknown
  */
-public record RateLimitInfo(int limit, int remaining, long reset, int used) {
+public record RateLimitInfo(int limit, int remaining, long reset, int used, @Nullable String resource) {
+
+	/** Rate limit resource for most REST API calls. */
+	public static final String CORE = "core";
+
+	/** Rate limit resource for the search API. */
+	public static final String SEARCH = "search";
+
+	/** Rate limit resource for the code search API. */
+	public static final String CODE_SEARCH = "code_search";
+
+	/** Rate limit resource for the GraphQL API. */
+	public static final String GRAPHQL = "graphql";
+
+	/**
+	 * Create rate limit information without a known resource.
+	 * @param limit the maximum number of requests allowed per hour
+	 * @param remaining the number of requests remaining in the current window
+	 * @param reset the time when the rate limit resets (epoch seconds)
+	 * @param used the number of requests used in the current window
+	 */
+	public RateLimitInfo(int limit, int remaining, long reset, int used) {
+		this(limit, remaining, reset, used, null);
+	}
+
+	/**
+	 * Returns the rate limit resource a REST request path is counted against.
+	 * @param path API path (e.g., "/search/issues") or full URL
+	 * @return {@link #SEARCH}, {@link #CODE_SEARCH} or {@link #CORE}
+	 */
+	public static String resourceForPath(String path) {
+		if (path.contains("/search/code")) {
+			return CODE_SEARCH;
+		}
+		if (path.contains("/search/")) {
+			return SEARCH;
+		}
+		if (path.endsWith("/graphql")) {
+			return GRAPHQL;
+		}
+		return CORE;
+	}
 
 	/**
 	 * Returns the reset time as an Instant.
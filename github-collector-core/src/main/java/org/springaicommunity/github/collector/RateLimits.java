@@ -0,0 +1,33 @@
+package org.springaicommunity.github.collector;
+
+import org.jspecify.annotations.Nullable;
+
+/**
+ * Rate limit lookups shared by the {@link GitHubClient} decorators.
+ */
+final class RateLimits {
+
+	private RateLimits() {
+	}
+
+	/**
+	 * Rate limit information for a resource, falling back to the client's last observed
+	 * information when that is not attributed to a different resource. The fallback
+	 * covers clients that only implement {@link GitHubClient#getLastRateLimitInfo()}.
+	 * @param client client to query
+	 * @param resource rate limit resource name
+	 * @return rate limit information for the resource, or null if unknown
+	 */
+	static @Nullable RateLimitInfo forResource(GitHubClient client, String resource) {
+		RateLimitInfo info = client.getRateLimitInfo(resource);
+		if (info != null) {
+			return info;
+		}
+		RateLimitInfo last = client.getLastRateLimitInfo();
+		if (last == null || (last.resource() != null && !last.resource().equals(resource))) {
+			return null;
+		}
+		return last;
+	}
+
+}
@@ -1,10 +1,32 @@
 package org.springaicommunity.github.collector;
 
+import org.jspecify.annotations.Nullable;
+
 import java.util.List;
 
 /**
- * Internal record for resume state management.
+ * Checkpoint of an interrupted collection, written after every saved batch so that
+ * {@code --resume} can continue from the last durable batch.
+ *
+ * <p>
+ * The position is the search page fetched with {@code cursor} plus the number of items
+ * of that page already written ({@code offset}). Once the last batch of the query is
+ * saved the checkpoint is {@code complete}; in a windowed collection it then marks the
+ * window to continue after.
+ *
+ * @param searchQuery the search query being collected
+ * @param cursor cursor of the page holding the next item (null for the first page)
+ * @param offset number of items of that page already written
+ * @param complete whether every item of the query has been saved
+ * @param batchNumber number of the last saved batch
+ * @param processedIssues number of items saved so far
+ * @param windowIndex index of the time window being collected (null = not windowed)
+ * @param createdAfter start of the collected date range
+ * @param createdBefore end of the collected date range
+ * @param timestamp when the checkpoint was written
+ * @param completedBatches batch files saved so far
  */
-public record ResumeState(String cursor, int batchNumber, int processedIssues, String timestamp,
-		List<String> completedBatches) {
-}
\ No newline at end of file
+public record ResumeState(String searchQuery, @Nullable String cursor, int offset, boolean complete,
+		int batchNumber, int processedIssues, @Nullable Integer windowIndex, @Nullable String createdAfter,
+		@Nullable String createdBefore, String timestamp, List<String> completedBatches) {
+}
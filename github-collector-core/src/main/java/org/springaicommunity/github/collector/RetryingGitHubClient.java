@@ -1,10 +1,18 @@
 package org.springaicommunity.github.collector;
 
+import org.jspecify.annotations.Nullable;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
+import java.io.InputStream;
 import java.time.Duration;
 import java.time.Instant;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Supplier;
 
 /**
  * Decorator that adds automatic retry logic with smart backoff to a {@link GitHubClient}.
@@ -16,8 +24,16 @@ import java.time.Instant;
  * <li>Reset-aware backoff for rate limit errors: sleeps until {@code X-RateLimit-Reset}
  * instead of blind exponential delay</li>
  * <li>Proactive pacing: injects delays when remaining rate limit is low to avoid hitting
- * the wall</li>
+ * the wall. Pacing is per rate limit resource, so a drained {@code search} budget does
+ * not slow down {@code core} REST calls. A response that drains a resource is returned
+ * at once; the next request for that resource waits for its reset before it is sent</li>
  * <li>Retries 403 rate limit errors (remaining=0) and 429 Too Many Requests</li>
+ * <li>Honors {@code Retry-After} on secondary rate limits, waiting at least a minute
+ * when the header is missing</li>
+ * <li>Asynchronous operations retry and pace on a scheduler instead of sleeping, so no
+ * thread is held while waiting for a backoff or rate limit reset</li>
+ * <li>Optional {@link RateGovernor}: every attempt first reserves a permit from a token
+ * bucket shared by all threads, replacing the per-call pacing sleep</li>
  * </ul>
  *
  * <p>
@@ -50,6 +66,12 @@ public final class RetryingGitHubClient implements GitHubClient {
 	 */
 	private static final long MAX_RESET_WAIT_SECONDS = 3600;
 
+	/**
+	 * Wait after a secondary rate limit that did not say how long to back off. GitHub
+	 * asks clients to wait at least a minute in that case.
+	 */
+	private static final long SECONDARY_LIMIT_WAIT_MS = 60_000;
+
 	private final GitHubClient delegate;
 
 	private final int maxRetries;
@@ -58,6 +80,13 @@ public final class RetryingGitHubClient implements GitHubClient {
 
 	private final int pacingThreshold;
 
+	private final @Nullable RateGovernor rateGovernor;
+
+	/**
+	 * Epoch milliseconds until which each drained resource is not sent to.
+	 */
+	private final Map<String, Long> drainedUntil = new ConcurrentHashMap<>();
+
 	/**
 	 * Private constructor - use {@link #builder()} to create instances.
 	 */
@@ -66,6 +95,7 @@ public final class RetryingGitHubClient implements GitHubClient {
 		this.maxRetries = builder.maxRetries;
 		this.initialDelayMs = builder.initialDelayMs;
 		this.pacingThreshold = builder.pacingThreshold;
+		this.rateGovernor = builder.rateGovernor;
 	}
 
 	/**
@@ -78,18 +108,53 @@ public final class RetryingGitHubClient implements GitHubClient {
 
 	@Override
 	public String get(String path) {
-		return executeWithRetry(() -> delegate.get(path), "GET " + path);
+		return executeWithRetry(() -> delegate.get(path), RateLimitInfo.resourceForPath(path), "GET " + path);
 	}
 
 	@Override
 	public String getWithQuery(String path, String queryString) {
 		String desc = "GET " + path + (queryString != null ? "?" + queryString : "");
-		return executeWithRetry(() -> delegate.getWithQuery(path, queryString), desc);
+		return executeWithRetry(() -> delegate.getWithQuery(path, queryString), RateLimitInfo.resourceForPath(path),
+				desc);
 	}
 
 	@Override
 	public String postGraphQL(String body) {
-		return executeWithRetry(() -> delegate.postGraphQL(body), "POST GraphQL");
+		return executeWithRetry(() -> delegate.postGraphQL(body), RateLimitInfo.GRAPHQL, "POST GraphQL");
+	}
+
+	@Override
+	public ConditionalResponse getConditional(String path, @Nullable String etag, @Nullable String lastModified) {
+		return executeWithRetry(() -> delegate.getConditional(path, etag, lastModified),
+				RateLimitInfo.resourceForPath(path), "GET " + path);
+	}
+
+	@Override
+	public InputStream getStream(String path) {
+		return executeWithRetry(() -> delegate.getStream(path), RateLimitInfo.resourceForPath(path), "GET " + path);
+	}
+
+	@Override
+	public InputStream postGraphQLStream(String body) {
+		return executeWithRetry(() -> delegate.postGraphQLStream(body), RateLimitInfo.GRAPHQL, "POST GraphQL");
+	}
+
+	@Override
+	public CompletableFuture<String> getAsync(String path) {
+		return executeWithRetryAsync(() -> delegate.getAsync(path), RateLimitInfo.resourceForPath(path),
+				"GET " + path);
+	}
+
+	@Override
+	public CompletableFuture<String> getWithQueryAsync(String path, String queryString) {
+		String desc = "GET " + path + (queryString != null ? "?" + queryString : "");
+		return executeWithRetryAsync(() -> delegate.getWithQueryAsync(path, queryString),
+				RateLimitInfo.resourceForPath(path), desc);
+	}
+
+	@Override
+	public CompletableFuture<String> postGraphQLAsync(String body) {
+		return executeWithRetryAsync(() -> delegate.postGraphQLAsync(body), RateLimitInfo.GRAPHQL, "POST GraphQL");
 	}
 
 	@Override
@@ -97,27 +162,51 @@ public final class RetryingGitHubClient implements GitHubClient {
 		return delegate.getLastRateLimitInfo();
 	}
 
-	private String executeWithRetry(RequestSupplier supplier, String description) {
+	@Override
+	public RateLimitInfo getRateLimitInfo(String resource) {
+		return delegate.getRateLimitInfo(resource);
+	}
+
+	private <T> T executeWithRetry(RequestSupplier<T> supplier, String resource, String description) {
 		Exception lastException = null;
 		long delay = initialDelayMs;
 
 		for (int attempt = 0; attempt <= maxRetries; attempt++) {
 			try {
-				String result = supplier.get();
+				if (rateGovernor != null) {
+					long permitMs = rateGovernor.reserve(resource);
+					if (permitMs > 0) {
+						logger.debug("Rate governor: waiting {}ms for a {} permit ({})", permitMs, resource,
+								description);
+						sleep(permitMs);
+					}
+				}
+				else {
+					long resetMs = drainedWaitTime(resource);
+					if (resetMs > 0) {
+						sleep(resetMs);
+					}
+				}
+				T result;
+				try {
+					result = supplier.get();
+				}
+				finally {
+					observeRateLimit(resource);
+				}
 
 				// Proactive pacing after successful responses
-				paceIfNeeded(description);
+				long paceMs = computePaceTime(resource, description);
+				if (paceMs > 0) {
+					sleep(paceMs);
+				}
 
 				return result;
 			}
 			catch (GitHubHttpClient.GitHubApiException e) {
 				lastException = e;
 
-				// Don't retry client errors (4xx) except:
-				// - 429 Too Many Requests
-				// - 403 with remaining=0 (rate limit)
-				if (e.getStatusCode() >= 400 && e.getStatusCode() < 500 && e.getStatusCode() != 429
-						&& !e.isRateLimitError()) {
+				if (!isRetryable(e)) {
 					throw e;
 				}
 
@@ -149,11 +238,25 @@ public final class RetryingGitHubClient implements GitHubClient {
 	}
 
 	/**
-	 * Compute how long to wait before retrying. For rate limit errors with a known reset
-	 * time, waits until exactly that time (+1s buffer). Otherwise falls back to the
-	 * default exponential backoff delay.
+	 * Compute how long to wait before retrying. A {@code Retry-After} header takes
+	 * precedence. For rate limit errors with a known reset time, waits until exactly that
+	 * time (+1s buffer). Secondary rate limits without either wait at least a minute.
+	 * Otherwise falls back to the default exponential backoff delay.
 	 */
 	private long computeWaitTime(GitHubHttpClient.GitHubApiException e, long defaultDelay) {
+		if (e.getRetryAfterSeconds() >= 0) {
+			long waitSeconds = Math.max(1, e.getRetryAfterSeconds());
+			if (waitSeconds <= MAX_RESET_WAIT_SECONDS) {
+				logger.info("{} Waiting {} seconds as requested by Retry-After", e.getMessage(), waitSeconds);
+				return Math.max(waitSeconds * 1000, defaultDelay);
+			}
+			logger.warn("Retry-After is {} seconds (> 1hr), using exponential backoff instead", waitSeconds);
+			return defaultDelay;
+		}
+		if (e.isSecondaryRateLimit() && e.getResetEpochSeconds() <= 0) {
+			logger.info("Secondary rate limit without Retry-After. Waiting {}ms", SECONDARY_LIMIT_WAIT_MS);
+			return Math.max(SECONDARY_LIMIT_WAIT_MS, defaultDelay);
+		}
 		if (e.isRateLimitError() && e.getResetEpochSeconds() > 0) {
 			long nowSeconds = Instant.now().getEpochSecond();
 			long waitSeconds = e.getResetEpochSeconds() - nowSeconds + 1; // +1s buffer
@@ -173,14 +276,148 @@ public final class RetryingGitHubClient implements GitHubClient {
 	}
 
 	/**
-	 * Proactive pacing: after a successful request, check remaining rate limit and slow
-	 * down to avoid hitting the wall. Spreads remaining requests evenly across time until
-	 * reset.
+	 * Asynchronous counterpart of {@link #executeWithRetry}. Backoff delays, reset waits
+	 * and pacing are scheduled with {@link CompletableFuture#delayedExecutor} rather than
+	 * sleeping, so a small thread pool can drive many concurrent requests.
 	 */
-	private void paceIfNeeded(String description) {
-		RateLimitInfo info = delegate.getLastRateLimitInfo();
+	private CompletableFuture<String> executeWithRetryAsync(Supplier<CompletableFuture<String>> supplier,
+			String resource, String description) {
+		CompletableFuture<String> result = new CompletableFuture<>();
+		attemptAsync(supplier, resource, description, 0, initialDelayMs, result);
+		return result;
+	}
+
+	private void attemptAsync(Supplier<CompletableFuture<String>> supplier, String resource, String description,
+			int attempt, long delay, CompletableFuture<String> result) {
+		long permitMs = rateGovernor != null ? rateGovernor.reserve(resource) : drainedWaitTime(resource);
+		if (permitMs > 0) {
+			CompletableFuture.delayedExecutor(permitMs, TimeUnit.MILLISECONDS)
+				.execute(() -> sendAsync(supplier, resource, description, attempt, delay, result));
+		}
+		else {
+			sendAsync(supplier, resource, description, attempt, delay, result);
+		}
+	}
+
+	private void sendAsync(Supplier<CompletableFuture<String>> supplier, String resource, String description,
+			int attempt, long delay, CompletableFuture<String> result) {
+		CompletableFuture<String> call;
+		try {
+			call = supplier.get();
+		}
+		catch (RuntimeException e) {
+			call = CompletableFuture.failedFuture(e);
+		}
+
+		call.whenComplete((value, error) -> {
+			observeRateLimit(resource);
+			if (error == null) {
+				// Proactive pacing after successful responses
+				long paceMs = computePaceTime(resource, description);
+				if (paceMs > 0) {
+					CompletableFuture.delayedExecutor(paceMs, TimeUnit.MILLISECONDS)
+						.execute(() -> result.complete(value));
+				}
+				else {
+					result.complete(value);
+				}
+				return;
+			}
+
+			Throwable cause = unwrap(error);
+			if (!(cause instanceof Exception) || !isRetryable((Exception) cause)) {
+				result.completeExceptionally(cause);
+				return;
+			}
+
+			if (attempt >= maxRetries) {
+				logger.error("{} failed after {} attempts", description, maxRetries + 1);
+				result.completeExceptionally(cause instanceof RuntimeException ? cause
+						: new RuntimeException("Request failed after " + (maxRetries + 1) + " attempts", cause));
+				return;
+			}
+
+			long waitMs = cause instanceof GitHubHttpClient.GitHubApiException apiException
+					? computeWaitTime(apiException, delay) : delay;
+			logger.warn("{} failed (attempt {}/{}): {}. Retrying in {}ms...", description, attempt + 1, maxRetries + 1,
+					cause.getMessage(), waitMs);
+			CompletableFuture.delayedExecutor(waitMs, TimeUnit.MILLISECONDS)
+				.execute(() -> attemptAsync(supplier, resource, description, attempt + 1, delay * 2, result));
+		});
+	}
+
+	/**
+	 * Don't retry client errors (4xx) except 429 Too Many Requests and 403 with
+	 * remaining=0 (rate limit). Everything else (5xx, network) is retried.
+	 */
+	private boolean isRetryable(Exception e) {
+		if (e instanceof GitHubHttpClient.GitHubApiException apiException) {
+			int status = apiException.getStatusCode();
+			return !(status >= 400 && status < 500 && status != 429 && !apiException.isRateLimitError());
+		}
+		return true;
+	}
+
+	private static Throwable unwrap(Throwable error) {
+		if (error instanceof CompletionException && error.getCause() != null) {
+			return error.getCause();
+		}
+		return error;
+	}
+
+	/**
+	 * Feed the rate limit headers of the latest response into the governor, if any.
+	 */
+	private void observeRateLimit(String resource) {
+		if (rateGovernor != null) {
+			rateGovernor.observe(resource, RateLimits.forResource(delegate, resource));
+		}
+	}
+
+	/**
+	 * How long to wait before sending a request for a resource that an earlier response
+	 * drained, so the request does not fail.
+	 * @return delay in milliseconds until the resource's reset, or 0
+	 */
+	private long drainedWaitTime(String resource) {
+		Long until = drainedUntil.get(resource);
+		if (until == null) {
+			return 0;
+		}
+		long waitMs = until - System.currentTimeMillis();
+		if (waitMs <= 0) {
+			drainedUntil.remove(resource, until);
+			return 0;
+		}
+		return waitMs;
+	}
+
+	/**
+	 * Proactive pacing: after a successful request, check the remaining rate limit of the
+	 * resource the request was counted against and slow down to avoid hitting the wall.
+	 * Spreads remaining requests evenly across time until reset. When the resource is
+	 * drained, the response is returned at once and the next request waits for the reset,
+	 * see {@link #drainedWaitTime(String)}.
+	 * @return delay in milliseconds to apply before returning the response, or 0
+	 */
+	private long computePaceTime(String resource, String description) {
+		if (rateGovernor != null) {
+			// The governor meters requests before they are sent
+			return 0;
+		}
+		RateLimitInfo info = RateLimits.forResource(delegate, resource);
 		if (info == null || info.remaining() < 0) {
-			return;
+			return 0;
+		}
+
+		if (info.remaining() == 0) {
+			long waitSeconds = info.reset() - Instant.now().getEpochSecond() + 1; // +1s buffer
+			if (waitSeconds > 0 && waitSeconds <= MAX_RESET_WAIT_SECONDS) {
+				logger.info("Rate limit for {} exhausted. Next request waits {} seconds until reset at epoch {} ({})",
+						resource, waitSeconds, info.reset(), description);
+				drainedUntil.put(resource, (info.reset() + 1) * 1000); // +1s buffer
+			}
+			return 0;
 		}
 
 		if (info.remaining() > 0 && info.remaining() < pacingThreshold) {
@@ -192,11 +429,12 @@ public final class RetryingGitHubClient implements GitHubClient {
 				paceMs = Math.min(paceMs, 10_000); // cap at 10s
 				paceMs = Math.max(paceMs, 100); // minimum 100ms
 
-				logger.debug("Pacing: {}/{} remaining, sleeping {}ms ({})", info.remaining(), info.limit(), paceMs,
-						description);
-				sleep(paceMs);
+				logger.debug("Pacing {}: {}/{} remaining, sleeping {}ms ({})", resource, info.remaining(), info.limit(),
+						paceMs, description);
+				return paceMs;
 			}
 		}
+		return 0;
 	}
 
 	private void sleep(long ms) {
@@ -210,9 +448,9 @@ public final class RetryingGitHubClient implements GitHubClient {
 	}
 
 	@FunctionalInterface
-	private interface RequestSupplier {
+	private interface RequestSupplier<T> {
 
-		String get() throws Exception;
+		T get() throws Exception;
 
 	}
 
@@ -225,6 +463,7 @@ public final class RetryingGitHubClient implements GitHubClient {
 	 * <li>maxRetries: 3</li>
 	 * <li>initialDelay: 1 second</li>
 	 * <li>pacingThreshold: 100 (start pacing when remaining drops below this)</li>
+	 * <li>rateGovernor: none (pace after each call instead)</li>
 	 * </ul>
 	 */
 	public static class Builder {
@@ -237,6 +476,8 @@ public final class RetryingGitHubClient implements GitHubClient {
 
 		private int pacingThreshold = 100;
 
+		private RateGovernor rateGovernor;
+
 		private Builder() {
 		}
 
@@ -293,6 +534,18 @@ public final class RetryingGitHubClient implements GitHubClient {
 			return this;
 		}
 
+		/**
+		 * Meter requests with a shared {@link RateGovernor}. Each attempt reserves a
+		 * permit before it is sent and feeds the observed rate limit back into the
+		 * governor; the per-call pacing sleep is disabled.
+		 * @param governor governor to use (null to pace after each call instead)
+		 * @return this builder
+		 */
+		public Builder rateGovernor(@Nullable RateGovernor governor) {
+			this.rateGovernor = governor;
+			return this;
+		}
+
 		/**
 		 * Build the RetryingGitHubClient.
 		 * @return configured RetryingGitHubClient
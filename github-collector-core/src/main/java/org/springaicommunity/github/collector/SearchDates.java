@@ -0,0 +1,85 @@
+package org.springaicommunity.github.collector;
+
+import org.jspecify.annotations.Nullable;
+
+import java.time.Instant;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.OffsetDateTime;
+import java.time.ZoneOffset;
+import java.time.format.DateTimeParseException;
+import java.time.temporal.ChronoUnit;
+
+/**
+ * Bounds of {@code created:} search qualifiers.
+ *
+ * <p>
+ * A bound is either an ISO date such as {@code 2024-03-01}, meaning the start of that day
+ * in UTC, or an ISO timestamp such as {@code 2024-03-01T06:30:00Z} for windows narrower
+ * than a day. Date ranges are half-open: the lower bound is inclusive and the upper bound
+ * exclusive. GitHub ranges are inclusive on both ends, so a qualifier ends one day, or
+ * one second, before the upper bound.
+ */
+final class SearchDates {
+
+	private static final int DATE_LENGTH = "yyyy-MM-dd".length();
+
+	private SearchDates() {
+	}
+
+	/**
+	 * Parse a bound or an item timestamp. Timestamps without an offset are taken as UTC.
+	 * @param value ISO date or timestamp
+	 * @return the instant the value denotes
+	 * @throws DateTimeParseException if the value is neither
+	 */
+	static Instant parse(String value) {
+		if (value.length() == DATE_LENGTH) {
+			return LocalDate.parse(value).atStartOfDay().toInstant(ZoneOffset.UTC);
+		}
+		try {
+			return OffsetDateTime.parse(value).toInstant();
+		}
+		catch (DateTimeParseException e) {
+			return LocalDateTime.parse(value).toInstant(ZoneOffset.UTC);
+		}
+	}
+
+	/**
+	 * Format an instant as a bound: a date when it falls on midnight UTC, otherwise a
+	 * timestamp to the second.
+	 * @param instant the instant to format
+	 * @return the bound
+	 */
+	static String format(Instant instant) {
+		Instant seconds = instant.truncatedTo(ChronoUnit.SECONDS);
+		if (seconds.equals(seconds.truncatedTo(ChronoUnit.DAYS))) {
+			return LocalDate.ofInstant(seconds, ZoneOffset.UTC).toString();
+		}
+		return seconds.toString();
+	}
+
+	/**
+	 * Build the {@code created:} qualifier for a half-open range.
+	 * @param createdAfter inclusive lower bound, or null
+	 * @param createdBefore exclusive upper bound, or null
+	 * @return the qualifier, or null if neither bound is set
+	 */
+	static @Nullable String createdQualifier(@Nullable String createdAfter, @Nullable String createdBefore) {
+		if (createdAfter != null && createdBefore != null) {
+			if (createdAfter.length() == DATE_LENGTH && createdBefore.length() == DATE_LENGTH) {
+				return "created:" + createdAfter + ".." + LocalDate.parse(createdBefore).minusDays(1);
+			}
+			return "created:" + parse(createdAfter).truncatedTo(ChronoUnit.SECONDS) + ".."
+					+ parse(createdBefore).truncatedTo(ChronoUnit.SECONDS).minusSeconds(1);
+		}
+		if (createdAfter != null) {
+			return "created:>=" + createdAfter;
+		}
+		if (createdBefore != null) {
+			return "created:<" + createdBefore;
+		}
+		return null;
+	}
+
+}
@@ -11,8 +11,20 @@ import java.util.List;
  * @param items the items returned from the search
  * @param nextCursor cursor for fetching the next page (null if no more pages)
  * @param hasMore whether there are more items available
+ * @param totalCount total number of items matching the search as reported with the page,
+ * or -1 if unknown
  */
-public record SearchResult<T>(List<T> items, @Nullable String nextCursor, boolean hasMore) {
+public record SearchResult<T>(List<T> items, @Nullable String nextCursor, boolean hasMore, int totalCount) {
+
+	/**
+	 * Create a result without a total count.
+	 * @param items the items returned from the search
+	 * @param nextCursor cursor for fetching the next page (null if no more pages)
+	 * @param hasMore whether there are more items available
+	 */
+	public SearchResult(List<T> items, @Nullable String nextCursor, boolean hasMore) {
+		this(items, nextCursor, hasMore, -1);
+	}
 
 	/**
 	 * Create an empty result with no more pages.
@@ -0,0 +1,307 @@
+package org.springaicommunity.github.collector;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.jspecify.annotations.Nullable;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.HexFormat;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.function.BiFunction;
+import java.util.function.Function;
+import java.util.regex.Pattern;
+
+/**
+ * Persists the time windows planned for a search, and the item counts of the ranges
+ * counted while planning, so later runs do not plan the same history again.
+ *
+ * <p>
+ * A cache is keyed by the search query without its date qualifier, i.e. by repository,
+ * item type, state and labels. Only settled ranges are reused: ranges that had ended at
+ * least a settle period (30 days by default) before they were planned or counted. On the
+ * next run the planner returned by {@link #planner} takes the settled windows at the
+ * start of the cached plan as they are and plans only the rest of the range, and the
+ * count functions returned by {@link #counting(BiFunction)} and
+ * {@link #histogram(Function)} answer settled ranges from the cache. A scheduled
+ * collection over a long history then only counts its recent, trailing window.
+ *
+ * <p>
+ * The count of a settled range only stays put if no item can move into it later. Items
+ * leave and enter a state or a label at any time, e.g. old issues get closed, so a range
+ * searched with a state or label qualifier keeps growing and a reused window could exceed
+ * the search limit. Such searches are planned from scratch on every run; plan on the count
+ * without state and label filters instead, which settles and bounds every filtered
+ * count, to reuse one plan for all of them.
+ *
+ * <p>
+ * Usage:
+ *
+ * <pre>{@code
+ * var cache = new WindowPlanCache(Path.of(".github-cache/window-plans"), baseQuery);
+ * AdaptiveWindowPlanner planner = cache.planner(new HistogramWindowPlanner(cache.histogram(histogramFunction)));
+ * List<TimeWindow> windows = planner.planWindows("2020-01-01", "2026-01-01", countFunction);
+ * }</pre>
+ */
+public final class WindowPlanCache {
+
+	private static final Logger logger = LoggerFactory.getLogger(WindowPlanCache.class);
+
+	/**
+	 * Default time after which a date range is considered settled.
+	 */
+	public static final Duration DEFAULT_SETTLE_PERIOD = Duration.ofDays(30);
+
+	private static final Pattern MUTABLE_QUALIFIER = Pattern
+		.compile("(?:^|\\s)-?(?:is:(?:open|closed|merged|unmerged)|label:|no:label)");
+
+	private final Path planFile;
+
+	private final String key;
+
+	private final Duration settlePeriod;
+
+	private final Clock clock;
+
+	private final ObjectMapper objectMapper = ObjectMapperFactory.create();
+
+	private final boolean settles;
+
+	private final @Nullable WindowPlan cachedPlan;
+
+	private final Map<String, Integer> counts = new TreeMap<>();
+
+	/**
+	 * Create a cache with the default settle period.
+	 * @param directory directory holding the plan files
+	 * @param key search query without date qualifiers
+	 */
+	public WindowPlanCache(Path directory, String key) {
+		this(directory, key, DEFAULT_SETTLE_PERIOD, Clock.systemUTC());
+	}
+
+	/**
+	 * Create a cache.
+	 * @param directory directory holding the plan files
+	 * @param key search query without date qualifiers
+	 * @param settlePeriod time after which a range no longer changes
+	 * @param clock clock deciding which ranges have settled
+	 */
+	public WindowPlanCache(Path directory, String key, Duration settlePeriod, Clock clock) {
+		this.planFile = directory.resolve(fileName(key));
+		this.key = key;
+		this.settlePeriod = settlePeriod;
+		this.clock = clock;
+		this.settles = !MUTABLE_QUALIFIER.matcher(key).find();
+		if (!settles) {
+			logger.info("Not caching window plans of '{}': counts filtered by state or label keep changing", key);
+		}
+		this.cachedPlan = settles ? load() : null;
+		if (cachedPlan != null) {
+			counts.putAll(cachedPlan.counts());
+		}
+	}
+
+	/**
+	 * Wrap a planner so that it reuses the settled windows of the cached plan and records
+	 * every plan it makes.
+	 * @param planner the planner for the ranges not covered by the cache
+	 * @return the caching planner, or {@code planner} itself if the key is filtered by
+	 * state or label
+	 */
+	public AdaptiveWindowPlanner planner(AdaptiveWindowPlanner planner) {
+		return settles ? new CachingPlanner(planner) : planner;
+	}
+
+	/**
+	 * Wrap a count function so that settled ranges are counted once.
+	 * @param countFunction function that takes (createdAfter, createdBefore) and returns
+	 * the number of items in that range, or -1 on error
+	 * @return the caching count function
+	 */
+	public BiFunction<String, String, Integer> counting(BiFunction<String, String, Integer> countFunction) {
+		return (createdAfter, createdBefore) -> {
+			Integer cached = counts.get(rangeKey(createdAfter, createdBefore));
+			if (cached != null) {
+				return cached;
+			}
+			int count = countFunction.apply(createdAfter, createdBefore);
+			remember(new AdaptiveWindowPlanner.TimeWindow(createdAfter, createdBefore), count);
+			return count;
+		};
+	}
+
+	/**
+	 * Wrap a histogram function so that settled ranges are counted once. Only the ranges
+	 * missing from the cache are passed on, in a single call.
+	 * @param histogramFunction function that takes a list of date ranges and returns the
+	 * number of items in each, or -1 for a range it could not count
+	 * @return the caching histogram function
+	 */
+	public Function<List<AdaptiveWindowPlanner.TimeWindow>, List<Integer>> histogram(
+			Function<List<AdaptiveWindowPlanner.TimeWindow>, List<Integer>> histogramFunction) {
+		return ranges -> {
+			List<Integer> result = new ArrayList<>(ranges.size());
+			List<AdaptiveWindowPlanner.TimeWindow> missing = new ArrayList<>();
+			for (AdaptiveWindowPlanner.TimeWindow range : ranges) {
+				Integer cached = counts.get(rangeKey(range.createdAfter(), range.createdBefore()));
+				result.add(cached);
+				if (cached == null) {
+					missing.add(range);
+				}
+			}
+			if (missing.isEmpty()) {
+				return result;
+			}
+
+			List<Integer> missingCounts = histogramFunction.apply(missing);
+			if (missingCounts == null || missingCounts.size() != missing.size()) {
+				return missingCounts;
+			}
+			int next = 0;
+			for (int i = 0; i < result.size(); i++) {
+				if (result.get(i) == null) {
+					int count = missingCounts.get(next++);
+					remember(ranges.get(i), count);
+					result.set(i, count);
+				}
+			}
+			return result;
+		};
+	}
+
+	/**
+	 * Keep the count of a settled range.
+	 */
+	private void remember(AdaptiveWindowPlanner.TimeWindow range, int count) {
+		if (settles && count >= 0 && isSettled(range, clock.instant())) {
+			counts.put(rangeKey(range.createdAfter(), range.createdBefore()), count);
+		}
+	}
+
+	private boolean isSettled(AdaptiveWindowPlanner.TimeWindow range, Instant asOf) {
+		return !range.end().isAfter(asOf.minus(settlePeriod));
+	}
+
+	private @Nullable WindowPlan load() {
+		if (!Files.exists(planFile)) {
+			return null;
+		}
+		try {
+			WindowPlan plan = objectMapper.readValue(planFile.toFile(), WindowPlan.class);
+			return key.equals(plan.key()) ? plan : null;
+		}
+		catch (Exception e) {
+			logger.warn("Ignoring unreadable window plan {}: {}", planFile, e.getMessage());
+			return null;
+		}
+	}
+
+	private void save(WindowPlan plan) {
+		try {
+			// Write then move, so a crash never leaves a truncated plan behind
+			Files.createDirectories(planFile.getParent());
+			Path tmpFile = planFile.resolveSibling(planFile.getFileName() + ".tmp");
+			objectMapper.writerWithDefaultPrettyPrinter().writeValue(tmpFile.toFile(), plan);
+			Files.move(tmpFile, planFile, StandardCopyOption.REPLACE_EXISTING);
+		}
+		catch (IOException e) {
+			// A lost plan only costs the next run its count queries
+			logger.warn("Failed to save window plan {}: {}", planFile, e.getMessage());
+		}
+	}
+
+	private static String rangeKey(String createdAfter, String createdBefore) {
+		return createdAfter + "/" + createdBefore;
+	}
+
+	private static String fileName(String key) {
+		try {
+			byte[] digest = MessageDigest.getInstance("SHA-256").digest(key.getBytes(StandardCharsets.UTF_8));
+			return "window_plan_" + HexFormat.of().formatHex(digest, 0, 16) + ".json";
+		}
+		catch (NoSuchAlgorithmException e) {
+			throw new IllegalStateException("SHA-256 not available", e);
+		}
+	}
+
+	/**
+	 * Planner reusing the settled prefix of the cached plan.
+	 */
+	private final class CachingPlanner extends AdaptiveWindowPlanner {
+
+		private final AdaptiveWindowPlanner delegate;
+
+		private CachingPlanner(AdaptiveWindowPlanner delegate) {
+			super(delegate.getMaxPerWindow());
+			this.delegate = delegate;
+		}
+
+		@Override
+		public List<TimeWindow> planWindows(String createdAfter, String createdBefore,
+				BiFunction<String, String, Integer> countFunction) {
+			List<TimeWindow> windows = new ArrayList<>(reusableWindows(createdAfter, createdBefore));
+			String planFrom = windows.isEmpty() ? createdAfter : windows.get(windows.size() - 1).createdBefore();
+			if (!windows.isEmpty()) {
+				logger.info("  Reusing {} cached windows from {} to {}", windows.size(), createdAfter, planFrom);
+			}
+			if (SearchDates.parse(planFrom).isBefore(SearchDates.parse(createdBefore))) {
+				windows.addAll(delegate.planWindows(planFrom, createdBefore, counting(countFunction)));
+			}
+
+			save(new WindowPlan(key, createdAfter, getMaxPerWindow(), clock.instant().toString(), windows,
+					new TreeMap<>(counts)));
+			return windows;
+		}
+
+		/**
+		 * The windows at the start of the cached plan that had settled when they were
+		 * planned and end within the requested range.
+		 */
+		private List<TimeWindow> reusableWindows(String createdAfter, String createdBefore) {
+			if (cachedPlan == null || cachedPlan.maxPerWindow() != getMaxPerWindow()
+					|| !SearchDates.parse(cachedPlan.createdAfter()).equals(SearchDates.parse(createdAfter))) {
+				return List.of();
+			}
+
+			Instant plannedAt = Instant.parse(cachedPlan.plannedAt());
+			Instant end = SearchDates.parse(createdBefore);
+			List<TimeWindow> reusable = new ArrayList<>();
+			for (TimeWindow window : cachedPlan.windows()) {
+				if (!isSettled(window, plannedAt) || window.end().isAfter(end)) {
+					break;
+				}
+				reusable.add(window);
+			}
+			return reusable;
+		}
+
+	}
+
+	/**
+	 * Persisted plan of one search.
+	 *
+	 * @param key search query without date qualifiers
+	 * @param createdAfter start of the planned range
+	 * @param maxPerWindow per-window limit the plan was made for
+	 * @param plannedAt when the plan was made
+	 * @param windows the planned windows
+	 * @param counts item counts of settled ranges, keyed by {@code createdAfter/createdBefore}
+	 */
+	private record WindowPlan(String key, String createdAfter, int maxPerWindow, String plannedAt,
+			List<AdaptiveWindowPlanner.TimeWindow> windows, Map<String, Integer> counts) {
+	}
+
+}
@@ -3,8 +3,18 @@ package org.springaicommunity.github.collector;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
+import java.nio.file.Path;
+import java.time.Instant;
+import java.util.ArrayDeque;
 import java.util.ArrayList;
+import java.util.Deque;
 import java.util.List;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.atomic.AtomicInteger;
 import java.util.function.BiFunction;
 
 /**
@@ -22,6 +32,32 @@ import java.util.function.BiFunction;
  * range is not set, the request passes through to the delegate unchanged.
  *
  * <p>
+ * An {@code incremental} request is resolved against the stored high-water mark before
+ * planning; a delta small enough for one query skips windowing altogether.
+ *
+ * <p>
+ * Each window is collected with its index, so the checkpoints written after every batch
+ * identify the window. A {@code resume} request continues inside the interrupted window
+ * and plans the remaining windows from its end.
+ *
+ * <p>
+ * With a window parallelism above 1, windows are independent search queries collected
+ * concurrently. Each window writes into its own reserved range of batch numbers, large
+ * enough for the 1,000 results a query can return, so numbering is deterministic but not
+ * contiguous. Results are merged in window order, and progress is checkpointed for the
+ * completed prefix of windows; a resumed collection deletes the batches written after
+ * that prefix and collects those windows again. Single-file and incremental collections
+ * always run sequentially.
+ *
+ * <p>
+ * In lazy mode nothing is planned up front. Windows are taken from a work queue seeded
+ * with the whole range: the first search page of a window is fetched, and if the count it
+ * reports exceeds the limit the window is split in two and both halves go back to the
+ * front of the queue. A window that fits is collected right away, reusing that first
+ * page, so only ranges that are actually too large cost extra requests. Lazy windows are
+ * collected one at a time.
+ *
+ * <p>
  * Usage:
  *
  * <pre>{@code
@@ -38,14 +74,25 @@ public class WindowedCollectionService<T> {
 
 	private static final Logger logger = LoggerFactory.getLogger(WindowedCollectionService.class);
 
+	/**
+	 * Maximum number of results a single search query can return.
+	 */
+	private static final int SEARCH_RESULT_LIMIT = 1000;
+
+	private static final AtomicInteger POOL_COUNT = new AtomicInteger();
+
 	private final BaseCollectionService<T> delegate;
 
 	private final AdaptiveWindowPlanner planner;
 
 	private final BiFunction<String, String, Integer> countFunction;
 
+	private final int windowParallelism;
+
+	private final boolean lazy;
+
 	/**
-	 * Create a windowed collection service.
+	 * Create a windowed collection service that collects one window at a time.
 	 * @param delegate the underlying collection service to delegate each window to
 	 * @param planner the adaptive window planner for determining time window splits
 	 * @param countFunction function that takes (createdAfter, createdBefore) and returns
@@ -54,9 +101,44 @@ public class WindowedCollectionService<T> {
 	 */
 	public WindowedCollectionService(BaseCollectionService<T> delegate, AdaptiveWindowPlanner planner,
 			BiFunction<String, String, Integer> countFunction) {
+		this(delegate, planner, countFunction, 1);
+	}
+
+	/**
+	 * Create a windowed collection service.
+	 * @param delegate the underlying collection service to delegate each window to
+	 * @param planner the adaptive window planner for determining time window splits
+	 * @param countFunction function that takes (createdAfter, createdBefore) and returns
+	 * the number of items matching the base request criteria in that date range. Should
+	 * return -1 on error.
+	 * @param windowParallelism maximum number of windows collected concurrently
+	 */
+	public WindowedCollectionService(BaseCollectionService<T> delegate, AdaptiveWindowPlanner planner,
+			BiFunction<String, String, Integer> countFunction, int windowParallelism) {
+		this(delegate, planner, countFunction, windowParallelism, false);
+	}
+
+	/**
+	 * Create a windowed collection service.
+	 * @param delegate the underlying collection service to delegate each window to
+	 * @param planner the adaptive window planner for determining time window splits
+	 * @param countFunction function that takes (createdAfter, createdBefore) and returns
+	 * the number of items matching the base request criteria in that date range. Should
+	 * return -1 on error.
+	 * @param windowParallelism maximum number of windows collected concurrently
+	 * @param lazy split windows during collection, from the count reported by the first
+	 * search page of each window, instead of planning them up front
+	 */
+	public WindowedCollectionService(BaseCollectionService<T> delegate, AdaptiveWindowPlanner planner,
+			BiFunction<String, String, Integer> countFunction, int windowParallelism, boolean lazy) {
+		if (windowParallelism < 1) {
+			throw new IllegalArgumentException("windowParallelism must be positive, got: " + windowParallelism);
+		}
 		this.delegate = delegate;
 		this.planner = planner;
 		this.countFunction = countFunction;
+		this.windowParallelism = windowParallelism;
+		this.lazy = lazy;
 	}
 
 	/**
@@ -76,57 +158,288 @@ public class WindowedCollectionService<T> {
 			return delegate.collectItems(request);
 		}
 
-		logger.info("Planning time windows for {} to {}...", request.createdAfter(), request.createdBefore());
+		// Resolve an incremental run once, so every window shares the same high-water mark
+		if (request.incremental()) {
+			request = delegate.prepareIncremental(delegate.validateRequest(request));
+			if (request.updatedAfter() != null) {
+				String[] repoParts = request.repository().split("/");
+				int delta = delegate.getTotalItemCount(delegate.buildSearchQuery(repoParts[0], repoParts[1], request));
+				if (delta >= 0 && delta <= planner.getMaxPerWindow()) {
+					logger.info("Incremental delta of {} items fits a single query, passing through to delegate",
+							delta);
+					return delegate.collectItems(request);
+				}
+			}
+		}
 
-		List<AdaptiveWindowPlanner.TimeWindow> windows = planner.planWindows(request.createdAfter(),
-				request.createdBefore(), countFunction);
+		// Continue an interrupted collection inside or after its last checkpointed window
+		ResumeState checkpoint = request.resume() ? delegate.loadWindowCheckpoint(request) : null;
+		List<AdaptiveWindowPlanner.TimeWindow> windows = new ArrayList<>();
+		String planFrom = request.createdAfter();
+		int firstWindow = 0;
+		boolean resumeInWindow = false;
+		int batchOffset = request.batchOffset() != null ? request.batchOffset() : 0;
+		if (checkpoint != null) {
+			planFrom = checkpoint.createdBefore();
+			if (checkpoint.complete()) {
+				firstWindow = checkpoint.windowIndex() + 1;
+				batchOffset = checkpoint.batchNumber();
+			}
+			else {
+				firstWindow = checkpoint.windowIndex();
+				batchOffset = checkpoint.batchNumber() - checkpoint.completedBatches().size();
+				resumeInWindow = true;
+				windows.add(
+						new AdaptiveWindowPlanner.TimeWindow(checkpoint.createdAfter(), checkpoint.createdBefore()));
+			}
+			logger.info("Resuming windowed collection at window {} after batch {}", firstWindow + 1,
+					checkpoint.batchNumber());
+			delegate.discardBatchesAfter(request, checkpoint.batchNumber());
+		}
 
-		if (windows.size() <= 1) {
-			logger.info("Single window sufficient, passing through to delegate");
-			return delegate.collectItems(request);
+		// Incremental windows rewrite earlier batches, so they only run one at a time
+		boolean parallel = !lazy && windowParallelism > 1 && !request.singleFile() && request.updatedAfter() == null;
+		boolean clean = checkpoint == null && request.clean();
+		List<CollectionResult> results;
+		if (lazy) {
+			if (planFrom.compareTo(request.createdBefore()) < 0) {
+				windows.add(new AdaptiveWindowPlanner.TimeWindow(planFrom, request.createdBefore()));
+			}
+			results = collectLazily(request, windows, firstWindow, resumeInWindow, batchOffset, clean);
 		}
+		else {
+			if (planFrom.compareTo(request.createdBefore()) < 0) {
+				logger.info("Planning time windows for {} to {}...", planFrom, request.createdBefore());
+				windows.addAll(planner.planWindows(planFrom, request.createdBefore(), countFunction));
+			}
 
-		logger.info("Split into {} time windows", windows.size());
+			if (checkpoint == null && windows.size() <= 1) {
+				logger.info("Single window sufficient, passing through to delegate");
+				return delegate.collectItems(request);
+			}
+
+			logger.info("Split into {} time windows", firstWindow + windows.size());
+			results = collectPlanned(request, windows, firstWindow, resumeInWindow, batchOffset, clean, parallel);
+		}
 
 		int totalItems = 0;
 		int totalProcessed = 0;
 		List<String> allBatchFiles = new ArrayList<>();
 		String outputDirectory = null;
-		int batchOffset = 0;
+		for (CollectionResult windowResult : results) {
+			totalItems += windowResult.totalIssues();
+			totalProcessed += windowResult.processedIssues();
+			allBatchFiles.addAll(windowResult.batchFiles());
+			if (outputDirectory == null) {
+				outputDirectory = windowResult.outputDirectory();
+			}
+		}
 
-		for (int i = 0; i < windows.size(); i++) {
+		// Concurrent windows skip their own archives, so archive the whole collection once
+		if (parallel && request.zip() && outputDirectory != null) {
+			delegate.createZipFile(Path.of(outputDirectory), allBatchFiles, delegate.validateRequest(request));
+		}
+
+		delegate.clearWindowCheckpoint(request);
+
+		logger.info("Windowed collection complete: {}/{} total items across {} windows, {} batches", totalProcessed,
+				totalItems, results.size(), allBatchFiles.size());
+
+		return new CollectionResult(totalItems, totalProcessed, outputDirectory != null ? outputDirectory : "",
+				allBatchFiles);
+	}
+
+	/**
+	 * Collect planned windows, one at a time or concurrently.
+	 * @return the window results in window order
+	 */
+	private List<CollectionResult> collectPlanned(CollectionRequest request,
+			List<AdaptiveWindowPlanner.TimeWindow> windows, int firstWindow, boolean resumeInWindow, int batchOffset,
+			boolean clean, boolean parallel) {
+		int windowCount = firstWindow + windows.size();
+		List<CollectionResult> results = new ArrayList<>();
+
+		// An interrupted window is finished on its own before the rest run concurrently
+		int sequentialWindows = parallel ? (resumeInWindow ? 1 : 0) : windows.size();
+		for (int i = 0; i < sequentialWindows; i++) {
 			AdaptiveWindowPlanner.TimeWindow window = windows.get(i);
+			int windowIndex = firstWindow + i;
 
-			logger.info("Window {}/{}: {} to {}", i + 1, windows.size(), window.createdAfter(), window.createdBefore());
+			logger.info("Window {}/{}: {} to {}", windowIndex + 1, windowCount, window.createdAfter(),
+					window.createdBefore());
 
-			CollectionRequest windowRequest = request.toBuilder()
-				.createdAfter(window.createdAfter())
-				.createdBefore(window.createdBefore())
-				.batchOffset(batchOffset > 0 ? batchOffset : null)
-				.clean(i == 0 && request.clean())
-				.build();
+			CollectionResult windowResult = delegate.collectItems(
+					windowRequest(request, window, windowIndex, batchOffset, clean, i == 0 && resumeInWindow));
+			results.add(windowResult);
+			batchOffset += windowResult.batchFiles().size();
 
-			CollectionResult windowResult = delegate.collectItems(windowRequest);
+			logger.info("Window {}/{} complete: {}/{} items, {} batches", windowIndex + 1, windowCount,
+					windowResult.processedIssues(), windowResult.totalIssues(), windowResult.batchFiles().size());
+		}
 
-			totalItems += windowResult.totalIssues();
-			totalProcessed += windowResult.processedIssues();
-			allBatchFiles.addAll(windowResult.batchFiles());
+		if (sequentialWindows < windows.size()) {
+			results.addAll(collectInParallel(request, windows.subList(sequentialWindows, windows.size()),
+					firstWindow + sequentialWindows, windowCount, batchOffset, clean));
+		}
+		return results;
+	}
 
-			if (outputDirectory == null) {
-				outputDirectory = windowResult.outputDirectory();
+	/**
+	 * Collect windows one at a time from a work queue, splitting a window in two whenever
+	 * the first page of its search reports more items than a window may hold. The first
+	 * page of a window that fits is handed to its collection, so it is not fetched twice.
+	 * @param windows the initial queue; an interrupted window to resume comes first
+	 * @return the window results in window order
+	 */
+	private List<CollectionResult> collectLazily(CollectionRequest request,
+			List<AdaptiveWindowPlanner.TimeWindow> windows, int firstWindow, boolean resumeInWindow, int batchOffset,
+			boolean clean) {
+		Deque<AdaptiveWindowPlanner.TimeWindow> queue = new ArrayDeque<>(windows);
+		List<CollectionResult> results = new ArrayList<>();
+		int windowIndex = firstWindow;
+		while (!queue.isEmpty()) {
+			AdaptiveWindowPlanner.TimeWindow window = queue.removeFirst();
+			boolean resume = windowIndex == firstWindow && resumeInWindow;
+			CollectionRequest windowRequest = windowRequest(request, window, windowIndex, batchOffset, clean, resume);
+
+			// The interrupted window was sized by the run that started it
+			if (!resume) {
+				SearchResult<T> firstPage = delegate.fetchFirstPage(windowRequest);
+				int count = firstPage.totalCount() >= 0 ? firstPage.totalCount()
+						: countFunction.apply(window.createdAfter(), window.createdBefore());
+				if (count > planner.getMaxPerWindow()) {
+					Instant midpoint = AdaptiveWindowPlanner.midpoint(window.start(), window.end());
+					if (midpoint != null) {
+						logger.info("Window {} to {} holds {} items, splitting at {}", window.createdAfter(),
+								window.createdBefore(), count, SearchDates.format(midpoint));
+						queue.addFirst(new AdaptiveWindowPlanner.TimeWindow(midpoint, window.end()));
+						queue.addFirst(new AdaptiveWindowPlanner.TimeWindow(window.start(), midpoint));
+						continue;
+					}
+					logger.warn("Cannot split further ({} to {}, {} items > {}); collecting oversized window",
+							window.createdAfter(), window.createdBefore(), count, planner.getMaxPerWindow());
+				}
+				if (!request.dryRun()) {
+					delegate.reuseFirstPage(windowRequest, firstPage);
+				}
 			}
 
+			logger.info("Window {}: {} to {}", windowIndex + 1, window.createdAfter(), window.createdBefore());
+			CollectionResult windowResult = delegate.collectItems(windowRequest);
+			results.add(windowResult);
 			batchOffset += windowResult.batchFiles().size();
 
-			logger.info("Window {}/{} complete: {}/{} items, {} batches", i + 1, windows.size(),
-					windowResult.processedIssues(), windowResult.totalIssues(), windowResult.batchFiles().size());
+			logger.info("Window {} complete: {}/{} items, {} batches", windowIndex + 1, windowResult.processedIssues(),
+					windowResult.totalIssues(), windowResult.batchFiles().size());
+			windowIndex++;
 		}
+		return results;
+	}
 
-		logger.info("Windowed collection complete: {}/{} total items across {} windows, {} batches", totalProcessed,
-				totalItems, windows.size(), allBatchFiles.size());
+	/**
+	 * Build the request collecting one window, writing its batches after
+	 * {@code batchOffset}. Only the first window of a fresh collection cleans the output.
+	 */
+	private static CollectionRequest windowRequest(CollectionRequest request, AdaptiveWindowPlanner.TimeWindow window,
+			int windowIndex, int batchOffset, boolean clean, boolean resume) {
+		return request.toBuilder()
+			.createdAfter(window.createdAfter())
+			.createdBefore(window.createdBefore())
+			.batchOffset(batchOffset > 0 ? batchOffset : null)
+			.clean(windowIndex == 0 && clean)
+			.resume(resume)
+			.windowIndex(windowIndex)
+			.build();
+	}
 
-		return new CollectionResult(totalItems, totalProcessed, outputDirectory != null ? outputDirectory : "",
-				allBatchFiles);
+	/**
+	 * Collect windows concurrently, each into its own reserved range of batch numbers.
+	 * @return the window results in window order
+	 */
+	private List<CollectionResult> collectInParallel(CollectionRequest request,
+			List<AdaptiveWindowPlanner.TimeWindow> windows, int firstWindow, int windowCount, int batchOffset,
+			boolean clean) {
+		// Clean once up front; a window cleaning later would delete batches of the others
+		if (clean) {
+			delegate.cleanOutputDirectory(request);
+		}
+
+		int batchSize = delegate.validateRequest(request).batchSize();
+		int reserved = (SEARCH_RESULT_LIMIT + batchSize - 1) / batchSize + 1;
+		int threads = Math.min(windowParallelism, windows.size());
+		logger.info("Collecting {} windows, {} at a time, with {} batch numbers reserved per window", windows.size(),
+				threads, reserved);
+
+		ExecutorService executor = Executors.newFixedThreadPool(threads, windowThreads());
+		try {
+			List<CollectionRequest> windowRequests = new ArrayList<>();
+			List<Future<CollectionResult>> futures = new ArrayList<>();
+			for (int i = 0; i < windows.size(); i++) {
+				AdaptiveWindowPlanner.TimeWindow window = windows.get(i);
+				int windowIndex = firstWindow + i;
+				int windowOffset = batchOffset + i * reserved;
+				CollectionRequest windowRequest = request.toBuilder()
+					.createdAfter(window.createdAfter())
+					.createdBefore(window.createdBefore())
+					.batchOffset(windowOffset > 0 ? windowOffset : null)
+					.reservedBatches(reserved)
+					.clean(false)
+					.resume(false)
+					.zip(false)
+					.windowIndex(windowIndex)
+					.build();
+				windowRequests.add(windowRequest);
+				futures.add(executor.submit(() -> {
+					logger.info("Window {}/{}: {} to {}", windowIndex + 1, windowCount, window.createdAfter(),
+							window.createdBefore());
+					return delegate.collectItems(windowRequest);
+				}));
+			}
+
+			List<CollectionResult> results = new ArrayList<>();
+			int processed = 0;
+			for (int i = 0; i < futures.size(); i++) {
+				CollectionResult windowResult = awaitWindow(futures.get(i));
+				results.add(windowResult);
+				processed += windowResult.processedIssues();
+
+				// Later windows may already be done, but only a completed prefix is resumable
+				delegate.saveWindowCheckpoint(windowRequests.get(i), batchOffset + (i + 1) * reserved, processed);
+
+				logger.info("Window {}/{} complete: {}/{} items, {} batches", firstWindow + i + 1, windowCount,
+						windowResult.processedIssues(), windowResult.totalIssues(), windowResult.batchFiles().size());
+			}
+			return results;
+		}
+		finally {
+			executor.shutdownNow();
+		}
+	}
+
+	private static CollectionResult awaitWindow(Future<CollectionResult> window) {
+		try {
+			return window.get();
+		}
+		catch (InterruptedException e) {
+			Thread.currentThread().interrupt();
+			throw new RuntimeException("Windowed collection interrupted", e);
+		}
+		catch (ExecutionException e) {
+			if (e.getCause() instanceof RuntimeException runtime) {
+				throw runtime;
+			}
+			throw new RuntimeException("Window collection failed", e.getCause());
+		}
+	}
+
+	private static ThreadFactory windowThreads() {
+		String prefix = "window-" + POOL_COUNT.incrementAndGet() + "-";
+		AtomicInteger threadCount = new AtomicInteger();
+		return runnable -> {
+			Thread thread = new Thread(runnable, prefix + threadCount.incrementAndGet());
+			thread.setDaemon(true);
+			return thread;
+		};
 	}
 
 }
@@ -4,6 +4,7 @@ import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Nested;
 import org.junit.jupiter.api.Test;
 
+import java.time.Duration;
 import java.util.List;
 import java.util.function.BiFunction;
 
@@ -144,17 +145,53 @@ class AdaptiveWindowPlannerTest {
 	class EdgeCaseTest {
 
 		@Test
-		@DisplayName("Should handle 1-day range that exceeds limit")
-		void shouldHandleOneDayRange() {
+		@DisplayName("Should split 1-day range that exceeds limit into timestamp windows")
+		void shouldSplitOneDayRange() {
 			var planner = new AdaptiveWindowPlanner(900);
-			BiFunction<String, String, Integer> count = (after, before) -> 2000;
+			BiFunction<String, String, Integer> count = (after, before) -> {
+				if ("2023-06-15".equals(after) && "2023-06-16".equals(before)) {
+					return 2000;
+				}
+				return 800;
+			};
 
 			List<AdaptiveWindowPlanner.TimeWindow> windows = planner.planWindows("2023-06-15", "2023-06-16", count);
 
+			assertThat(windows).containsExactly(
+					new AdaptiveWindowPlanner.TimeWindow("2023-06-15", "2023-06-15T12:00:00Z"),
+					new AdaptiveWindowPlanner.TimeWindow("2023-06-15T12:00:00Z", "2023-06-16"));
+		}
+
+		@Test
+		@DisplayName("Should split busy hours down to minutes")
+		void shouldSplitDownToMinutes() {
+			var planner = new AdaptiveWindowPlanner(900);
+			// 1000 items per minute: every window wider than a minute is over the limit
+			BiFunction<String, String, Integer> count = (after, before) -> (int) Duration
+				.between(SearchDates.parse(after), SearchDates.parse(before))
+				.toMinutes() * 1000;
+
+			List<AdaptiveWindowPlanner.TimeWindow> windows = planner.planWindows("2023-06-15T12:00:00Z",
+					"2023-06-15T12:04:00Z", count);
+
+			assertThat(windows).extracting(AdaptiveWindowPlanner.TimeWindow::createdAfter)
+				.containsExactly("2023-06-15T12:00:00Z", "2023-06-15T12:01:00Z", "2023-06-15T12:02:00Z",
+						"2023-06-15T12:03:00Z");
+		}
+
+		@Test
+		@DisplayName("Should handle 1-minute range that exceeds limit")
+		void shouldHandleOneMinuteRange() {
+			var planner = new AdaptiveWindowPlanner(900);
+			BiFunction<String, String, Integer> count = (after, before) -> 2000;
+
+			List<AdaptiveWindowPlanner.TimeWindow> windows = planner.planWindows("2023-06-15T12:00:00Z",
+					"2023-06-15T12:01:00Z", count);
+
 			// Can't split further — returns oversized window
 			assertThat(windows).hasSize(1);
-			assertThat(windows.get(0).createdAfter()).isEqualTo("2023-06-15");
-			assertThat(windows.get(0).createdBefore()).isEqualTo("2023-06-16");
+			assertThat(windows.get(0).createdAfter()).isEqualTo("2023-06-15T12:00:00Z");
+			assertThat(windows.get(0).createdBefore()).isEqualTo("2023-06-15T12:01:00Z");
 		}
 
 		@Test
@@ -100,6 +100,62 @@ class ArgumentParserTest {
 			assertThat(config.issueState).isEqualTo(defaultProperties.getDefaultState());
 			assertThat(config.labelMode).isEqualTo(defaultProperties.getDefaultLabelMode());
 			assertThat(config.verbose).isEqualTo(defaultProperties.isVerbose());
+			assertThat(config.cacheDir).isNull();
+		}
+
+		@Test
+		@DisplayName("Should parse cache directory argument correctly")
+		void shouldParseCacheDirArgument() {
+			String[] args = { "--cache-dir", ".github-cache" };
+
+			ParsedConfiguration config = argumentParser.parseAndValidate(args);
+
+			assertThat(config.cacheDir).isEqualTo(".github-cache");
+		}
+
+		@Test
+		@DisplayName("Should parse parallelism argument correctly")
+		void shouldParseParallelismArgument() {
+			String[] args = { "--parallelism", "16" };
+
+			ParsedConfiguration config = argumentParser.parseAndValidate(args);
+
+			assertThat(config.parallelism).isEqualTo(16);
+		}
+
+		@Test
+		@DisplayName("Should reject non-positive parallelism")
+		void shouldRejectNonPositiveParallelism() {
+			String[] args = { "--parallelism", "0" };
+
+			assertThatThrownBy(() -> argumentParser.parseAndValidate(args)).isInstanceOf(IllegalArgumentException.class)
+				.hasMessageContaining("Parallelism must be positive");
+		}
+
+		@Test
+		@DisplayName("Should parse window parallelism argument correctly")
+		void shouldParseWindowParallelismArgument() {
+			String[] args = { "--window-parallelism", "4" };
+
+			ParsedConfiguration config = argumentParser.parseAndValidate(args);
+
+			assertThat(config.windowParallelism).isEqualTo(4);
+			assertThat(config.parallelism).isEqualTo(EnrichmentExecutor.DEFAULT_PARALLELISM);
+		}
+
+		@Test
+		@DisplayName("Should enable lazy windows")
+		void shouldParseLazyWindowsFlag() {
+			assertThat(argumentParser.parseAndValidate(new String[] {}).lazyWindows).isFalse();
+			assertThat(argumentParser.parseAndValidate(new String[] { "--lazy-windows" }).lazyWindows).isTrue();
+		}
+
+		@Test
+		@DisplayName("Should enable connection paging")
+		void shouldParseConnectionPagingFlag() {
+			assertThat(argumentParser.parseAndValidate(new String[] {}).connectionPaging).isFalse();
+			assertThat(argumentParser.parseAndValidate(new String[] { "--connection-paging" }).connectionPaging)
+				.isTrue();
 		}
 
 	}
@@ -458,6 +514,33 @@ class ArgumentParserTest {
 			assertThat(config.issueState).isEqualTo("closed");
 		}
 
+		@Test
+		@DisplayName("Should accept combined collection of issues and PRs")
+		void shouldParseCombinedType() {
+			ParsedConfiguration config = argumentParser
+				.parseAndValidate(new String[] { "--type", "combined", "--state", "closed" });
+
+			assertThat(config.collectionType).isEqualTo("combined");
+			assertThatThrownBy(
+					() -> argumentParser.parseAndValidate(new String[] { "--type", "combined", "--single-file" }))
+				.isInstanceOf(IllegalArgumentException.class)
+				.hasMessageContaining("Single-file output is not supported for combined collection");
+		}
+
+		@Test
+		@DisplayName("Should accept collection of all types")
+		void shouldParseAllType() {
+			ParsedConfiguration config = argumentParser
+				.parseAndValidate(new String[] { "--type", "all", "--pr-state", "merged" });
+
+			assertThat(config.collectionType).isEqualTo("all");
+			assertThat(config.prState).isEqualTo("merged");
+			assertThatThrownBy(
+					() -> argumentParser.parseAndValidate(new String[] { "--type", "all", "--single-file" }))
+				.isInstanceOf(IllegalArgumentException.class)
+				.hasMessageContaining("Single-file output is not supported when collecting all types");
+		}
+
 	}
 
 	@Nested
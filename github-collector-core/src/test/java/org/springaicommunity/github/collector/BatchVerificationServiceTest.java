@@ -117,6 +117,20 @@ class BatchVerificationServiceTest {
 			assertThat(result.dateRangeViolations().get(0).reason()).contains("upper bound");
 		}
 
+		@Test
+		@DisplayName("Should check timestamp bounds of sub-day windows")
+		void shouldCheckTimestampBounds() throws IOException {
+			writeBatchFile("batch_001_issues.json",
+					batchWithMetadata("issues", 1, List.of(issue(1, "OPEN", "2025-06-01T05:59:59Z"),
+							issue(2, "OPEN", "2025-06-01T06:00:00Z"), issue(3, "OPEN", "2025-06-01T12:00:00"))));
+
+			VerificationResult result = service.verify(tempDir, "issues", "all", "2025-06-01T06:00:00Z",
+					"2025-06-01T12:00:00Z");
+
+			assertThat(result.dateRangeViolations()).extracting(VerificationResult.DateRangeViolation::itemNumber)
+				.containsExactly(1L, 3L);
+		}
+
 		@Test
 		@DisplayName("Should pass when all items are within range")
 		void shouldPassWhenAllItemsInRange() throws IOException {
@@ -0,0 +1,232 @@
+package org.springaicommunity.github.collector;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.junit.jupiter.api.io.TempDir;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.stream.Stream;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+/**
+ * Unit tests for {@link CachingGitHubClient}.
+ *
+ * Tests conditional revalidation, persistence across instances, and LRU eviction.
+ */
+@DisplayName("CachingGitHubClient Tests")
+@ExtendWith(MockitoExtension.class)
+class CachingGitHubClientTest {
+
+	@Mock
+	private GitHubClient mockDelegate;
+
+	@TempDir
+	Path cacheDir;
+
+	private CachingGitHubClient newClient() {
+		return CachingGitHubClient.builder().wrapping(mockDelegate).cacheDirectory(cacheDir).build();
+	}
+
+	private long entryCount() throws IOException {
+		try (Stream<Path> files = Files.list(cacheDir)) {
+			return files.filter(p -> p.toString().endsWith(".json")).count();
+		}
+	}
+
+	@Nested
+	@DisplayName("Conditional Request Tests")
+	class ConditionalRequestTest {
+
+		@Test
+		@DisplayName("Should send unconditional request and store response on first GET")
+		void shouldStoreResponseOnFirstGet() throws IOException {
+			when(mockDelegate.getConditional("/repos/o/r/issues/1/events", null, null))
+				.thenReturn(new ConditionalResponse(200, "[1]", "\"abc\"", null));
+			CachingGitHubClient client = newClient();
+
+			String result = client.get("/repos/o/r/issues/1/events");
+
+			assertThat(result).isEqualTo("[1]");
+			assertThat(client.getMissCount()).isEqualTo(1);
+			assertThat(entryCount()).isEqualTo(1);
+		}
+
+		@Test
+		@DisplayName("Should send If-None-Match and serve cached body on 304")
+		void shouldServeCachedBodyOnNotModified() {
+			when(mockDelegate.getConditional("/repos/o/r/pulls/2/reviews", null, null))
+				.thenReturn(new ConditionalResponse(200, "[\"review\"]", "\"v1\"", "Mon, 01 Jan 2024 00:00:00 GMT"));
+			when(mockDelegate.getConditional("/repos/o/r/pulls/2/reviews", "\"v1\"", "Mon, 01 Jan 2024 00:00:00 GMT"))
+				.thenReturn(new ConditionalResponse(304, null, "\"v1\"", null));
+			CachingGitHubClient client = newClient();
+
+			client.get("/repos/o/r/pulls/2/reviews");
+			String result = client.get("/repos/o/r/pulls/2/reviews");
+
+			assertThat(result).isEqualTo("[\"review\"]");
+			assertThat(client.getHitCount()).isEqualTo(1);
+			verify(mockDelegate, never()).get(anyString());
+		}
+
+		@Test
+		@DisplayName("Should replace cached entry when resource changed")
+		void shouldReplaceEntryWhenChanged() {
+			when(mockDelegate.getConditional("/path", null, null))
+				.thenReturn(new ConditionalResponse(200, "old", "\"v1\"", null));
+			when(mockDelegate.getConditional("/path", "\"v1\"", null))
+				.thenReturn(new ConditionalResponse(200, "new", "\"v2\"", null));
+			when(mockDelegate.getConditional("/path", "\"v2\"", null))
+				.thenReturn(new ConditionalResponse(304, null, "\"v2\"", null));
+			CachingGitHubClient client = newClient();
+
+			assertThat(client.get("/path")).isEqualTo("old");
+			assertThat(client.get("/path")).isEqualTo("new");
+			assertThat(client.get("/path")).isEqualTo("new");
+		}
+
+		@Test
+		@DisplayName("Should not cache responses without validators")
+		void shouldNotCacheWithoutValidators() throws IOException {
+			when(mockDelegate.getConditional("/path", null, null)).thenReturn(ConditionalResponse.of("body"));
+			CachingGitHubClient client = newClient();
+
+			client.get("/path");
+			client.get("/path");
+
+			assertThat(entryCount()).isZero();
+			verify(mockDelegate, times(2)).getConditional("/path", null, null);
+		}
+
+		@Test
+		@DisplayName("Should key getWithQuery() entries by path and query string")
+		void shouldKeyByQueryString() {
+			when(mockDelegate.getConditional("/search/issues?q=a", null, null))
+				.thenReturn(new ConditionalResponse(200, "a", "\"a\"", null));
+			when(mockDelegate.getConditional("/search/issues?q=b", null, null))
+				.thenReturn(new ConditionalResponse(200, "b", "\"b\"", null));
+			CachingGitHubClient client = newClient();
+
+			assertThat(client.getWithQuery("/search/issues", "q=a")).isEqualTo("a");
+			assertThat(client.getWithQuery("/search/issues", "q=b")).isEqualTo("b");
+		}
+
+		@Test
+		@DisplayName("Should pass GraphQL requests through uncached")
+		void shouldPassThroughGraphQL() {
+			when(mockDelegate.postGraphQL("{}")).thenReturn("{\"data\":{}}");
+			CachingGitHubClient client = newClient();
+
+			assertThat(client.postGraphQL("{}")).isEqualTo("{\"data\":{}}");
+			verify(mockDelegate).postGraphQL("{}");
+		}
+
+	}
+
+	@Nested
+	@DisplayName("Persistence And Eviction Tests")
+	class PersistenceAndEvictionTest {
+
+		@Test
+		@DisplayName("Should reuse entries written by a previous instance")
+		void shouldReuseEntriesAcrossInstances() {
+			when(mockDelegate.getConditional("/path", null, null))
+				.thenReturn(new ConditionalResponse(200, "body", "\"v1\"", null));
+			when(mockDelegate.getConditional("/path", "\"v1\"", null))
+				.thenReturn(new ConditionalResponse(304, null, "\"v1\"", null));
+			newClient().get("/path");
+
+			CachingGitHubClient secondRun = newClient();
+			String result = secondRun.get("/path");
+
+			assertThat(result).isEqualTo("body");
+			assertThat(secondRun.getHitCount()).isEqualTo(1);
+		}
+
+		@Test
+		@DisplayName("Should evict least recently used entries when size bound is exceeded")
+		void shouldEvictLeastRecentlyUsed() {
+			String body = "x".repeat(400);
+			when(mockDelegate.getConditional(anyString(), isNull(), isNull()))
+				.thenAnswer(inv -> new ConditionalResponse(200, body, "\"" + inv.getArgument(0) + "\"", null));
+			when(mockDelegate.getConditional(anyString(), notNull(), isNull()))
+				.thenReturn(new ConditionalResponse(304, null, null, null));
+			CachingGitHubClient client = CachingGitHubClient.builder()
+				.wrapping(mockDelegate)
+				.cacheDirectory(cacheDir)
+				.maxSizeBytes(1000)
+				.build();
+
+			client.get("/a");
+			client.get("/b");
+			client.get("/a"); // hit: /a becomes most recently used
+			client.get("/c"); // exceeds bound: /b is evicted
+
+			assertThat(client.getEvictionCount()).isEqualTo(1);
+			assertThat(client.getSizeBytes()).isLessThanOrEqualTo(1000);
+
+			client.get("/a");
+			client.get("/b");
+			verify(mockDelegate, times(2)).getConditional("/b", null, null);
+			verify(mockDelegate, times(1)).getConditional("/a", null, null);
+		}
+
+		@Test
+		@DisplayName("Should treat corrupt entries as cache misses")
+		void shouldIgnoreCorruptEntries() throws IOException {
+			when(mockDelegate.getConditional("/path", null, null))
+				.thenReturn(new ConditionalResponse(200, "body", "\"v1\"", null));
+			newClient().get("/path");
+			try (Stream<Path> files = Files.list(cacheDir)) {
+				Path entry = files.filter(p -> p.toString().endsWith(".json")).findFirst().orElseThrow();
+				Files.writeString(entry, "not json{");
+			}
+
+			String result = newClient().get("/path");
+
+			assertThat(result).isEqualTo("body");
+			verify(mockDelegate, times(2)).getConditional("/path", null, null);
+		}
+
+	}
+
+	@Nested
+	@DisplayName("Builder Validation Tests")
+	class BuilderValidationTest {
+
+		@Test
+		@DisplayName("Should require a delegate")
+		void shouldRequireDelegate() {
+			assertThatThrownBy(() -> CachingGitHubClient.builder().cacheDirectory(cacheDir).build())
+				.isInstanceOf(IllegalStateException.class)
+				.hasMessageContaining("wrapping()");
+		}
+
+		@Test
+		@DisplayName("Should require a cache directory")
+		void shouldRequireCacheDirectory() {
+			assertThatThrownBy(() -> CachingGitHubClient.builder().wrapping(mockDelegate).build())
+				.isInstanceOf(IllegalStateException.class)
+				.hasMessageContaining("cacheDirectory()");
+		}
+
+		@Test
+		@DisplayName("Should reject non-positive size bound")
+		void shouldRejectNonPositiveSize() {
+			assertThatThrownBy(() -> CachingGitHubClient.builder()
+				.wrapping(mockDelegate)
+				.cacheDirectory(cacheDir)
+				.maxSizeBytes(0)
+				.build()).isInstanceOf(IllegalStateException.class);
+		}
+
+	}
+
+}
@@ -0,0 +1,280 @@
+package org.springaicommunity.github.collector;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+
+import java.io.ByteArrayInputStream;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+/**
+ * Unit tests for {@link CoalescingGitHubClient}.
+ *
+ * Tests that concurrent identical requests share one upstream call.
+ */
+@DisplayName("CoalescingGitHubClient Tests")
+class CoalescingGitHubClientTest {
+
+	@Nested
+	@DisplayName("Async Coalescing Tests")
+	class AsyncCoalescingTest {
+
+		@Test
+		@DisplayName("Should share one upstream call between identical in-flight requests")
+		void shouldCoalesceIdenticalRequests() {
+			GitHubClient delegate = mock(GitHubClient.class);
+			CompletableFuture<String> upstream = new CompletableFuture<>();
+			when(delegate.getAsync("/repos/o/r")).thenReturn(upstream);
+			CoalescingGitHubClient client = CoalescingGitHubClient.builder().wrapping(delegate).build();
+
+			CompletableFuture<String> first = client.getAsync("/repos/o/r");
+			CompletableFuture<String> second = client.getAsync("/repos/o/r");
+			upstream.complete("{}");
+
+			assertThat(first.join()).isEqualTo("{}");
+			assertThat(second.join()).isEqualTo("{}");
+			verify(delegate, times(1)).getAsync("/repos/o/r");
+			assertThat(client.getUpstreamCount()).isEqualTo(1);
+			assertThat(client.getCoalescedCount()).isEqualTo(1);
+		}
+
+		@Test
+		@DisplayName("Should not coalesce different requests")
+		void shouldNotCoalesceDifferentRequests() {
+			GitHubClient delegate = mock(GitHubClient.class);
+			when(delegate.getAsync(anyString())).thenReturn(new CompletableFuture<>());
+			when(delegate.postGraphQLAsync(anyString())).thenReturn(new CompletableFuture<>());
+			CoalescingGitHubClient client = CoalescingGitHubClient.builder().wrapping(delegate).build();
+
+			client.getAsync("/repos/o/r");
+			client.getAsync("/repos/o/s");
+			client.postGraphQLAsync("{\"query\":\"a\"}");
+			client.postGraphQLAsync("{\"query\":\"b\"}");
+
+			assertThat(client.getUpstreamCount()).isEqualTo(4);
+			assertThat(client.getCoalescedCount()).isZero();
+		}
+
+		@Test
+		@DisplayName("Should coalesce identical GraphQL bodies")
+		void shouldCoalesceGraphQL() {
+			GitHubClient delegate = mock(GitHubClient.class);
+			CompletableFuture<String> upstream = new CompletableFuture<>();
+			when(delegate.postGraphQLAsync("{\"query\":\"a\"}")).thenReturn(upstream);
+			CoalescingGitHubClient client = CoalescingGitHubClient.builder().wrapping(delegate).build();
+
+			CompletableFuture<String> first = client.postGraphQLAsync("{\"query\":\"a\"}");
+			CompletableFuture<String> second = client.postGraphQLAsync("{\"query\":\"a\"}");
+			upstream.complete("{\"data\":{}}");
+
+			assertThat(first.join()).isEqualTo(second.join());
+			verify(delegate, times(1)).postGraphQLAsync("{\"query\":\"a\"}");
+		}
+
+		@Test
+		@DisplayName("Should share failures with every waiter")
+		void shouldShareFailures() {
+			GitHubClient delegate = mock(GitHubClient.class);
+			CompletableFuture<String> upstream = new CompletableFuture<>();
+			when(delegate.getAsync("/missing")).thenReturn(upstream);
+			CoalescingGitHubClient client = CoalescingGitHubClient.builder().wrapping(delegate).build();
+
+			CompletableFuture<String> first = client.getAsync("/missing");
+			CompletableFuture<String> second = client.getAsync("/missing");
+			upstream.completeExceptionally(new GitHubHttpClient.GitHubApiException("Not Found", 404, "body"));
+
+			assertThatThrownBy(first::join).isInstanceOf(CompletionException.class)
+				.hasCauseInstanceOf(GitHubHttpClient.GitHubApiException.class);
+			assertThatThrownBy(second::join).isInstanceOf(CompletionException.class)
+				.hasCauseInstanceOf(GitHubHttpClient.GitHubApiException.class);
+		}
+
+		@Test
+		@DisplayName("Should go upstream again once the shared call has completed")
+		void shouldNotCacheCompletedCalls() {
+			GitHubClient delegate = mock(GitHubClient.class);
+			when(delegate.getAsync("/repos/o/r")).thenReturn(CompletableFuture.completedFuture("{}"));
+			CoalescingGitHubClient client = CoalescingGitHubClient.builder().wrapping(delegate).build();
+
+			client.getAsync("/repos/o/r").join();
+			client.getAsync("/repos/o/r").join();
+
+			verify(delegate, times(2)).getAsync("/repos/o/r");
+			assertThat(client.getCoalescedCount()).isZero();
+		}
+
+		@Test
+		@DisplayName("Should not let one caller cancel the shared call")
+		void shouldIsolateCancellation() {
+			GitHubClient delegate = mock(GitHubClient.class);
+			CompletableFuture<String> upstream = new CompletableFuture<>();
+			when(delegate.getAsync("/repos/o/r")).thenReturn(upstream);
+			CoalescingGitHubClient client = CoalescingGitHubClient.builder().wrapping(delegate).build();
+
+			CompletableFuture<String> first = client.getAsync("/repos/o/r");
+			CompletableFuture<String> second = client.getAsync("/repos/o/r");
+			first.cancel(true);
+			upstream.complete("{}");
+
+			assertThat(second.join()).isEqualTo("{}");
+		}
+
+	}
+
+	@Nested
+	@DisplayName("Blocking Coalescing Tests")
+	class BlockingCoalescingTest {
+
+		@Test
+		@DisplayName("Should let concurrent blocking callers share one call")
+		void shouldCoalesceBlockingCalls() throws Exception {
+			GitHubClient delegate = mock(GitHubClient.class);
+			CountDownLatch entered = new CountDownLatch(1);
+			CountDownLatch release = new CountDownLatch(1);
+			when(delegate.get("/repos/o/r/collaborators")).thenAnswer(invocation -> {
+				entered.countDown();
+				release.await();
+				return "[]";
+			});
+			CoalescingGitHubClient client = CoalescingGitHubClient.builder().wrapping(delegate).build();
+			ExecutorService executor = Executors.newFixedThreadPool(2);
+			try {
+				Future<String> leader = executor.submit(() -> client.get("/repos/o/r/collaborators"));
+				assertThat(entered.await(5, TimeUnit.SECONDS)).isTrue();
+				Future<String> follower = executor.submit(() -> client.get("/repos/o/r/collaborators"));
+				// Wait until the follower has joined before letting the leader finish
+				while (client.getCoalescedCount() == 0) {
+					Thread.sleep(5);
+				}
+				release.countDown();
+
+				assertThat(leader.get(5, TimeUnit.SECONDS)).isEqualTo("[]");
+				assertThat(follower.get(5, TimeUnit.SECONDS)).isEqualTo("[]");
+				verify(delegate, times(1)).get("/repos/o/r/collaborators");
+			}
+			finally {
+				executor.shutdownNow();
+			}
+		}
+
+		@Test
+		@DisplayName("Should rethrow the shared failure to blocking followers")
+		void shouldRethrowSharedFailure() {
+			GitHubClient delegate = mock(GitHubClient.class);
+			CompletableFuture<String> upstream = new CompletableFuture<>();
+			when(delegate.getAsync("/missing")).thenReturn(upstream);
+			CoalescingGitHubClient client = CoalescingGitHubClient.builder().wrapping(delegate).build();
+
+			client.getAsync("/missing");
+			CompletableFuture<String> blocking = CompletableFuture.supplyAsync(() -> client.get("/missing"));
+			while (client.getCoalescedCount() == 0) {
+				Thread.onSpinWait();
+			}
+			upstream.completeExceptionally(new GitHubHttpClient.GitHubApiException("Not Found", 404, "body"));
+
+			assertThatThrownBy(blocking::join).hasCauseInstanceOf(GitHubHttpClient.GitHubApiException.class);
+			verify(delegate, never()).get("/missing");
+		}
+
+		@Test
+		@DisplayName("Should give every concurrent streaming caller its own copy of one response")
+		void shouldCoalesceStreams() throws Exception {
+			GitHubClient delegate = mock(GitHubClient.class);
+			CountDownLatch entered = new CountDownLatch(1);
+			CountDownLatch release = new CountDownLatch(1);
+			when(delegate.getStream("/repos/o/r")).thenAnswer(invocation -> {
+				entered.countDown();
+				release.await();
+				return new ByteArrayInputStream("{\"id\":1}".getBytes(StandardCharsets.UTF_8));
+			});
+			CoalescingGitHubClient client = CoalescingGitHubClient.builder().wrapping(delegate).build();
+			ExecutorService executor = Executors.newFixedThreadPool(2);
+			try {
+				Future<InputStream> leader = executor.submit(() -> client.getStream("/repos/o/r"));
+				assertThat(entered.await(5, TimeUnit.SECONDS)).isTrue();
+				Future<InputStream> follower = executor.submit(() -> client.getStream("/repos/o/r"));
+				while (client.getCoalescedCount() == 0) {
+					Thread.sleep(5);
+				}
+				release.countDown();
+
+				assertThat(leader.get(5, TimeUnit.SECONDS)).hasContent("{\"id\":1}");
+				assertThat(follower.get(5, TimeUnit.SECONDS)).hasContent("{\"id\":1}");
+				verify(delegate, times(1)).getStream("/repos/o/r");
+			}
+			finally {
+				executor.shutdownNow();
+			}
+		}
+
+		@Test
+		@DisplayName("Should pass the upstream stream through when nobody joins")
+		void shouldNotBufferUnsharedStreams() {
+			GitHubClient delegate = mock(GitHubClient.class);
+			InputStream upstream = new ByteArrayInputStream("{}".getBytes(StandardCharsets.UTF_8));
+			when(delegate.postGraphQLStream("{\"query\":\"q\"}")).thenReturn(upstream);
+			CoalescingGitHubClient client = CoalescingGitHubClient.builder().wrapping(delegate).build();
+
+			assertThat(client.postGraphQLStream("{\"query\":\"q\"}")).isSameAs(upstream);
+			assertThat(client.getUpstreamCount()).isEqualTo(1);
+		}
+
+	}
+
+	@Nested
+	@DisplayName("Default Client Stack Tests")
+	class DefaultStackTest {
+
+		@Test
+		@DisplayName("Should coalesce streamed requests of the builder's default client")
+		void shouldCoalesceDefaultStreamingRequests() throws Exception {
+			try (GitHubApiSimulator simulator = GitHubApiSimulator.builder()
+				.repository("acme/widgets", 5, 0)
+				.eventsPerItem(3)
+				.latency(Duration.ofMillis(300))
+				.start()) {
+				RestService restService = GitHubCollectorBuilder.create()
+					.token("test")
+					.baseUrl(simulator.baseUrl())
+					.buildRestService();
+				int callers = 4;
+				CountDownLatch start = new CountDownLatch(1);
+				ExecutorService executor = Executors.newFixedThreadPool(callers);
+				try {
+					List<Future<List<IssueEvent>>> results = new ArrayList<>();
+					for (int i = 0; i < callers; i++) {
+						results.add(executor.submit(() -> {
+							start.await();
+							return restService.getIssueEvents("acme", "widgets", 1);
+						}));
+					}
+					start.countDown();
+
+					for (Future<List<IssueEvent>> result : results) {
+						assertThat(result.get(5, TimeUnit.SECONDS)).isNotEmpty();
+					}
+					assertThat(simulator.getRequestCount()).isEqualTo(1);
+				}
+				finally {
+					executor.shutdownNow();
+				}
+			}
+		}
+
+	}
+
+}
@@ -0,0 +1,101 @@
+package org.springaicommunity.github.collector;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * End-to-end throughput benchmark: a windowed issue collection over HTTP against a local
+ * {@link GitHubApiSimulator}. Not a unit test; run it manually:
+ *
+ * <pre>
+ * mvn -pl github-collector-core test-compile exec:java \
+ *     -Dexec.mainClass=org.springaicommunity.github.collector.CollectionThroughputBenchmark \
+ *     -Dexec.classpathScope=test \
+ *     -Dexec.args="100000 20"
+ * </pre>
+ *
+ * <p>
+ * Arguments are the number of issues (default 100,000) and the simulated per-request
+ * latency in milliseconds (default 0). Rate limits are lifted so the run measures the
+ * collector rather than the budget; batches are counted and discarded instead of being
+ * written to disk.
+ */
+public final class CollectionThroughputBenchmark {
+
+	private static final String REPOSITORY = "bench/simulated";
+
+	private CollectionThroughputBenchmark() {
+	}
+
+	public static void main(String[] args) throws Exception {
+		int issues = args.length > 0 ? Integer.parseInt(args[0]) : 100_000;
+		int latencyMs = args.length > 1 ? Integer.parseInt(args[1]) : 0;
+
+		try (GitHubApiSimulator simulator = GitHubApiSimulator.builder()
+			.repository(REPOSITORY, issues, issues / 5)
+			.latency(Duration.ofMillis(latencyMs))
+			.rateLimit(RateLimitInfo.CORE, Integer.MAX_VALUE, Duration.ofHours(1))
+			.rateLimit(RateLimitInfo.SEARCH, Integer.MAX_VALUE, Duration.ofMinutes(1))
+			.rateLimit(RateLimitInfo.GRAPHQL, Integer.MAX_VALUE, Duration.ofHours(1))
+			.start()) {
+			Path outputDir = Files.createTempDirectory("collection-benchmark");
+			AtomicLong items = new AtomicLong();
+			CollectionStateRepository repository = new CountingStateRepository(outputDir, items);
+
+			CollectionRequest request = CollectionRequest.builder()
+				.repository(REPOSITORY)
+				.issueState("all")
+				.batchSize(100)
+				.createdAfter("2020-01-01")
+				.createdBefore("2026-01-01")
+				.build();
+
+			System.out.printf("Simulating %s with %,d issues, %d ms latency%n", REPOSITORY, issues, latencyMs);
+			long start = System.nanoTime();
+			GitHubCollectorBuilder.create()
+				.token("benchmark")
+				.baseUrl(simulator.baseUrl())
+				.stateRepository(repository)
+				.archiveService((dir, batchFiles, archiveName, dryRun) -> {
+				})
+				.buildWindowedIssueCollector(request)
+				.collectItems(request);
+			double seconds = (System.nanoTime() - start) / 1e9;
+
+			System.out.printf("Collected %,d issues in %.1f s (%,.0f issues/s)%n", items.get(), seconds,
+					items.get() / seconds);
+			System.out.printf("Requests: %,d total, %,d core, %,d graphql, %,d search (%,.0f requests/s)%n",
+					simulator.getRequestCount(), simulator.getRequestCount(RateLimitInfo.CORE),
+					simulator.getRequestCount(RateLimitInfo.GRAPHQL), simulator.getRequestCount(RateLimitInfo.SEARCH),
+					simulator.getRequestCount() / seconds);
+		}
+	}
+
+	/**
+	 * Counts collected items instead of persisting them.
+	 */
+	private record CountingStateRepository(Path outputDir, AtomicLong items) implements CollectionStateRepository {
+
+		@Override
+		public Path createOutputDirectory(String collectionType, String repository, String state) {
+			return outputDir;
+		}
+
+		@Override
+		public void cleanOutputDirectory(Path outputDir) {
+		}
+
+		@Override
+		public String saveBatch(Path outputDir, int batchIndex, Map<String, Object> batchData, String collectionType,
+				boolean dryRun) {
+			items.addAndGet(((List<?>) batchData.get(collectionType)).size());
+			return "batch_" + batchIndex + ".json";
+		}
+
+	}
+
+}
@@ -0,0 +1,116 @@
+package org.springaicommunity.github.collector;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.mockito.junit.jupiter.MockitoSettings;
+import org.mockito.quality.Strictness;
+
+import java.util.List;
+import java.util.function.BiFunction;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+@DisplayName("CombinedCollectionService Tests")
+@ExtendWith(MockitoExtension.class)
+@MockitoSettings(strictness = Strictness.LENIENT)
+class CombinedCollectionServiceTest {
+
+	@Mock
+	private IssueCollectionService mockIssues;
+
+	@Mock
+	private PRCollectionService mockPRs;
+
+	@Mock
+	private GraphQLService mockGraphQLService;
+
+	@Mock
+	private AdaptiveWindowPlanner mockPlanner;
+
+	private final BiFunction<String, String, Integer> countFn = (after, before) -> 1500;
+
+	private CombinedCollectionService service;
+
+	@BeforeEach
+	void setUp() {
+		when(mockIssues.getCollectionType()).thenReturn("issues");
+		when(mockPRs.getCollectionType()).thenReturn("prs");
+		when(mockIssues.validateRequest(any())).thenAnswer(invocation -> invocation.getArgument(0));
+		when(mockIssues.collectItems(any()))
+			.thenReturn(new CollectionResult(600, 600, "issues/raw/closed/owner/repo", List.of("batch_1.json")));
+		when(mockPRs.collectItems(any()))
+			.thenReturn(new CollectionResult(300, 300, "prs/raw/closed/owner/repo", List.of("batch_1.json")));
+		service = new CombinedCollectionService(mockIssues, mockPRs, mockGraphQLService, mockPlanner, countFn);
+	}
+
+	private CollectionRequest.Builder request() {
+		return CollectionRequest.builder()
+			.repository("owner/repo")
+			.batchSize(100)
+			.issueState("closed")
+			.prState("open")
+			.clean(true);
+	}
+
+	@Test
+	@DisplayName("Should share one search between the issue and PR collections")
+	void shouldShareSearch() {
+		ArgumentCaptor<CombinedSearch> issueSearch = ArgumentCaptor.forClass(CombinedSearch.class);
+		ArgumentCaptor<CombinedSearch> prSearch = ArgumentCaptor.forClass(CombinedSearch.class);
+
+		verify(mockIssues).shareSearch(issueSearch.capture());
+		verify(mockPRs).shareSearch(prSearch.capture());
+		assertThat(issueSearch.getValue()).isNotNull().isSameAs(prSearch.getValue());
+	}
+
+	@Test
+	@DisplayName("Should collect pull requests in the issue state")
+	void shouldCollectBothTypes() {
+		CombinedCollectionResult result = service.collectItems(request().build());
+
+		ArgumentCaptor<CollectionRequest> prRequest = ArgumentCaptor.forClass(CollectionRequest.class);
+		verify(mockPRs).collectItems(prRequest.capture());
+		assertThat(prRequest.getValue().prState()).isEqualTo("closed");
+		assertThat(result.results()).containsOnlyKeys("issues", "prs");
+		assertThat(result.processedItems()).isEqualTo(900);
+		verify(mockPlanner, never()).planWindows(anyString(), anyString(), any());
+	}
+
+	@Test
+	@DisplayName("Should plan windows once and collect both types in each")
+	void shouldPlanWindowsOnce() {
+		when(mockPlanner.planWindows("2024-01-01", "2024-07-01", countFn))
+			.thenReturn(List.of(new AdaptiveWindowPlanner.TimeWindow("2024-01-01", "2024-04-01"),
+					new AdaptiveWindowPlanner.TimeWindow("2024-04-01", "2024-07-01")));
+
+		CombinedCollectionResult result = service
+			.collectItems(request().createdAfter("2024-01-01").createdBefore("2024-07-01").build());
+
+		ArgumentCaptor<CollectionRequest> issueRequests = ArgumentCaptor.forClass(CollectionRequest.class);
+		verify(mockIssues, times(2)).collectItems(issueRequests.capture());
+		assertThat(issueRequests.getAllValues()).extracting(CollectionRequest::createdAfter)
+			.containsExactly("2024-01-01", "2024-04-01");
+		assertThat(issueRequests.getAllValues()).extracting(CollectionRequest::batchOffset).containsExactly(null, 1);
+		assertThat(issueRequests.getAllValues()).extracting(CollectionRequest::clean).containsExactly(true, false);
+		verify(mockPRs, times(2)).collectItems(any());
+		verify(mockPlanner, times(1)).planWindows(anyString(), anyString(), any());
+		assertThat(result.results().get("prs").processedIssues()).isEqualTo(600);
+		assertThat(result.totalItems()).isEqualTo(1800);
+	}
+
+	@Test
+	@DisplayName("Should reject single-file output shared by both collections")
+	void shouldRejectSingleFile() {
+		assertThatThrownBy(() -> service.collectItems(request().singleFile(true).build()))
+			.isInstanceOf(IllegalArgumentException.class)
+			.hasMessageContaining("Single-file output is not supported");
+	}
+
+}
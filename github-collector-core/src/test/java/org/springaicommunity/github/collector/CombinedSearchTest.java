@@ -0,0 +1,111 @@
+package org.springaicommunity.github.collector;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+@DisplayName("CombinedSearch Tests")
+class CombinedSearchTest {
+
+	private static final String ISSUES = "repo:owner/repo is:issue is:closed created:2024-01-01..2024-05-31";
+
+	private static final String PRS = "repo:owner/repo is:pr is:closed created:2024-01-01..2024-05-31";
+
+	private static final String COMBINED = "repo:owner/repo is:closed created:2024-01-01..2024-05-31";
+
+	private GraphQLService graphQLService;
+
+	private CombinedSearch search;
+
+	@BeforeEach
+	void setUp() {
+		graphQLService = mock(GraphQLService.class);
+		search = new CombinedSearch(graphQLService);
+	}
+
+	@Test
+	@DisplayName("Should drop only the type qualifier from a typed query")
+	void shouldBuildCombinedQuery() {
+		assertThat(CombinedSearch.combinedQuery(ISSUES)).isEqualTo(COMBINED);
+		assertThat(CombinedSearch.combinedQuery(PRS)).isEqualTo(COMBINED);
+		assertThat(CombinedSearch.combinedQuery("repo:owner/repo is:issue label:\"is:pr\""))
+			.isEqualTo("repo:owner/repo label:\"is:pr\"");
+	}
+
+	@Nested
+	@DisplayName("Pages")
+	class PageTest {
+
+		private final Issue issue = new Issue(1, "Crash", "body", "CLOSED", LocalDateTime.of(2024, 1, 2, 0, 0), null,
+				null, "url", new Author("author", null), List.of(), List.of(), List.of());
+
+		private final PullRequest pullRequest = new PullRequest(2, "Fix", "body", "CLOSED",
+				LocalDateTime.of(2024, 1, 3, 0, 0), null, null, null, "url", "url", new Author("author", null),
+				List.of(), List.of(), List.of(), false, false, null, null, null, 0, 0, 0);
+
+		@Test
+		@DisplayName("Should fetch a page once for both collections")
+		void shouldShareEachPage() {
+			when(graphQLService.searchIssuesAndPullRequests(COMBINED, 100, null)).thenReturn(
+					new CombinedSearchResult(List.of(issue), List.of(pullRequest), "next", true, 2));
+
+			SearchResult<Issue> issues = search.issues(ISSUES, 100, null);
+			SearchResult<PullRequest> pullRequests = search.pullRequests(PRS, 100, null);
+
+			assertThat(issues.items()).containsExactly(issue);
+			assertThat(pullRequests.items()).containsExactly(pullRequest);
+			assertThat(issues.nextCursor()).isEqualTo("next");
+			assertThat(pullRequests.hasMore()).isTrue();
+			assertThat(issues.totalCount()).isEqualTo(-1);
+			verify(graphQLService, times(1)).searchIssuesAndPullRequests(anyString(), anyInt(), any());
+		}
+
+		@Test
+		@DisplayName("Should let go of a page once both collections took it")
+		void shouldRefetchPageTakenByBoth() {
+			when(graphQLService.searchIssuesAndPullRequests(COMBINED, 100, "next")).thenReturn(
+					new CombinedSearchResult(List.of(issue), List.of(pullRequest), null, false, 2));
+
+			search.issues(ISSUES, 100, "next");
+			search.pullRequests(PRS, 100, "next");
+			search.issues(ISSUES, 100, "next");
+
+			verify(graphQLService, times(2)).searchIssuesAndPullRequests(COMBINED, 100, "next");
+		}
+
+	}
+
+	@Nested
+	@DisplayName("Counts")
+	class CountTest {
+
+		@Test
+		@DisplayName("Should count both types with one request")
+		void shouldCountBothTypesTogether() {
+			when(graphQLService.getSearchIssueCounts(List.of(ISSUES, PRS))).thenReturn(List.of(640, 310));
+
+			assertThat(search.count(ISSUES)).isEqualTo(640);
+			assertThat(search.count(PRS)).isEqualTo(310);
+			verify(graphQLService, times(1)).getSearchIssueCounts(anyList());
+		}
+
+		@Test
+		@DisplayName("Should report a failed count so the collection counts on its own")
+		void shouldReportFailedCount() {
+			when(graphQLService.getSearchIssueCounts(List.of(PRS, ISSUES))).thenReturn(List.of(-1, -1));
+
+			assertThat(search.count(PRS)).isEqualTo(-1);
+			assertThat(search.count("repo:owner/repo is:closed")).isEqualTo(-1);
+		}
+
+	}
+
+}
@@ -0,0 +1,280 @@
+package org.springaicommunity.github.collector;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+/**
+ * Unit tests for {@link ConcurrencyLimitingGitHubClient}.
+ *
+ * Tests the AIMD limit adjustments and that callers over the limit wait for a slot.
+ */
+@DisplayName("ConcurrencyLimitingGitHubClient Tests")
+class ConcurrencyLimitingGitHubClientTest {
+
+	private static GitHubHttpClient.GitHubApiException secondaryLimit() {
+		return new GitHubHttpClient.GitHubApiException("Secondary rate limit exceeded (403)", 403,
+				"secondary rate limit", 4999, 0, 30);
+	}
+
+	@Nested
+	@DisplayName("Limit Adjustment Tests")
+	class LimitAdjustmentTest {
+
+		@Test
+		@DisplayName("Should halve the limit on a secondary rate limit")
+		void shouldHalveOnSecondaryRateLimit() {
+			GitHubClient delegate = mock(GitHubClient.class);
+			when(delegate.get("/path")).thenThrow(secondaryLimit());
+			ConcurrencyLimitingGitHubClient client = ConcurrencyLimitingGitHubClient.builder()
+				.wrapping(delegate)
+				.initialLimit(16)
+				.build();
+
+			assertThatThrownBy(() -> client.get("/path")).isInstanceOf(GitHubHttpClient.GitHubApiException.class);
+			assertThat(client.getLimit()).isEqualTo(8);
+			assertThatThrownBy(() -> client.get("/path")).isInstanceOf(GitHubHttpClient.GitHubApiException.class);
+			assertThat(client.getLimit()).isEqualTo(4);
+			assertThat(client.getSecondaryLimitCount()).isEqualTo(2);
+			assertThat(client.getInFlight()).isZero();
+		}
+
+		@Test
+		@DisplayName("Should not drop below the minimum limit")
+		void shouldRespectMinimum() {
+			GitHubClient delegate = mock(GitHubClient.class);
+			when(delegate.get("/path")).thenThrow(secondaryLimit());
+			ConcurrencyLimitingGitHubClient client = ConcurrencyLimitingGitHubClient.builder()
+				.wrapping(delegate)
+				.initialLimit(4)
+				.minLimit(2)
+				.build();
+
+			for (int i = 0; i < 5; i++) {
+				assertThatThrownBy(() -> client.get("/path")).isInstanceOf(GitHubHttpClient.GitHubApiException.class);
+			}
+
+			assertThat(client.getLimit()).isEqualTo(2);
+		}
+
+		@Test
+		@DisplayName("Should grow the limit additively on success up to the maximum")
+		void shouldGrowOnSuccess() {
+			GitHubClient delegate = mock(GitHubClient.class);
+			when(delegate.get("/path")).thenReturn("ok");
+			ConcurrencyLimitingGitHubClient client = ConcurrencyLimitingGitHubClient.builder()
+				.wrapping(delegate)
+				.initialLimit(2)
+				.maxLimit(4)
+				.build();
+
+			// Grows by 1/limit per success: 2 -> 2.5 -> 2.9 -> 3.24
+			client.get("/path");
+			client.get("/path");
+			assertThat(client.getLimit()).isEqualTo(2);
+			client.get("/path");
+			assertThat(client.getLimit()).isEqualTo(3);
+
+			for (int i = 0; i < 20; i++) {
+				client.get("/path");
+			}
+			assertThat(client.getLimit()).isEqualTo(4);
+		}
+
+		@Test
+		@DisplayName("Should leave the limit unchanged on other errors")
+		void shouldIgnoreOtherErrors() {
+			GitHubClient delegate = mock(GitHubClient.class);
+			when(delegate.get("/path"))
+				.thenThrow(new GitHubHttpClient.GitHubApiException("Not Found", 404, "body", 4999, 0));
+			ConcurrencyLimitingGitHubClient client = ConcurrencyLimitingGitHubClient.builder()
+				.wrapping(delegate)
+				.initialLimit(8)
+				.build();
+
+			assertThatThrownBy(() -> client.get("/path")).isInstanceOf(GitHubHttpClient.GitHubApiException.class);
+
+			assertThat(client.getLimit()).isEqualTo(8);
+			assertThat(client.getSecondaryLimitCount()).isZero();
+		}
+
+		@Test
+		@DisplayName("Should halve only once for requests that were in flight together")
+		void shouldHalveOncePerWindow() {
+			GitHubClient delegate = mock(GitHubClient.class);
+			CompletableFuture<String> first = new CompletableFuture<>();
+			CompletableFuture<String> second = new CompletableFuture<>();
+			when(delegate.getAsync("/a")).thenReturn(first);
+			when(delegate.getAsync("/b")).thenReturn(second);
+			ConcurrencyLimitingGitHubClient client = ConcurrencyLimitingGitHubClient.builder()
+				.wrapping(delegate)
+				.initialLimit(16)
+				.build();
+
+			CompletableFuture<String> a = client.getAsync("/a");
+			CompletableFuture<String> b = client.getAsync("/b");
+			first.completeExceptionally(secondaryLimit());
+			second.completeExceptionally(secondaryLimit());
+
+			assertThat(a).isCompletedExceptionally();
+			assertThat(b).isCompletedExceptionally();
+			assertThat(client.getLimit()).isEqualTo(8);
+			assertThat(client.getSecondaryLimitCount()).isEqualTo(2);
+		}
+
+	}
+
+	@Nested
+	@DisplayName("Waiting Tests")
+	class WaitingTest {
+
+		@Test
+		@DisplayName("Should queue async requests until a slot is released")
+		void shouldQueueAsyncRequests() {
+			GitHubClient delegate = mock(GitHubClient.class);
+			CompletableFuture<String> upstream = new CompletableFuture<>();
+			when(delegate.getAsync("/slow")).thenReturn(upstream);
+			when(delegate.getAsync("/next")).thenReturn(CompletableFuture.completedFuture("next"));
+			ConcurrencyLimitingGitHubClient client = ConcurrencyLimitingGitHubClient.builder()
+				.wrapping(delegate)
+				.initialLimit(1)
+				.build();
+
+			CompletableFuture<String> slow = client.getAsync("/slow");
+			CompletableFuture<String> next = client.getAsync("/next");
+
+			assertThat(next).isNotDone();
+			verify(delegate, never()).getAsync("/next");
+
+			upstream.complete("slow");
+
+			assertThat(slow.join()).isEqualTo("slow");
+			assertThat(next.join()).isEqualTo("next");
+			assertThat(client.getInFlight()).isZero();
+		}
+
+		@Test
+		@DisplayName("Should block callers while the limit is reached")
+		void shouldBlockCallersAtLimit() throws Exception {
+			GitHubClient delegate = mock(GitHubClient.class);
+			CountDownLatch entered = new CountDownLatch(1);
+			CountDownLatch release = new CountDownLatch(1);
+			when(delegate.get("/slow")).thenAnswer(invocation -> {
+				entered.countDown();
+				release.await();
+				return "slow";
+			});
+			when(delegate.get("/next")).thenReturn("next");
+			ConcurrencyLimitingGitHubClient client = ConcurrencyLimitingGitHubClient.builder()
+				.wrapping(delegate)
+				.initialLimit(1)
+				.maxLimit(1)
+				.build();
+			ExecutorService executor = Executors.newFixedThreadPool(2);
+			try {
+				Future<String> slow = executor.submit(() -> client.get("/slow"));
+				assertThat(entered.await(5, TimeUnit.SECONDS)).isTrue();
+				Future<String> next = executor.submit(() -> client.get("/next"));
+
+				assertThatThrownBy(() -> next.get(200, TimeUnit.MILLISECONDS)).isInstanceOf(TimeoutException.class);
+				assertThat(client.getInFlight()).isEqualTo(1);
+
+				release.countDown();
+
+				assertThat(slow.get(5, TimeUnit.SECONDS)).isEqualTo("slow");
+				assertThat(next.get(5, TimeUnit.SECONDS)).isEqualTo("next");
+			}
+			finally {
+				executor.shutdownNow();
+			}
+		}
+
+		@Test
+		@DisplayName("Should hold the slot of a streamed response until the stream is closed")
+		void shouldHoldSlotWhileStreaming() throws Exception {
+			GitHubClient delegate = mock(GitHubClient.class);
+			when(delegate.getStream("/path"))
+				.thenAnswer(invocation -> new ByteArrayInputStream("body".getBytes(StandardCharsets.UTF_8)));
+			ConcurrencyLimitingGitHubClient client = ConcurrencyLimitingGitHubClient.builder()
+				.wrapping(delegate)
+				.initialLimit(1)
+				.maxLimit(4)
+				.build();
+
+			InputStream stream = client.getStream("/path");
+			assertThat(client.getInFlight()).isEqualTo(1);
+			assertThat(stream).hasContent("body");
+
+			stream.close();
+			stream.close();
+
+			assertThat(client.getInFlight()).isZero();
+			assertThat(client.getLimit()).isEqualTo(2);
+		}
+
+		@Test
+		@DisplayName("Should count a failed read as a failed request")
+		void shouldNotGrowOnFailedRead() throws Exception {
+			GitHubClient delegate = mock(GitHubClient.class);
+			when(delegate.getStream("/path")).thenReturn(new InputStream() {
+				@Override
+				public int read() throws IOException {
+					throw new IOException("Connection reset");
+				}
+			});
+			ConcurrencyLimitingGitHubClient client = ConcurrencyLimitingGitHubClient.builder()
+				.wrapping(delegate)
+				.initialLimit(1)
+				.maxLimit(4)
+				.build();
+
+			try (InputStream stream = client.getStream("/path")) {
+				assertThatThrownBy(stream::read).isInstanceOf(IOException.class);
+			}
+
+			assertThat(client.getInFlight()).isZero();
+			assertThat(client.getLimit()).isEqualTo(1);
+		}
+
+	}
+
+	@Nested
+	@DisplayName("Builder Tests")
+	class BuilderTest {
+
+		@Test
+		@DisplayName("Should require a client to wrap")
+		void shouldRequireDelegate() {
+			assertThatThrownBy(() -> ConcurrencyLimitingGitHubClient.builder().build())
+				.isInstanceOf(IllegalStateException.class)
+				.hasMessageContaining("wrapping()");
+		}
+
+		@Test
+		@DisplayName("Should reject an initial limit outside the bounds")
+		void shouldRejectInitialLimitOutOfBounds() {
+			assertThatThrownBy(() -> ConcurrencyLimitingGitHubClient.builder()
+				.wrapping(mock(GitHubClient.class))
+				.initialLimit(10)
+				.maxLimit(5)
+				.build()).isInstanceOf(IllegalStateException.class);
+		}
+
+	}
+
+}
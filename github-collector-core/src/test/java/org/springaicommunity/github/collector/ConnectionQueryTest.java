@@ -0,0 +1,129 @@
+package org.springaicommunity.github.collector;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.function.Function;
+
+import static org.assertj.core.api.Assertions.*;
+
+@DisplayName("ConnectionQuery Tests")
+class ConnectionQueryTest {
+
+	@Nested
+	@DisplayName("Translation")
+	class TranslationTest {
+
+		@Test
+		@DisplayName("Should translate repository, state and label of an issue search")
+		void shouldTranslateIssueSearch() {
+			ConnectionQuery query = ConnectionQuery
+				.parse("repo:spring-projects/spring-ai is:issue is:closed label:\"good first issue\"");
+
+			assertThat(query).isEqualTo(new ConnectionQuery("spring-projects", "spring-ai", false, List.of("CLOSED"),
+					List.of("good first issue"), null, null, null));
+			assertThat(query.direction()).isEqualTo("ASC");
+		}
+
+		@Test
+		@DisplayName("Should include merged pull requests in closed ones, as search does")
+		void shouldTranslatePullRequestStates() {
+			assertThat(ConnectionQuery.parse("repo:owner/repo is:pr is:closed").states())
+				.containsExactly("CLOSED", "MERGED");
+			assertThat(ConnectionQuery.parse("repo:owner/repo is:pr is:merged").states()).containsExactly("MERGED");
+			assertThat(ConnectionQuery.parse("repo:owner/repo is:pr").states()).isEmpty();
+		}
+
+		@Test
+		@DisplayName("Should filter issues on the incremental update bound")
+		void shouldTranslateUpdatedAfter() {
+			ConnectionQuery query = ConnectionQuery.parse("repo:owner/repo is:issue updated:>=2024-03-01T12:00:00Z");
+
+			assertThat(query.updatedSince()).isEqualTo("2024-03-01T12:00:00Z");
+		}
+
+		@Test
+		@DisplayName("Should order by creation time towards a one-sided creation bound")
+		void shouldTranslateOneSidedCreatedBound() {
+			ConnectionQuery before = ConnectionQuery.parse("repo:owner/repo is:issue created:<2024-01-01");
+			ConnectionQuery after = ConnectionQuery.parse("repo:owner/repo is:issue created:>=2024-01-01T06:00:00Z");
+
+			assertThat(before.createdBefore()).isEqualTo(Instant.parse("2024-01-01T00:00:00Z"));
+			assertThat(before.direction()).isEqualTo("ASC");
+			assertThat(after.createdAfter()).isEqualTo(Instant.parse("2024-01-01T06:00:00Z"));
+			assertThat(after.direction()).isEqualTo("DESC");
+		}
+
+		@ParameterizedTest
+		@ValueSource(strings = { "repo:owner/repo is:issue is:open label:\"good first issue\"",
+				"repo:owner/repo is:pr is:closed created:<2024-01-01",
+				"repo:owner/repo is:issue updated:>=2024-03-01T12:00:00Z created:>=2024-01-01T06:00:00Z" })
+		@DisplayName("Should translate back to the search query it was parsed from")
+		void shouldRebuildSearchQuery(String searchQuery) {
+			assertThat(ConnectionQuery.parse(searchQuery).searchQuery()).isEqualTo(searchQuery);
+		}
+
+		@ParameterizedTest
+		@ValueSource(strings = { "repo:owner/repo is:issue created:2024-01-01..2024-05-31",
+				"repo:owner/repo is:issue label:\"bug\" label:\"ui\"",
+				"repo:owner/repo is:pr updated:>=2024-03-01T12:00:00Z", "repo:owner/repo is:issue author:someone",
+				"repo:owner/repo is:issue crash", "repo:owner/repo", "is:issue label:\"bug\"" })
+		@DisplayName("Should leave searches the connections cannot express to search")
+		void shouldRejectUnexpressibleSearches(String searchQuery) {
+			assertThat(ConnectionQuery.parse(searchQuery)).isNull();
+		}
+
+	}
+
+	@Nested
+	@DisplayName("Creation bound")
+	class BoundTest {
+
+		private static final Function<LocalDateTime, LocalDateTime> CREATED_AT = Function.identity();
+
+		private final List<LocalDateTime> page = List.of(LocalDateTime.of(2023, 12, 30, 0, 0),
+				LocalDateTime.of(2023, 12, 31, 23, 59), LocalDateTime.of(2024, 1, 1, 0, 0));
+
+		@Test
+		@DisplayName("Should end the traversal at the first item past the bound")
+		void shouldStopAtBound() {
+			ConnectionQuery query = ConnectionQuery.parse("repo:owner/repo is:issue created:<2024-01-01");
+
+			SearchResult<LocalDateTime> bounded = query.bounded(new SearchResult<>(page, "next", true, 5000),
+					CREATED_AT);
+
+			assertThat(bounded.items()).containsExactlyElementsOf(page.subList(0, 2));
+			assertThat(bounded.hasMore()).isFalse();
+			assertThat(bounded.nextCursor()).isNull();
+		}
+
+		@Test
+		@DisplayName("Should keep paging while the whole page is within the bound")
+		void shouldContinueWithinBound() {
+			ConnectionQuery query = ConnectionQuery.parse("repo:owner/repo is:issue created:<2024-02-01");
+
+			SearchResult<LocalDateTime> bounded = query.bounded(new SearchResult<>(page, "next", true, 5000),
+					CREATED_AT);
+
+			assertThat(bounded.items()).hasSize(3);
+			assertThat(bounded.nextCursor()).isEqualTo("next");
+			assertThat(bounded.totalCount()).isEqualTo(-1);
+		}
+
+		@Test
+		@DisplayName("Should pass pages through unchanged without a bound")
+		void shouldKeepUnboundedPage() {
+			SearchResult<LocalDateTime> result = new SearchResult<>(page, "next", true, 5000);
+
+			assertThat(ConnectionQuery.parse("repo:owner/repo is:issue").bounded(result, CREATED_AT)).isSameAs(result);
+		}
+
+	}
+
+}
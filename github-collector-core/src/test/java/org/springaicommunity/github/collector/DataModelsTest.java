@@ -552,6 +552,7 @@ class DataModelsTest {
 		@DisplayName("Should create ResumeState record")
 		void shouldCreateResumeState() {
 			// Given
+			String searchQuery = "repo:owner/repo is:issue is:closed";
 			String cursor = "Y3Vyc29yOnYyOpHOABCDEF==";
 			int batchNumber = 3;
 			int processedIssues = 125;
@@ -559,17 +560,34 @@ class DataModelsTest {
 			List<String> completedBatches = Arrays.asList("batch_001.json", "batch_002.json");
 
 			// When
-			ResumeState resumeState = new ResumeState(cursor, batchNumber, processedIssues, timestamp,
-					completedBatches);
+			ResumeState resumeState = new ResumeState(searchQuery, cursor, 25, false, batchNumber, processedIssues,
+					null, null, null, timestamp, completedBatches);
 
 			// Then
+			assertThat(resumeState.searchQuery()).isEqualTo(searchQuery);
 			assertThat(resumeState.cursor()).isEqualTo(cursor);
+			assertThat(resumeState.offset()).isEqualTo(25);
+			assertThat(resumeState.complete()).isFalse();
+			assertThat(resumeState.windowIndex()).isNull();
 			assertThat(resumeState.batchNumber()).isEqualTo(batchNumber);
 			assertThat(resumeState.processedIssues()).isEqualTo(processedIssues);
 			assertThat(resumeState.timestamp()).isEqualTo(timestamp);
 			assertThat(resumeState.completedBatches()).containsExactly("batch_001.json", "batch_002.json");
 		}
 
+		@Test
+		@DisplayName("Should map request paths to rate limit resources")
+		void shouldMapPathsToRateLimitResources() {
+			assertThat(RateLimitInfo.resourceForPath("/repos/o/r/issues/1/events")).isEqualTo(RateLimitInfo.CORE);
+			assertThat(RateLimitInfo.resourceForPath("/search/issues")).isEqualTo(RateLimitInfo.SEARCH);
+			assertThat(RateLimitInfo.resourceForPath("https://api.github.com/search/issues?q=x"))
+				.isEqualTo(RateLimitInfo.SEARCH);
+			assertThat(RateLimitInfo.resourceForPath("/search/code")).isEqualTo(RateLimitInfo.CODE_SEARCH);
+			assertThat(RateLimitInfo.resourceForPath("https://api.github.com/graphql"))
+				.isEqualTo(RateLimitInfo.GRAPHQL);
+			assertThat(new RateLimitInfo(5000, 4000, 0, 1000).resource()).isNull();
+		}
+
 	}
 
 	@Nested
@@ -762,6 +780,23 @@ class DataModelsTest {
 			assertThat(deserialized.merged()).isFalse();
 		}
 
+		@Test
+		@DisplayName("Should serialize and deserialize ResumeState checkpoint")
+		void shouldSerializeDeserializeResumeState() throws JsonProcessingException {
+			// Given
+			ResumeState original = new ResumeState("repo:owner/repo is:issue created:2024-01-01..2024-02-01",
+					"Y3Vyc29yOjQw", 40, false, 2, 140, 3, "2024-01-01", "2024-02-01", "2024-03-01T12:00:00",
+					List.of("batch_001_issues.json", "batch_002_issues.json"));
+
+			// When
+			String json = objectMapper.writeValueAsString(original);
+			ResumeState deserialized = objectMapper.readValue(json, ResumeState.class);
+
+			// Then
+			assertThat(deserialized).isEqualTo(original);
+			assertThat(json).contains("\"search_query\"", "\"window_index\":3", "\"completed_batches\"");
+		}
+
 		@Test
 		@DisplayName("Should serialize and deserialize Release record")
 		void shouldSerializeDeserializeRelease() throws JsonProcessingException {
@@ -0,0 +1,103 @@
+package org.springaicommunity.github.collector;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.IntStream;
+
+import static org.assertj.core.api.Assertions.*;
+
+/**
+ * Unit tests for {@link EnrichmentExecutor}.
+ *
+ * Tests ordering, the concurrency bound and failure propagation.
+ */
+@DisplayName("EnrichmentExecutor Tests")
+class EnrichmentExecutorTest {
+
+	@Nested
+	@DisplayName("Ordering Tests")
+	class OrderingTest {
+
+		@Test
+		@DisplayName("Should return results in item order regardless of completion order")
+		void shouldPreserveOrder() {
+			EnrichmentExecutor executor = new EnrichmentExecutor(8);
+
+			List<Integer> results = executor.map(100, i -> {
+				sleep(ThreadLocalRandom.current().nextInt(5));
+				return i * 2;
+			});
+
+			assertThat(results).containsExactlyElementsOf(IntStream.range(0, 100).map(i -> i * 2).boxed().toList());
+		}
+
+		@Test
+		@DisplayName("Should run on the calling thread when parallelism is 1")
+		void shouldRunSequentially() {
+			EnrichmentExecutor executor = new EnrichmentExecutor(1);
+			Thread caller = Thread.currentThread();
+
+			List<Boolean> onCaller = executor.map(5, i -> Thread.currentThread() == caller);
+
+			assertThat(onCaller).containsOnly(true);
+		}
+
+	}
+
+	@Nested
+	@DisplayName("Concurrency Tests")
+	class ConcurrencyTest {
+
+		@Test
+		@DisplayName("Should never run more tasks at once than the parallelism")
+		void shouldBoundConcurrency() {
+			EnrichmentExecutor executor = new EnrichmentExecutor(4);
+			AtomicInteger running = new AtomicInteger();
+			AtomicInteger peak = new AtomicInteger();
+
+			executor.map(40, i -> {
+				peak.accumulateAndGet(running.incrementAndGet(), Math::max);
+				sleep(10);
+				running.decrementAndGet();
+				return i;
+			});
+
+			assertThat(peak.get()).isBetween(2, 4);
+		}
+
+		@Test
+		@DisplayName("Should rethrow a failure escaping a task")
+		void shouldPropagateFailure() {
+			EnrichmentExecutor executor = new EnrichmentExecutor(4);
+
+			assertThatThrownBy(() -> executor.map(10, i -> {
+				if (i == 3) {
+					throw new IllegalStateException("boom");
+				}
+				return i;
+			})).isInstanceOf(IllegalStateException.class).hasMessage("boom");
+		}
+
+		@Test
+		@DisplayName("Should reject non-positive parallelism")
+		void shouldRejectInvalidParallelism() {
+			assertThatThrownBy(() -> new EnrichmentExecutor(0)).isInstanceOf(IllegalArgumentException.class);
+		}
+
+	}
+
+	private static void sleep(long millis) {
+		try {
+			Thread.sleep(millis);
+		}
+		catch (InterruptedException e) {
+			Thread.currentThread().interrupt();
+		}
+	}
+
+}
@@ -12,6 +12,7 @@ import java.nio.file.Files;
 import java.nio.file.Path;
 import java.util.List;
 import java.util.Map;
+import java.util.Set;
 
 import static org.assertj.core.api.Assertions.*;
 
@@ -333,6 +334,129 @@ class FileSystemStateRepositoryTest {
 
 	}
 
+	@Nested
+	@DisplayName("Resume State Tests")
+	class ResumeStateTest {
+
+		@Test
+		@DisplayName("Should round-trip and clear the checkpoint")
+		void shouldRoundTripCheckpoint() throws Exception {
+			Path resumeFile = Files.createDirectories(tempDir.resolve("resume")).resolve(".resume_state.json");
+			ResumeState state = new ResumeState("repo:owner/repo is:issue", "cursor-2", 40, false, 2, 140, 3,
+					"2024-01-01", "2024-02-01", "2024-03-01T12:00:00", List.of("batch_001_issues.json"));
+
+			assertThat(repository.loadResumeState(resumeFile)).isNull();
+
+			repository.saveResumeState(resumeFile, state);
+
+			assertThat(repository.loadResumeState(resumeFile)).isEqualTo(state);
+			assertThat(resumeFile.resolveSibling(".resume_state.json.tmp")).doesNotExist();
+
+			repository.clearResumeState(resumeFile);
+
+			assertThat(resumeFile).doesNotExist();
+			assertThat(repository.loadResumeState(resumeFile)).isNull();
+		}
+
+		@Test
+		@DisplayName("Should ignore an unreadable checkpoint")
+		void shouldIgnoreUnreadableCheckpoint() throws Exception {
+			Path resumeFile = Files.createDirectories(tempDir.resolve("resume")).resolve(".resume_state.json");
+			Files.writeString(resumeFile, "{ \"search_query\": ");
+
+			assertThat(repository.loadResumeState(resumeFile)).isNull();
+		}
+
+		@Test
+		@DisplayName("Should ignore a checkpoint in the old format")
+		void shouldIgnoreOldFormatCheckpoint() throws Exception {
+			Path resumeFile = Files.createDirectories(tempDir.resolve("resume")).resolve(".resume_state.json");
+			Files.writeString(resumeFile, """
+					{
+					  "cursor" : "Y3Vyc29yOnYyOpHOABCDEF==",
+					  "batch_number" : 3,
+					  "processed_issues" : 125,
+					  "timestamp" : "2023-01-15T10:30:00",
+					  "completed_batches" : [ "batch_001.json", "batch_002.json" ]
+					}
+					""");
+
+			assertThat(repository.loadResumeState(resumeFile)).isNull();
+		}
+
+		@Test
+		@DisplayName("Should delete batches written after the checkpoint")
+		void shouldDeleteBatchesAfterCheckpoint() throws Exception {
+			Path outputDir = Files.createDirectories(tempDir.resolve("resume"));
+			repository.saveBatch(outputDir, 11, Map.of("issues", List.of()), "issues", false);
+			repository.saveBatch(outputDir, 12, Map.of("issues", List.of()), "issues", false);
+			repository.saveBatch(outputDir, 34, Map.of("issues", List.of()), "issues", false);
+			repository.saveBatch(outputDir, 40, Map.of("prs", List.of()), "prs", false);
+
+			int deleted = repository.deleteBatchesAfter(outputDir, "issues", 11);
+
+			assertThat(deleted).isEqualTo(2);
+			assertThat(outputDir.resolve("batch_011_issues.json")).exists();
+			assertThat(outputDir.resolve("batch_012_issues.json")).doesNotExist();
+			assertThat(outputDir.resolve("batch_034_issues.json")).doesNotExist();
+			assertThat(outputDir.resolve("batch_040_prs.json")).exists();
+		}
+
+	}
+
+	@Nested
+	@DisplayName("Incremental State Tests")
+	class IncrementalStateTest {
+
+		@Test
+		@DisplayName("Should round-trip the high-water mark")
+		void shouldRoundTripHighWaterMark() throws Exception {
+			Path outputDir = Files.createDirectories(tempDir.resolve("incremental"));
+
+			assertThat(repository.loadHighWaterMark(outputDir, "issues")).isNull();
+
+			repository.saveHighWaterMark(outputDir, "issues", "2024-03-01T12:00:00Z");
+
+			assertThat(repository.loadHighWaterMark(outputDir, "issues")).isEqualTo("2024-03-01T12:00:00Z");
+			assertThat(repository.loadHighWaterMark(outputDir, "prs")).isNull();
+		}
+
+		@Test
+		@DisplayName("Should find the highest stored batch number")
+		void shouldFindLastBatchIndex() throws Exception {
+			Path outputDir = Files.createDirectories(tempDir.resolve("incremental"));
+			assertThat(repository.findLastBatchIndex(outputDir, "issues")).isZero();
+
+			repository.saveBatch(outputDir, 1, Map.of("issues", List.of()), "issues", false);
+			repository.saveBatch(outputDir, 12, Map.of("issues", List.of()), "issues", false);
+			repository.saveBatch(outputDir, 30, Map.of("prs", List.of()), "prs", false);
+
+			assertThat(repository.findLastBatchIndex(outputDir, "issues")).isEqualTo(12);
+		}
+
+		@Test
+		@DisplayName("Should remove stale copies only from earlier batches")
+		void shouldRemoveStaleCopies() throws Exception {
+			Path outputDir = Files.createDirectories(tempDir.resolve("incremental"));
+			repository.saveBatch(outputDir, 1,
+					Map.of("metadata", Map.of("item_count", 2), "issues",
+							List.of(Map.of("number", 1), Map.of("number", 2))),
+					"issues", false);
+			repository.saveBatch(outputDir, 2, Map.of("issues", List.of(Map.of("number", 2))), "issues", false);
+
+			int removed = repository.removeItems(outputDir, "issues", Set.of(2), 2);
+
+			assertThat(removed).isEqualTo(1);
+			JsonNode first = objectMapper.readTree(outputDir.resolve("batch_001_issues.json").toFile());
+			assertThat(first.get("issues")).hasSize(1);
+			assertThat(first.get("issues").get(0).get("number").asInt()).isEqualTo(1);
+			assertThat(first.get("metadata").get("item_count").asInt()).isEqualTo(1);
+			JsonNode second = objectMapper.readTree(outputDir.resolve("batch_002_issues.json").toFile());
+			assertThat(second.get("issues")).hasSize(1);
+		}
+
+	}
+
 	@Nested
 	@DisplayName("Single-File Mode Tests")
 	class SingleFileModeTest {
@@ -461,6 +585,56 @@ class FileSystemStateRepositoryTest {
 			assertThat(content).doesNotContain("\"number\" : 1");
 		}
 
+		@Test
+		@DisplayName("Should stream items to a part file until finalize")
+		void shouldStreamItemsToPartFile() throws Exception {
+			Path customOutput = tempDir.resolve("streamed.json");
+			Path partFile = tempDir.resolve("streamed.json.part");
+			repository.configureSingleFileMode(true, customOutput.toString());
+
+			Path outputDir = repository.createOutputDirectory("prs", "owner/repo", "open");
+			repository.saveBatch(outputDir, 1, Map.of("prs", List.of(Map.of("number", 1))), "prs", false);
+
+			// Items are on disk already, but the output file only appears once complete
+			assertThat(partFile).exists();
+			assertThat(Files.readString(partFile)).contains("\"number\" : 1");
+			assertThat(customOutput).doesNotExist();
+
+			repository.saveBatch(outputDir, 2, Map.of("prs", List.of(Map.of("number", 2))), "prs", false);
+			repository.finalizeCollection(outputDir, "prs", false);
+
+			assertThat(partFile).doesNotExist();
+			JsonNode output = objectMapper.readTree(customOutput.toFile());
+			assertThat(output.get("prs")).hasSize(2);
+		}
+
+		@Test
+		@DisplayName("Should write an empty array when nothing was collected")
+		void shouldWriteEmptyArray() throws Exception {
+			Path customOutput = tempDir.resolve("empty.json");
+			repository.configureSingleFileMode(true, customOutput.toString());
+
+			Path outputDir = repository.createOutputDirectory("prs", "owner/repo", "open");
+			repository.finalizeCollection(outputDir, "prs", false);
+
+			JsonNode output = objectMapper.readTree(customOutput.toFile());
+			assertThat(output.get("prs")).isEmpty();
+		}
+
+		@Test
+		@DisplayName("Should discard an unfinished part file when reconfigured")
+		void shouldDiscardUnfinishedPartFile() {
+			Path customOutput = tempDir.resolve("aborted.json");
+			repository.configureSingleFileMode(true, customOutput.toString());
+
+			Path outputDir = repository.createOutputDirectory("prs", "owner/repo", "open");
+			repository.saveBatch(outputDir, 1, Map.of("prs", List.of(Map.of("number", 1))), "prs", false);
+			repository.configureSingleFileMode(true, customOutput.toString());
+
+			assertThat(tempDir.resolve("aborted.json.part")).doesNotExist();
+			assertThat(customOutput).doesNotExist();
+		}
+
 	}
 
 }
@@ -0,0 +1,1219 @@
+package org.springaicommunity.github.collector;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.sun.net.httpserver.HttpExchange;
+import com.sun.net.httpserver.HttpServer;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.net.InetAddress;
+import java.net.InetSocketAddress;
+import java.net.URLDecoder;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.OffsetDateTime;
+import java.time.ZoneOffset;
+import java.time.temporal.ChronoUnit;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Base64;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+import java.util.zip.GZIPOutputStream;
+
+/**
+ * Embedded GitHub API simulator for load and throughput testing.
+ *
+ * <p>
+ * Serves the endpoints this project uses from synthetic repositories: GraphQL issue and
+ * pull request search, with {@code __typename} on request, repository counts, issue and
+ * pull request connections and bulk issue timelines,
+ * {@code /search/issues}, repository info, issue events, pull requests and their
+ * reviews, collaborators, releases and {@code /rate_limit}.
+ * Search understands the qualifiers the collectors generate ({@code repo:},
+ * {@code is:issue|pr|open|closed|merged}, {@code label:}, {@code created:} and
+ * {@code updated:} ranges, {@code sort:}) and enforces GitHub's 1,000 result cap, so
+ * windowed collection behaves as it does against the real API.
+ *
+ * <p>
+ * Every response carries {@code X-RateLimit-*} headers from per-resource budgets that
+ * are actually enforced. Latency, secondary rate limits (403 with {@code Retry-After})
+ * and random 502 errors can be injected, and responses are gzip-compressed when the
+ * client asks for it.
+ *
+ * <pre>
+ * {@code
+ * try (GitHubApiSimulator simulator = GitHubApiSimulator.builder()
+ *     .repository("acme/widgets", 100_000, 20_000)
+ *     .latency(Duration.ofMillis(20))
+ *     .start()) {
+ *     IssueCollectionService collector = GitHubCollectorBuilder.create()
+ *         .token("test")
+ *         .baseUrl(simulator.baseUrl())
+ *         .buildIssueCollector();
+ *     ...
+ * }
+ * }
+ * </pre>
+ */
+final class GitHubApiSimulator implements AutoCloseable {
+
+	static final int SEARCH_RESULT_CAP = 1000;
+
+	private static final List<String> LABELS = List.of("bug", "enhancement", "documentation", "question",
+			"type: task", "status: waiting-for-triage");
+
+	private static final Pattern TOKEN = Pattern.compile("\\S+?:\"[^\"]*\"|\\S+");
+
+	private static final Pattern ISSUE_ALIAS = Pattern.compile("(\\w+): issue\\(number: (\\d+)\\)");
+
+	private static final Pattern SEARCH_ALIAS = Pattern.compile("(\\w+): search\\(query: \\$(\\w+)");
+
+	private static final Pattern REPO_PATH = Pattern.compile("/repos/([^/]+)/([^/]+)(/.*)?");
+
+	private final ObjectMapper objectMapper = ObjectMapperFactory.create();
+
+	private final Map<String, Repo> repositories;
+
+	private final Builder config;
+
+	private final Map<String, Budget> budgets = new HashMap<>();
+
+	private final Random random;
+
+	private final HttpServer server;
+
+	private final ExecutorService executor;
+
+	private final AtomicLong requests = new AtomicLong();
+
+	private final Map<String, AtomicLong> requestsByResource = new ConcurrentHashMap<>();
+
+	private final AtomicLong secondaryLimited = new AtomicLong();
+
+	private final AtomicLong rateLimited = new AtomicLong();
+
+	private final AtomicLong injectedErrors = new AtomicLong();
+
+	static {
+		// Headers and body go out in separate writes; without TCP_NODELAY every response
+		// waits out the peer's delayed ACK (~40 ms on Linux loopback)
+		System.setProperty("sun.net.httpserver.nodelay", "true");
+	}
+
+	private GitHubApiSimulator(Builder builder) throws IOException {
+		this.config = builder;
+		this.random = new Random(builder.seed);
+		this.repositories = new LinkedHashMap<>();
+		for (RepoSpec spec : builder.repositories) {
+			this.repositories.put(spec.fullName(), generate(spec, repositories.size() + 1));
+		}
+		builder.rateLimits
+			.forEach((resource, limit) -> budgets.put(resource, new Budget(limit.limit(), limit.window())));
+
+		this.server = HttpServer.create(new InetSocketAddress(InetAddress.getLoopbackAddress(), builder.port), 256);
+		this.executor = Executors.newFixedThreadPool(builder.threads);
+		this.server.setExecutor(executor);
+		this.server.createContext("/", this::handle);
+		this.server.start();
+	}
+
+	/**
+	 * Create a new builder for GitHubApiSimulator.
+	 * @return new Builder instance
+	 */
+	static Builder builder() {
+		return new Builder();
+	}
+
+	/**
+	 * Base URL to pass to {@link GitHubCollectorBuilder#baseUrl(String)}.
+	 * @return base URL, e.g. {@code http://localhost:54321}
+	 */
+	String baseUrl() {
+		return "http://localhost:" + server.getAddress().getPort();
+	}
+
+	long getRequestCount() {
+		return requests.get();
+	}
+
+	long getRequestCount(String resource) {
+		AtomicLong count = requestsByResource.get(resource);
+		return count != null ? count.get() : 0;
+	}
+
+	long getSecondaryLimitCount() {
+		return secondaryLimited.get();
+	}
+
+	long getRateLimitedCount() {
+		return rateLimited.get();
+	}
+
+	long getInjectedErrorCount() {
+		return injectedErrors.get();
+	}
+
+	@Override
+	public void close() {
+		server.stop(0);
+		executor.shutdownNow();
+	}
+
+	// ========== Request handling ==========
+
+	private void handle(HttpExchange exchange) throws IOException {
+		try {
+			long sequence = requests.incrementAndGet();
+			if (!config.latency.isZero()) {
+				Thread.sleep(config.latency.toMillis());
+			}
+
+			String path = exchange.getRequestURI().getRawPath();
+			if ("/rate_limit".equals(path)) {
+				respond(exchange, 200, rateLimitBody(), null);
+				return;
+			}
+
+			String resource = resourceFor(exchange.getRequestMethod(), path);
+			requestsByResource.computeIfAbsent(resource, r -> new AtomicLong()).incrementAndGet();
+			Budget budget = budgets.get(resource);
+
+			if (config.secondaryLimitEvery > 0 && sequence % config.secondaryLimitEvery == 0) {
+				secondaryLimited.incrementAndGet();
+				exchange.getResponseHeaders().set("Retry-After", String.valueOf(config.retryAfterSeconds));
+				respond(exchange, 403, Map.of("message", "You have exceeded a secondary rate limit. Please wait a few "
+						+ "minutes before you try again.", "documentation_url", "https://docs.github.com/rest"),
+						budget.snapshot(resource));
+				return;
+			}
+			if (!budget.tryConsume()) {
+				rateLimited.incrementAndGet();
+				respond(exchange, 403, Map.of("message", "API rate limit exceeded"), budget.snapshot(resource));
+				return;
+			}
+			if (config.errorRate > 0 && nextDouble() < config.errorRate) {
+				injectedErrors.incrementAndGet();
+				respond(exchange, 502, Map.of("message", "Server Error"), budget.snapshot(resource));
+				return;
+			}
+
+			Response response = "POST".equals(exchange.getRequestMethod()) && "/graphql".equals(path)
+					? graphQL(objectMapper.readTree(exchange.getRequestBody())) : rest(path, query(exchange));
+			respond(exchange, response.status(), response.body(), budget.snapshot(resource));
+		}
+		catch (InterruptedException e) {
+			Thread.currentThread().interrupt();
+		}
+		catch (RuntimeException e) {
+			respond(exchange, 500, Map.of("message", String.valueOf(e.getMessage())), null);
+		}
+		finally {
+			exchange.close();
+		}
+	}
+
+	private static String resourceFor(String method, String path) {
+		if ("POST".equals(method) && "/graphql".equals(path)) {
+			return RateLimitInfo.GRAPHQL;
+		}
+		return path.startsWith("/search/") ? RateLimitInfo.SEARCH : RateLimitInfo.CORE;
+	}
+
+	private void respond(HttpExchange exchange, int status, Object body, RateLimitInfo rateLimit) throws IOException {
+		if (rateLimit != null) {
+			exchange.getResponseHeaders().set("X-RateLimit-Limit", String.valueOf(rateLimit.limit()));
+			exchange.getResponseHeaders().set("X-RateLimit-Remaining", String.valueOf(rateLimit.remaining()));
+			exchange.getResponseHeaders().set("X-RateLimit-Used", String.valueOf(rateLimit.used()));
+			exchange.getResponseHeaders().set("X-RateLimit-Reset", String.valueOf(rateLimit.reset()));
+			exchange.getResponseHeaders().set("X-RateLimit-Resource", rateLimit.resource());
+		}
+		exchange.getResponseHeaders().set("Content-Type", "application/json; charset=utf-8");
+		byte[] payload = objectMapper.writeValueAsBytes(body);
+		String acceptEncoding = exchange.getRequestHeaders().getFirst("Accept-Encoding");
+		if (acceptEncoding != null && acceptEncoding.contains("gzip")) {
+			ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+			try (GZIPOutputStream gzip = new GZIPOutputStream(bytes)) {
+				gzip.write(payload);
+			}
+			payload = bytes.toByteArray();
+			exchange.getResponseHeaders().set("Content-Encoding", "gzip");
+		}
+		exchange.sendResponseHeaders(status, payload.length);
+		try (OutputStream out = exchange.getResponseBody()) {
+			out.write(payload);
+		}
+	}
+
+	private static Map<String, String> query(HttpExchange exchange) {
+		Map<String, String> params = new HashMap<>();
+		String raw = exchange.getRequestURI().getRawQuery();
+		if (raw == null) {
+			return params;
+		}
+		for (String pair : raw.split("&")) {
+			int eq = pair.indexOf('=');
+			if (eq > 0) {
+				params.put(decode(pair.substring(0, eq)), decode(pair.substring(eq + 1)));
+			}
+		}
+		return params;
+	}
+
+	private static String decode(String value) {
+		return URLDecoder.decode(value, StandardCharsets.UTF_8);
+	}
+
+	private synchronized double nextDouble() {
+		return random.nextDouble();
+	}
+
+	// ========== REST ==========
+
+	private Response rest(String path, Map<String, String> params) {
+		if ("/search/issues".equals(path)) {
+			return restSearch(params);
+		}
+		Matcher matcher = REPO_PATH.matcher(path);
+		if (!matcher.matches()) {
+			return Response.notFound();
+		}
+		Repo repo = repositories.get(matcher.group(1) + "/" + matcher.group(2));
+		if (repo == null) {
+			return Response.notFound();
+		}
+		String rest = matcher.group(3) != null ? matcher.group(3) : "";
+		String[] segments = rest.isEmpty() ? new String[0] : rest.substring(1).split("/");
+
+		if (segments.length == 0) {
+			return Response.ok(repositoryJson(repo));
+		}
+		if (segments.length == 1 && "collaborators".equals(segments[0])) {
+			return Response.ok(collaborators(repo));
+		}
+		if (segments.length == 1 && "releases".equals(segments[0])) {
+			return Response.ok(releases(repo));
+		}
+		if (segments.length >= 2 && ("issues".equals(segments[0]) || "pulls".equals(segments[0]))) {
+			Item item = repo.item(parseNumber(segments[1]));
+			boolean pulls = "pulls".equals(segments[0]);
+			if (item == null || (pulls && !item.pullRequest())) {
+				return Response.notFound();
+			}
+			if (segments.length == 2) {
+				return Response.ok(pulls ? pullRequestJson(repo, item) : restItemJson(repo, item));
+			}
+			if (segments.length == 3 && !pulls && "events".equals(segments[2])) {
+				return Response.ok(events(item));
+			}
+			if (segments.length == 3 && pulls && "reviews".equals(segments[2])) {
+				return Response.ok(reviews(repo, item));
+			}
+		}
+		return Response.notFound();
+	}
+
+	private Response restSearch(Map<String, String> params) {
+		SearchFilter filter = new Parser(params.getOrDefault("q", "")).parse();
+		int perPage = Math.min(100, Math.max(1, parseNumber(params.getOrDefault("per_page", "30"))));
+		int page = Math.max(1, parseNumber(params.getOrDefault("page", "1")));
+		int offset = (page - 1) * perPage;
+		if (offset >= SEARCH_RESULT_CAP) {
+			return new Response(422, Map.of("message", "Only the first 1000 search results are available"));
+		}
+
+		List<Item> matches = search(filter);
+		List<Object> items = new ArrayList<>();
+		int end = Math.min(Math.min(matches.size(), SEARCH_RESULT_CAP), offset + perPage);
+		for (int i = offset; i < end; i++) {
+			items.add(restItemJson(filter.repo(), matches.get(i)));
+		}
+		Map<String, Object> body = new LinkedHashMap<>();
+		body.put("total_count", matches.size());
+		body.put("incomplete_results", false);
+		body.put("items", items);
+		return Response.ok(body);
+	}
+
+	private Map<String, Object> repositoryJson(Repo repo) {
+		Map<String, Object> json = new LinkedHashMap<>();
+		json.put("id", repo.id());
+		json.put("name", repo.name());
+		json.put("full_name", repo.fullName());
+		json.put("description", "Synthetic repository " + repo.fullName());
+		json.put("html_url", "https://github.com/" + repo.fullName());
+		json.put("private", false);
+		json.put("default_branch", "main");
+		return json;
+	}
+
+	private Map<String, Object> restItemJson(Repo repo, Item item) {
+		Map<String, Object> json = new LinkedHashMap<>();
+		json.put("number", item.number());
+		json.put("title", title(item));
+		json.put("body", body(item));
+		json.put("state", item.open() ? "open" : "closed");
+		json.put("created_at", timestamp(item.createdAt()));
+		json.put("updated_at", timestamp(item.updatedAt()));
+		json.put("closed_at", timestamp(item.closedAt()));
+		json.put("url", apiUrl(repo, item));
+		json.put("html_url", htmlUrl(repo, item));
+		json.put("user", user(item.number()));
+		json.put("labels", item.labels().stream().map(GitHubApiSimulator::label).toList());
+		json.put("comments", config.commentsPerItem);
+		if (item.pullRequest()) {
+			json.put("draft", false);
+			json.put("pull_request", Map.of("url", repoApiUrl(repo) + "/pulls/" + item.number(), "merged_at",
+					item.merged() ? timestamp(item.closedAt()) : ""));
+		}
+		return json;
+	}
+
+	private Map<String, Object> pullRequestJson(Repo repo, Item item) {
+		Map<String, Object> json = restItemJson(repo, item);
+		json.remove("pull_request");
+		json.put("url", repoApiUrl(repo) + "/pulls/" + item.number());
+		json.put("merged", item.merged());
+		json.put("merged_at", item.merged() ? timestamp(item.closedAt()) : null);
+		json.put("merge_commit_sha", item.merged() ? sha(item.number()) : null);
+		json.put("head", Map.of("ref", "feature-" + item.number()));
+		json.put("base", Map.of("ref", "main"));
+		json.put("additions", item.number() % 500);
+		json.put("deletions", item.number() % 200);
+		json.put("changed_files", 1 + item.number() % 20);
+		return json;
+	}
+
+	private List<Object> events(Item item) {
+		List<Object> events = new ArrayList<>();
+		Instant at = item.createdAt();
+		for (int i = 0; i < config.eventsPerItem; i++) {
+			at = at.plusSeconds(60);
+			Map<String, Object> event = new LinkedHashMap<>();
+			event.put("id", (long) item.number() * 1000 + i);
+			if (!item.labels().isEmpty()) {
+				event.put("event", "labeled");
+				event.put("label", label(item.labels().get(i % item.labels().size())));
+			}
+			else {
+				event.put("event", "mentioned");
+			}
+			event.put("actor", user(item.number() + i + 1));
+			event.put("commit_id", null);
+			event.put("created_at", timestamp(at));
+			events.add(event);
+		}
+		if (!item.open()) {
+			events.add(Map.of("id", (long) item.number() * 1000 + 999, "event", "closed", "actor",
+					user(item.number() + 1), "created_at", timestamp(item.closedAt())));
+		}
+		return events;
+	}
+
+	private List<Object> reviews(Repo repo, Item item) {
+		List<Object> reviews = new ArrayList<>();
+		for (int i = 0; i < config.reviewsPerPullRequest; i++) {
+			Map<String, Object> review = new LinkedHashMap<>();
+			review.put("id", (long) item.number() * 100 + i);
+			review.put("user", user(item.number() + i + 1));
+			review.put("body", i == 0 ? "Looks good to me" : "Left a few comments");
+			review.put("state", i == 0 ? "APPROVED" : "COMMENTED");
+			review.put("author_association", i == 0 ? "MEMBER" : "CONTRIBUTOR");
+			review.put("html_url", htmlUrl(repo, item) + "#pullrequestreview-" + review.get("id"));
+			review.put("submitted_at", timestamp(item.createdAt().plusSeconds(3600L * (i + 1))));
+			reviews.add(review);
+		}
+		return reviews;
+	}
+
+	private List<Object> collaborators(Repo repo) {
+		List<Object> collaborators = new ArrayList<>();
+		for (int i = 0; i < config.collaborators; i++) {
+			Map<String, Object> collaborator = new LinkedHashMap<>();
+			collaborator.put("login", "collaborator" + i);
+			collaborator.put("id", repo.id() * 1000 + i);
+			collaborator.put("type", "User");
+			collaborator.put("permissions", Map.of("admin", i == 0, "maintain", i < 2, "push", true, "triage", true,
+					"pull", true));
+			collaborator.put("role_name", i == 0 ? "admin" : "write");
+			collaborators.add(collaborator);
+		}
+		return collaborators;
+	}
+
+	private List<Object> releases(Repo repo) {
+		List<Object> releases = new ArrayList<>();
+		for (int i = config.releases; i > 0; i--) {
+			Map<String, Object> release = new LinkedHashMap<>();
+			release.put("id", repo.id() * 1000 + i);
+			release.put("tag_name", "v1." + i + ".0");
+			release.put("name", "1." + i + ".0");
+			release.put("body", "Release notes for 1." + i + ".0");
+			release.put("draft", false);
+			release.put("prerelease", false);
+			release.put("created_at", timestamp(config.createdTo.atStartOfDay().toInstant(ZoneOffset.UTC)
+				.minus(30L * (config.releases - i + 1), ChronoUnit.DAYS)));
+			release.put("published_at", release.get("created_at"));
+			release.put("author", user(i));
+			release.put("html_url", "https://github.com/" + repo.fullName() + "/releases/tag/v1." + i + ".0");
+			releases.add(release);
+		}
+		return releases;
+	}
+
+	// ========== GraphQL ==========
+
+	private Response graphQL(JsonNode request) {
+		String query = request.path("query").asText("");
+		JsonNode variables = request.path("variables");
+		Matcher searchAlias = SEARCH_ALIAS.matcher(query);
+		if (searchAlias.find()) {
+			return graphQLSearchCounts(variables, searchAlias.reset());
+		}
+		if (query.contains("search(")) {
+			return graphQLSearch(query, variables);
+		}
+		if (query.contains("repository(")) {
+			Repo repo = repositories.get(variables.path("owner").asText() + "/" + variables.path("repo").asText());
+			if (repo == null) {
+				return Response.ok(Map.of("data", Collections.singletonMap("repository", null), "errors",
+						List.of(Map.of("type", "NOT_FOUND", "message", "Could not resolve to a Repository"))));
+			}
+			Matcher alias = ISSUE_ALIAS.matcher(query);
+			if (alias.find()) {
+				return graphQLTimelines(repo, alias.reset());
+			}
+			if (query.contains("issues(first:") || query.contains("pullRequests(first:")) {
+				return graphQLConnection(repo, query, variables);
+			}
+			List<String> states = new ArrayList<>();
+			variables.path("states").forEach(state -> states.add(state.asText()));
+			long count = repo.items()
+				.stream()
+				.filter(item -> !item.pullRequest())
+				.filter(item -> states.isEmpty() || states.contains(item.open() ? "OPEN" : "CLOSED"))
+				.count();
+			return Response.ok(Map.of("data", Map.of("repository", Map.of("issues", Map.of("totalCount", count)))));
+		}
+		return Response.ok(Map.of("errors", List.of(Map.of("message", "Query not supported by the simulator"))));
+	}
+
+	/**
+	 * Answer a page of the {@code repository.issues} or {@code repository.pullRequests}
+	 * connection, ordered by creation time. Unlike search, connections have no result cap.
+	 */
+	private Response graphQLConnection(Repo repo, String query, JsonNode variables) {
+		boolean pullRequests = query.contains("pullRequests(first:");
+		List<String> states = new ArrayList<>();
+		variables.path("states").forEach(state -> states.add(state.asText()));
+		List<String> labels = new ArrayList<>();
+		variables.path("labels").forEach(label -> labels.add(label.asText()));
+		Instant since = variables.path("since").isTextual() ? start(variables.path("since").asText()) : Instant.MIN;
+		Comparator<Item> order = Comparator.comparing(Item::createdAt);
+		List<Item> matches = repo.items()
+			.stream()
+			.filter(item -> item.pullRequest() == pullRequests)
+			.filter(item -> states.isEmpty()
+					|| states.contains(item.merged() ? "MERGED" : item.open() ? "OPEN" : "CLOSED"))
+			.filter(item -> labels.isEmpty() || labels.stream().anyMatch(item.labels()::contains))
+			.filter(item -> !item.updatedAt().isBefore(since))
+			.sorted("DESC".equals(variables.path("direction").asText()) ? order.reversed() : order)
+			.toList();
+
+		int first = variables.path("first").asInt(10);
+		int offset = decodeCursor(variables.path("after").isTextual() ? variables.path("after").asText() : "");
+		int end = Math.min(matches.size(), offset + first);
+		List<Object> nodes = new ArrayList<>();
+		for (int i = offset; i < end; i++) {
+			nodes.add(graphQLItemJson(repo, matches.get(i)));
+		}
+		Map<String, Object> pageInfo = new LinkedHashMap<>();
+		pageInfo.put("hasNextPage", end < matches.size());
+		pageInfo.put("endCursor", end > offset ? encodeCursor(end) : null);
+		Map<String, Object> connection = new LinkedHashMap<>();
+		connection.put("totalCount", matches.size());
+		connection.put("pageInfo", pageInfo);
+		connection.put("nodes", nodes);
+		return Response.ok(Map.of("data", Map.of("repository", Map.of(pullRequests ? "pullRequests" : "issues",
+				connection))));
+	}
+
+	/**
+	 * Answer a bulk {@code timelineItems} query with one aliased {@code issue} field per
+	 * issue. Pull request numbers resolve to null, as on GitHub.
+	 */
+	private Response graphQLTimelines(Repo repo, Matcher aliases) {
+		Map<String, Object> repository = new LinkedHashMap<>();
+		while (aliases.find()) {
+			Item item = repo.item(Integer.parseInt(aliases.group(2)));
+			if (item == null || item.pullRequest()) {
+				repository.put(aliases.group(1), null);
+				continue;
+			}
+			List<Object> nodes = timeline(item);
+			Map<String, Object> timelineItems = new LinkedHashMap<>();
+			timelineItems.put("pageInfo", Map.of("hasNextPage", nodes.size() > 100));
+			timelineItems.put("nodes", nodes.subList(0, Math.min(nodes.size(), 100)));
+			repository.put(aliases.group(1), Map.of("timelineItems", timelineItems));
+		}
+		return Response.ok(Map.of("data", Map.of("repository", repository)));
+	}
+
+	/**
+	 * The events of {@link #events(Item)} as GraphQL timeline items.
+	 */
+	private List<Object> timeline(Item item) {
+		List<Object> nodes = new ArrayList<>();
+		for (Object value : events(item)) {
+			Map<?, ?> event = (Map<?, ?>) value;
+			Map<String, Object> node = new LinkedHashMap<>();
+			switch ((String) event.get("event")) {
+				case "labeled" -> {
+					node.put("__typename", "LabeledEvent");
+					node.put("label", event.get("label"));
+				}
+				case "closed" -> {
+					node.put("__typename", "ClosedEvent");
+					node.put("closer", null);
+				}
+				default -> {
+					// Not among the requested item types
+					continue;
+				}
+			}
+			node.put("createdAt", event.get("created_at"));
+			node.put("actor", event.get("actor"));
+			nodes.add(node);
+		}
+		return nodes;
+	}
+
+	/**
+	 * Answer a batched count query with one aliased {@code search} field per query.
+	 */
+	private Response graphQLSearchCounts(JsonNode variables, Matcher aliases) {
+		Map<String, Object> data = new LinkedHashMap<>();
+		while (aliases.find()) {
+			SearchFilter filter = new Parser(variables.path(aliases.group(2)).asText("")).parse();
+			data.put(aliases.group(1), Map.of("issueCount", search(filter).size()));
+		}
+		return Response.ok(Map.of("data", data));
+	}
+
+	private Response graphQLSearch(String query, JsonNode variables) {
+		SearchFilter filter = new Parser(variables.path("query").asText("")).parse();
+		List<Item> matches = search(filter);
+		Map<String, Object> search = new LinkedHashMap<>();
+		search.put("issueCount", matches.size());
+
+		if (query.contains("nodes")) {
+			int first = variables.path("first").asInt(10);
+			int offset = decodeCursor(variables.path("after").asText(""));
+			int visible = Math.min(matches.size(), SEARCH_RESULT_CAP);
+			int end = Math.min(visible, offset + first);
+			boolean pullRequestFields = query.contains("on PullRequest");
+			boolean typeNames = query.contains("__typename");
+			List<Object> nodes = new ArrayList<>();
+			for (int i = offset; i < end; i++) {
+				Item item = matches.get(i);
+				Map<String, Object> node = new LinkedHashMap<>();
+				if (typeNames) {
+					node.put("__typename", item.pullRequest() ? "PullRequest" : "Issue");
+				}
+				if (!item.pullRequest() || pullRequestFields) {
+					node.putAll(graphQLItemJson(filter.repo(), item));
+				}
+				nodes.add(node);
+			}
+			Map<String, Object> pageInfo = new LinkedHashMap<>();
+			pageInfo.put("hasNextPage", end < visible);
+			pageInfo.put("endCursor", end > offset ? encodeCursor(end) : null);
+			search.put("pageInfo", pageInfo);
+			search.put("nodes", nodes);
+		}
+		return Response.ok(Map.of("data", Map.of("search", search)));
+	}
+
+	private Map<String, Object> graphQLItemJson(Repo repo, Item item) {
+		Map<String, Object> json = new LinkedHashMap<>();
+		json.put("number", item.number());
+		json.put("title", title(item));
+		json.put("body", body(item));
+		json.put("state", item.merged() ? "MERGED" : item.open() ? "OPEN" : "CLOSED");
+		json.put("createdAt", timestamp(item.createdAt()));
+		json.put("updatedAt", timestamp(item.updatedAt()));
+		json.put("closedAt", timestamp(item.closedAt()));
+		json.put("url", htmlUrl(repo, item));
+		json.put("author", user(item.number()));
+		json.put("labels", Map.of("nodes", item.labels().stream().map(GitHubApiSimulator::label).toList()));
+		List<Object> comments = new ArrayList<>();
+		for (int i = 0; i < config.commentsPerItem; i++) {
+			comments.add(Map.of("author", user(item.number() + i + 1), "body", "Comment " + (i + 1) + " on #"
+					+ item.number(), "createdAt", timestamp(item.createdAt().plusSeconds(600L * (i + 1)))));
+		}
+		json.put("comments", Map.of("nodes", comments));
+		if (item.pullRequest()) {
+			json.put("merged", item.merged());
+			json.put("mergedAt", item.merged() ? timestamp(item.closedAt()) : null);
+			json.put("isDraft", false);
+			json.put("mergeCommit", item.merged() ? Map.of("oid", sha(item.number())) : null);
+			json.put("headRefName", "feature-" + item.number());
+			json.put("baseRefName", "main");
+			json.put("additions", item.number() % 500);
+			json.put("deletions", item.number() % 200);
+			json.put("changedFiles", 1 + item.number() % 20);
+			json.put("reviews", Map.of("nodes", reviewNodes(repo, item)));
+		}
+		return json;
+	}
+
+	/**
+	 * The first 100 reviews of {@link #reviews(Repo, Item)} as GraphQL review nodes.
+	 */
+	private List<Object> reviewNodes(Repo repo, Item item) {
+		List<Object> nodes = new ArrayList<>();
+		for (Object value : reviews(repo, item)) {
+			Map<?, ?> review = (Map<?, ?>) value;
+			Map<String, Object> node = new LinkedHashMap<>();
+			node.put("databaseId", review.get("id"));
+			node.put("body", review.get("body"));
+			node.put("state", review.get("state"));
+			node.put("submittedAt", review.get("submitted_at"));
+			node.put("url", review.get("html_url"));
+			node.put("authorAssociation", review.get("author_association"));
+			node.put("author", review.get("user"));
+			nodes.add(node);
+		}
+		return nodes.subList(0, Math.min(nodes.size(), 100));
+	}
+
+	private static String encodeCursor(int offset) {
+		return Base64.getEncoder().encodeToString(("cursor:" + offset).getBytes(StandardCharsets.UTF_8));
+	}
+
+	private static int decodeCursor(String cursor) {
+		if (cursor.isEmpty()) {
+			return 0;
+		}
+		String decoded = new String(Base64.getDecoder().decode(cursor), StandardCharsets.UTF_8);
+		return Integer.parseInt(decoded.substring("cursor:".length()));
+	}
+
+	// ========== Search ==========
+
+	private List<Item> search(SearchFilter filter) {
+		if (filter.repoName() == null) {
+			return List.of();
+		}
+		Repo repo = repositories.get(filter.repoName());
+		if (repo == null) {
+			return List.of();
+		}
+		List<Item> matches = new ArrayList<>();
+		for (Item item : repo.items()) {
+			if (filter.matches(item)) {
+				matches.add(item);
+			}
+		}
+		matches.sort(filter.order());
+		return matches;
+	}
+
+	/**
+	 * Parsed search query. Only the qualifiers used by this project are understood;
+	 * anything else is ignored.
+	 */
+	private record SearchFilter(String repoName, Repo repo, Boolean pullRequest, String state, List<String> labels,
+			Instant createdFrom, Instant createdTo, Instant updatedFrom, Instant updatedTo,
+			Comparator<Item> order) {
+
+		boolean matches(Item item) {
+			if (pullRequest != null && item.pullRequest() != pullRequest) {
+				return false;
+			}
+			if (state != null) {
+				boolean stateMatches = switch (state) {
+					case "open" -> item.open();
+					case "closed" -> !item.open();
+					case "merged" -> item.merged();
+					default -> true;
+				};
+				if (!stateMatches) {
+					return false;
+				}
+			}
+			if (!item.labels().containsAll(labels)) {
+				return false;
+			}
+			return !item.createdAt().isBefore(createdFrom) && item.createdAt().isBefore(createdTo)
+					&& !item.updatedAt().isBefore(updatedFrom) && item.updatedAt().isBefore(updatedTo);
+		}
+
+	}
+
+	private final class Parser {
+
+		private final String query;
+
+		private String repoName;
+
+		private Boolean pullRequest;
+
+		private String state;
+
+		private final List<String> labels = new ArrayList<>();
+
+		private Instant[] created = { Instant.MIN, Instant.MAX };
+
+		private Instant[] updated = { Instant.MIN, Instant.MAX };
+
+		private Comparator<Item> order = Comparator.comparingInt(Item::number).reversed();
+
+		Parser(String query) {
+			this.query = query;
+		}
+
+		SearchFilter parse() {
+			Matcher matcher = TOKEN.matcher(query);
+			while (matcher.find()) {
+				String token = matcher.group();
+				int colon = token.indexOf(':');
+				if (colon < 0) {
+					continue;
+				}
+				String key = token.substring(0, colon);
+				String value = token.substring(colon + 1).replace("\"", "");
+				switch (key) {
+					case "repo" -> repoName = value;
+					case "is", "type" -> is(value);
+					case "state" -> state = value;
+					case "label" -> labels.add(value);
+					case "created" -> created = range(value);
+					case "updated" -> updated = range(value);
+					case "sort" -> order = sort(value);
+					default -> {
+					}
+				}
+			}
+			return new SearchFilter(repoName, repoName != null ? repositories.get(repoName) : null, pullRequest, state,
+					labels, created[0], created[1], updated[0], updated[1], order);
+		}
+
+		private void is(String value) {
+			switch (value) {
+				case "issue" -> pullRequest = false;
+				case "pr" -> pullRequest = true;
+				case "open", "closed", "merged" -> state = value;
+				default -> {
+				}
+			}
+		}
+
+		private Comparator<Item> sort(String value) {
+			Comparator<Item> comparator = value.startsWith("updated") ? Comparator.comparing(Item::updatedAt)
+					: Comparator.comparing(Item::createdAt);
+			return value.endsWith("-asc") ? comparator : comparator.reversed();
+		}
+
+	}
+
+	/**
+	 * Parse a date qualifier value into a half-open {@code [from, to)} interval. GitHub
+	 * ranges are inclusive on both ends: a date includes its whole day, a timestamp its
+	 * whole second.
+	 */
+	static Instant[] range(String value) {
+		if (value.contains("..")) {
+			String[] bounds = value.split("\\.\\.", 2);
+			Instant from = "*".equals(bounds[0]) ? Instant.MIN : start(bounds[0]);
+			Instant to = "*".equals(bounds[1]) ? Instant.MAX : endExclusive(bounds[1]);
+			return new Instant[] { from, to };
+		}
+		if (value.startsWith(">=")) {
+			return new Instant[] { start(value.substring(2)), Instant.MAX };
+		}
+		if (value.startsWith("<=")) {
+			return new Instant[] { Instant.MIN, endExclusive(value.substring(2)) };
+		}
+		if (value.startsWith(">")) {
+			return new Instant[] { endExclusive(value.substring(1)), Instant.MAX };
+		}
+		if (value.startsWith("<")) {
+			return new Instant[] { Instant.MIN, start(value.substring(1)) };
+		}
+		return new Instant[] { start(value), endExclusive(value) };
+	}
+
+	private static Instant start(String value) {
+		if (value.length() == 10) {
+			return LocalDate.parse(value).atStartOfDay().toInstant(ZoneOffset.UTC);
+		}
+		try {
+			return OffsetDateTime.parse(value).toInstant();
+		}
+		catch (RuntimeException e) {
+			return LocalDateTime.parse(value).toInstant(ZoneOffset.UTC);
+		}
+	}
+
+	private static Instant endExclusive(String value) {
+		return value.length() == 10 ? start(value).plus(1, ChronoUnit.DAYS) : start(value).plusSeconds(1);
+	}
+
+	// ========== Synthetic data ==========
+
+	private Repo generate(RepoSpec spec, int index) {
+		int total = spec.issues() + spec.pullRequests();
+		Random generator = new Random(config.seed + index);
+		Instant from = config.createdFrom.atStartOfDay().toInstant(ZoneOffset.UTC);
+		Instant to = config.createdTo.atStartOfDay().toInstant(ZoneOffset.UTC);
+		long spanSeconds = Math.max(1, Duration.between(from, to).getSeconds());
+
+		// Creation times are random but numbers increase with them, as on GitHub
+		long[] offsets = new long[total];
+		for (int i = 0; i < total; i++) {
+			offsets[i] = (long) (generator.nextDouble() * spanSeconds);
+		}
+		Arrays.sort(offsets);
+
+		List<Boolean> kinds = new ArrayList<>(total);
+		for (int i = 0; i < total; i++) {
+			kinds.add(i < spec.pullRequests());
+		}
+		Collections.shuffle(kinds, generator);
+
+		List<Item> items = new ArrayList<>(total);
+		for (int i = 0; i < total; i++) {
+			Instant createdAt = from.plusSeconds(offsets[i]);
+			boolean pullRequest = kinds.get(i);
+			boolean open = generator.nextDouble() < config.openRatio;
+			long openSeconds = (long) (generator.nextDouble() * Duration.ofDays(30).getSeconds());
+			Instant closedAt = open ? null : min(to, createdAt.plusSeconds(openSeconds));
+			long idleSeconds = (long) (generator.nextDouble() * Duration.ofDays(1).getSeconds());
+			Instant updatedAt = min(to, (closedAt != null ? closedAt : createdAt).plusSeconds(idleSeconds));
+			boolean merged = pullRequest && !open && generator.nextDouble() < 0.7;
+			List<String> labels = new ArrayList<>();
+			int labelCount = generator.nextInt(3);
+			for (int l = 0; l < labelCount; l++) {
+				String label = LABELS.get(generator.nextInt(LABELS.size()));
+				if (!labels.contains(label)) {
+					labels.add(label);
+				}
+			}
+			items.add(new Item(i + 1, pullRequest, createdAt, updatedAt, closedAt, merged, List.copyOf(labels)));
+		}
+		String[] parts = spec.fullName().split("/");
+		return new Repo(index * 1000L, parts[0], parts[1], List.copyOf(items));
+	}
+
+	private static Instant min(Instant a, Instant b) {
+		return a.isBefore(b) ? a : b;
+	}
+
+	private static String title(Item item) {
+		return (item.pullRequest() ? "Pull request #" : "Issue #") + item.number();
+	}
+
+	private static String body(Item item) {
+		return "Synthetic " + (item.pullRequest() ? "pull request" : "issue") + " body for #" + item.number() + ".";
+	}
+
+	private static String repoApiUrl(Repo repo) {
+		return "https://api.github.com/repos/" + repo.fullName();
+	}
+
+	private static String apiUrl(Repo repo, Item item) {
+		return repoApiUrl(repo) + "/issues/" + item.number();
+	}
+
+	private static String htmlUrl(Repo repo, Item item) {
+		return "https://github.com/" + repo.fullName() + (item.pullRequest() ? "/pull/" : "/issues/") + item.number();
+	}
+
+	private static Map<String, Object> user(int seed) {
+		return Map.of("login", "user" + (seed % 97), "name", "User " + (seed % 97));
+	}
+
+	private static Map<String, Object> label(String name) {
+		return Map.of("name", name, "color", "ededed", "description", "Synthetic label " + name);
+	}
+
+	private static String sha(int number) {
+		return String.format("%040x", number);
+	}
+
+	private static String timestamp(Instant instant) {
+		return instant != null ? instant.truncatedTo(ChronoUnit.SECONDS).toString() : null;
+	}
+
+	private static int parseNumber(String value) {
+		try {
+			return Integer.parseInt(value);
+		}
+		catch (NumberFormatException e) {
+			return -1;
+		}
+	}
+
+	private Map<String, Object> rateLimitBody() {
+		Map<String, Object> resources = new LinkedHashMap<>();
+		budgets.forEach((resource, budget) -> {
+			RateLimitInfo info = budget.snapshot(resource);
+			resources.put(resource, Map.of("limit", info.limit(), "remaining", info.remaining(), "reset",
+					info.reset(), "used", info.used()));
+		});
+		return Map.of("resources", resources, "rate", resources.get(RateLimitInfo.CORE));
+	}
+
+	private record RepoSpec(String fullName, int issues, int pullRequests) {
+	}
+
+	private record Repo(long id, String owner, String name, List<Item> items) {
+
+		String fullName() {
+			return owner + "/" + name;
+		}
+
+		Item item(int number) {
+			return number >= 1 && number <= items.size() ? items.get(number - 1) : null;
+		}
+
+	}
+
+	private record Item(int number, boolean pullRequest, Instant createdAt, Instant updatedAt, Instant closedAt,
+			boolean merged, List<String> labels) {
+
+		boolean open() {
+			return closedAt == null;
+		}
+
+	}
+
+	private record Response(int status, Object body) {
+
+		static Response ok(Object body) {
+			return new Response(200, body);
+		}
+
+		static Response notFound() {
+			return new Response(404, Map.of("message", "Not Found"));
+		}
+
+	}
+
+	private record RateLimit(int limit, Duration window) {
+	}
+
+	/**
+	 * Fixed-window request budget for one rate limit resource.
+	 */
+	private static final class Budget {
+
+		private final int limit;
+
+		private final long windowSeconds;
+
+		private int used;
+
+		private long resetEpochSeconds;
+
+		Budget(int limit, Duration window) {
+			this.limit = limit;
+			this.windowSeconds = window.getSeconds();
+		}
+
+		synchronized boolean tryConsume() {
+			roll();
+			if (used >= limit) {
+				return false;
+			}
+			used++;
+			return true;
+		}
+
+		synchronized RateLimitInfo snapshot(String resource) {
+			roll();
+			return new RateLimitInfo(limit, limit - used, resetEpochSeconds, used, resource);
+		}
+
+		private void roll() {
+			long now = Instant.now().getEpochSecond();
+			if (now >= resetEpochSeconds) {
+				used = 0;
+				resetEpochSeconds = now + windowSeconds;
+			}
+		}
+
+	}
+
+	/**
+	 * Builder for {@link GitHubApiSimulator}.
+	 *
+	 * <p>
+	 * Provides GitHub's defaults where they exist:
+	 * <ul>
+	 * <li>rate limits: core 5000/hour, search 30/minute, graphql 5000/hour</li>
+	 * <li>items created between 2020-01-01 and 2026-01-01, 20% open</li>
+	 * <li>2 comments and 3 events per item, 2 reviews per pull request</li>
+	 * <li>no latency, no secondary limits, no injected errors</li>
+	 * </ul>
+	 */
+	static final class Builder {
+
+		private final List<RepoSpec> repositories = new ArrayList<>();
+
+		private final Map<String, RateLimit> rateLimits = new LinkedHashMap<>();
+
+		private LocalDate createdFrom = LocalDate.of(2020, 1, 1);
+
+		private LocalDate createdTo = LocalDate.of(2026, 1, 1);
+
+		private double openRatio = 0.2;
+
+		private int commentsPerItem = 2;
+
+		private int eventsPerItem = 3;
+
+		private int reviewsPerPullRequest = 2;
+
+		private int collaborators = 5;
+
+		private int releases = 3;
+
+		private Duration latency = Duration.ZERO;
+
+		private int secondaryLimitEvery;
+
+		private int retryAfterSeconds = 1;
+
+		private double errorRate;
+
+		private int threads = 32;
+
+		private int port;
+
+		private long seed = 42;
+
+		private Builder() {
+			rateLimits.put(RateLimitInfo.CORE, new RateLimit(5000, Duration.ofHours(1)));
+			rateLimits.put(RateLimitInfo.SEARCH, new RateLimit(30, Duration.ofMinutes(1)));
+			rateLimits.put(RateLimitInfo.GRAPHQL, new RateLimit(5000, Duration.ofHours(1)));
+		}
+
+		Builder repository(String fullName, int issues, int pullRequests) {
+			this.repositories.add(new RepoSpec(fullName, issues, pullRequests));
+			return this;
+		}
+
+		Builder createdBetween(LocalDate from, LocalDate to) {
+			this.createdFrom = from;
+			this.createdTo = to;
+			return this;
+		}
+
+		Builder openRatio(double openRatio) {
+			this.openRatio = openRatio;
+			return this;
+		}
+
+		Builder commentsPerItem(int commentsPerItem) {
+			this.commentsPerItem = commentsPerItem;
+			return this;
+		}
+
+		Builder eventsPerItem(int eventsPerItem) {
+			this.eventsPerItem = eventsPerItem;
+			return this;
+		}
+
+		Builder reviewsPerPullRequest(int reviewsPerPullRequest) {
+			this.reviewsPerPullRequest = reviewsPerPullRequest;
+			return this;
+		}
+
+		Builder latency(Duration latency) {
+			this.latency = latency;
+			return this;
+		}
+
+		/**
+		 * Set the budget of a rate limit resource.
+		 * @param resource {@code core}, {@code search} or {@code graphql}
+		 * @param limit requests per window
+		 * @param window time until the budget resets
+		 * @return this builder
+		 */
+		Builder rateLimit(String resource, int limit, Duration window) {
+			this.rateLimits.put(resource, new RateLimit(limit, window));
+			return this;
+		}
+
+		/**
+		 * Answer every {@code every}-th request with a secondary rate limit.
+		 * @param every request interval (0 to disable)
+		 * @param retryAfterSeconds value of the {@code Retry-After} header
+		 * @return this builder
+		 */
+		Builder secondaryRateLimitEvery(int every, int retryAfterSeconds) {
+			this.secondaryLimitEvery = every;
+			this.retryAfterSeconds = retryAfterSeconds;
+			return this;
+		}
+
+		/**
+		 * Fail a random fraction of requests with {@code 502 Bad Gateway}.
+		 * @param errorRate probability between 0 and 1
+		 * @return this builder
+		 */
+		Builder errorRate(double errorRate) {
+			this.errorRate = errorRate;
+			return this;
+		}
+
+		Builder threads(int threads) {
+			this.threads = threads;
+			return this;
+		}
+
+		Builder port(int port) {
+			this.port = port;
+			return this;
+		}
+
+		Builder seed(long seed) {
+			this.seed = seed;
+			return this;
+		}
+
+		/**
+		 * Generate the repositories and start serving on the loopback interface.
+		 * @return the running simulator
+		 * @throws IOException if the server cannot be started
+		 */
+		GitHubApiSimulator start() throws IOException {
+			if (repositories.isEmpty()) {
+				throw new IllegalStateException("At least one repository is required. Call repository() first.");
+			}
+			return new GitHubApiSimulator(this);
+		}
+
+	}
+
+}
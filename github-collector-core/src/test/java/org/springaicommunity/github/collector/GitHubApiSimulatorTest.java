@@ -0,0 +1,221 @@
+package org.springaicommunity.github.collector;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import static org.assertj.core.api.Assertions.*;
+
+/**
+ * End-to-end tests that run the collectors over HTTP against {@link GitHubApiSimulator}.
+ *
+ * Unlike the service tests these exercise the real client stack: compression, rate limit
+ * headers, retries and response parsing.
+ */
+@DisplayName("GitHubApiSimulator Tests")
+class GitHubApiSimulatorTest {
+
+	@TempDir
+	Path tempDir;
+
+	private final List<Integer> collected = new ArrayList<>();
+
+	private final List<Object> collectedItems = new ArrayList<>();
+
+	private GitHubCollectorBuilder collectorFor(GitHubApiSimulator simulator) {
+		CollectionStateRepository repository = new CollectionStateRepository() {
+
+			@Override
+			public Path createOutputDirectory(String collectionType, String repository, String state) {
+				return tempDir;
+			}
+
+			@Override
+			public void cleanOutputDirectory(Path outputDir) {
+			}
+
+			@Override
+			public String saveBatch(Path outputDir, int batchIndex, Map<String, Object> batchData,
+					String collectionType, boolean dryRun) {
+				for (Object item : (List<?>) batchData.get(collectionType)) {
+					collectedItems.add(item);
+					collected.add(item instanceof Issue issue ? issue.number() : ((AnalyzedPullRequest) item).number());
+				}
+				return "batch_" + batchIndex + ".json";
+			}
+
+		};
+		return GitHubCollectorBuilder.create()
+			.token("test-token")
+			.baseUrl(simulator.baseUrl())
+			.stateRepository(repository)
+			.archiveService((outputDir, batchFiles, archiveName, dryRun) -> {
+			});
+	}
+
+	@Nested
+	@DisplayName("Collection Tests")
+	class CollectionTest {
+
+		@Test
+		@DisplayName("Should collect every issue with its events")
+		void shouldCollectIssues() throws Exception {
+			try (GitHubApiSimulator simulator = GitHubApiSimulator.builder()
+				.repository("acme/widgets", 250, 50)
+				.start()) {
+				CollectionRequest request = CollectionRequest.builder()
+					.repository("acme/widgets")
+					.issueState("all")
+					.batchSize(100)
+					.build();
+
+				CollectionResult result = collectorFor(simulator).buildIssueCollector().collectItems(request);
+
+				assertThat(result.processedIssues()).isEqualTo(250);
+				assertThat(new HashSet<>(collected)).hasSize(250);
+				// Events come from bulk timeline queries, not one REST request per issue
+				assertThat(simulator.getRequestCount(RateLimitInfo.CORE)).isZero();
+				assertThat(simulator.getRequestCount(RateLimitInfo.GRAPHQL)).isLessThan(20);
+			}
+		}
+
+		@Test
+		@DisplayName("Should split into windows to get past the 1,000 result cap")
+		void shouldCollectPastSearchCap() throws Exception {
+			try (GitHubApiSimulator simulator = GitHubApiSimulator.builder()
+				.repository("acme/widgets", 1500, 0)
+				.eventsPerItem(0)
+				.start()) {
+				CollectionRequest request = CollectionRequest.builder()
+					.repository("acme/widgets")
+					.issueState("all")
+					.batchSize(100)
+					.createdAfter("2020-01-01")
+					.createdBefore("2026-01-01")
+					.build();
+
+				collectorFor(simulator).buildWindowedIssueCollector(request).collectItems(request);
+
+				Set<Integer> unique = new HashSet<>(collected);
+				assertThat(unique).hasSize(1500);
+			}
+		}
+
+		@Test
+		@DisplayName("Should collect pull requests with inline reviews through GraphQL search")
+		void shouldCollectPullRequests() throws Exception {
+			try (GitHubApiSimulator simulator = GitHubApiSimulator.builder()
+				.repository("acme/widgets", 100, 120)
+				.start()) {
+				CollectionRequest request = CollectionRequest.builder()
+					.repository("acme/widgets")
+					.collectionType("prs")
+					.prState("all")
+					.batchSize(50)
+					.build();
+
+				CollectionResult result = collectorFor(simulator).buildPRCollector().collectItems(request);
+
+				assertThat(result.processedIssues()).isEqualTo(120);
+				assertThat(new HashSet<>(collected)).hasSize(120);
+				assertThat(collectedItems).allSatisfy(item -> {
+					AnalyzedPullRequest pr = (AnalyzedPullRequest) item;
+					assertThat(pr.reviews()).hasSize(2);
+					assertThat(pr.changedFiles()).isPositive();
+					assertThat(pr.softApprovalDetected()).isFalse();
+				});
+				// One GraphQL request per page instead of REST search plus a request per PR
+				assertThat(simulator.getRequestCount(RateLimitInfo.CORE)).isZero();
+				assertThat(simulator.getRequestCount(RateLimitInfo.SEARCH)).isZero();
+			}
+		}
+
+	}
+
+	@Nested
+	@DisplayName("Fault Injection Tests")
+	class FaultInjectionTest {
+
+		@Test
+		@DisplayName("Should enforce the per-resource rate limit budget")
+		void shouldEnforceRateLimit() throws Exception {
+			try (GitHubApiSimulator simulator = GitHubApiSimulator.builder()
+				.repository("acme/widgets", 1, 0)
+				.rateLimit(RateLimitInfo.CORE, 2, Duration.ofHours(1))
+				.start()) {
+				GitHubHttpClient client = new GitHubHttpClient("test-token", simulator.baseUrl());
+
+				client.get("/repos/acme/widgets");
+				client.get("/repos/acme/widgets");
+
+				assertThat(client.getRateLimitInfo(RateLimitInfo.CORE).remaining()).isZero();
+				assertThatThrownBy(() -> client.get("/repos/acme/widgets"))
+					.isInstanceOfSatisfying(GitHubHttpClient.GitHubApiException.class,
+							e -> assertThat(e.isRateLimitError()).isTrue());
+				assertThat(simulator.getRateLimitedCount()).isEqualTo(1);
+			}
+		}
+
+		@Test
+		@DisplayName("Should answer with secondary rate limits and Retry-After")
+		void shouldInjectSecondaryRateLimits() throws Exception {
+			try (GitHubApiSimulator simulator = GitHubApiSimulator.builder()
+				.repository("acme/widgets", 1, 0)
+				.secondaryRateLimitEvery(2, 7)
+				.start()) {
+				GitHubHttpClient client = new GitHubHttpClient("test-token", simulator.baseUrl());
+
+				client.get("/repos/acme/widgets");
+
+				assertThatThrownBy(() -> client.get("/repos/acme/widgets"))
+					.isInstanceOfSatisfying(GitHubHttpClient.GitHubApiException.class, e -> {
+						assertThat(e.isSecondaryRateLimit()).isTrue();
+						assertThat(e.getRetryAfterSeconds()).isEqualTo(7);
+					});
+			}
+		}
+
+		@Test
+		@DisplayName("Should inject server errors")
+		void shouldInjectErrors() throws Exception {
+			try (GitHubApiSimulator simulator = GitHubApiSimulator.builder()
+				.repository("acme/widgets", 1, 0)
+				.errorRate(1.0)
+				.start()) {
+				GitHubHttpClient client = new GitHubHttpClient("test-token", simulator.baseUrl());
+
+				assertThatThrownBy(() -> client.get("/repos/acme/widgets"))
+					.isInstanceOfSatisfying(GitHubHttpClient.GitHubApiException.class,
+							e -> assertThat(e.getStatusCode()).isEqualTo(502));
+				assertThat(simulator.getInjectedErrorCount()).isEqualTo(1);
+			}
+		}
+
+		@Test
+		@DisplayName("Should reject REST search pages beyond the 1,000 result cap")
+		void shouldCapRestSearch() throws Exception {
+			try (GitHubApiSimulator simulator = GitHubApiSimulator.builder()
+				.repository("acme/widgets", 1200, 0)
+				.start()) {
+				GitHubHttpClient client = new GitHubHttpClient("test-token", simulator.baseUrl());
+
+				assertThat(client.get("/search/issues?q=repo:acme/widgets&per_page=100&page=10"))
+					.contains("\"number\"");
+				assertThatThrownBy(() -> client.get("/search/issues?q=repo:acme/widgets&per_page=100&page=11"))
+					.isInstanceOfSatisfying(GitHubHttpClient.GitHubApiException.class,
+							e -> assertThat(e.getStatusCode()).isEqualTo(422));
+			}
+		}
+
+	}
+
+}
@@ -0,0 +1,233 @@
+package org.springaicommunity.github.collector;
+
+import com.sun.net.httpserver.HttpExchange;
+import com.sun.net.httpserver.HttpServer;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.net.InetAddress;
+import java.net.InetSocketAddress;
+import java.nio.charset.StandardCharsets;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.zip.Deflater;
+import java.util.zip.DeflaterOutputStream;
+import java.util.zip.GZIPOutputStream;
+
+import static org.assertj.core.api.Assertions.*;
+
+/**
+ * Unit tests for {@link GitHubHttpClient} against a local HTTP server.
+ *
+ * Tests content-encoding negotiation and the transfer byte counters.
+ */
+@DisplayName("GitHubHttpClient Tests")
+class GitHubHttpClientTest {
+
+	private static final String BODY = "{\"items\":[" + "{\"title\":\"compressible\"},".repeat(200) + "{}]}";
+
+	private HttpServer server;
+
+	private String baseUrl;
+
+	private final AtomicReference<String> acceptEncoding = new AtomicReference<>();
+
+	private GitHubHttpClient client;
+
+	@BeforeEach
+	void setUp() throws IOException {
+		server = HttpServer.create(new InetSocketAddress(InetAddress.getLoopbackAddress(), 0), 0);
+		server.createContext("/gzip", exchange -> respond(exchange, "gzip", gzip(BODY), 200));
+		server.createContext("/deflate", exchange -> respond(exchange, "deflate", deflate(BODY, false), 200));
+		server.createContext("/raw-deflate", exchange -> respond(exchange, "deflate", deflate(BODY, true), 200));
+		server.createContext("/identity",
+				exchange -> respond(exchange, null, BODY.getBytes(StandardCharsets.UTF_8), 200));
+		server.createContext("/search/issues", exchange -> {
+			exchange.getResponseHeaders().set("X-RateLimit-Resource", "search");
+			rateLimitHeaders(exchange, 30, 7);
+			respond(exchange, null, "{}".getBytes(StandardCharsets.UTF_8), 200);
+		});
+		server.createContext("/repos/o/r", exchange -> {
+			rateLimitHeaders(exchange, 5000, 4321);
+			respond(exchange, null, "{}".getBytes(StandardCharsets.UTF_8), 200);
+		});
+		server.createContext("/abuse", exchange -> {
+			rateLimitHeaders(exchange, 5000, 4000);
+			exchange.getResponseHeaders().set("Retry-After", "42");
+			respond(exchange, null, "{\"message\":\"You have exceeded a secondary rate limit.\"}"
+				.getBytes(StandardCharsets.UTF_8), 403);
+		});
+		server.createContext("/missing",
+				exchange -> respond(exchange, "gzip", gzip("{\"message\":\"Not Found\"}"), 404));
+		server.start();
+		baseUrl = "http://localhost:" + server.getAddress().getPort();
+		client = new GitHubHttpClient("test-token");
+	}
+
+	@AfterEach
+	void tearDown() {
+		server.stop(0);
+	}
+
+	private void respond(HttpExchange exchange, String encoding, byte[] payload, int status) throws IOException {
+		acceptEncoding.set(exchange.getRequestHeaders().getFirst("Accept-Encoding"));
+		if (encoding != null) {
+			exchange.getResponseHeaders().set("Content-Encoding", encoding);
+		}
+		exchange.sendResponseHeaders(status, payload.length);
+		try (OutputStream out = exchange.getResponseBody()) {
+			out.write(payload);
+		}
+	}
+
+	private static void rateLimitHeaders(HttpExchange exchange, int limit, int remaining) {
+		exchange.getResponseHeaders().set("X-RateLimit-Limit", String.valueOf(limit));
+		exchange.getResponseHeaders().set("X-RateLimit-Remaining", String.valueOf(remaining));
+		exchange.getResponseHeaders().set("X-RateLimit-Used", String.valueOf(limit - remaining));
+		exchange.getResponseHeaders().set("X-RateLimit-Reset", "1700000000");
+	}
+
+	private static byte[] gzip(String text) throws IOException {
+		ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+		try (GZIPOutputStream out = new GZIPOutputStream(bytes)) {
+			out.write(text.getBytes(StandardCharsets.UTF_8));
+		}
+		return bytes.toByteArray();
+	}
+
+	private static byte[] deflate(String text, boolean raw) throws IOException {
+		ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+		Deflater deflater = new Deflater(Deflater.DEFAULT_COMPRESSION, raw);
+		try (DeflaterOutputStream out = new DeflaterOutputStream(bytes, deflater)) {
+			out.write(text.getBytes(StandardCharsets.UTF_8));
+		}
+		finally {
+			deflater.end();
+		}
+		return bytes.toByteArray();
+	}
+
+	@Nested
+	@DisplayName("Content Encoding Tests")
+	class ContentEncodingTest {
+
+		@Test
+		@DisplayName("Should advertise gzip and deflate")
+		void shouldSendAcceptEncoding() {
+			client.get(baseUrl + "/identity");
+
+			assertThat(acceptEncoding.get()).isEqualTo("gzip, deflate");
+		}
+
+		@Test
+		@DisplayName("Should decode gzip bodies")
+		void shouldDecodeGzip() {
+			assertThat(client.get(baseUrl + "/gzip")).isEqualTo(BODY);
+		}
+
+		@Test
+		@DisplayName("Should decode zlib and raw deflate bodies")
+		void shouldDecodeDeflate() {
+			assertThat(client.get(baseUrl + "/deflate")).isEqualTo(BODY);
+			assertThat(client.get(baseUrl + "/raw-deflate")).isEqualTo(BODY);
+		}
+
+		@Test
+		@DisplayName("Should decode streamed and asynchronous bodies")
+		void shouldDecodeStreamAndAsync() throws IOException {
+			try (InputStream in = client.getStream(baseUrl + "/gzip")) {
+				assertThat(new String(in.readAllBytes(), StandardCharsets.UTF_8)).isEqualTo(BODY);
+			}
+			assertThat(client.getAsync(baseUrl + "/deflate").join()).isEqualTo(BODY);
+		}
+
+		@Test
+		@DisplayName("Should decode error bodies before mapping the status")
+		void shouldDecodeErrorBody() {
+			assertThatThrownBy(() -> client.getStream(baseUrl + "/missing"))
+				.isInstanceOf(GitHubHttpClient.GitHubApiException.class)
+				.satisfies(e -> {
+					GitHubHttpClient.GitHubApiException apiException = (GitHubHttpClient.GitHubApiException) e;
+					assertThat(apiException.getStatusCode()).isEqualTo(404);
+					assertThat(apiException.getResponseBody()).contains("Not Found");
+				});
+		}
+
+	}
+
+	@Nested
+	@DisplayName("Byte Counter Tests")
+	class ByteCounterTest {
+
+		@Test
+		@DisplayName("Should count fewer bytes on the wire than decoded for compressed bodies")
+		void shouldCountCompressedAndDecompressedBytes() throws IOException {
+			client.get(baseUrl + "/gzip");
+
+			assertThat(client.getCompressedBytes()).isEqualTo(gzip(BODY).length);
+			assertThat(client.getDecompressedBytes()).isEqualTo(BODY.length());
+		}
+
+		@Test
+		@DisplayName("Should count identity bodies on both sides")
+		void shouldCountIdentityBodiesTwice() {
+			client.get(baseUrl + "/identity");
+
+			assertThat(client.getCompressedBytes()).isEqualTo(BODY.length());
+			assertThat(client.getDecompressedBytes()).isEqualTo(BODY.length());
+		}
+
+	}
+
+	@Nested
+	@DisplayName("Rate Limit Resource Tests")
+	class RateLimitResourceTest {
+
+		@Test
+		@DisplayName("Should track rate limits separately per resource")
+		void shouldTrackRateLimitsPerResource() {
+			client.get(baseUrl + "/search/issues");
+			client.get(baseUrl + "/repos/o/r");
+
+			assertThat(client.getRateLimitInfo(RateLimitInfo.SEARCH))
+				.isEqualTo(new RateLimitInfo(30, 7, 1700000000L, 23, "search"));
+			assertThat(client.getRateLimitInfo(RateLimitInfo.CORE).remaining()).isEqualTo(4321);
+			assertThat(client.getLastRateLimitInfo().resource()).isEqualTo(RateLimitInfo.CORE);
+		}
+
+		@Test
+		@DisplayName("Should infer the resource from the path when the header is missing")
+		void shouldInferResourceFromPath() {
+			client.get(baseUrl + "/repos/o/r");
+
+			assertThat(client.getRateLimitInfo(RateLimitInfo.CORE)).isNotNull();
+			assertThat(client.getRateLimitInfo(RateLimitInfo.SEARCH)).isNull();
+		}
+
+	}
+
+	@Nested
+	@DisplayName("Secondary Rate Limit Tests")
+	class SecondaryRateLimitTest {
+
+		@Test
+		@DisplayName("Should surface Retry-After on secondary rate limit responses")
+		void shouldParseRetryAfter() {
+			assertThatThrownBy(() -> client.get(baseUrl + "/abuse"))
+				.isInstanceOfSatisfying(GitHubHttpClient.GitHubApiException.class, e -> {
+					assertThat(e.isSecondaryRateLimit()).isTrue();
+					assertThat(e.getRetryAfterSeconds()).isEqualTo(42);
+					assertThat(e.getRateLimitRemaining()).isEqualTo(4000);
+				})
+				.hasMessageContaining("Retry after 42 seconds");
+		}
+
+	}
+
+}
@@ -0,0 +1,175 @@
+package org.springaicommunity.github.collector;
+
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import java.io.ByteArrayInputStream;
+import java.lang.management.ManagementFactory;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeFormatter;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Micro-benchmark comparing the String + {@code readTree} path with streaming parsing of
+ * a large GraphQL search page. Not a unit test; run it manually:
+ *
+ * <pre>
+ * mvn -pl github-collector-core test-compile exec:java \
+ *     -Dexec.mainClass=org.springaicommunity.github.collector.GitHubResponseParserBenchmark \
+ *     -Dexec.classpathScope=test
+ * </pre>
+ *
+ * <p>
+ * Allocation is measured per thread with {@code com.sun.management.ThreadMXBean}, so the
+ * figures include every intermediate copy of the page (String, tree nodes, records).
+ */
+public final class GitHubResponseParserBenchmark {
+
+	private static final int ISSUES_PER_PAGE = 100;
+
+	private static final int COMMENTS_PER_ISSUE = 30;
+
+	private static final int WARMUP_ITERATIONS = 200;
+
+	private static final int MEASURED_ITERATIONS = 200;
+
+	private GitHubResponseParserBenchmark() {
+	}
+
+	public static void main(String[] args) throws Exception {
+		ObjectMapper objectMapper = ObjectMapperFactory.create();
+		byte[] page = buildPage().getBytes(StandardCharsets.UTF_8);
+		System.out.printf("Page: %d issues, %d comments each, %.2f MB%n", ISSUES_PER_PAGE, COMMENTS_PER_ISSUE,
+				page.length / (1024.0 * 1024.0));
+
+		Workload stringTree = () -> {
+			String body = new String(page, StandardCharsets.UTF_8);
+			JsonNode root = objectMapper.readTree(body);
+			return treeToIssues(root.path("data").path("search").path("nodes")).size();
+		};
+		Workload stringStreaming = () -> {
+			String body = new String(page, StandardCharsets.UTF_8);
+			try (JsonParser parser = objectMapper.createParser(body)) {
+				return GitHubResponseParser.parseIssueSearch(parser).items().size();
+			}
+		};
+		Workload streaming = () -> {
+			try (JsonParser parser = objectMapper.createParser(new ByteArrayInputStream(page))) {
+				return GitHubResponseParser.parseIssueSearch(parser).items().size();
+			}
+		};
+
+		report("String + readTree + tree walk", stringTree);
+		report("String + token parser", stringStreaming);
+		report("InputStream + token parser", streaming);
+	}
+
+	private static void report(String name, Workload workload) throws Exception {
+		com.sun.management.ThreadMXBean threads = (com.sun.management.ThreadMXBean) ManagementFactory
+			.getThreadMXBean();
+		long threadId = Thread.currentThread().getId();
+
+		int sink = 0;
+		for (int i = 0; i < WARMUP_ITERATIONS; i++) {
+			sink += workload.run();
+		}
+
+		long allocatedBefore = threads.getThreadAllocatedBytes(threadId);
+		long start = System.nanoTime();
+		for (int i = 0; i < MEASURED_ITERATIONS; i++) {
+			sink += workload.run();
+		}
+		long elapsed = System.nanoTime() - start;
+		long allocated = threads.getThreadAllocatedBytes(threadId) - allocatedBefore;
+
+		System.out.printf("%-32s %8.2f ms/page %10.2f MB allocated/page (checksum %d)%n", name,
+				elapsed / 1e6 / MEASURED_ITERATIONS, allocated / (1024.0 * 1024.0) / MEASURED_ITERATIONS, sink);
+	}
+
+	/**
+	 * The tree walk {@code GitHubGraphQLService} used before streaming was introduced.
+	 */
+	private static List<Issue> treeToIssues(JsonNode nodes) {
+		List<Issue> issues = new ArrayList<>();
+		for (JsonNode node : nodes) {
+			List<Comment> comments = new ArrayList<>();
+			for (JsonNode comment : node.path("comments").path("nodes")) {
+				comments.add(new Comment(treeToAuthor(comment.path("author")), comment.path("body").asText(""),
+						treeToDateTime(comment.path("createdAt").asText(null))));
+			}
+			List<Label> labels = new ArrayList<>();
+			for (JsonNode label : node.path("labels").path("nodes")) {
+				labels.add(new Label(label.path("name").asText(""), label.path("color").asText(null),
+						label.path("description").asText(null)));
+			}
+			issues.add(new Issue(node.path("number").asInt(), node.path("title").asText(""),
+					node.path("body").asText(null), node.path("state").asText(""),
+					treeToDateTime(node.path("createdAt").asText(null)),
+					treeToDateTime(node.path("updatedAt").asText(null)),
+					treeToDateTime(node.path("closedAt").asText(null)), node.path("url").asText(""),
+					treeToAuthor(node.path("author")), comments, labels, List.of()));
+		}
+		return issues;
+	}
+
+	private static Author treeToAuthor(JsonNode node) {
+		if (node.isMissingNode() || node.isNull()) {
+			return new Author("unknown", null);
+		}
+		return new Author(node.path("login").asText("unknown"), node.path("name").asText(null));
+	}
+
+	private static LocalDateTime treeToDateTime(String value) {
+		return value == null || value.isEmpty() ? null : LocalDateTime.parse(value, DateTimeFormatter.ISO_DATE_TIME);
+	}
+
+	private static String buildPage() {
+		StringBuilder json = new StringBuilder(8 * 1024 * 1024);
+		json.append("{\"data\":{\"search\":{\"pageInfo\":{\"hasNextPage\":true,\"endCursor\":\"Y3Vyc29yOjEwMA==\"},");
+		json.append("\"issueCount\":5000,\"nodes\":[");
+		String text = "Lorem ipsum dolor sit amet, consectetur adipiscing elit. ".repeat(20);
+		for (int i = 0; i < ISSUES_PER_PAGE; i++) {
+			if (i > 0) {
+				json.append(',');
+			}
+			json.append("{\"number\":")
+				.append(i + 1)
+				.append(",\"title\":\"Issue ")
+				.append(i + 1)
+				.append("\",\"body\":\"")
+				.append(text)
+				.append("\",\"state\":\"OPEN\",\"createdAt\":\"2024-01-10T08:00:00Z\",")
+				.append("\"updatedAt\":\"2024-01-14T15:30:00Z\",\"closedAt\":null,")
+				.append("\"url\":\"https://github.com/owner/repo/issues/")
+				.append(i + 1)
+				.append("\",\"author\":{\"login\":\"user")
+				.append(i)
+				.append("\",\"name\":\"User\"},\"labels\":{\"nodes\":[{\"name\":\"bug\",\"color\":\"d73a4a\",")
+				.append("\"description\":\"Something isn't working\"}]},\"comments\":{\"nodes\":[");
+			for (int c = 0; c < COMMENTS_PER_ISSUE; c++) {
+				if (c > 0) {
+					json.append(',');
+				}
+				json.append("{\"author\":{\"login\":\"commenter")
+					.append(c)
+					.append("\"},\"body\":\"")
+					.append(text)
+					.append("\",\"createdAt\":\"2024-01-11T10:00:00Z\"}");
+			}
+			json.append("]}}");
+		}
+		json.append("]}}}");
+		return json.toString();
+	}
+
+	@FunctionalInterface
+	private interface Workload {
+
+		int run() throws Exception;
+
+	}
+
+}
@@ -0,0 +1,538 @@
+package org.springaicommunity.github.collector;
+
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.*;
+
+/**
+ * Unit tests for {@link GitHubResponseParser} and the streaming mode of the services that
+ * use it.
+ */
+@DisplayName("GitHubResponseParser Tests")
+class GitHubResponseParserTest {
+
+	private final ObjectMapper objectMapper = ObjectMapperFactory.create();
+
+	private JsonParser parserFor(String json) throws IOException {
+		return objectMapper.createParser(new ByteArrayInputStream(json.getBytes(StandardCharsets.UTF_8)));
+	}
+
+	private static InputStream streamOf(String json) {
+		return new ByteArrayInputStream(json.getBytes(StandardCharsets.UTF_8));
+	}
+
+	@Nested
+	@DisplayName("GraphQL Issue Search Tests")
+	class IssueSearchTest {
+
+		private static final String PAGE = """
+				{
+				  "data": {
+				    "search": {
+				      "pageInfo": {"hasNextPage": true, "endCursor": "Y3Vyc29yOjEwMA=="},
+				      "issueCount": 250,
+				      "nodes": [
+				        {
+				          "number": 42,
+				          "title": "Streaming issue",
+				          "body": "Body text",
+				          "state": "CLOSED",
+				          "createdAt": "2024-01-10T08:00:00Z",
+				          "updatedAt": "2024-01-14T15:30:00Z",
+				          "closedAt": "2024-01-15T09:00:00Z",
+				          "url": "https://github.com/owner/repo/issues/42",
+				          "author": {"login": "octocat", "name": "Mona"},
+				          "labels": {"nodes": [{"name": "bug", "color": "d73a4a", "description": null}]},
+				          "comments": {"nodes": [
+				            {"author": {"login": "reviewer"}, "body": "Thanks", "createdAt": "2024-01-11T10:00:00Z"},
+				            {"author": null, "body": null, "createdAt": "2024-01-12T10:00:00Z"}
+				          ]},
+				          "unknownField": {"nested": [1, 2, {"deep": true}]}
+				        },
+				        null,
+				        {"number": 43, "title": "Second", "state": "OPEN", "author": null}
+				      ]
+				    }
+				  }
+				}
+				""";
+
+		@Test
+		@DisplayName("Should build issues with comments and labels from the stream")
+		void shouldParseIssues() throws IOException {
+			SearchResult<Issue> result = GitHubResponseParser.parseIssueSearch(parserFor(PAGE));
+
+			assertThat(result.items()).hasSize(2);
+			Issue issue = result.items().get(0);
+			assertThat(issue.number()).isEqualTo(42);
+			assertThat(issue.title()).isEqualTo("Streaming issue");
+			assertThat(issue.state()).isEqualTo("CLOSED");
+			assertThat(issue.createdAt()).isEqualTo(LocalDateTime.of(2024, 1, 10, 8, 0));
+			assertThat(issue.closedAt()).isEqualTo(LocalDateTime.of(2024, 1, 15, 9, 0));
+			assertThat(issue.author()).isEqualTo(new Author("octocat", "Mona"));
+			assertThat(issue.labels()).containsExactly(new Label("bug", "d73a4a", null));
+			assertThat(issue.comments()).hasSize(2);
+			assertThat(issue.comments().get(0).author().login()).isEqualTo("reviewer");
+			assertThat(issue.comments().get(1).author().login()).isEqualTo("unknown");
+			assertThat(issue.comments().get(1).body()).isEmpty();
+			assertThat(issue.events()).isEmpty();
+		}
+
+		@Test
+		@DisplayName("Should apply defaults for missing fields")
+		void shouldApplyDefaults() throws IOException {
+			Issue issue = GitHubResponseParser.parseIssueSearch(parserFor(PAGE)).items().get(1);
+
+			assertThat(issue.number()).isEqualTo(43);
+			assertThat(issue.body()).isNull();
+			assertThat(issue.url()).isEmpty();
+			assertThat(issue.author().login()).isEqualTo("unknown");
+			assertThat(issue.comments()).isEmpty();
+			assertThat(issue.labels()).isEmpty();
+		}
+
+		@Test
+		@DisplayName("Should read pagination info and the total count")
+		void shouldReadPagination() throws IOException {
+			SearchResult<Issue> result = GitHubResponseParser.parseIssueSearch(parserFor(PAGE));
+
+			assertThat(result.hasMore()).isTrue();
+			assertThat(result.nextCursor()).isEqualTo("Y3Vyc29yOjEwMA==");
+			assertThat(result.totalCount()).isEqualTo(250);
+		}
+
+		@Test
+		@DisplayName("Should return empty result when search data is missing")
+		void shouldHandleMissingData() throws IOException {
+			String response = "{\"errors\":[{\"type\":\"NOT_FOUND\",\"message\":\"nope\"}],\"data\":null}";
+
+			SearchResult<Issue> result = GitHubResponseParser.parseIssueSearch(parserFor(response));
+
+			assertThat(result.items()).isEmpty();
+			assertThat(result.hasMore()).isFalse();
+			assertThat(result.totalCount()).isEqualTo(-1);
+		}
+
+		@Test
+		@DisplayName("Should throw 429 when errors report a rate limit")
+		void shouldThrowOnRateLimit() {
+			String response = """
+					{"data":null,"errors":[{"type":"RATE_LIMITED","message":"API rate limit exceeded"}]}""";
+
+			assertThatThrownBy(() -> GitHubResponseParser.parseIssueSearch(parserFor(response)))
+				.isInstanceOf(GitHubHttpClient.GitHubApiException.class)
+				.hasMessageContaining("GraphQL rate limit exceeded")
+				.satisfies(e -> assertThat(((GitHubHttpClient.GitHubApiException) e).getStatusCode()).isEqualTo(429));
+		}
+
+	}
+
+	@Nested
+	@DisplayName("GraphQL Pull Request Search Tests")
+	class PullRequestSearchTest {
+
+		private static final String PAGE = """
+				{
+				  "data": {
+				    "search": {
+				      "pageInfo": {"hasNextPage": false, "endCursor": null},
+				      "nodes": [
+				        {
+				          "number": 12, "title": "Add feature", "body": null, "state": "MERGED",
+				          "createdAt": "2024-01-10T08:00:00Z", "updatedAt": "2024-01-12T08:00:00Z",
+				          "closedAt": "2024-01-11T08:00:00Z", "mergedAt": "2024-01-11T08:00:00Z",
+				          "url": "https://github.com/owner/repo/pull/12", "author": {"login": "dev"},
+				          "labels": {"nodes": [{"name": "enhancement", "color": "a2eeef"}]},
+				          "isDraft": false, "merged": true, "mergeCommit": {"oid": "abc123"},
+				          "headRefName": "feature", "baseRefName": "main",
+				          "additions": 120, "deletions": 30, "changedFiles": 4,
+				          "reviews": {"nodes": [
+				            {"databaseId": 99, "body": "", "state": "APPROVED", "submittedAt": "2024-01-10T12:00:00Z",
+				             "url": "https://github.com/owner/repo/pull/12#pullrequestreview-99",
+				             "authorAssociation": "CONTRIBUTOR", "author": {"login": "helper"}}
+				          ]}
+				        },
+				        {"number": 13, "state": "OPEN", "mergeCommit": null, "reviews": {"nodes": []}}
+				      ]
+				    }
+				  }
+				}
+				""";
+
+		@Test
+		@DisplayName("Should read merge statistics and inline reviews")
+		void shouldParsePullRequests() throws IOException {
+			SearchResult<PullRequest> result = GitHubResponseParser.parsePullRequestSearchNodes(parserFor(PAGE));
+
+			assertThat(result.items()).hasSize(2);
+			PullRequest pr = result.items().get(0);
+			assertThat(pr.merged()).isTrue();
+			assertThat(pr.mergedAt()).isEqualTo(LocalDateTime.of(2024, 1, 11, 8, 0));
+			assertThat(pr.mergeCommitSha()).isEqualTo("abc123");
+			assertThat(pr.headRef()).isEqualTo("feature");
+			assertThat(pr.baseRef()).isEqualTo("main");
+			assertThat(pr.additions()).isEqualTo(120);
+			assertThat(pr.deletions()).isEqualTo(30);
+			assertThat(pr.changedFiles()).isEqualTo(4);
+			assertThat(pr.url()).isEqualTo("https://api.github.com/repos/owner/repo/pulls/12");
+			assertThat(pr.htmlUrl()).isEqualTo("https://github.com/owner/repo/pull/12");
+			assertThat(pr.labels()).extracting(Label::name).containsExactly("enhancement");
+			assertThat(pr.reviews()).containsExactly(new Review(99, "", "APPROVED",
+					LocalDateTime.of(2024, 1, 10, 12, 0), new Author("helper", null), "CONTRIBUTOR",
+					"https://github.com/owner/repo/pull/12#pullrequestreview-99"));
+		}
+
+		@Test
+		@DisplayName("Should report merged pull requests as closed, like REST")
+		void shouldMapMergedStateToClosed() throws IOException {
+			SearchResult<PullRequest> result = GitHubResponseParser.parsePullRequestSearchNodes(parserFor(PAGE));
+
+			assertThat(result.items()).extracting(PullRequest::state).containsExactly("CLOSED", "OPEN");
+			assertThat(result.items().get(1).mergeCommitSha()).isNull();
+			assertThat(result.items().get(1).url()).isEmpty();
+		}
+
+	}
+
+	@Nested
+	@DisplayName("GraphQL Repository Connection Tests")
+	class RepositoryConnectionTest {
+
+		@Test
+		@DisplayName("Should read issues, cursor and total count of an issues connection")
+		void shouldParseIssueConnection() throws IOException {
+			String response = """
+					{"data": {"repository": {"issues": {
+					  "pageInfo": {"hasNextPage": true, "endCursor": "Y3Vyc29y"},
+					  "totalCount": 4321,
+					  "nodes": [{"number": 7, "title": "Crash", "state": "OPEN", "createdAt": "2024-01-10T08:00:00Z"}]
+					}}}}
+					""";
+
+			SearchResult<Issue> page = GitHubResponseParser.parseIssueConnection(parserFor(response));
+
+			assertThat(page.items()).extracting(Issue::number).containsExactly(7);
+			assertThat(page.nextCursor()).isEqualTo("Y3Vyc29y");
+			assertThat(page.totalCount()).isEqualTo(4321);
+		}
+
+		@Test
+		@DisplayName("Should read pull requests of a pullRequests connection")
+		void shouldParsePullRequestConnection() throws IOException {
+			String response = """
+					{"data": {"repository": {"pullRequests": {
+					  "pageInfo": {"hasNextPage": false, "endCursor": null},
+					  "totalCount": 1,
+					  "nodes": [{"number": 12, "state": "MERGED", "merged": true, "reviews": {"nodes": []}}]
+					}}}}
+					""";
+
+			SearchResult<PullRequest> page = GitHubResponseParser.parsePullRequestConnection(parserFor(response));
+
+			assertThat(page.items()).extracting(PullRequest::number).containsExactly(12);
+			assertThat(page.items().get(0).merged()).isTrue();
+			assertThat(page.hasMore()).isFalse();
+		}
+
+		@Test
+		@DisplayName("Should return an empty page for a missing repository")
+		void shouldHandleMissingRepository() throws IOException {
+			String response = """
+					{"data": {"repository": null}, "errors": [{"type": "NOT_FOUND", "message": "Could not resolve"}]}
+					""";
+
+			SearchResult<Issue> page = GitHubResponseParser.parseIssueConnection(parserFor(response));
+
+			assertThat(page.items()).isEmpty();
+			assertThat(page.hasMore()).isFalse();
+		}
+
+	}
+
+	@Nested
+	@DisplayName("GraphQL Combined Search Tests")
+	class CombinedSearchParsingTest {
+
+		@Test
+		@DisplayName("Should route each node to its type by __typename")
+		void shouldSplitNodesByType() throws IOException {
+			String response = """
+					{"data": {"search": {
+					  "pageInfo": {"hasNextPage": true, "endCursor": "Y3Vyc29y"},
+					  "issueCount": 3,
+					  "nodes": [
+					    {"__typename": "Issue", "number": 1, "title": "Crash", "comments": {"nodes": []}},
+					    {"__typename": "PullRequest", "number": 2, "state": "MERGED", "merged": true,
+					     "reviews": {"nodes": []}},
+					    {"__typename": "Issue", "number": 3, "labels": {"nodes": [{"name": "bug"}]}}
+					  ]
+					}}}
+					""";
+
+			CombinedSearchResult page = GitHubResponseParser.parseCombinedSearch(parserFor(response));
+
+			assertThat(page.issues()).extracting(Issue::number).containsExactly(1, 3);
+			assertThat(page.issues().get(1).labels()).extracting(Label::name).containsExactly("bug");
+			assertThat(page.pullRequests()).extracting(PullRequest::number).containsExactly(2);
+			assertThat(page.pullRequests().get(0).state()).isEqualTo("CLOSED");
+			assertThat(page.nextCursor()).isEqualTo("Y3Vyc29y");
+			assertThat(page.totalCount()).isEqualTo(3);
+		}
+
+		@Test
+		@DisplayName("Should skip nodes of other or unknown types")
+		void shouldSkipUnknownNodes() throws IOException {
+			String response = """
+					{"data": {"search": {
+					  "pageInfo": {"hasNextPage": false},
+					  "nodes": [{}, {"number": 4, "title": "No type"},
+					    {"__typename": "Discussion", "number": 5, "author": {"login": "someone"}},
+					    {"__typename": "Issue", "number": 6}]
+					}}}
+					""";
+
+			CombinedSearchResult page = GitHubResponseParser.parseCombinedSearch(parserFor(response));
+
+			assertThat(page.issues()).extracting(Issue::number).containsExactly(6);
+			assertThat(page.pullRequests()).isEmpty();
+			assertThat(page.hasMore()).isFalse();
+		}
+
+	}
+
+	@Nested
+	@DisplayName("GraphQL Issue Timeline Tests")
+	class IssueTimelineTest {
+
+		private static final String TIMELINES = """
+				{
+				  "data": {
+				    "repository": {
+				      "issue7": {"timelineItems": {"pageInfo": {"hasNextPage": false}, "nodes": [
+				        {"__typename": "LabeledEvent", "createdAt": "2024-01-10T08:00:00Z",
+				         "actor": {"login": "maintainer", "name": "Maintainer"},
+				         "label": {"name": "bug", "color": "d73a4a", "description": null}},
+				        {"__typename": "RenamedTitleEvent", "createdAt": "2024-01-11T08:00:00Z", "actor": null},
+				        {"__typename": "ClosedEvent", "createdAt": "2024-01-12T08:00:00Z", "actor": {"login": "bot"},
+				         "closer": {"mergeCommit": {"oid": "abc123"}}},
+				        {"__typename": "ReferencedEvent", "createdAt": "2024-01-13T08:00:00Z",
+				         "actor": {"login": "dev"}, "commit": {"oid": "def456"}}
+				      ]}},
+				      "issue8": {"timelineItems": {"pageInfo": {"hasNextPage": true}, "nodes": []}},
+				      "issue9": null,
+				      "issue10": {"timelineItems": {"pageInfo": {"hasNextPage": false}, "nodes": []}}
+				    }
+				  }
+				}
+				""";
+
+		@Test
+		@DisplayName("Should map timeline items to REST-style events")
+		void shouldParseTimelineItems() throws IOException {
+			List<IssueEvent> events = GitHubResponseParser.parseIssueTimelines(parserFor(TIMELINES)).get(7);
+
+			assertThat(events).extracting(IssueEvent::event)
+				.containsExactly("labeled", "renamed", "closed", "referenced");
+			assertThat(events.get(0)).isEqualTo(new IssueEvent(0, "labeled", new Author("maintainer", "Maintainer"),
+					new Label("bug", "d73a4a", null), null, LocalDateTime.of(2024, 1, 10, 8, 0)));
+			assertThat(events.get(1).actor().login()).isEqualTo("unknown");
+			assertThat(events.get(2).commitId()).isEqualTo("abc123");
+			assertThat(events.get(3).commitId()).isEqualTo("def456");
+		}
+
+		@Test
+		@DisplayName("Should leave out issues with more pages or no data")
+		void shouldOmitIncompleteTimelines() throws IOException {
+			Map<Integer, List<IssueEvent>> events = GitHubResponseParser.parseIssueTimelines(parserFor(TIMELINES));
+
+			assertThat(events).containsOnlyKeys(7, 10);
+			assertThat(events.get(10)).isEmpty();
+		}
+
+		@Test
+		@DisplayName("Should throw 429 when errors report a rate limit")
+		void shouldThrowOnRateLimit() {
+			String response = """
+					{"data":null,"errors":[{"type":"RATE_LIMITED","message":"API rate limit exceeded"}]}""";
+
+			assertThatThrownBy(() -> GitHubResponseParser.parseIssueTimelines(parserFor(response)))
+				.isInstanceOfSatisfying(GitHubHttpClient.GitHubApiException.class,
+						e -> assertThat(e.getStatusCode()).isEqualTo(429));
+		}
+
+	}
+
+	@Nested
+	@DisplayName("REST Response Tests")
+	class RestResponseTest {
+
+		@Test
+		@DisplayName("Should keep label only for labeled and unlabeled events")
+		void shouldParseIssueEvents() throws IOException {
+			String response = """
+					[
+					  {"id": 1, "event": "labeled", "actor": {"login": "maintainer"},
+					   "label": {"name": "bug", "color": "d73a4a"}, "created_at": "2024-01-10T08:00:00Z"},
+					  {"label": {"name": "ignored"}, "event": "closed", "id": 2, "commit_id": "abc123",
+					   "actor": {"login": "bot"}, "created_at": "2024-01-11T08:00:00Z"}
+					]
+					""";
+
+			List<IssueEvent> events = GitHubResponseParser.parseIssueEvents(parserFor(response));
+
+			assertThat(events).hasSize(2);
+			assertThat(events.get(0).label()).isEqualTo(new Label("bug", "d73a4a", null));
+			assertThat(events.get(1).label()).isNull();
+			assertThat(events.get(1).commitId()).isEqualTo("abc123");
+			assertThat(events.get(1).createdAt()).isEqualTo(LocalDateTime.of(2024, 1, 11, 8, 0));
+		}
+
+		@Test
+		@DisplayName("Should parse reviews")
+		void shouldParseReviews() throws IOException {
+			String response = """
+					[{"id": 7, "body": null, "state": "APPROVED", "submitted_at": "2024-01-15T12:00:00Z",
+					  "user": {"login": "reviewer", "id": 1}, "author_association": "MEMBER", "html_url": "u"}]
+					""";
+
+			List<Review> reviews = GitHubResponseParser.parseReviews(parserFor(response));
+
+			assertThat(reviews).containsExactly(new Review(7, "", "APPROVED", LocalDateTime.of(2024, 1, 15, 12, 0),
+					new Author("reviewer", null), "MEMBER", "u"));
+		}
+
+		@Test
+		@DisplayName("Should parse PR search items and upper-case the state")
+		void shouldParsePullRequestSearch() throws IOException {
+			String response = """
+					{"total_count": 1, "incomplete_results": false, "items": [
+					  {"number": 5, "title": "Add feature", "state": "open", "draft": true,
+					   "created_at": "2024-01-15T10:00:00Z", "user": {"login": "dev"},
+					   "labels": [{"name": "enhancement", "color": "a2eeef"}],
+					   "pull_request": {"url": "x", "merged_at": null}}
+					]}
+					""";
+
+			List<PullRequest> prs = GitHubResponseParser.parsePullRequestSearch(parserFor(response));
+
+			assertThat(prs).hasSize(1);
+			PullRequest pr = prs.get(0);
+			assertThat(pr.state()).isEqualTo("OPEN");
+			assertThat(pr.draft()).isTrue();
+			assertThat(pr.merged()).isFalse();
+			assertThat(pr.labels()).extracting(Label::name).containsExactly("enhancement");
+			assertThat(pr.author().login()).isEqualTo("dev");
+		}
+
+		@Test
+		@DisplayName("Should read the total count of a PR search page")
+		void shouldReadPullRequestSearchTotal() throws IOException {
+			String response = """
+					{"total_count": 1234, "incomplete_results": false, "items": [
+					  {"number": 5, "title": "Add feature", "state": "open", "pull_request": {"merged_at": null}}
+					]}
+					""";
+
+			SearchResult<PullRequest> page = GitHubResponseParser.parsePullRequestSearchPage(parserFor(response));
+
+			assertThat(page.items()).extracting(PullRequest::number).containsExactly(5);
+			assertThat(page.totalCount()).isEqualTo(1234);
+		}
+
+		@Test
+		@DisplayName("Should return empty list for non-array responses")
+		void shouldHandleNonArray() throws IOException {
+			assertThat(GitHubResponseParser.parseReviews(parserFor("{\"message\":\"Not Found\"}"))).isEmpty();
+		}
+
+	}
+
+	@Nested
+	@DisplayName("Streaming Service Mode Tests")
+	class StreamingServiceModeTest {
+
+		@Test
+		@DisplayName("REST service should read events from getStream() when streaming")
+		void restServiceShouldUseStream() {
+			GitHubClient client = mock(GitHubClient.class);
+			when(client.getStream("/repos/owner/repo/issues/1/events"))
+				.thenReturn(streamOf("[{\"id\":1,\"event\":\"closed\",\"created_at\":\"2024-01-10T08:00:00Z\"}]"));
+			GitHubRestService service = new GitHubRestService(client, objectMapper, true);
+
+			List<IssueEvent> events = service.getIssueEvents("owner", "repo", 1);
+
+			assertThat(events).extracting(IssueEvent::event).containsExactly("closed");
+			verify(client, never()).get(anyString());
+		}
+
+		@Test
+		@DisplayName("GraphQL service should read search pages from postGraphQLStream() when streaming")
+		void graphQLServiceShouldUseStream() {
+			GitHubClient client = mock(GitHubClient.class);
+			String response = """
+					{"data":{"search":{"pageInfo":{"hasNextPage":false},"nodes":[{"number":9}]}}}""";
+			when(client.postGraphQLStream(anyString())).thenReturn(streamOf(response));
+			GitHubGraphQLService service = new GitHubGraphQLService(client, objectMapper, true);
+
+			SearchResult<Issue> result = service.searchIssues("repo:owner/repo is:issue", "updated", "desc", 100, null);
+
+			assertThat(result.items()).extracting(Issue::number).containsExactly(9);
+			verify(client, never()).postGraphQL(anyString());
+		}
+
+		@Test
+		@DisplayName("GraphQL service should propagate rate limit errors from the stream")
+		void graphQLServiceShouldPropagateRateLimit() {
+			GitHubClient client = mock(GitHubClient.class);
+			when(client.postGraphQLStream(anyString()))
+				.thenReturn(streamOf("{\"errors\":[{\"type\":\"RATE_LIMITED\",\"message\":\"slow down\"}]}"));
+			GitHubGraphQLService service = new GitHubGraphQLService(client, objectMapper, true);
+
+			assertThatThrownBy(() -> service.searchIssues("repo:owner/repo", "updated", "desc", 100, null))
+				.isInstanceOf(GitHubHttpClient.GitHubApiException.class);
+		}
+
+		@Test
+		@DisplayName("GraphQL service should fetch timelines for many issues per request")
+		void graphQLServiceShouldBatchTimelines() {
+			GitHubClient client = mock(GitHubClient.class);
+			List<String> requests = new ArrayList<>();
+			when(client.postGraphQLStream(anyString())).thenAnswer(invocation -> {
+				requests.add(invocation.getArgument(0));
+				return streamOf("""
+						{"data":{"repository":{"issue1":
+						{"timelineItems":{"nodes":[{"__typename":"ReopenedEvent"}]}}}}}""");
+			});
+			GitHubGraphQLService service = new GitHubGraphQLService(client, objectMapper, true);
+			List<Integer> numbers = new ArrayList<>();
+			for (int number = 1; number <= GitHubGraphQLService.ISSUES_PER_TIMELINE_QUERY + 10; number++) {
+				numbers.add(number);
+			}
+
+			Map<Integer, List<IssueEvent>> events = service.getIssueEvents("owner", "repo", numbers);
+
+			assertThat(requests).hasSize(2);
+			assertThat(requests.get(0)).contains("issue1: issue(number: 1)", "issue50: issue(number: 50)")
+				.doesNotContain("issue51:");
+			assertThat(requests.get(1)).contains("issue60: issue(number: 60)");
+			assertThat(events.get(1)).extracting(IssueEvent::event).containsExactly("reopened");
+		}
+
+	}
+
+}
@@ -13,6 +13,7 @@ import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
 
 import java.io.IOException;
+import java.util.ArrayList;
 import java.util.List;
 
 import static org.assertj.core.api.Assertions.*;
@@ -859,6 +860,26 @@ class GitHubServicesTest {
 			assertThat(result).isEqualTo(750);
 		}
 
+		@Test
+		@DisplayName("Should batch search counts into aliased queries")
+		void shouldBatchSearchCountsIntoAliasedQueries() {
+			String mockResponse = "{\"data\":{\"count0\":{\"issueCount\":12},\"count1\":null}}";
+
+			when(mockGraphQLHttpClient.postGraphQL(anyString())).thenReturn(mockResponse);
+
+			List<String> queries = new ArrayList<>();
+			for (int i = 0; i < GitHubGraphQLService.SEARCHES_PER_COUNT_QUERY + 10; i++) {
+				queries.add("repo:spring-projects/spring-ai is:issue created:2024-01-" + i);
+			}
+			List<Integer> counts = gitHubGraphQLService.getSearchIssueCounts(queries);
+
+			assertThat(counts).hasSize(queries.size());
+			assertThat(counts.get(0)).isEqualTo(12);
+			assertThat(counts.get(1)).isEqualTo(-1);
+			assertThat(counts.get(GitHubGraphQLService.SEARCHES_PER_COUNT_QUERY)).isEqualTo(12);
+			verify(mockGraphQLHttpClient, times(2)).postGraphQL(contains("count0: search(query: $q0"));
+		}
+
 		@ParameterizedTest
 		@CsvSource({ "spring-projects, spring-ai, open, 1000", "microsoft, vscode, closed, 5000",
 				"kubernetes, kubernetes, all, 10000" })
@@ -0,0 +1,74 @@
+package org.springaicommunity.github.collector;
+
+import org.jspecify.annotations.Nullable;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.*;
+
+@DisplayName("GraphQLService Default Tests")
+class GraphQLServiceTest {
+
+	/**
+	 * An implementation of only the search and count operations.
+	 */
+	private static final class SearchOnlyService implements GraphQLService {
+
+		private final List<String> searches = new ArrayList<>();
+
+		@Override
+		public int getTotalIssueCount(String owner, String repo, String state) {
+			return 0;
+		}
+
+		@Override
+		public int getSearchIssueCount(String searchQuery) {
+			return searchQuery.length();
+		}
+
+		@Override
+		public SearchResult<Issue> searchIssues(String searchQuery, String sortBy, String sortOrder, int first,
+				@Nullable String after) {
+			searches.add(searchQuery + " " + sortBy + "-" + sortOrder);
+			return new SearchResult<>(List.of(), null, false);
+		}
+
+	}
+
+	private final SearchOnlyService service = new SearchOnlyService();
+
+	@Test
+	@DisplayName("Should count each search on its own")
+	void shouldCountEachSearch() {
+		assertThat(service.getSearchIssueCounts(List.of("a", "bcd"))).containsExactly(1, 3);
+	}
+
+	@Test
+	@DisplayName("Should leave all issue events to REST")
+	void shouldLeaveEventsToRest() {
+		assertThat(service.getIssueEvents("owner", "repo", List.of(1, 2))).isEmpty();
+	}
+
+	@Test
+	@DisplayName("Should list issues through search in the order of the connection")
+	void shouldListIssuesThroughSearch() {
+		service.listIssues(ConnectionQuery.parse("repo:owner/repo is:issue created:>=2024-01-01"), 50, null);
+
+		assertThat(service.searches).containsExactly("repo:owner/repo is:issue created:>=2024-01-01 created-desc");
+	}
+
+	@Test
+	@DisplayName("Should leave pull request and combined searches unsupported")
+	void shouldNotSearchPullRequests() {
+		assertThatThrownBy(() -> service.searchPullRequests("repo:owner/repo is:pr", 50, null))
+			.isInstanceOf(UnsupportedOperationException.class);
+		assertThatThrownBy(() -> service.listPullRequests(ConnectionQuery.parse("repo:owner/repo is:pr"), 50, null))
+			.isInstanceOf(UnsupportedOperationException.class);
+		assertThatThrownBy(() -> service.searchIssuesAndPullRequests("repo:owner/repo", 50, null))
+			.isInstanceOf(UnsupportedOperationException.class);
+	}
+
+}
@@ -0,0 +1,181 @@
+package org.springaicommunity.github.collector;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.function.BiFunction;
+import java.util.function.Function;
+
+import static org.assertj.core.api.Assertions.*;
+
+@DisplayName("HistogramWindowPlanner Tests")
+class HistogramWindowPlannerTest {
+
+	private static final BiFunction<String, String, Integer> NO_FALLBACK = (after, before) -> {
+		throw new AssertionError("Unexpected fallback count for " + after + "/" + before);
+	};
+
+	/**
+	 * Histogram function counting {@code perDay} items per day and recording each call.
+	 */
+	private static Function<List<AdaptiveWindowPlanner.TimeWindow>, List<Integer>> perDay(int perDay,
+			List<List<AdaptiveWindowPlanner.TimeWindow>> calls) {
+		return ranges -> {
+			calls.add(ranges);
+			return ranges.stream()
+				.map(range -> (int) Duration.between(range.start(), range.end()).toDays() * perDay)
+				.toList();
+		};
+	}
+
+	@Nested
+	@DisplayName("Packing")
+	class PackingTest {
+
+		@Test
+		@DisplayName("Should return single window from one histogram request when count fits")
+		void shouldReturnSingleWindow() {
+			List<List<AdaptiveWindowPlanner.TimeWindow>> calls = new ArrayList<>();
+			var planner = new HistogramWindowPlanner(900, perDay(1, calls));
+
+			List<AdaptiveWindowPlanner.TimeWindow> windows = planner.planWindows("2023-01-01", "2024-01-01",
+					NO_FALLBACK);
+
+			assertThat(windows).containsExactly(new AdaptiveWindowPlanner.TimeWindow("2023-01-01", "2024-01-01"));
+			assertThat(calls).hasSize(1);
+			assertThat(calls.get(0)).hasSize(53);
+			assertThat(calls.get(0).get(52))
+				.isEqualTo(new AdaptiveWindowPlanner.TimeWindow("2023-12-31", "2024-01-01"));
+		}
+
+		@Test
+		@DisplayName("Should pack contiguous weekly buckets into full windows")
+		void shouldPackWeeklyBuckets() {
+			List<List<AdaptiveWindowPlanner.TimeWindow>> calls = new ArrayList<>();
+			var planner = new HistogramWindowPlanner(100, perDay(4, calls));
+
+			// 28 items per week: three weeks fit a window of 100
+			List<AdaptiveWindowPlanner.TimeWindow> windows = planner.planWindows("2023-01-01", "2023-03-01",
+					NO_FALLBACK);
+
+			assertThat(windows).containsExactly(new AdaptiveWindowPlanner.TimeWindow("2023-01-01", "2023-01-22"),
+					new AdaptiveWindowPlanner.TimeWindow("2023-01-22", "2023-02-12"),
+					new AdaptiveWindowPlanner.TimeWindow("2023-02-12", "2023-03-01"));
+			assertThat(calls).hasSize(1);
+		}
+
+		@Test
+		@DisplayName("Should merge empty buckets into neighbouring windows")
+		void shouldMergeEmptyBuckets() {
+			var planner = new HistogramWindowPlanner(100, ranges -> ranges.stream()
+				.map(range -> range.createdAfter().equals("2023-01-15") ? 80 : 0)
+				.toList());
+
+			List<AdaptiveWindowPlanner.TimeWindow> windows = planner.planWindows("2023-01-01", "2023-03-01",
+					NO_FALLBACK);
+
+			assertThat(windows).hasSize(1);
+		}
+
+	}
+
+	@Nested
+	@DisplayName("Refinement")
+	class RefinementTest {
+
+		@Test
+		@DisplayName("Should recount oversized weeks by day in one extra request")
+		void shouldRefineOversizedWeeks() {
+			List<List<AdaptiveWindowPlanner.TimeWindow>> calls = new ArrayList<>();
+			var planner = new HistogramWindowPlanner(100, perDay(20, calls));
+
+			// 140 items per week, 20 per day: five days per window
+			List<AdaptiveWindowPlanner.TimeWindow> windows = planner.planWindows("2023-01-01", "2023-01-15",
+					NO_FALLBACK);
+
+			assertThat(calls).hasSize(2);
+			assertThat(calls.get(1)).hasSize(14);
+			assertThat(windows).containsExactly(new AdaptiveWindowPlanner.TimeWindow("2023-01-01", "2023-01-06"),
+					new AdaptiveWindowPlanner.TimeWindow("2023-01-06", "2023-01-11"),
+					new AdaptiveWindowPlanner.TimeWindow("2023-01-11", "2023-01-15"));
+		}
+
+		@Test
+		@DisplayName("Should recount an oversized day by hour")
+		void shouldRefineOversizedDay() {
+			Map<String, Integer> counts = Map.of("2023-01-01/2023-01-08", 550, "2023-01-03/2023-01-04", 500,
+					"2023-01-03T06:00:00Z/2023-01-03T07:00:00Z", 300, "2023-01-03T18:00:00Z/2023-01-03T19:00:00Z",
+					200);
+			List<List<AdaptiveWindowPlanner.TimeWindow>> calls = new ArrayList<>();
+			var planner = new HistogramWindowPlanner(400, ranges -> {
+				calls.add(ranges);
+				return ranges.stream()
+					.map(range -> counts.getOrDefault(range.createdAfter() + "/" + range.createdBefore(), 0))
+					.toList();
+			});
+
+			List<AdaptiveWindowPlanner.TimeWindow> windows = planner.planWindows("2023-01-01", "2023-01-08",
+					NO_FALLBACK);
+
+			assertThat(calls).extracting(List::size).containsExactly(1, 7, 24);
+			assertThat(windows).containsExactly(
+					new AdaptiveWindowPlanner.TimeWindow("2023-01-01", "2023-01-03T18:00:00Z"),
+					new AdaptiveWindowPlanner.TimeWindow("2023-01-03T18:00:00Z", "2023-01-08"));
+		}
+
+		@Test
+		@DisplayName("Should keep an oversized minute in a window of its own")
+		void shouldKeepOversizedMinute() {
+			// Every range counts 2000 items, however narrow
+			var planner = new HistogramWindowPlanner(100, ranges -> ranges.stream().map(range -> 2000).toList());
+
+			List<AdaptiveWindowPlanner.TimeWindow> windows = planner.planWindows("2023-01-03T12:00:00Z",
+					"2023-01-03T12:02:00Z", NO_FALLBACK);
+
+			assertThat(windows).containsExactly(
+					new AdaptiveWindowPlanner.TimeWindow("2023-01-03T12:00:00Z", "2023-01-03T12:01:00Z"),
+					new AdaptiveWindowPlanner.TimeWindow("2023-01-03T12:01:00Z", "2023-01-03T12:02:00Z"));
+		}
+
+	}
+
+	@Nested
+	@DisplayName("Fallback")
+	class FallbackTest {
+
+		@Test
+		@DisplayName("Should fall back to binary splitting when a bucket cannot be counted")
+		void shouldFallBackOnFailedCount() {
+			var planner = new HistogramWindowPlanner(900, ranges -> ranges.stream().map(range -> -1).toList());
+			BiFunction<String, String, Integer> count = (after, before) -> {
+				if ("2023-01-01".equals(after) && "2024-01-01".equals(before)) {
+					return 1500;
+				}
+				return 750;
+			};
+
+			List<AdaptiveWindowPlanner.TimeWindow> windows = planner.planWindows("2023-01-01", "2024-01-01", count);
+
+			assertThat(windows).containsExactly(new AdaptiveWindowPlanner.TimeWindow("2023-01-01", "2023-07-02"),
+					new AdaptiveWindowPlanner.TimeWindow("2023-07-02", "2024-01-01"));
+		}
+
+		@Test
+		@DisplayName("Should fall back when the histogram returns the wrong number of counts")
+		void shouldFallBackOnShortHistogram() {
+			var planner = new HistogramWindowPlanner(900, ranges -> List.of());
+
+			List<AdaptiveWindowPlanner.TimeWindow> windows = planner.planWindows("2023-01-01", "2024-01-01",
+					(after, before) -> 500);
+
+			assertThat(windows).containsExactly(new AdaptiveWindowPlanner.TimeWindow("2023-01-01", "2024-01-01"));
+		}
+
+	}
+
+}
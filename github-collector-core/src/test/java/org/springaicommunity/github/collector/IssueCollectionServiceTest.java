@@ -19,6 +19,11 @@ import java.nio.file.Files;
 import java.nio.file.Path;
 import java.time.LocalDateTime;
 import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.IntStream;
 
 import static org.assertj.core.api.Assertions.*;
 import static org.mockito.ArgumentMatchers.*;
@@ -424,6 +429,431 @@ class IssueCollectionServiceTest {
 
 	}
 
+	@Nested
+	@DisplayName("Event Enrichment Tests")
+	class EventEnrichmentTest {
+
+		private final CollectionRequest request = CollectionRequest.builder().repository("owner/repo").build();
+
+		private final IssueEvent labeled = new IssueEvent(0, "labeled", new Author("maintainer", null),
+				new Label("bug", "d73a4a", null), null, LocalDateTime.of(2024, 1, 10, 8, 0));
+
+		private Issue issue(int number) {
+			return new Issue(number, "Issue " + number, "body", "CLOSED", LocalDateTime.of(2024, 1, 1, 0, 0), null,
+					null, "url", new Author("author", null), List.of(), List.of(), List.of());
+		}
+
+		@Test
+		@DisplayName("Should fetch the events of a whole batch in one bulk call")
+		void shouldUseBulkEvents() {
+			when(mockGraphQLService.getIssueEvents("owner", "repo", List.of(1, 2)))
+				.thenReturn(Map.of(1, List.of(labeled), 2, List.of()));
+
+			List<Issue> issues = collectionService.processItemBatch(List.of(issue(1), issue(2)), "owner", "repo",
+					request);
+
+			assertThat(issues.get(0).events()).containsExactly(labeled);
+			assertThat(issues.get(1).events()).isEmpty();
+			verifyNoInteractions(mockRestService);
+		}
+
+		@Test
+		@DisplayName("Should fall back to REST for issues missing from the bulk result")
+		void shouldFallBackForMissingIssues() {
+			when(mockGraphQLService.getIssueEvents(anyString(), anyString(), anyList()))
+				.thenReturn(Map.of(1, List.of()));
+			when(mockRestService.getIssueEvents("owner", "repo", 2)).thenReturn(List.of(labeled));
+
+			List<Issue> issues = collectionService.processItemBatch(List.of(issue(1), issue(2)), "owner", "repo",
+					request);
+
+			assertThat(issues.get(1).events()).containsExactly(labeled);
+			verify(mockRestService, never()).getIssueEvents("owner", "repo", 1);
+		}
+
+		@Test
+		@DisplayName("Should fall back to REST when the bulk call fails")
+		void shouldFallBackOnBulkFailure() {
+			when(mockGraphQLService.getIssueEvents(anyString(), anyString(), anyList()))
+				.thenThrow(new GitHubHttpClient.GitHubApiException("Bad Gateway", 502, ""));
+			when(mockRestService.getIssueEvents(anyString(), anyString(), anyInt())).thenReturn(List.of(labeled));
+
+			List<Issue> issues = collectionService.processItemBatch(List.of(issue(1), issue(2)), "owner", "repo",
+					request);
+
+			assertThat(issues).allSatisfy(issue -> assertThat(issue.events()).containsExactly(labeled));
+			verify(mockRestService, times(2)).getIssueEvents(anyString(), anyString(), anyInt());
+		}
+
+	}
+
+	@Nested
+	@DisplayName("Batch Pipeline Tests")
+	class BatchPipelineTest {
+
+		private IssueCollectionService pipelineService;
+
+		@BeforeEach
+		void setUp() {
+			pipelineService = new IssueCollectionService(mockGraphQLService, mockRestService, realObjectMapper,
+					realProperties, mockStateRepository, mockArchiveService, new FixedBatchStrategy<>());
+			when(mockStateRepository.createOutputDirectory(anyString(), anyString(), anyString())).thenReturn(tempDir);
+			when(mockStateRepository.saveBatch(any(), anyInt(), anyMap(), anyString(), anyBoolean()))
+				.thenAnswer(invocation -> "batch_" + invocation.getArgument(1) + ".json");
+		}
+
+		private List<Issue> issues(int from, int count) {
+			return IntStream.range(from, from + count)
+				.mapToObj(number -> new Issue(number, "Issue " + number, "body", "CLOSED",
+						LocalDateTime.of(2024, 1, 1, 0, 0), null, null, "url", new Author("author", null), List.of(),
+						List.of(), List.of()))
+				.toList();
+		}
+
+		private void stubPages(int pageCount) {
+			when(mockGraphQLService.getSearchIssueCount(anyString())).thenReturn(pageCount * 100);
+			when(mockGraphQLService.searchIssues(anyString(), anyString(), anyString(), anyInt(), any()))
+				.thenAnswer(invocation -> {
+					String cursor = invocation.getArgument(4);
+					int page = cursor == null ? 0 : Integer.parseInt(cursor);
+					int first = invocation.getArgument(3);
+					boolean hasMore = page + 1 < pageCount;
+					return new SearchResult<>(issues(page * 100 + 1, first), hasMore ? String.valueOf(page + 1) : null,
+							hasMore);
+				});
+		}
+
+		@Test
+		@DisplayName("Should write every batch in order with consecutive numbers")
+		void shouldWriteBatchesInOrder() {
+			stubPages(3);
+			CollectionRequest request = CollectionRequest.builder()
+				.repository("owner/repo")
+				.issueState("closed")
+				.batchSize(100)
+				.build();
+
+			CollectionResult result = pipelineService.collectItems(request);
+
+			assertThat(result.processedIssues()).isEqualTo(300);
+			assertThat(result.batchFiles()).containsExactly("batch_1.json", "batch_2.json", "batch_3.json");
+		}
+
+		@Test
+		@DisplayName("Should stop at the dashboard limit")
+		void shouldRespectMaxIssues() {
+			stubPages(3);
+			CollectionRequest request = CollectionRequest.builder()
+				.repository("owner/repo")
+				.issueState("closed")
+				.batchSize(100)
+				.maxIssues(150)
+				.build();
+
+			CollectionResult result = pipelineService.collectItems(request);
+
+			assertThat(result.processedIssues()).isEqualTo(150);
+			assertThat(result.batchFiles()).containsExactly("batch_1.json", "batch_2.json");
+			verify(mockGraphQLService, times(2)).searchIssues(anyString(), anyString(), anyString(), anyInt(), any());
+		}
+
+		@Test
+		@DisplayName("Should prefetch the next page while the current batch is enriched")
+		void shouldPrefetchNextPage() {
+			stubPages(2);
+			CountDownLatch secondPageRequested = new CountDownLatch(1);
+			when(mockGraphQLService.searchIssues(anyString(), anyString(), anyString(), anyInt(), eq("1")))
+				.thenAnswer(invocation -> {
+					secondPageRequested.countDown();
+					return new SearchResult<>(issues(101, 100), null, false);
+				});
+			when(mockGraphQLService.getIssueEvents(anyString(), anyString(), anyList())).thenAnswer(invocation -> {
+				// Enrichment of the first batch only finishes once the next page is on its way
+				assertThat(secondPageRequested.await(5, TimeUnit.SECONDS)).isTrue();
+				return Map.of();
+			});
+			CollectionRequest request = CollectionRequest.builder()
+				.repository("owner/repo")
+				.issueState("closed")
+				.batchSize(100)
+				.build();
+
+			CollectionResult result = pipelineService.collectItems(request);
+
+			assertThat(result.processedIssues()).isEqualTo(200);
+		}
+
+		@Test
+		@DisplayName("Should rethrow a failure of the fetch stage")
+		void shouldPropagateFetchFailure() {
+			when(mockGraphQLService.getSearchIssueCount(anyString())).thenReturn(100);
+			when(mockGraphQLService.searchIssues(anyString(), anyString(), anyString(), anyInt(), any()))
+				.thenThrow(new RuntimeException("Search failed"));
+			CollectionRequest request = CollectionRequest.builder()
+				.repository("owner/repo")
+				.issueState("closed")
+				.build();
+
+			assertThatThrownBy(() -> pipelineService.collectItems(request)).isInstanceOf(RuntimeException.class)
+				.hasMessage("Search failed");
+		}
+
+		@Test
+		@DisplayName("Should checkpoint the position of the next item after every batch")
+		void shouldCheckpointAfterEveryBatch() {
+			stubPages(2);
+			CollectionRequest request = CollectionRequest.builder()
+				.repository("owner/repo")
+				.issueState("all")
+				.batchSize(60)
+				.build();
+
+			pipelineService.collectItems(request);
+
+			ArgumentCaptor<ResumeState> checkpoints = ArgumentCaptor.forClass(ResumeState.class);
+			verify(mockStateRepository, times(4)).saveResumeState(eq(tempDir.resolve("resume.json")),
+					checkpoints.capture());
+			assertThat(checkpoints.getAllValues())
+				.extracting(ResumeState::cursor, ResumeState::offset, ResumeState::complete, ResumeState::batchNumber,
+						ResumeState::processedIssues)
+				.containsExactly(tuple(null, 60, false, 1, 60), tuple("1", 20, false, 2, 120),
+						tuple("1", 80, false, 3, 180), tuple(null, 0, true, 4, 200));
+			verify(mockStateRepository).clearResumeState(tempDir.resolve("resume.json"));
+		}
+
+		@Test
+		@DisplayName("Should resume from the checkpoint without refetching completed pages")
+		void shouldResumeFromCheckpoint() {
+			stubPages(2);
+			when(mockStateRepository.loadResumeState(tempDir.resolve("resume.json")))
+				.thenReturn(new ResumeState("repo:owner/repo is:issue", "1", 20, false, 2, 120, null, null, null,
+						"2024-03-01T12:00:00", List.of("batch_1.json", "batch_2.json")));
+			CollectionRequest request = CollectionRequest.builder()
+				.repository("owner/repo")
+				.issueState("all")
+				.batchSize(60)
+				.resume(true)
+				.build();
+
+			CollectionResult result = pipelineService.collectItems(request);
+
+			assertThat(result.processedIssues()).isEqualTo(200);
+			assertThat(result.batchFiles()).containsExactly("batch_1.json", "batch_2.json", "batch_3.json",
+					"batch_4.json");
+			verify(mockGraphQLService, never()).searchIssues(anyString(), anyString(), anyString(), anyInt(), isNull());
+			verify(mockStateRepository, never()).cleanOutputDirectory(any());
+			@SuppressWarnings("unchecked")
+			ArgumentCaptor<Map<String, Object>> batch = ArgumentCaptor.forClass(Map.class);
+			verify(mockStateRepository).saveBatch(eq(tempDir), eq(3), batch.capture(), eq("issues"), eq(false));
+			assertThat((List<?>) batch.getValue().get("issues")).hasSize(60)
+				.first()
+				.extracting("number")
+				.isEqualTo(121);
+		}
+
+		@Test
+		@DisplayName("Should stay inside the reserved batch range without checkpointing")
+		void shouldRespectReservedBatches() {
+			stubPages(3);
+			CollectionRequest request = CollectionRequest.builder()
+				.repository("owner/repo")
+				.issueState("all")
+				.batchSize(100)
+				.batchOffset(10)
+				.reservedBatches(2)
+				.build();
+
+			assertThatThrownBy(() -> pipelineService.collectItems(request)).isInstanceOf(IllegalStateException.class)
+				.hasMessageContaining("exceeds the batch numbers reserved up to 12");
+			verify(mockStateRepository, times(2)).saveBatch(any(), anyInt(), anyMap(), anyString(), anyBoolean());
+			verify(mockStateRepository, never()).saveResumeState(any(), any());
+		}
+
+		@Test
+		@DisplayName("Should start over when the checkpoint belongs to another query")
+		void shouldIgnoreCheckpointOfAnotherQuery() {
+			stubPages(1);
+			when(mockStateRepository.loadResumeState(any()))
+				.thenReturn(new ResumeState("repo:owner/repo is:issue is:open", "1", 20, false, 2, 120, null, null,
+						null, "2024-03-01T12:00:00", List.of("batch_1.json", "batch_2.json")));
+			CollectionRequest request = CollectionRequest.builder()
+				.repository("owner/repo")
+				.issueState("all")
+				.resume(true)
+				.build();
+
+			CollectionResult result = pipelineService.collectItems(request);
+
+			assertThat(result.batchFiles()).containsExactly("batch_1.json");
+			verify(mockStateRepository).cleanOutputDirectory(tempDir);
+		}
+
+	}
+
+	@Nested
+	@DisplayName("Incremental Collection Tests")
+	class IncrementalCollectionTest {
+
+		private IssueCollectionService incrementalService;
+
+		private final CollectionRequest request = CollectionRequest.builder()
+			.repository("owner/repo")
+			.issueState("all")
+			.batchSize(100)
+			.incremental(true)
+			.build();
+
+		@BeforeEach
+		void setUp() {
+			incrementalService = new IssueCollectionService(mockGraphQLService, mockRestService, realObjectMapper,
+					realProperties, mockStateRepository, mockArchiveService, new FixedBatchStrategy<>());
+			when(mockStateRepository.createOutputDirectory(anyString(), anyString(), anyString())).thenReturn(tempDir);
+			when(mockStateRepository.saveBatch(any(), anyInt(), anyMap(), anyString(), anyBoolean()))
+				.thenAnswer(invocation -> "batch_" + invocation.getArgument(1) + ".json");
+			when(mockGraphQLService.getSearchIssueCount(anyString())).thenReturn(2);
+			when(mockGraphQLService.searchIssues(anyString(), anyString(), anyString(), anyInt(), any()))
+				.thenReturn(new SearchResult<>(List.of(issue(7, 10), issue(8, 12)), null, false));
+		}
+
+		private Issue issue(int number, int updatedHour) {
+			return issue(number, updatedHour, "OPEN");
+		}
+
+		private Issue issue(int number, int updatedHour, String state) {
+			return new Issue(number, "Issue " + number, "body", state, LocalDateTime.of(2024, 1, 1, 0, 0),
+					LocalDateTime.of(2024, 3, 2, updatedHour, 30, 15), null, "url", new Author("author", null),
+					List.of(), List.of(), List.of());
+		}
+
+		@Test
+		@DisplayName("Should collect only the delta since the high-water mark")
+		void shouldCollectDeltaSinceMark() {
+			when(mockStateRepository.loadHighWaterMark(tempDir, "issues")).thenReturn("2024-03-01T12:00:00Z");
+			when(mockStateRepository.findLastBatchIndex(tempDir, "issues")).thenReturn(4);
+
+			CollectionResult result = incrementalService.collectItems(request);
+
+			assertThat(result.batchFiles()).containsExactly("batch_5.json");
+			verify(mockGraphQLService).getSearchIssueCount("repo:owner/repo is:issue updated:>=2024-03-01T12:00:00Z");
+			verify(mockStateRepository, never()).cleanOutputDirectory(any());
+			verify(mockStateRepository).removeItems(tempDir, "issues", Set.of(7, 8), 5);
+			verify(mockStateRepository).saveHighWaterMark(tempDir, "issues", "2024-03-02T12:30:15Z");
+		}
+
+		@Test
+		@DisplayName("Should drop stale copies of items that left the requested state")
+		void shouldDropItemsThatLeftState() {
+			when(mockStateRepository.loadHighWaterMark(tempDir, "issues")).thenReturn("2024-03-01T12:00:00Z");
+			when(mockStateRepository.findLastBatchIndex(tempDir, "issues")).thenReturn(4);
+			when(mockGraphQLService.searchIssues(anyString(), anyString(), anyString(), anyInt(), any()))
+				.thenReturn(new SearchResult<>(List.of(issue(7, 10, "OPEN"), issue(8, 12, "CLOSED")), null, false));
+
+			CollectionResult result = incrementalService
+				.collectItems(request.toBuilder().issueState("closed").build());
+
+			// Reopened issue 7 is searched for, replaced in earlier batches and not written
+			assertThat(result.processedIssues()).isEqualTo(1);
+			verify(mockGraphQLService).getSearchIssueCount("repo:owner/repo is:issue updated:>=2024-03-01T12:00:00Z");
+			verify(mockStateRepository).removeItems(tempDir, "issues", Set.of(7, 8), 5);
+			verify(mockStateRepository).saveBatch(eq(tempDir), eq(5), anyMap(), anyString(), anyBoolean());
+			verify(mockStateRepository).saveHighWaterMark(tempDir, "issues", "2024-03-02T12:30:15Z");
+		}
+
+		@Test
+		@DisplayName("Should search the requested state on the first run")
+		void shouldSearchStateOnFirstRun() {
+			incrementalService.collectItems(request.toBuilder().issueState("closed").build());
+
+			verify(mockGraphQLService)
+				.getSearchIssueCount("repo:owner/repo is:issue is:closed updated:>=1970-01-01T00:00:00Z");
+		}
+
+		@Test
+		@DisplayName("Should collect everything and record a mark on the first run")
+		void shouldCollectEverythingOnFirstRun() {
+			CollectionResult result = incrementalService.collectItems(request);
+
+			assertThat(result.processedIssues()).isEqualTo(2);
+			verify(mockStateRepository).cleanOutputDirectory(tempDir);
+			verify(mockStateRepository).saveHighWaterMark(tempDir, "issues", "2024-03-02T12:30:15Z");
+		}
+
+		@Test
+		@DisplayName("Should not record a mark for non-incremental collections")
+		void shouldNotRecordMarkWhenNotIncremental() {
+			incrementalService.collectItems(request.toBuilder().incremental(false).build());
+
+			verify(mockStateRepository, never()).loadHighWaterMark(any(), anyString());
+			verify(mockStateRepository, never()).saveHighWaterMark(any(), anyString(), anyString());
+		}
+
+	}
+
+	@Nested
+	@DisplayName("Connection Paging Tests")
+	class ConnectionPagingTest {
+
+		private IssueCollectionService connectionService;
+
+		@BeforeEach
+		void setUp() {
+			realProperties.setConnectionPaging(true);
+			connectionService = new IssueCollectionService(mockGraphQLService, mockRestService, realObjectMapper,
+					realProperties, mockStateRepository, mockArchiveService, new FixedBatchStrategy<>());
+			when(mockStateRepository.createOutputDirectory(anyString(), anyString(), anyString())).thenReturn(tempDir);
+			when(mockStateRepository.saveBatch(any(), anyInt(), anyMap(), anyString(), anyBoolean()))
+				.thenAnswer(invocation -> "batch_" + invocation.getArgument(1) + ".json");
+			when(mockGraphQLService.getSearchIssueCount(anyString())).thenReturn(2500);
+		}
+
+		private Issue issue(int number) {
+			return new Issue(number, "Issue " + number, "body", "OPEN", LocalDateTime.of(2024, 1, 1, 0, 0), null, null,
+					"url", new Author("author", null), List.of(), List.of(), List.of());
+		}
+
+		@Test
+		@DisplayName("Should page through the issues connection past the search cap")
+		void shouldPageThroughConnection() {
+			when(mockGraphQLService.listIssues(any(), anyInt(), any())).thenAnswer(invocation -> {
+				String cursor = invocation.getArgument(2);
+				int page = cursor == null ? 0 : Integer.parseInt(cursor);
+				List<Issue> issues = IntStream.range(page * 100 + 1, Math.min(page * 100 + 101, 2501))
+					.mapToObj(number -> issue(number))
+					.toList();
+				boolean hasMore = page < 24;
+				return new SearchResult<>(issues, hasMore ? String.valueOf(page + 1) : null, hasMore, 2500);
+			});
+
+			CollectionResult result = connectionService.collectItems(
+					CollectionRequest.builder().repository("owner/repo").issueState("open").batchSize(100).build());
+
+			assertThat(result.processedIssues()).isEqualTo(2500);
+			verify(mockGraphQLService, times(25)).listIssues(
+					eq(new ConnectionQuery("owner", "repo", false, List.of("OPEN"), List.of(), null, null, null)),
+					eq(100), any());
+			verify(mockGraphQLService, never()).searchIssues(anyString(), anyString(), anyString(), anyInt(), any());
+		}
+
+		@Test
+		@DisplayName("Should fall back to search for a creation range")
+		void shouldFallBackToSearch() {
+			when(mockGraphQLService.searchIssues(anyString(), anyString(), anyString(), anyInt(), any()))
+				.thenReturn(new SearchResult<>(List.of(issue(1)), null, false));
+
+			CollectionResult result = connectionService.collectItems(CollectionRequest.builder()
+				.repository("owner/repo")
+				.issueState("open")
+				.batchSize(100)
+				.createdAfter("2024-01-01")
+				.createdBefore("2024-06-01")
+				.build());
+
+			assertThat(result.processedIssues()).isEqualTo(1);
+			verify(mockGraphQLService, never()).listIssues(any(), anyInt(), any());
+		}
+
+	}
+
 	@Nested
 	@DisplayName("Mock Verification - External Dependencies")
 	class MockVerificationTest {
@@ -0,0 +1,228 @@
+package org.springaicommunity.github.collector;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.time.Instant;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+/**
+ * Unit tests for {@link MultiTokenGitHubClient}.
+ *
+ * Tests budget-based routing, rotation on rate limit errors, and the exhausted case.
+ */
+@DisplayName("MultiTokenGitHubClient Tests")
+@ExtendWith(MockitoExtension.class)
+class MultiTokenGitHubClientTest {
+
+	@Mock
+	private GitHubClient first;
+
+	@Mock
+	private GitHubClient second;
+
+	private final long inOneHour = Instant.now().getEpochSecond() + 3600;
+
+	private MultiTokenGitHubClient newClient() {
+		return MultiTokenGitHubClient.builder().client(first).client(second).build();
+	}
+
+	private GitHubHttpClient.GitHubApiException rateLimited(long reset) {
+		return new GitHubHttpClient.GitHubApiException("Rate limit exceeded", 403, "", 0, reset);
+	}
+
+	@Nested
+	@DisplayName("Routing Tests")
+	class RoutingTest {
+
+		@Test
+		@DisplayName("Should route to the token with the most remaining budget")
+		void shouldRouteToLargestBudget() {
+			when(first.getLastRateLimitInfo()).thenReturn(new RateLimitInfo(5000, 120, inOneHour, 4880));
+			when(second.getLastRateLimitInfo()).thenReturn(new RateLimitInfo(5000, 4000, inOneHour, 1000));
+			when(second.get("/repos/o/r")).thenReturn("{}");
+
+			assertThat(newClient().get("/repos/o/r")).isEqualTo("{}");
+			verify(first, never()).get(anyString());
+		}
+
+		@Test
+		@DisplayName("Should prefer tokens that have not been used yet")
+		void shouldPreferUnusedTokens() {
+			when(first.getLastRateLimitInfo()).thenReturn(new RateLimitInfo(5000, 4999, inOneHour, 1));
+			when(second.postGraphQL("{}")).thenReturn("{\"data\":{}}");
+
+			newClient().postGraphQL("{}");
+
+			verify(second).postGraphQL("{}");
+		}
+
+		@Test
+		@DisplayName("Should treat a token whose window has reset as fully available")
+		void shouldRestoreBudgetAfterReset() {
+			long past = Instant.now().getEpochSecond() - 10;
+			when(first.getLastRateLimitInfo()).thenReturn(new RateLimitInfo(5000, 0, past, 5000));
+			when(second.getLastRateLimitInfo()).thenReturn(new RateLimitInfo(5000, 3000, inOneHour, 2000));
+			when(first.get("/path")).thenReturn("first");
+
+			assertThat(newClient().get("/path")).isEqualTo("first");
+		}
+
+		@Test
+		@DisplayName("Should route by the budget of the resource the request uses")
+		void shouldRouteByResource() {
+			when(first.getRateLimitInfo(RateLimitInfo.SEARCH)).thenReturn(new RateLimitInfo(30, 1, inOneHour, 29));
+			when(second.getRateLimitInfo(RateLimitInfo.SEARCH)).thenReturn(new RateLimitInfo(30, 25, inOneHour, 5));
+			when(first.getRateLimitInfo(RateLimitInfo.CORE)).thenReturn(new RateLimitInfo(5000, 4900, inOneHour, 100));
+			when(second.getRateLimitInfo(RateLimitInfo.CORE)).thenReturn(new RateLimitInfo(5000, 200, inOneHour, 4800));
+			when(second.get("/search/issues")).thenReturn("search");
+			when(first.get("/repos/o/r")).thenReturn("core");
+			MultiTokenGitHubClient client = newClient();
+
+			assertThat(client.get("/search/issues")).isEqualTo("search");
+			assertThat(client.get("/repos/o/r")).isEqualTo("core");
+		}
+
+		@Test
+		@DisplayName("Should report the rate limit of the best token")
+		void shouldReportBestTokenRateLimit() {
+			RateLimitInfo best = new RateLimitInfo(5000, 4000, inOneHour, 1000);
+			when(first.getLastRateLimitInfo()).thenReturn(new RateLimitInfo(5000, 10, inOneHour, 4990));
+			when(second.getLastRateLimitInfo()).thenReturn(best);
+
+			assertThat(newClient().getLastRateLimitInfo()).isEqualTo(best);
+		}
+
+	}
+
+	@Nested
+	@DisplayName("Rotation Tests")
+	class RotationTest {
+
+		@Test
+		@DisplayName("Should retry on the next token when a token hits its rate limit")
+		void shouldRotateOnRateLimit() {
+			when(first.get("/path")).thenThrow(rateLimited(inOneHour));
+			when(second.get("/path")).thenReturn("ok");
+			MultiTokenGitHubClient client = newClient();
+
+			assertThat(client.get("/path")).isEqualTo("ok");
+			assertThat(client.get("/path")).isEqualTo("ok");
+			verify(first, times(1)).get("/path");
+		}
+
+		@Test
+		@DisplayName("Should not rotate on non rate limit errors")
+		void shouldPropagateOtherErrors() {
+			when(first.get("/missing"))
+				.thenThrow(new GitHubHttpClient.GitHubApiException("Not found", 404, "{}", 4000, inOneHour));
+
+			assertThatThrownBy(() -> newClient().get("/missing"))
+				.isInstanceOf(GitHubHttpClient.GitHubApiException.class)
+				.hasMessageContaining("Not found");
+			verify(second, never()).get(anyString());
+		}
+
+		@Test
+		@DisplayName("Should rethrow secondary rate limits without rotating")
+		void shouldNotRotateOnSecondaryLimit() {
+			GitHubHttpClient.GitHubApiException secondary = new GitHubHttpClient.GitHubApiException(
+					"You have exceeded a secondary rate limit", 403, "", 4000, inOneHour, 60);
+			when(first.get("/path")).thenThrow(secondary);
+			when(first.getAsync("/path")).thenReturn(CompletableFuture.failedFuture(secondary));
+
+			assertThatThrownBy(() -> newClient().get("/path")).isSameAs(secondary);
+			assertThatThrownBy(() -> newClient().getAsync("/path").join()).hasCause(secondary);
+			verify(second, never()).get(anyString());
+			verify(second, never()).getAsync(anyString());
+		}
+
+		@Test
+		@DisplayName("Should rotate asynchronous requests on rate limit")
+		void shouldRotateAsyncRequests() {
+			when(first.getAsync("/path")).thenReturn(CompletableFuture.failedFuture(rateLimited(inOneHour)));
+			when(second.getAsync("/path")).thenReturn(CompletableFuture.completedFuture("ok"));
+
+			assertThat(newClient().getAsync("/path").join()).isEqualTo("ok");
+		}
+
+	}
+
+	@Nested
+	@DisplayName("Exhaustion Tests")
+	class ExhaustionTest {
+
+		@Test
+		@DisplayName("Should throw a rate limit error with the earliest reset when all tokens are exhausted")
+		void shouldThrowEarliestResetWhenAllExhausted() {
+			long soon = Instant.now().getEpochSecond() + 600;
+			when(first.get("/path")).thenThrow(rateLimited(inOneHour));
+			when(second.get("/path")).thenThrow(rateLimited(soon));
+
+			assertThatThrownBy(() -> newClient().get("/path"))
+				.isInstanceOf(GitHubHttpClient.GitHubApiException.class)
+				.satisfies(e -> {
+					GitHubHttpClient.GitHubApiException apiException = (GitHubHttpClient.GitHubApiException) e;
+					assertThat(apiException.isRateLimitError()).isTrue();
+					assertThat(apiException.getResetEpochSeconds()).isEqualTo(soon);
+				});
+		}
+
+		@Test
+		@DisplayName("Should skip tokens known to be exhausted without calling them")
+		void shouldSkipExhaustedTokens() {
+			when(first.getLastRateLimitInfo()).thenReturn(new RateLimitInfo(5000, 0, inOneHour, 5000));
+			when(second.getLastRateLimitInfo()).thenReturn(new RateLimitInfo(5000, 0, inOneHour, 5000));
+
+			assertThatThrownBy(() -> newClient().get("/path"))
+				.isInstanceOf(GitHubHttpClient.GitHubApiException.class)
+				.hasMessageContaining("all 2 tokens");
+			verify(first, never()).get(anyString());
+			verify(second, never()).get(anyString());
+		}
+
+	}
+
+	@Nested
+	@DisplayName("Builder Validation Tests")
+	class BuilderValidationTest {
+
+		@Test
+		@DisplayName("Should require at least one token")
+		void shouldRequireToken() {
+			assertThatThrownBy(() -> MultiTokenGitHubClient.builder().tokens(List.of(" ", "")).build())
+				.isInstanceOf(IllegalStateException.class)
+				.hasMessageContaining("At least one token");
+		}
+
+		@Test
+		@DisplayName("Should create one client per token")
+		void shouldCreateClientPerToken() {
+			assertThat(MultiTokenGitHubClient.builder().tokens(List.of("a", "b", "c")).build().size()).isEqualTo(3);
+		}
+
+		@Test
+		@DisplayName("Should send token requests to the configured base URL")
+		void shouldUseBaseUrl() throws Exception {
+			try (GitHubApiSimulator simulator = GitHubApiSimulator.builder().repository("acme/widgets", 1, 0).start()) {
+				MultiTokenGitHubClient client = MultiTokenGitHubClient.builder()
+					.tokens(List.of("a", "b"))
+					.baseUrl(simulator.baseUrl())
+					.build();
+
+				assertThat(client.get("/repos/acme/widgets")).contains("acme/widgets");
+				assertThat(simulator.getRequestCount()).isEqualTo(1);
+			}
+		}
+
+	}
+
+}
@@ -0,0 +1,102 @@
+package org.springaicommunity.github.collector;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Function;
+
+import static org.assertj.core.api.Assertions.*;
+
+@DisplayName("MultiTypeCollectionService Tests")
+class MultiTypeCollectionServiceTest {
+
+	private final Map<String, String> collectedTypes = new ConcurrentHashMap<>();
+
+	private CollectionRequest.Builder request() {
+		return CollectionRequest.builder().repository("owner/repo").batchSize(100).issueState("closed");
+	}
+
+	private Function<CollectionRequest, CollectionResult> collection(String name, int items) {
+		return request -> {
+			collectedTypes.put(name, request.collectionType());
+			return new CollectionResult(items, items, name + "/raw/all/owner/repo", List.of("batch_1.json"));
+		};
+	}
+
+	@Test
+	@DisplayName("Should collect every type with its own collection type")
+	void shouldCollectEveryType() {
+		Map<String, Function<CollectionRequest, CollectionResult>> collections = new LinkedHashMap<>();
+		collections.put("issues", collection("issues", 600));
+		collections.put("releases", collection("releases", 40));
+
+		CombinedCollectionResult result = new MultiTypeCollectionService(collections)
+			.collectItems(request().collectionType("issues").build());
+
+		assertThat(result.results().keySet()).containsExactly("issues", "releases");
+		assertThat(result.totalItems()).isEqualTo(640);
+		assertThat(collectedTypes).containsEntry("issues", "issues").containsEntry("releases", "releases");
+	}
+
+	@Test
+	@DisplayName("Should run the collections concurrently")
+	void shouldRunConcurrently() {
+		CountDownLatch started = new CountDownLatch(2);
+		Function<CollectionRequest, CollectionResult> awaitOther = request -> {
+			started.countDown();
+			try {
+				assertThat(started.await(5, TimeUnit.SECONDS)).isTrue();
+			}
+			catch (InterruptedException e) {
+				throw new IllegalStateException(e);
+			}
+			return new CollectionResult(1, 1, "out", List.of());
+		};
+
+		CombinedCollectionResult result = new MultiTypeCollectionService(
+				Map.of("issues", awaitOther, "prs", awaitOther))
+			.collectItems(request().build());
+
+		assertThat(result.processedItems()).isEqualTo(2);
+	}
+
+	@Test
+	@DisplayName("Should finish the other collections before rethrowing a failure")
+	void shouldRethrowFailureAfterOthers() {
+		Map<String, Function<CollectionRequest, CollectionResult>> collections = new LinkedHashMap<>();
+		collections.put("issues", request -> {
+			throw new IllegalStateException("rate limit exhausted");
+		});
+		collections.put("collaborators", collection("collaborators", 12));
+
+		assertThatThrownBy(() -> new MultiTypeCollectionService(collections).collectItems(request().build()))
+			.isInstanceOf(IllegalStateException.class)
+			.hasMessage("rate limit exhausted");
+		assertThat(collectedTypes).containsKey("collaborators");
+	}
+
+	@Test
+	@DisplayName("Should reject single-file output shared by all collections")
+	void shouldRejectSingleFile() {
+		MultiTypeCollectionService service = new MultiTypeCollectionService(
+				Map.of("issues", collection("issues", 1)));
+
+		assertThatThrownBy(() -> service.collectItems(request().singleFile(true).build()))
+			.isInstanceOf(IllegalArgumentException.class)
+			.hasMessageContaining("Single-file output is not supported");
+	}
+
+	@Test
+	@DisplayName("Should require at least one collection")
+	void shouldRequireCollection() {
+		assertThatThrownBy(() -> new MultiTypeCollectionService(Map.of()))
+			.isInstanceOf(IllegalArgumentException.class);
+	}
+
+}
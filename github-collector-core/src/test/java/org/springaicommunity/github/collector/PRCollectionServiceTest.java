@@ -437,6 +437,91 @@ class PRCollectionServiceTest {
 
 	}
 
+	@Nested
+	@DisplayName("GraphQL Search Tests")
+	class GraphQLSearchTest {
+
+		private PRCollectionService graphQLCollector;
+
+		@BeforeEach
+		void setUp() {
+			graphQLCollector = new PRCollectionService(mockGraphQLService, mockRestService, realObjectMapper,
+					realProperties, mockStateRepository, mockArchiveService, mockBatchStrategy, true);
+		}
+
+		private PullRequest withReviews(PullRequest pr, List<Review> reviews) {
+			return new PullRequest(pr.number(), pr.title(), pr.body(), pr.state(), pr.createdAt(), pr.updatedAt(),
+					pr.closedAt(), pr.mergedAt(), pr.url(), pr.htmlUrl(), pr.author(), pr.comments(), pr.labels(),
+					reviews, pr.draft(), pr.merged(), pr.mergeCommitSha(), pr.headRef(), pr.baseRef(), pr.additions(),
+					pr.deletions(), pr.changedFiles());
+		}
+
+		@Test
+		@DisplayName("Should count through GraphQL instead of REST search")
+		void shouldCountThroughGraphQL() {
+			when(mockGraphQLService.getSearchIssueCount("repo:owner/repo is:pr")).thenReturn(42);
+
+			assertThat(graphQLCollector.getTotalItemCount("repo:owner/repo is:pr")).isEqualTo(42);
+			verify(mockRestService, never()).getTotalPRCount(anyString());
+		}
+
+		@Test
+		@DisplayName("Should analyze inline reviews without per-PR review requests")
+		void shouldAnalyzeInlineReviews() {
+			PullRequest pr = withReviews(createMockPullRequest(7, "Inline", "OPEN"),
+					List.of(createMockReview("APPROVED", "CONTRIBUTOR", "helper")));
+			when(mockGraphQLService.searchPullRequests("repo:owner/repo is:pr", 50, null))
+				.thenReturn(new SearchResult<>(List.of(pr), "cursor", true));
+
+			SearchResult<AnalyzedPullRequest> page = graphQLCollector.fetchBatch("repo:owner/repo is:pr", 50, null);
+			List<AnalyzedPullRequest> processed = graphQLCollector.processItemBatch(page.items(), "owner", "repo",
+					createPRRequest("owner/repo", 50, false, "all"));
+
+			assertThat(page.nextCursor()).isEqualTo("cursor");
+			assertThat(processed).hasSize(1);
+			assertThat(processed.get(0).softApprovalDetected()).isTrue();
+			assertThat(processed.get(0).softApprovals()).extracting(SoftApproval::reviewer).containsExactly("helper");
+			verify(mockRestService, never()).getPullRequestReviews(anyString(), anyString(), anyInt());
+			verify(mockRestService, never()).searchPRs(anyString(), anyInt(), any());
+		}
+
+		@Test
+		@DisplayName("Should fetch all reviews through REST when the inline page is full")
+		void shouldFallBackWhenReviewsAreTruncated() {
+			List<Review> fullPage = new ArrayList<>();
+			for (int i = 0; i < GraphQLService.REVIEWS_PER_PULL_REQUEST; i++) {
+				fullPage.add(createMockReview("COMMENTED", "MEMBER", "member" + i));
+			}
+			PullRequest pr = withReviews(createMockPullRequest(8, "Busy", "OPEN"), fullPage);
+			when(mockGraphQLService.searchPullRequests(anyString(), anyInt(), any()))
+				.thenReturn(new SearchResult<>(List.of(pr), null, false));
+			List<Review> allReviews = List.of(createMockReview("APPROVED", "FIRST_TIME_CONTRIBUTOR", "newcomer"));
+			when(mockRestService.getPullRequestReviews("owner", "repo", 8)).thenReturn(allReviews);
+
+			SearchResult<AnalyzedPullRequest> page = graphQLCollector.fetchBatch("repo:owner/repo is:pr", 50, null);
+			List<AnalyzedPullRequest> processed = graphQLCollector.processItemBatch(page.items(), "owner", "repo",
+					createPRRequest("owner/repo", 50, false, "all"));
+
+			assertThat(processed.get(0).reviews()).isEqualTo(allReviews);
+			assertThat(processed.get(0).softApprovalDetected()).isTrue();
+		}
+
+		@Test
+		@DisplayName("Should search through REST when the GraphQL service cannot search pull requests")
+		void shouldFallBackToRestSearch() {
+			when(mockGraphQLService.searchPullRequests(anyString(), anyInt(), any()))
+				.thenThrow(new UnsupportedOperationException("Pull request search is not supported"));
+			PullRequest pr = createMockPullRequest(9, "Rest", "OPEN");
+			when(mockRestService.searchPRs("repo:owner/repo is:pr", 50, null))
+				.thenReturn(new SearchResult<>(List.of(pr), null, false));
+
+			SearchResult<AnalyzedPullRequest> page = graphQLCollector.fetchBatch("repo:owner/repo is:pr", 50, null);
+
+			assertThat(page.items()).extracting(AnalyzedPullRequest::number).containsExactly(9);
+		}
+
+	}
+
 	@Nested
 	@DisplayName("Search Query Building Tests")
 	class SearchQueryBuildingTest {
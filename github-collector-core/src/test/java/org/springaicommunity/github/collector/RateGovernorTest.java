@@ -0,0 +1,203 @@
+package org.springaicommunity.github.collector;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+/**
+ * Unit tests for {@link RateGovernor}.
+ *
+ * Uses a manual nanosecond clock so that refill behaviour is deterministic.
+ */
+@DisplayName("RateGovernor Tests")
+class RateGovernorTest {
+
+	private final AtomicLong clock = new AtomicLong(1_000_000_000L);
+
+	private final long nowSeconds = Instant.now().getEpochSecond();
+
+	private RateGovernor newGovernor(int reserve) {
+		return new RateGovernor(reserve, clock::get);
+	}
+
+	private void advanceMillis(long millis) {
+		clock.addAndGet(TimeUnit.MILLISECONDS.toNanos(millis));
+	}
+
+	@Nested
+	@DisplayName("Permit Tests")
+	class PermitTest {
+
+		@Test
+		@DisplayName("Should not throttle resources that have not been observed")
+		void shouldNotThrottleUnknownResource() {
+			RateGovernor governor = newGovernor(100);
+
+			assertThat(governor.reserve(RateLimitInfo.CORE)).isZero();
+			assertThat(governor.availablePermits(RateLimitInfo.CORE)).isNull();
+		}
+
+		@Test
+		@DisplayName("Should hand out only a short burst immediately while the budget is plentiful")
+		void shouldLimitBurstOfPlentifulBudget() {
+			RateGovernor governor = newGovernor(100);
+			// 3600 requests over an hour: one permit per second, five in the bucket
+			governor.observe(RateLimitInfo.CORE, new RateLimitInfo(5000, 3600, nowSeconds + 3600, 1400));
+
+			for (int i = 0; i < RateGovernor.BURST_SECONDS; i++) {
+				assertThat(governor.reserve(RateLimitInfo.CORE)).isZero();
+			}
+			assertThat(governor.reserve(RateLimitInfo.CORE)).isBetween(900L, 1100L);
+			assertThat(governor.reserve(RateLimitInfo.CORE)).isBetween(1900L, 2100L);
+		}
+
+		@Test
+		@DisplayName("Should space reservations at the refill rate once only the reserve is left")
+		void shouldMeterWithinReserve() {
+			RateGovernor governor = newGovernor(100);
+			// 60 requests over 60 seconds: one permit per second
+			governor.observe(RateLimitInfo.SEARCH, new RateLimitInfo(5000, 60, nowSeconds + 60, 4940));
+
+			assertThat(governor.reserve(RateLimitInfo.SEARCH)).isZero();
+			assertThat(governor.reserve(RateLimitInfo.SEARCH)).isBetween(900L, 1100L);
+			assertThat(governor.reserve(RateLimitInfo.SEARCH)).isBetween(1900L, 2100L);
+		}
+
+		@Test
+		@DisplayName("Should refill permits as time passes")
+		void shouldRefillOverTime() {
+			RateGovernor governor = newGovernor(100);
+			governor.observe(RateLimitInfo.SEARCH, new RateLimitInfo(5000, 60, nowSeconds + 60, 4940));
+			governor.reserve(RateLimitInfo.SEARCH);
+
+			advanceMillis(1100);
+
+			assertThat(governor.reserve(RateLimitInfo.SEARCH)).isZero();
+		}
+
+		@Test
+		@DisplayName("Should wait for the reset when the budget is drained")
+		void shouldWaitForResetWhenDrained() {
+			RateGovernor governor = newGovernor(100);
+			governor.observe(RateLimitInfo.SEARCH, new RateLimitInfo(30, 0, nowSeconds + 30, 30));
+
+			assertThat(governor.reserve(RateLimitInfo.SEARCH)).isBetween(29_000L, 32_000L);
+		}
+
+		@Test
+		@DisplayName("Should keep resources independent")
+		void shouldKeepResourcesIndependent() {
+			RateGovernor governor = newGovernor(100);
+			governor.observe(RateLimitInfo.SEARCH, new RateLimitInfo(30, 0, nowSeconds + 30, 30));
+			governor.observe(RateLimitInfo.CORE, new RateLimitInfo(5000, 4000, nowSeconds + 3600, 1000));
+
+			assertThat(governor.reserve(RateLimitInfo.CORE)).isZero();
+		}
+
+		@Test
+		@DisplayName("Should stop throttling once the reset time has passed")
+		void shouldStopThrottlingAfterReset() {
+			RateGovernor governor = newGovernor(100);
+			governor.observe(RateLimitInfo.SEARCH, new RateLimitInfo(30, 0, nowSeconds - 1, 30));
+
+			assertThat(governor.reserve(RateLimitInfo.SEARCH)).isZero();
+		}
+
+		@Test
+		@DisplayName("Should ignore observations without rate limit headers")
+		void shouldIgnoreIncompleteObservations() {
+			RateGovernor governor = newGovernor(100);
+			governor.observe(RateLimitInfo.CORE, null);
+			governor.observe(RateLimitInfo.CORE, new RateLimitInfo(-1, -1, -1, -1));
+
+			assertThat(governor.availablePermits(RateLimitInfo.CORE)).isNull();
+		}
+
+	}
+
+	@Nested
+	@DisplayName("Concurrency Tests")
+	class ConcurrencyTest {
+
+		@Test
+		@DisplayName("Should hand out each permit exactly once across threads")
+		void shouldNotOverIssuePermits() throws Exception {
+			RateGovernor governor = newGovernor(0);
+			governor.observe(RateLimitInfo.CORE, new RateLimitInfo(5000, 2000, nowSeconds + 60, 3000));
+			double available = governor.availablePermits(RateLimitInfo.CORE);
+			int threads = 8;
+			int perThread = 500;
+			ExecutorService executor = Executors.newFixedThreadPool(threads);
+			CountDownLatch start = new CountDownLatch(1);
+			try {
+				List<Future<Integer>> futures = new ArrayList<>();
+				for (int t = 0; t < threads; t++) {
+					futures.add(executor.submit(() -> {
+						start.await();
+						int immediate = 0;
+						for (int i = 0; i < perThread; i++) {
+							if (governor.reserve(RateLimitInfo.CORE) == 0) {
+								immediate++;
+							}
+						}
+						return immediate;
+					}));
+				}
+				start.countDown();
+
+				int immediate = 0;
+				for (Future<Integer> future : futures) {
+					immediate += future.get(10, TimeUnit.SECONDS);
+				}
+
+				// The clock does not move, so only the permits in the bucket are free
+				assertThat(immediate).isEqualTo((int) Math.floor(available));
+				assertThat(governor.availablePermits(RateLimitInfo.CORE)).isEqualTo(available - threads * perThread);
+			}
+			finally {
+				executor.shutdownNow();
+			}
+		}
+
+	}
+
+	@Nested
+	@DisplayName("RetryingGitHubClient Integration Tests")
+	class RetryingIntegrationTest {
+
+		@Test
+		@DisplayName("Should feed observed rate limits into the governor")
+		void shouldObserveRateLimitsFromDelegate() {
+			GitHubClient delegate = mock(GitHubClient.class);
+			when(delegate.get("/search/issues")).thenReturn("{}");
+			when(delegate.getRateLimitInfo(RateLimitInfo.SEARCH))
+				.thenReturn(new RateLimitInfo(30, 25, nowSeconds + 60, 5, RateLimitInfo.SEARCH));
+			RateGovernor governor = new RateGovernor(0);
+			GitHubClient client = RetryingGitHubClient.builder()
+				.wrapping(delegate)
+				.initialDelayMs(1)
+				.rateGovernor(governor)
+				.build();
+
+			client.get("/search/issues");
+
+			assertThat(governor.availablePermits(RateLimitInfo.SEARCH)).isNotNull();
+			assertThat(governor.availablePermits(RateLimitInfo.CORE)).isNull();
+		}
+
+	}
+
+}
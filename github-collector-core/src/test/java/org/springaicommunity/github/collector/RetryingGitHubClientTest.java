@@ -10,6 +10,8 @@ import org.mockito.junit.jupiter.MockitoExtension;
 
 import java.time.Duration;
 import java.time.Instant;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
 
 import static org.assertj.core.api.Assertions.*;
 import static org.mockito.Mockito.*;
@@ -454,6 +456,24 @@ class RetryingGitHubClientTest {
 			assertThat(elapsed).isLessThan(1000);
 		}
 
+		@Test
+		@DisplayName("Should retry secondary rate limit after the Retry-After delay")
+		void shouldHonorRetryAfterOnSecondaryRateLimit() {
+			GitHubHttpClient.GitHubApiException error = new GitHubHttpClient.GitHubApiException(
+					"Secondary rate limit exceeded (403)", 403, "secondary rate limit", 4999,
+					Instant.now().getEpochSecond() + 3600, 1);
+
+			when(mockDelegate.get("/path")).thenThrow(error).thenReturn("success");
+
+			long start = System.currentTimeMillis();
+			String result = retryingClient.get("/path");
+			long elapsed = System.currentTimeMillis() - start;
+
+			assertThat(result).isEqualTo("success");
+			// Retry-After wins over both the 1ms default and the distant reset time
+			assertThat(elapsed).isBetween(900L, 3000L);
+		}
+
 	}
 
 	@Nested
@@ -519,6 +539,65 @@ class RetryingGitHubClientTest {
 			assertThat(elapsed).isLessThan(500);
 		}
 
+		@Test
+		@DisplayName("Should NOT pace core requests when only the search budget is low")
+		void shouldNotPaceCoreWhenSearchIsLow() {
+			long resetEpoch = Instant.now().getEpochSecond() + 60;
+			when(mockDelegate.getLastRateLimitInfo()).thenReturn(new RateLimitInfo(30, 2, resetEpoch, 28, "search"));
+			when(mockDelegate.get("/repos/o/r/issues/1/events")).thenReturn("[]");
+
+			long start = System.currentTimeMillis();
+			retryingClient.get("/repos/o/r/issues/1/events");
+			long elapsed = System.currentTimeMillis() - start;
+
+			assertThat(elapsed).isLessThan(500);
+		}
+
+		@Test
+		@DisplayName("Should pace search requests by the search budget")
+		void shouldPaceSearchBySearchBudget() {
+			long resetEpoch = Instant.now().getEpochSecond() + 60;
+			when(mockDelegate.getRateLimitInfo(RateLimitInfo.SEARCH))
+				.thenReturn(new RateLimitInfo(30, 20, resetEpoch, 10, "search"));
+			when(mockDelegate.get("/search/issues")).thenReturn("{}");
+
+			long start = System.currentTimeMillis();
+			retryingClient.get("/search/issues");
+			long elapsed = System.currentTimeMillis() - start;
+
+			// With 20 remaining and 60s until reset: pace = 60000/20 = 3000ms
+			assertThat(elapsed).isGreaterThanOrEqualTo(100);
+		}
+
+		@Test
+		@DisplayName("Should return a draining response at once and hold the next request until the reset")
+		void shouldWaitForResetBeforeNextRequest() {
+			long resetEpoch = Instant.now().getEpochSecond() + 1;
+			when(mockDelegate.getRateLimitInfo(RateLimitInfo.SEARCH))
+				.thenReturn(new RateLimitInfo(30, 0, resetEpoch, 30, "search"));
+			when(mockDelegate.get("/search/issues")).thenReturn("{}");
+			when(mockDelegate.get("/repos/o/r/issues/1/events")).thenReturn("[]");
+
+			long start = System.currentTimeMillis();
+			retryingClient.get("/search/issues");
+			assertThat(System.currentTimeMillis() - start).isLessThan(500);
+
+			retryingClient.get("/repos/o/r/issues/1/events");
+			assertThat(System.currentTimeMillis() - start).isLessThan(500);
+
+			retryingClient.get("/search/issues");
+			assertThat(System.currentTimeMillis()).isGreaterThanOrEqualTo((resetEpoch + 1) * 1000);
+		}
+
+		@Test
+		@DisplayName("Should delegate getRateLimitInfo to wrapped client")
+		void shouldDelegateGetRateLimitInfo() {
+			RateLimitInfo info = new RateLimitInfo(5000, 4000, 1234567890L, 1000, "core");
+			when(mockDelegate.getRateLimitInfo("core")).thenReturn(info);
+
+			assertThat(retryingClient.getRateLimitInfo("core")).isEqualTo(info);
+		}
+
 		@Test
 		@DisplayName("Should delegate getLastRateLimitInfo to wrapped client")
 		void shouldDelegateGetLastRateLimitInfo() {
@@ -533,6 +612,95 @@ class RetryingGitHubClientTest {
 
 	}
 
+	@Nested
+	@DisplayName("Async Retry Tests")
+	class AsyncRetryTest {
+
+		@Test
+		@DisplayName("Should delegate getAsync() to wrapped client")
+		void shouldDelegateGetAsync() {
+			when(mockDelegate.getAsync("/path")).thenReturn(CompletableFuture.completedFuture("success"));
+
+			String result = retryingClient.getAsync("/path").join();
+
+			assertThat(result).isEqualTo("success");
+			verify(mockDelegate, times(1)).getAsync("/path");
+			verify(mockDelegate, never()).get(anyString());
+		}
+
+		@Test
+		@DisplayName("Should retry async server errors without blocking the caller")
+		void shouldRetryAsyncServerErrors() {
+			GitHubHttpClient.GitHubApiException serverError = new GitHubHttpClient.GitHubApiException("Server Error",
+					500, "Internal Server Error");
+
+			when(mockDelegate.postGraphQLAsync("query")).thenReturn(CompletableFuture.failedFuture(serverError))
+				.thenReturn(CompletableFuture.failedFuture(serverError))
+				.thenReturn(CompletableFuture.completedFuture("success"));
+
+			CompletableFuture<String> future = retryingClient.postGraphQLAsync("query");
+
+			assertThat(future.join()).isEqualTo("success");
+			verify(mockDelegate, times(3)).postGraphQLAsync("query");
+		}
+
+		@Test
+		@DisplayName("Should retry when the delegate throws instead of returning a failed future")
+		void shouldRetryWhenDelegateThrowsSynchronously() {
+			when(mockDelegate.getWithQueryAsync("/path", "q=x")).thenThrow(new RuntimeException("Network error"))
+				.thenReturn(CompletableFuture.completedFuture("success"));
+
+			assertThat(retryingClient.getWithQueryAsync("/path", "q=x").join()).isEqualTo("success");
+			verify(mockDelegate, times(2)).getWithQueryAsync("/path", "q=x");
+		}
+
+		@Test
+		@DisplayName("Should NOT retry async client errors (4xx except 429)")
+		void shouldNotRetryAsyncClientErrors() {
+			GitHubHttpClient.GitHubApiException notFound = new GitHubHttpClient.GitHubApiException("Not Found", 404,
+					"Not Found");
+			when(mockDelegate.getAsync("/path")).thenReturn(CompletableFuture.failedFuture(notFound));
+
+			assertThatThrownBy(() -> retryingClient.getAsync("/path").join()).isInstanceOf(CompletionException.class)
+				.hasCause(notFound);
+
+			verify(mockDelegate, times(1)).getAsync("/path");
+		}
+
+		@Test
+		@DisplayName("Should fail with the last error after max async retries")
+		void shouldFailAfterMaxAsyncRetries() {
+			GitHubHttpClient.GitHubApiException serverError = new GitHubHttpClient.GitHubApiException("Server Error",
+					503, "Service Unavailable");
+			when(mockDelegate.getAsync("/path")).thenReturn(CompletableFuture.failedFuture(serverError));
+
+			assertThatThrownBy(() -> retryingClient.getAsync("/path").join()).isInstanceOf(CompletionException.class)
+				.hasCause(serverError);
+
+			verify(mockDelegate, times(4)).getAsync("/path");
+		}
+
+		@Test
+		@DisplayName("Should return a pending future while waiting for rate limit reset")
+		void shouldNotBlockCallerDuringResetWait() {
+			long resetEpoch = Instant.now().getEpochSecond() + 2;
+			GitHubHttpClient.GitHubApiException error = new GitHubHttpClient.GitHubApiException(
+					"Too Many Requests (429)", 429, "rate limit", 0, resetEpoch);
+			when(mockDelegate.getAsync("/path")).thenReturn(CompletableFuture.failedFuture(error))
+				.thenReturn(CompletableFuture.completedFuture("success"));
+
+			long start = System.currentTimeMillis();
+			CompletableFuture<String> future = retryingClient.getAsync("/path");
+			long returnedAfter = System.currentTimeMillis() - start;
+
+			assertThat(returnedAfter).isLessThan(500);
+			assertThat(future).isNotDone();
+			assertThat(future.join()).isEqualTo("success");
+			assertThat(System.currentTimeMillis() - start).isGreaterThan(1000);
+		}
+
+	}
+
 	@Nested
 	@DisplayName("GitHubApiException Rate Limit Fields Tests")
 	class ApiExceptionRateLimitFieldsTest {
@@ -596,6 +764,34 @@ class RetryingGitHubClientTest {
 			assertThat(e.isRateLimitError()).isFalse();
 		}
 
+		@Test
+		@DisplayName("Secondary rate limit is detected from Retry-After")
+		void secondaryRateLimitFromRetryAfter() {
+			GitHubHttpClient.GitHubApiException e = new GitHubHttpClient.GitHubApiException("Forbidden", 403, "body",
+					4999, 12345L, 30);
+			assertThat(e.isSecondaryRateLimit()).isTrue();
+			assertThat(e.isRateLimitError()).isTrue();
+			assertThat(e.getRetryAfterSeconds()).isEqualTo(30);
+		}
+
+		@Test
+		@DisplayName("Secondary rate limit is detected from the response message")
+		void secondaryRateLimitFromBody() {
+			GitHubHttpClient.GitHubApiException e = new GitHubHttpClient.GitHubApiException("Forbidden", 403,
+					"{\"message\":\"You have exceeded a secondary rate limit.\"}", 4999, 12345L);
+			assertThat(e.isSecondaryRateLimit()).isTrue();
+			assertThat(e.getRetryAfterSeconds()).isEqualTo(-1);
+		}
+
+		@Test
+		@DisplayName("Primary rate limit is not a secondary rate limit")
+		void primaryRateLimitIsNotSecondary() {
+			GitHubHttpClient.GitHubApiException e = new GitHubHttpClient.GitHubApiException("Rate limited", 403,
+					"body", 0, 12345L, 60);
+			assertThat(e.isRateLimitError()).isTrue();
+			assertThat(e.isSecondaryRateLimit()).isFalse();
+		}
+
 	}
 
 }
@@ -0,0 +1,66 @@
+package org.springaicommunity.github.collector;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+
+import java.time.Instant;
+
+import static org.assertj.core.api.Assertions.*;
+
+@DisplayName("SearchDates Tests")
+class SearchDatesTest {
+
+	@Nested
+	@DisplayName("Created qualifier")
+	class CreatedQualifierTest {
+
+		@Test
+		@DisplayName("Should end a date range on the day before the exclusive bound")
+		void shouldBuildDateRange() {
+			assertThat(SearchDates.createdQualifier("2024-01-01", "2024-06-01"))
+				.isEqualTo("created:2024-01-01..2024-05-31");
+		}
+
+		@Test
+		@DisplayName("Should end a timestamp range one second before the exclusive bound")
+		void shouldBuildTimestampRange() {
+			assertThat(SearchDates.createdQualifier("2024-01-01", "2024-01-01T06:00:00Z"))
+				.isEqualTo("created:2024-01-01T00:00:00Z..2024-01-01T05:59:59Z");
+			assertThat(SearchDates.createdQualifier("2024-01-01T06:00:00Z", "2024-01-02"))
+				.isEqualTo("created:2024-01-01T06:00:00Z..2024-01-01T23:59:59Z");
+		}
+
+		@Test
+		@DisplayName("Should build open-ended ranges")
+		void shouldBuildOpenEndedRanges() {
+			assertThat(SearchDates.createdQualifier("2024-01-01", null)).isEqualTo("created:>=2024-01-01");
+			assertThat(SearchDates.createdQualifier(null, "2024-01-01T06:00:00Z"))
+				.isEqualTo("created:<2024-01-01T06:00:00Z");
+			assertThat(SearchDates.createdQualifier(null, null)).isNull();
+		}
+
+	}
+
+	@Nested
+	@DisplayName("Parsing and formatting")
+	class ParseFormatTest {
+
+		@Test
+		@DisplayName("Should parse dates, timestamps and local timestamps as UTC")
+		void shouldParseBounds() {
+			assertThat(SearchDates.parse("2024-06-15")).isEqualTo(Instant.parse("2024-06-15T00:00:00Z"));
+			assertThat(SearchDates.parse("2024-06-15T10:00:00+02:00")).isEqualTo(Instant.parse("2024-06-15T08:00:00Z"));
+			assertThat(SearchDates.parse("2024-06-15T10:00:00")).isEqualTo(Instant.parse("2024-06-15T10:00:00Z"));
+		}
+
+		@Test
+		@DisplayName("Should format midnight as a date and other instants as timestamps")
+		void shouldFormatBounds() {
+			assertThat(SearchDates.format(Instant.parse("2024-06-15T00:00:00Z"))).isEqualTo("2024-06-15");
+			assertThat(SearchDates.format(Instant.parse("2024-06-15T06:30:00.500Z"))).isEqualTo("2024-06-15T06:30:00Z");
+		}
+
+	}
+
+}
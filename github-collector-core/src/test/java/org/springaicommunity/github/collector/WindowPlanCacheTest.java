@@ -0,0 +1,172 @@
+package org.springaicommunity.github.collector;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.nio.file.Path;
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.ZoneOffset;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.BiFunction;
+import java.util.function.Function;
+
+import static org.assertj.core.api.Assertions.*;
+
+@DisplayName("WindowPlanCache Tests")
+class WindowPlanCacheTest {
+
+	private static final String KEY = "repo:spring-projects/spring-boot is:issue";
+
+	private static final Duration SETTLE_PERIOD = Duration.ofDays(30);
+
+	@TempDir
+	Path cacheDir;
+
+	private WindowPlanCache cacheAt(String now) {
+		return new WindowPlanCache(cacheDir, KEY, SETTLE_PERIOD, Clock.fixed(Instant.parse(now), ZoneOffset.UTC));
+	}
+
+	/**
+	 * Count function counting two items per day and recording each call.
+	 */
+	private static BiFunction<String, String, Integer> twoPerDay(List<String> calls) {
+		return (after, before) -> {
+			calls.add(after + "/" + before);
+			return (int) Duration.between(SearchDates.parse(after), SearchDates.parse(before)).toDays() * 2;
+		};
+	}
+
+	@Nested
+	@DisplayName("Planning")
+	class PlanningTest {
+
+		@Test
+		@DisplayName("Should reuse settled windows and plan only the trailing range")
+		void shouldReuseSettledWindows() {
+			List<String> calls = new ArrayList<>();
+			List<AdaptiveWindowPlanner.TimeWindow> first = cacheAt("2026-01-01T00:00:00Z")
+				.planner(new AdaptiveWindowPlanner(900))
+				.planWindows("2023-01-01", "2026-01-01", twoPerDay(calls));
+			assertThat(first).hasSize(4);
+			assertThat(calls).hasSize(7);
+
+			calls.clear();
+			List<AdaptiveWindowPlanner.TimeWindow> second = cacheAt("2026-01-11T00:00:00Z")
+				.planner(new AdaptiveWindowPlanner(900))
+				.planWindows("2023-01-01", "2026-01-11", twoPerDay(calls));
+
+			assertThat(second).containsExactly(first.get(0), first.get(1), first.get(2),
+					new AdaptiveWindowPlanner.TimeWindow("2025-04-02", "2026-01-11"));
+			assertThat(calls).containsExactly("2025-04-02/2026-01-11");
+		}
+
+		@Test
+		@DisplayName("Should plan from scratch for another per-window limit")
+		void shouldIgnorePlanForOtherLimit() {
+			cacheAt("2026-01-01T00:00:00Z").planner(new AdaptiveWindowPlanner(900))
+				.planWindows("2023-01-01", "2026-01-01", twoPerDay(new ArrayList<>()));
+
+			List<String> calls = new ArrayList<>();
+			List<AdaptiveWindowPlanner.TimeWindow> windows = cacheAt("2026-01-01T00:00:00Z")
+				.planner(new AdaptiveWindowPlanner(500))
+				.planWindows("2023-01-01", "2026-01-01", twoPerDay(calls));
+
+			assertThat(calls.get(0)).isEqualTo("2023-01-01/2026-01-01");
+			assertThat(windows).hasSize(8);
+		}
+
+		@Test
+		@DisplayName("Should plan from scratch for another key")
+		void shouldIgnorePlanForOtherKey() {
+			cacheAt("2026-01-01T00:00:00Z").planner(new AdaptiveWindowPlanner(900))
+				.planWindows("2023-01-01", "2026-01-01", twoPerDay(new ArrayList<>()));
+
+			List<String> calls = new ArrayList<>();
+			new WindowPlanCache(cacheDir, "repo:spring-projects/spring-boot is:pr", SETTLE_PERIOD,
+					Clock.fixed(Instant.parse("2026-01-01T00:00:00Z"), ZoneOffset.UTC))
+				.planner(new AdaptiveWindowPlanner(900))
+				.planWindows("2023-01-01", "2026-01-01", twoPerDay(calls));
+
+			assertThat(calls).hasSize(7);
+		}
+
+		@Test
+		@DisplayName("Should plan from scratch when counts are filtered by state or label")
+		void shouldNotReuseFilteredPlans() {
+			Clock clock = Clock.fixed(Instant.parse("2026-01-11T00:00:00Z"), ZoneOffset.UTC);
+			for (String key : List.of(KEY + " is:closed", KEY + " label:\"bug\"")) {
+				new WindowPlanCache(cacheDir, key, SETTLE_PERIOD, clock).planner(new AdaptiveWindowPlanner(900))
+					.planWindows("2023-01-01", "2026-01-01", twoPerDay(new ArrayList<>()));
+
+				List<String> calls = new ArrayList<>();
+				WindowPlanCache cache = new WindowPlanCache(cacheDir, key, SETTLE_PERIOD, clock);
+				cache.planner(new AdaptiveWindowPlanner(900))
+					.planWindows("2023-01-01", "2026-01-01", cache.counting(twoPerDay(calls)));
+
+				// Closing old issues grows settled ranges, so every range is counted again
+				assertThat(calls).hasSize(7);
+			}
+		}
+
+	}
+
+	@Nested
+	@DisplayName("Counts")
+	class CountsTest {
+
+		@Test
+		@DisplayName("Should count settled ranges once and recent ranges every time")
+		void shouldCacheSettledCounts() {
+			List<String> calls = new ArrayList<>();
+			BiFunction<String, String, Integer> counting = cacheAt("2026-01-01T00:00:00Z").counting(twoPerDay(calls));
+
+			counting.apply("2025-01-01", "2025-02-01");
+			counting.apply("2025-01-01", "2025-02-01");
+			counting.apply("2025-12-15", "2026-01-01");
+			counting.apply("2025-12-15", "2026-01-01");
+
+			assertThat(calls).containsExactly("2025-01-01/2025-02-01", "2025-12-15/2026-01-01",
+					"2025-12-15/2026-01-01");
+		}
+
+		@Test
+		@DisplayName("Should pass only uncached ranges to the histogram function")
+		void shouldCountMissingHistogramRanges() {
+			List<List<AdaptiveWindowPlanner.TimeWindow>> calls = new ArrayList<>();
+			Function<List<AdaptiveWindowPlanner.TimeWindow>, List<Integer>> histogram = cacheAt("2026-01-01T00:00:00Z")
+				.histogram(ranges -> {
+					calls.add(ranges);
+					return ranges.stream().map(range -> range.createdAfter().startsWith("2025-01") ? 10 : 20).toList();
+				});
+			var settled = new AdaptiveWindowPlanner.TimeWindow("2025-01-01", "2025-01-08");
+			var recent = new AdaptiveWindowPlanner.TimeWindow("2025-12-25", "2026-01-01");
+
+			assertThat(histogram.apply(List.of(settled, recent))).containsExactly(10, 20);
+			assertThat(histogram.apply(List.of(settled, recent))).containsExactly(10, 20);
+
+			assertThat(calls).containsExactly(List.of(settled, recent), List.of(recent));
+		}
+
+		@Test
+		@DisplayName("Should not keep failed counts")
+		void shouldNotCacheFailedCounts() {
+			List<String> calls = new ArrayList<>();
+			BiFunction<String, String, Integer> counting = cacheAt("2026-01-01T00:00:00Z")
+				.counting((after, before) -> {
+					calls.add(after);
+					return -1;
+				});
+
+			assertThat(counting.apply("2025-01-01", "2025-02-01")).isEqualTo(-1);
+			assertThat(counting.apply("2025-01-01", "2025-02-01")).isEqualTo(-1);
+			assertThat(calls).hasSize(2);
+		}
+
+	}
+
+}
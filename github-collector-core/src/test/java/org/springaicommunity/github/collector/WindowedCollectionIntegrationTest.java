@@ -1,5 +1,6 @@
 package org.springaicommunity.github.collector;
 
+import com.fasterxml.jackson.databind.JsonNode;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
@@ -13,7 +14,9 @@ import org.mockito.junit.jupiter.MockitoExtension;
 import org.mockito.junit.jupiter.MockitoSettings;
 import org.mockito.quality.Strictness;
 
+import java.nio.file.Files;
 import java.nio.file.Path;
+import java.time.LocalDate;
 import java.time.LocalDateTime;
 import java.util.ArrayList;
 import java.util.List;
@@ -196,7 +199,7 @@ class WindowedCollectionIntegrationTest {
 			// The planner queries the full range first, then the two halves
 			// The delegate then queries each half again for its own count
 			boolean hasFirstHalf = queries.stream().anyMatch(q -> q.contains("created:2023-01-01.."));
-			boolean hasSecondHalf = queries.stream().anyMatch(q -> q.contains("..2026-01-01"));
+			boolean hasSecondHalf = queries.stream().anyMatch(q -> q.contains("..2025-12-31"));
 			assertThat(hasFirstHalf).isTrue();
 			assertThat(hasSecondHalf).isTrue();
 		}
@@ -449,7 +452,7 @@ class WindowedCollectionIntegrationTest {
 			assertThat(query).contains("repo:spring-projects/spring-boot");
 			assertThat(query).contains("is:issue");
 			assertThat(query).contains("is:closed");
-			assertThat(query).contains("created:2023-01-01..2026-01-01");
+			assertThat(query).contains("created:2023-01-01..2025-12-31");
 		}
 
 		@Test
@@ -472,7 +475,7 @@ class WindowedCollectionIntegrationTest {
 
 			assertThat(query).contains("label:\"type: bug\"");
 			assertThat(query).contains("label:\"status: confirmed\"");
-			assertThat(query).contains("created:2024-01-01..2025-01-01");
+			assertThat(query).contains("created:2024-01-01..2024-12-31");
 		}
 
 		@Test
@@ -495,6 +498,40 @@ class WindowedCollectionIntegrationTest {
 			assertThat(query).doesNotContain("..");
 		}
 
+		@Test
+		@DisplayName("Should cache window plans on the count over all states and labels")
+		void shouldCachePlansWithoutFilters() throws Exception {
+			Path planDir = tempDir.resolve("plans");
+			try (GitHubApiSimulator simulator = GitHubApiSimulator.builder()
+				.repository("acme/widgets", 3000, 0)
+				.createdBetween(LocalDate.of(2022, 1, 1), LocalDate.of(2023, 1, 1))
+				.start()) {
+				CollectionRequest request = CollectionRequest.builder()
+					.repository("acme/widgets")
+					.issueState("closed")
+					.labelFilters(List.of("bug"))
+					.createdAfter("2022-01-01")
+					.createdBefore("2023-01-01")
+					.dryRun(true)
+					.build();
+
+				GitHubCollectorBuilder.create()
+					.token("test")
+					.baseUrl(simulator.baseUrl())
+					.windowPlanCache(planDir)
+					.buildWindowedIssueCollector(request)
+					.collectItems(request);
+			}
+
+			try (var planFiles = Files.list(planDir)) {
+				List<Path> plans = planFiles.toList();
+				assertThat(plans).hasSize(1);
+				JsonNode plan = objectMapper.readTree(plans.get(0).toFile());
+				assertThat(plan.get("key").asText()).isEqualTo("repo:acme/widgets is:issue");
+				assertThat(plan.get("windows").size()).isGreaterThan(1);
+			}
+		}
+
 	}
 
 }
@@ -6,12 +6,16 @@ import org.junit.jupiter.api.Nested;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.ArgumentCaptor;
+import org.mockito.InOrder;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
 import org.mockito.junit.jupiter.MockitoSettings;
 import org.mockito.quality.Strictness;
 
+import java.time.Duration;
 import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
 import java.util.function.BiFunction;
 
 import static org.assertj.core.api.Assertions.*;
@@ -240,4 +244,320 @@ class WindowedCollectionServiceTest {
 
 	}
 
+	@Nested
+	@DisplayName("Resume behavior")
+	class ResumeTest {
+
+		private CollectionRequest resumeRequest() {
+			return baseRequest().toBuilder().resume(true).build();
+		}
+
+		@Test
+		@DisplayName("Should continue inside the interrupted window and plan the rest from its end")
+		void shouldResumeInsideWindow() {
+			CollectionRequest request = resumeRequest();
+			when(mockDelegate.loadWindowCheckpoint(request))
+				.thenReturn(new ResumeState("query", "cursor", 40, false, 5, 240, 1, "2023-06-01", "2024-01-01",
+						"2024-03-01T12:00:00", List.of("batch_4.json", "batch_5.json")));
+			when(mockDelegate.collectItems(any())).thenReturn(
+					new CollectionResult(300, 300, "/output", List.of("batch_4.json", "batch_5.json", "batch_6.json")),
+					new CollectionResult(500, 500, "/output", List.of("batch_7.json")));
+
+			var service = new WindowedCollectionService<>(mockDelegate, planner, (after, before) -> 500);
+			service.collectItems(request);
+
+			ArgumentCaptor<CollectionRequest> captor = ArgumentCaptor.forClass(CollectionRequest.class);
+			verify(mockDelegate, times(2)).collectItems(captor.capture());
+			List<CollectionRequest> requests = captor.getAllValues();
+
+			assertThat(requests.get(0))
+				.extracting(CollectionRequest::createdAfter, CollectionRequest::createdBefore,
+						CollectionRequest::windowIndex, CollectionRequest::batchOffset, CollectionRequest::resume,
+						CollectionRequest::clean)
+				.containsExactly("2023-06-01", "2024-01-01", 1, 3, true, false);
+			assertThat(requests.get(1))
+				.extracting(CollectionRequest::createdAfter, CollectionRequest::createdBefore,
+						CollectionRequest::windowIndex, CollectionRequest::batchOffset, CollectionRequest::resume)
+				.containsExactly("2024-01-01", "2026-01-01", 2, 6, false);
+			verify(mockDelegate).discardBatchesAfter(request, 5);
+			verify(mockDelegate).clearWindowCheckpoint(request);
+		}
+
+		@Test
+		@DisplayName("Should continue after a completed window")
+		void shouldResumeAfterCompletedWindow() {
+			CollectionRequest request = resumeRequest();
+			when(mockDelegate.loadWindowCheckpoint(request))
+				.thenReturn(new ResumeState("query", null, 0, true, 8, 750, 0, "2023-01-01", "2024-06-01",
+						"2024-03-01T12:00:00", List.of("batch_7.json", "batch_8.json")));
+			when(mockDelegate.collectItems(any()))
+				.thenReturn(new CollectionResult(500, 500, "/output", List.of("batch_9.json")));
+
+			var service = new WindowedCollectionService<>(mockDelegate, planner, (after, before) -> 500);
+			service.collectItems(request);
+
+			ArgumentCaptor<CollectionRequest> captor = ArgumentCaptor.forClass(CollectionRequest.class);
+			verify(mockDelegate).collectItems(captor.capture());
+			assertThat(captor.getValue())
+				.extracting(CollectionRequest::createdAfter, CollectionRequest::windowIndex,
+						CollectionRequest::batchOffset, CollectionRequest::resume, CollectionRequest::clean)
+				.containsExactly("2024-06-01", 1, 8, false, false);
+			verify(mockDelegate).discardBatchesAfter(request, 8);
+		}
+
+	}
+
+	@Nested
+	@DisplayName("Parallel windows")
+	class ParallelTest {
+
+		private final BiFunction<String, String, Integer> countFn = (after, before) -> {
+			if ("2023-01-01".equals(after) && "2026-01-01".equals(before)) {
+				return 1500;
+			}
+			return 750;
+		};
+
+		@BeforeEach
+		void setUp() {
+			when(mockDelegate.validateRequest(any())).thenAnswer(invocation -> invocation.getArgument(0));
+		}
+
+		@Test
+		@DisplayName("Should collect windows concurrently into reserved batch ranges and merge in order")
+		void shouldCollectConcurrentlyInOrder() {
+			CollectionRequest request = baseRequest();
+			CountDownLatch secondWindowDone = new CountDownLatch(1);
+			when(mockDelegate.collectItems(any())).thenAnswer(invocation -> {
+				CollectionRequest window = invocation.getArgument(0);
+				if (window.windowIndex() == 0) {
+					// The first window only finishes once the second one has
+					assertThat(secondWindowDone.await(5, TimeUnit.SECONDS)).isTrue();
+					return new CollectionResult(750, 750, "/output", List.of("batch_1.json", "batch_2.json"));
+				}
+				secondWindowDone.countDown();
+				return new CollectionResult(750, 740, "/output", List.of("batch_12.json"));
+			});
+
+			var service = new WindowedCollectionService<>(mockDelegate, planner, countFn, 2);
+			CollectionResult result = service.collectItems(request);
+
+			assertThat(result.processedIssues()).isEqualTo(1490);
+			assertThat(result.batchFiles()).containsExactly("batch_1.json", "batch_2.json", "batch_12.json");
+
+			ArgumentCaptor<CollectionRequest> captor = ArgumentCaptor.forClass(CollectionRequest.class);
+			verify(mockDelegate, times(2)).collectItems(captor.capture());
+			assertThat(captor.getAllValues()).extracting(CollectionRequest::windowIndex, CollectionRequest::batchOffset,
+					CollectionRequest::reservedBatches, CollectionRequest::clean)
+				.containsExactlyInAnyOrder(tuple(0, null, 11, false), tuple(1, 11, 11, false));
+
+			// Cleaned once before any window writes
+			verify(mockDelegate).cleanOutputDirectory(request);
+			verify(mockDelegate).saveWindowCheckpoint(argThat(window -> window.windowIndex() == 0), eq(11), eq(750));
+			verify(mockDelegate).saveWindowCheckpoint(argThat(window -> window.windowIndex() == 1), eq(22), eq(1490));
+			verify(mockDelegate).clearWindowCheckpoint(request);
+		}
+
+		@Test
+		@DisplayName("Should discard batches of later windows when resuming after a failed window")
+		@SuppressWarnings("unchecked")
+		void shouldResumeAfterFailureBehindFinishedWindows() {
+			// Two items a day: four windows of about 274 days
+			BiFunction<String, String, Integer> dailyCount = (after, before) -> {
+				AdaptiveWindowPlanner.TimeWindow window = new AdaptiveWindowPlanner.TimeWindow(after, before);
+				return (int) Duration.between(window.start(), window.end()).toDays() * 2;
+			};
+			CountDownLatch laterWindowsDone = new CountDownLatch(2);
+			when(mockDelegate.collectItems(any())).thenAnswer(invocation -> {
+				CollectionRequest window = invocation.getArgument(0);
+				if (window.windowIndex() == 1) {
+					// Fails after the windows behind it have written their batches
+					assertThat(laterWindowsDone.await(5, TimeUnit.SECONDS)).isTrue();
+					throw new IllegalStateException("Window failed");
+				}
+				if (window.windowIndex() > 1) {
+					laterWindowsDone.countDown();
+				}
+				return new CollectionResult(500, 500, "/output", List.of("batch.json"));
+			});
+
+			var service = new WindowedCollectionService<>(mockDelegate, planner, dailyCount, 4);
+			assertThatThrownBy(() -> service.collectItems(baseRequest())).hasMessage("Window failed");
+
+			// Only the first window is checkpointed
+			ArgumentCaptor<CollectionRequest> completed = ArgumentCaptor.forClass(CollectionRequest.class);
+			verify(mockDelegate).saveWindowCheckpoint(completed.capture(), eq(11), eq(500));
+			assertThat(completed.getValue().windowIndex()).isZero();
+
+			CollectionRequest resumeRequest = baseRequest().toBuilder().resume(true).build();
+			when(mockDelegate.loadWindowCheckpoint(resumeRequest))
+				.thenReturn(new ResumeState("query", null, 0, true, 11, 500, 0, completed.getValue().createdAfter(),
+						completed.getValue().createdBefore(), "2024-03-01T12:00:00", List.of()));
+			doReturn(new CollectionResult(500, 500, "/output", List.of("batch.json"))).when(mockDelegate)
+				.collectItems(any());
+			clearInvocations(mockDelegate);
+
+			service.collectItems(resumeRequest);
+
+			// The remaining range is planned again, so stale batches would not be overwritten
+			InOrder inOrder = inOrder(mockDelegate);
+			inOrder.verify(mockDelegate).discardBatchesAfter(resumeRequest, 11);
+			ArgumentCaptor<CollectionRequest> captor = ArgumentCaptor.forClass(CollectionRequest.class);
+			inOrder.verify(mockDelegate, times(2)).collectItems(captor.capture());
+			assertThat(captor.getAllValues()).extracting(CollectionRequest::windowIndex, CollectionRequest::batchOffset)
+				.containsExactlyInAnyOrder(tuple(1, 11), tuple(2, 22));
+			verify(mockDelegate, never()).cleanOutputDirectory(any());
+		}
+
+		@Test
+		@DisplayName("Should rethrow the failure of a window")
+		void shouldPropagateWindowFailure() {
+			when(mockDelegate.collectItems(any())).thenAnswer(invocation -> {
+				CollectionRequest window = invocation.getArgument(0);
+				if (window.windowIndex() == 1) {
+					throw new IllegalStateException("Window failed");
+				}
+				return new CollectionResult(750, 750, "/output", List.of("batch_1.json"));
+			});
+
+			var service = new WindowedCollectionService<>(mockDelegate, planner, countFn, 2);
+
+			assertThatThrownBy(() -> service.collectItems(baseRequest())).isInstanceOf(IllegalStateException.class)
+				.hasMessage("Window failed");
+			verify(mockDelegate, never()).clearWindowCheckpoint(any());
+		}
+
+		@Test
+		@DisplayName("Should collect single-file windows sequentially")
+		void shouldRunSingleFileSequentially() {
+			CollectionRequest request = baseRequest().toBuilder().singleFile(true).build();
+			when(mockDelegate.collectItems(any())).thenReturn(
+					new CollectionResult(750, 750, "/output", List.of("batch_1.json", "batch_2.json")),
+					new CollectionResult(750, 750, "/output", List.of("batch_3.json")));
+
+			var service = new WindowedCollectionService<>(mockDelegate, planner, countFn, 4);
+			service.collectItems(request);
+
+			ArgumentCaptor<CollectionRequest> captor = ArgumentCaptor.forClass(CollectionRequest.class);
+			verify(mockDelegate, times(2)).collectItems(captor.capture());
+			assertThat(captor.getAllValues()).extracting(CollectionRequest::batchOffset,
+					CollectionRequest::reservedBatches)
+				.containsExactly(tuple(null, null), tuple(2, null));
+		}
+
+	}
+
+	@Nested
+	@DisplayName("Lazy windows")
+	class LazyTest {
+
+		private final BiFunction<String, String, Integer> noCount = (after, before) -> {
+			throw new AssertionError("Unexpected count for " + after + "/" + before);
+		};
+
+		private SearchResult<Issue> firstPage(int totalCount) {
+			return new SearchResult<>(List.of(), "cursor", true, totalCount);
+		}
+
+		@Test
+		@DisplayName("Should collect a fitting range as one window reusing its first page")
+		void shouldCollectFittingRange() {
+			SearchResult<Issue> page = firstPage(500);
+			when(mockDelegate.fetchFirstPage(any())).thenReturn(page);
+			when(mockDelegate.collectItems(any()))
+				.thenReturn(new CollectionResult(500, 500, "/output", List.of("batch_1.json")));
+
+			var service = new WindowedCollectionService<>(mockDelegate, planner, noCount, 1, true);
+			CollectionResult result = service.collectItems(baseRequest());
+
+			assertThat(result.processedIssues()).isEqualTo(500);
+			ArgumentCaptor<CollectionRequest> captor = ArgumentCaptor.forClass(CollectionRequest.class);
+			verify(mockDelegate).collectItems(captor.capture());
+			assertThat(captor.getValue())
+				.extracting(CollectionRequest::createdAfter, CollectionRequest::createdBefore,
+						CollectionRequest::windowIndex, CollectionRequest::clean)
+				.containsExactly("2023-01-01", "2026-01-01", 0, true);
+			verify(mockDelegate).reuseFirstPage(captor.getValue(), page);
+		}
+
+		@Test
+		@DisplayName("Should split only the windows whose first page reports too many items")
+		void shouldSplitOversizedWindows() {
+			when(mockDelegate.fetchFirstPage(any())).thenAnswer(invocation -> {
+				CollectionRequest window = invocation.getArgument(0);
+				return switch (window.createdAfter() + "/" + window.createdBefore()) {
+					case "2023-01-01/2026-01-01" -> firstPage(1500);
+					case "2023-01-01/2024-07-02" -> firstPage(1200);
+					default -> firstPage(300);
+				};
+			});
+			when(mockDelegate.collectItems(any())).thenReturn(
+					new CollectionResult(300, 300, "/output", List.of("batch_1.json", "batch_2.json")),
+					new CollectionResult(300, 300, "/output", List.of("batch_3.json")),
+					new CollectionResult(300, 300, "/output", List.of("batch_4.json")));
+
+			var service = new WindowedCollectionService<>(mockDelegate, planner, noCount, 1, true);
+			CollectionResult result = service.collectItems(baseRequest());
+
+			assertThat(result.batchFiles()).containsExactly("batch_1.json", "batch_2.json", "batch_3.json",
+					"batch_4.json");
+			verify(mockDelegate, times(5)).fetchFirstPage(any());
+			verify(mockDelegate, times(3)).reuseFirstPage(any(), any());
+
+			ArgumentCaptor<CollectionRequest> captor = ArgumentCaptor.forClass(CollectionRequest.class);
+			verify(mockDelegate, times(3)).collectItems(captor.capture());
+			assertThat(captor.getAllValues())
+				.extracting(CollectionRequest::createdAfter, CollectionRequest::createdBefore,
+						CollectionRequest::windowIndex, CollectionRequest::batchOffset, CollectionRequest::clean)
+				.containsExactly(tuple("2023-01-01", "2023-10-02", 0, null, true),
+						tuple("2023-10-02", "2024-07-02", 1, 2, false), tuple("2024-07-02", "2026-01-01", 2, 3, false));
+			verify(mockDelegate).clearWindowCheckpoint(any());
+		}
+
+		@Test
+		@DisplayName("Should fall back to the count function when the first page has no count")
+		void shouldFallBackToCountFunction() {
+			when(mockDelegate.fetchFirstPage(any())).thenReturn(firstPage(-1));
+			when(mockDelegate.collectItems(any()))
+				.thenReturn(new CollectionResult(750, 750, "/output", List.of("batch_1.json")));
+			BiFunction<String, String, Integer> countFn = (after, before) -> {
+				if ("2023-01-01".equals(after) && "2026-01-01".equals(before)) {
+					return 1500;
+				}
+				return 750;
+			};
+
+			var service = new WindowedCollectionService<>(mockDelegate, planner, countFn, 1, true);
+			service.collectItems(baseRequest());
+
+			verify(mockDelegate, times(2)).collectItems(any());
+		}
+
+		@Test
+		@DisplayName("Should resume the interrupted window without sizing it again")
+		void shouldResumeWithoutProbing() {
+			CollectionRequest request = baseRequest().toBuilder().resume(true).build();
+			when(mockDelegate.loadWindowCheckpoint(request))
+				.thenReturn(new ResumeState("query", "cursor", 40, false, 5, 240, 1, "2023-06-01", "2024-01-01",
+						"2024-03-01T12:00:00", List.of("batch_4.json", "batch_5.json")));
+			when(mockDelegate.fetchFirstPage(any())).thenReturn(firstPage(500));
+			when(mockDelegate.collectItems(any())).thenReturn(
+					new CollectionResult(300, 300, "/output", List.of("batch_4.json", "batch_5.json", "batch_6.json")),
+					new CollectionResult(500, 500, "/output", List.of("batch_7.json")));
+
+			var service = new WindowedCollectionService<>(mockDelegate, planner, noCount, 1, true);
+			service.collectItems(request);
+
+			verify(mockDelegate, times(1)).fetchFirstPage(any());
+			ArgumentCaptor<CollectionRequest> captor = ArgumentCaptor.forClass(CollectionRequest.class);
+			verify(mockDelegate, times(2)).collectItems(captor.capture());
+			assertThat(captor.getAllValues())
+				.extracting(CollectionRequest::createdAfter, CollectionRequest::createdBefore,
+						CollectionRequest::windowIndex, CollectionRequest::batchOffset, CollectionRequest::resume)
+				.containsExactly(tuple("2023-06-01", "2024-01-01", 1, 3, true),
+						tuple("2024-01-01", "2026-01-01", 2, 6, false));
+		}
+
+	}
+
 }